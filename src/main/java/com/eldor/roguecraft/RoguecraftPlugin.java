@@ -26,6 +26,25 @@ public class RoguecraftPlugin extends JavaPlugin {
     private GachaManager gachaManager;
     private ChestManager chestManager;
     private TeamLobbyManager teamLobbyManager;
+    private com.eldor.roguecraft.events.RunEventBus runEventBus;
+    private RunClock runClock;
+    private DamageLedgerManager damageLedgerManager;
+    private ProximityManager proximityManager;
+    private FreezeController freezeController;
+    private PlacementPlanner placementPlanner;
+    private BlockMutationQueue blockMutationQueue;
+    private ArenaChunkService arenaChunkService;
+    private QualityGovernor qualityGovernor;
+    private FxEmitter fxEmitter;
+    private RollTables rollTables;
+    private RunRandom runRandom;
+    private GuiRouter guiRouter;
+    private GuiItemCache guiItemCache;
+    private OfferPrefetcher offerPrefetcher;
+    private HudRenderer hudRenderer;
+    private FloatingTextService floatingTextService;
+    private HealingService healingService;
+    private MobArchetypes mobArchetypes;
 
     @Override
     public void onEnable() {
@@ -41,6 +60,25 @@ public class RoguecraftPlugin extends JavaPlugin {
         this.configManager = new ConfigManager(this);
         
         try {
+            this.runEventBus = new com.eldor.roguecraft.events.RunEventBus(this); // Must exist before anything subscribes
+            this.qualityGovernor = new QualityGovernor(this); // Read by cosmetic code everywhere
+            this.fxEmitter = new FxEmitter(this);
+            this.runRandom = new RunRandom(this);
+            this.rollTables = new RollTables(this);
+            this.guiRouter = new GuiRouter(this); // Must exist before any GUI is created
+            this.guiItemCache = new GuiItemCache(this);
+            this.offerPrefetcher = new OfferPrefetcher(this);
+            this.hudRenderer = new HudRenderer(this);
+            this.floatingTextService = new FloatingTextService(this);
+            this.runClock = new RunClock(this); // Tick count read by the ledger, healing, shrines and run timing
+            this.damageLedgerManager = new DamageLedgerManager(this);
+            this.healingService = new HealingService(this);
+            this.mobArchetypes = new MobArchetypes(this);
+            this.proximityManager = new ProximityManager(this);
+            this.freezeController = new FreezeController(this);
+            this.placementPlanner = new PlacementPlanner(this);
+            this.blockMutationQueue = new BlockMutationQueue(this);
+            this.arenaChunkService = new ArenaChunkService(this);
             this.arenaManager = new ArenaManager(this);
             this.difficultyManager = new DifficultyManager(this);
             this.powerUpManager = new PowerUpManager(this);
@@ -106,11 +144,86 @@ public class RoguecraftPlugin extends JavaPlugin {
             synergyManager.cleanup();
         }
         
+        // Cleanup damage ledgers
+        if (damageLedgerManager != null) {
+            damageLedgerManager.cleanup();
+        }
+        
+        // Stop the run clock
+        if (runClock != null) {
+            runClock.cleanup();
+        }
+        
+        // Close plugin GUIs still open
+        if (guiRouter != null) {
+            guiRouter.cleanup();
+        }
+        
+        // Drop cached GUI items
+        if (guiItemCache != null) {
+            guiItemCache.cleanup();
+        }
+        
+        // Drop prepared level-up offers
+        if (offerPrefetcher != null) {
+            offerPrefetcher.cleanup();
+        }
+        
+        // Remove XP bars
+        if (hudRenderer != null) {
+            hudRenderer.cleanup();
+        }
+        
+        // Remove floating text
+        if (floatingTextService != null) {
+            floatingTextService.cleanup();
+        }
+        
+        // Drop pending heals
+        if (healingService != null) {
+            healingService.cleanup();
+        }
+        
+        // Release GUI movement locks
+        if (freezeController != null) {
+            freezeController.cleanup();
+        }
+        
+        // Cleanup proximity trigger indexes
+        if (proximityManager != null) {
+            proximityManager.cleanup();
+        }
+        
         // Cleanup chests
         if (chestManager != null) {
             // Chest cleanup handled per-run in GameManager
         }
         
+        // Apply queued block restores now - the queue's tick task won't run again
+        if (blockMutationQueue != null) {
+            blockMutationQueue.cleanup();
+        }
+        
+        // Release arena chunk tickets
+        if (arenaChunkService != null) {
+            arenaChunkService.cleanup();
+        }
+        
+        // Forget run seeds
+        if (runRandom != null) {
+            runRandom.cleanup();
+        }
+        
+        // Drop queued particles and sounds
+        if (fxEmitter != null) {
+            fxEmitter.cleanup();
+        }
+        
+        // Stop tick-time sampling
+        if (qualityGovernor != null) {
+            qualityGovernor.cleanup();
+        }
+        
         getLogger().info("Roguecraft has been disabled!");
     }
 
@@ -150,6 +263,10 @@ public class RoguecraftPlugin extends JavaPlugin {
         difficultyManager.reload();
         powerUpManager.reload();
         spawnManager.reload();
+        damageLedgerManager.reload();
+        rollTables.reload();
+        offerPrefetcher.reload();
+        mobArchetypes.reload();
         
         getLogger().info("Roguecraft configuration reloaded!");
     }
@@ -217,4 +334,80 @@ public class RoguecraftPlugin extends JavaPlugin {
     public TeamLobbyManager getTeamLobbyManager() {
         return teamLobbyManager;
     }
+    
+    public com.eldor.roguecraft.events.RunEventBus getRunEventBus() {
+        return runEventBus;
+    }
+    
+    public DamageLedgerManager getDamageLedgerManager() {
+        return damageLedgerManager;
+    }
+    
+    public ProximityManager getProximityManager() {
+        return proximityManager;
+    }
+    
+    public FreezeController getFreezeController() {
+        return freezeController;
+    }
+    
+    public PlacementPlanner getPlacementPlanner() {
+        return placementPlanner;
+    }
+    
+    public BlockMutationQueue getBlockMutationQueue() {
+        return blockMutationQueue;
+    }
+    
+    public ArenaChunkService getArenaChunkService() {
+        return arenaChunkService;
+    }
+    
+    public QualityGovernor getQualityGovernor() {
+        return qualityGovernor;
+    }
+    
+    public FxEmitter getFxEmitter() {
+        return fxEmitter;
+    }
+
+    public RollTables getRollTables() {
+        return rollTables;
+    }
+
+    public RunRandom getRunRandom() {
+        return runRandom;
+    }
+
+    public GuiRouter getGuiRouter() {
+        return guiRouter;
+    }
+
+    public GuiItemCache getGuiItemCache() {
+        return guiItemCache;
+    }
+
+    public OfferPrefetcher getOfferPrefetcher() {
+        return offerPrefetcher;
+    }
+
+    public HudRenderer getHudRenderer() {
+        return hudRenderer;
+    }
+
+    public FloatingTextService getFloatingTextService() {
+        return floatingTextService;
+    }
+
+    public HealingService getHealingService() {
+        return healingService;
+    }
+
+    public RunClock getRunClock() {
+        return runClock;
+    }
+
+    public MobArchetypes getMobArchetypes() {
+        return mobArchetypes;
+    }
 }
@@ -0,0 +1,153 @@
+package com.eldor.roguecraft.events;
+
+import com.eldor.roguecraft.RoguecraftPlugin;
+import com.eldor.roguecraft.models.PowerUp;
+import com.eldor.roguecraft.models.Run;
+import com.eldor.roguecraft.models.TeamRun;
+import org.bukkit.entity.Player;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Resolved view of the run a player belongs to.
+ * Instances are owned by the RunEventBus and reused between dispatches - never keep a reference
+ * to one outside of a subscriber callback.
+ */
+public class RunContext {
+    private TeamRun teamRun;
+    private Run run;
+    private UUID runId; // Team ID (first player's UUID) or solo player's UUID
+    private Player player; // The player the context was resolved from
+
+    /**
+     * Resolve the active run for a player (team runs take precedence over solo runs)
+     */
+    void resolve(RoguecraftPlugin plugin, Player player) {
+        clear();
+        if (player == null) {
+            return;
+        }
+        this.player = player;
+
+        UUID playerId = player.getUniqueId();
+        TeamRun foundTeamRun = plugin.getRunManager().getTeamRun(playerId);
+        if (foundTeamRun != null && foundTeamRun.isActive()) {
+            this.teamRun = foundTeamRun;
+            this.runId = plugin.getRunManager().getTeamRunId(playerId);
+            return;
+        }
+
+        Run foundRun = plugin.getRunManager().getRun(playerId);
+        if (foundRun != null && foundRun.isActive()) {
+            this.run = foundRun;
+            this.runId = foundRun.getPlayerId();
+        }
+    }
+
+    void clear() {
+        this.teamRun = null;
+        this.run = null;
+        this.runId = null;
+        this.player = null;
+    }
+
+    /**
+     * Whether an active run was found
+     */
+    public boolean isInRun() {
+        return teamRun != null || run != null;
+    }
+
+    public boolean isTeamRun() {
+        return teamRun != null;
+    }
+
+    public TeamRun getTeamRun() {
+        return teamRun;
+    }
+
+    public Run getRun() {
+        return run;
+    }
+
+    /**
+     * The run as the Object type used by AuraManager/SynergyManager/PowerUpManager
+     */
+    public Object getRunObject() {
+        return teamRun != null ? teamRun : run;
+    }
+
+    public UUID getRunId() {
+        return runId;
+    }
+
+    public Player getPlayer() {
+        return player;
+    }
+
+    public int getLevel() {
+        if (teamRun != null) return teamRun.getLevel();
+        if (run != null) return run.getLevel();
+        return 1;
+    }
+
+    public int getWave() {
+        if (teamRun != null) return teamRun.getWave();
+        if (run != null) return run.getWave();
+        return 1;
+    }
+
+    public double getDifficultyMultiplier() {
+        if (teamRun != null) return teamRun.getDifficultyMultiplier();
+        if (run != null) return run.getDifficultyMultiplier();
+        return 1.0;
+    }
+
+    /**
+     * Get a stat for the resolved player (per-player stats in team runs)
+     */
+    public double getStat(String key) {
+        if (teamRun != null) return teamRun.getStat(player, key);
+        if (run != null) return run.getStat(key);
+        return 0.0;
+    }
+
+    /**
+     * Weapon of the resolved player
+     */
+    public com.eldor.roguecraft.models.Weapon getWeapon() {
+        if (teamRun != null) return teamRun.getWeapon(player);
+        if (run != null) return run.getWeapon();
+        return null;
+    }
+
+    /**
+     * Check whether a player belongs to this run
+     */
+    public boolean containsPlayer(UUID playerId) {
+        if (teamRun != null) return teamRun.hasPlayer(playerId);
+        if (run != null) return run.getPlayerId().equals(playerId);
+        return false;
+    }
+
+    /**
+     * Power-ups collected by this run (legacy shared list for team runs)
+     */
+    public List<PowerUp> getCollectedPowerUps() {
+        if (teamRun != null) return teamRun.getCollectedPowerUps();
+        if (run != null) return run.getCollectedPowerUps();
+        return java.util.Collections.emptyList();
+    }
+
+    /**
+     * Check all three GUI trackers (GuiManager, ShrineManager and TeamRun) for a player
+     */
+    boolean isPlayerInGUI(RoguecraftPlugin plugin, UUID playerId) {
+        if (plugin.getGuiManager().isPlayerInGUI(playerId) ||
+            plugin.getShrineManager().isPlayerInShrineGUI(playerId)) {
+            return true;
+        }
+        return teamRun != null && teamRun.isPlayerInGUI(playerId);
+    }
+}
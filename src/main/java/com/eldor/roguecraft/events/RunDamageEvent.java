@@ -0,0 +1,171 @@
+package com.eldor.roguecraft.events;
+
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.LivingEntity;
+import org.bukkit.entity.Player;
+import org.bukkit.event.entity.EntityDamageEvent;
+
+import java.util.UUID;
+
+/**
+ * Published once per EntityDamageEvent on a living entity with the victim's Roguecraft flags,
+ * the attacking player and the relevant run already resolved.
+ * For player victims the context is the victim's run; for mobs it is the attacker's run.
+ * Instances are pooled by the RunEventBus - subscribers must not keep references to them.
+ */
+public class RunDamageEvent {
+    /**
+     * Receives damage events in priority order
+     */
+    @FunctionalInterface
+    public interface Subscriber {
+        void onRunDamage(RunDamageEvent event);
+    }
+
+    private final RunContext context = new RunContext();
+    private EntityDamageEvent bukkitEvent;
+    private LivingEntity victim;
+    private Player playerVictim; // Non-null when the victim is a player
+    private Player attacker; // Player responsible for the damage (direct, projectile shooter or TNT owner)
+    private UUID tntOwnerId; // Parsed from roguecraft_tnt_damaged metadata, if tagged
+    private boolean victimInGUI;
+
+    // Entity record for mob victims
+    private boolean roguecraftMob;
+    private boolean elite;
+    private boolean legendary;
+    private boolean eliteBoss;
+    private boolean boss;
+
+    void reset(EntityDamageEvent bukkitEvent, LivingEntity victim) {
+        this.bukkitEvent = bukkitEvent;
+        this.victim = victim;
+        this.playerVictim = victim instanceof Player ? (Player) victim : null;
+        this.attacker = null;
+        this.tntOwnerId = null;
+        this.victimInGUI = false;
+        this.roguecraftMob = false;
+        this.elite = false;
+        this.legendary = false;
+        this.eliteBoss = false;
+        this.boss = false;
+    }
+
+    void setMobRecord(boolean roguecraftMob, boolean elite, boolean legendary, boolean eliteBoss, boolean boss) {
+        this.roguecraftMob = roguecraftMob;
+        this.elite = elite;
+        this.legendary = legendary;
+        this.eliteBoss = eliteBoss;
+        this.boss = boss;
+    }
+
+    void setAttacker(Player attacker) {
+        this.attacker = attacker;
+    }
+
+    void setTntOwnerId(UUID tntOwnerId) {
+        this.tntOwnerId = tntOwnerId;
+    }
+
+    void setVictimInGUI(boolean victimInGUI) {
+        this.victimInGUI = victimInGUI;
+    }
+
+    void release() {
+        this.bukkitEvent = null;
+        this.victim = null;
+        this.playerVictim = null;
+        this.attacker = null;
+        this.tntOwnerId = null;
+        context.clear();
+    }
+
+    public EntityDamageEvent getBukkitEvent() {
+        return bukkitEvent;
+    }
+
+    public EntityDamageEvent.DamageCause getCause() {
+        return bukkitEvent.getCause();
+    }
+
+    public boolean isCancelled() {
+        return bukkitEvent.isCancelled();
+    }
+
+    public void setCancelled(boolean cancelled) {
+        bukkitEvent.setCancelled(cancelled);
+    }
+
+    public double getDamage() {
+        return bukkitEvent.getDamage();
+    }
+
+    public void setDamage(double damage) {
+        bukkitEvent.setDamage(damage);
+    }
+
+    public double getFinalDamage() {
+        return bukkitEvent.getFinalDamage();
+    }
+
+    /**
+     * The direct damager entity, or null if this was not an entity-caused hit
+     */
+    public Entity getDamager() {
+        if (bukkitEvent instanceof org.bukkit.event.entity.EntityDamageByEntityEvent) {
+            return ((org.bukkit.event.entity.EntityDamageByEntityEvent) bukkitEvent).getDamager();
+        }
+        return null;
+    }
+
+    public LivingEntity getVictim() {
+        return victim;
+    }
+
+    public boolean isPlayerVictim() {
+        return playerVictim != null;
+    }
+
+    public Player getPlayerVictim() {
+        return playerVictim;
+    }
+
+    public Player getAttacker() {
+        return attacker;
+    }
+
+    public UUID getTntOwnerId() {
+        return tntOwnerId;
+    }
+
+    /**
+     * Whether the player victim has any Roguecraft GUI open (always false for mobs)
+     */
+    public boolean isVictimInGUI() {
+        return victimInGUI;
+    }
+
+    public RunContext getContext() {
+        return context;
+    }
+
+    public boolean isRoguecraftMob() {
+        return roguecraftMob;
+    }
+
+    public boolean isElite() {
+        return elite;
+    }
+
+    public boolean isLegendary() {
+        return legendary;
+    }
+
+    public boolean isEliteBoss() {
+        return eliteBoss;
+    }
+
+    public boolean isBoss() {
+        return boss;
+    }
+}
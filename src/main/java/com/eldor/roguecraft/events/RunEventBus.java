@@ -0,0 +1,281 @@
+package com.eldor.roguecraft.events;
+
+import com.eldor.roguecraft.RoguecraftPlugin;
+import com.eldor.roguecraft.models.DamageLedger;
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.LivingEntity;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.entity.EntityDamageByEntityEvent;
+import org.bukkit.event.entity.EntityDamageEvent;
+import org.bukkit.event.entity.EntityDeathEvent;
+
+import java.util.UUID;
+import java.util.logging.Level;
+
+/**
+ * Single Bukkit listener for entity deaths and damage.
+ * Each Bukkit event is resolved once (killer/attacker, run context, GUI state, mob metadata)
+ * and then published as a RunKillEvent / RunDamageEvent to subscribers in priority order.
+ * Player hits on mobs are recorded in the run's DamageLedger, which also attributes kills.
+ * Event objects are pooled per nesting depth, so dispatch does not allocate.
+ */
+public class RunEventBus implements Listener {
+    private static final double RUN_SEARCH_RADIUS_SQUARED = 100.0 * 100.0; // Fallback run lookup for mobs hit by non-players
+
+    private final RoguecraftPlugin plugin;
+
+    // Subscribers sorted by priority (LOWEST first), ties keep registration order
+    private KillEntry[] killSubscribers = new KillEntry[0];
+    private DamageEntry[] damageSubscribers = new DamageEntry[0];
+
+    // Event pools indexed by nesting depth (a subscriber may trigger another death/damage synchronously)
+    private RunKillEvent[] killPool = new RunKillEvent[] { new RunKillEvent() };
+    private RunDamageEvent[] damagePool = new RunDamageEvent[] { new RunDamageEvent(), new RunDamageEvent() };
+    private int killDepth = 0;
+    private int damageDepth = 0;
+
+    public RunEventBus(RoguecraftPlugin plugin) {
+        this.plugin = plugin;
+        plugin.getServer().getPluginManager().registerEvents(this, plugin);
+    }
+
+    /**
+     * Subscribe to kills of non-player entities. Lower priorities run first, as with Bukkit.
+     */
+    public void subscribeKill(EventPriority priority, RunKillEvent.Subscriber subscriber) {
+        KillEntry[] updated = new KillEntry[killSubscribers.length + 1];
+        int insertAt = killSubscribers.length;
+        for (int i = 0; i < killSubscribers.length; i++) {
+            if (killSubscribers[i].priority.ordinal() > priority.ordinal()) {
+                insertAt = i;
+                break;
+            }
+        }
+        System.arraycopy(killSubscribers, 0, updated, 0, insertAt);
+        updated[insertAt] = new KillEntry(priority, subscriber);
+        System.arraycopy(killSubscribers, insertAt, updated, insertAt + 1, killSubscribers.length - insertAt);
+        killSubscribers = updated;
+    }
+
+    /**
+     * Subscribe to damage of living entities (players and mobs). Lower priorities run first, as with Bukkit.
+     */
+    public void subscribeDamage(EventPriority priority, RunDamageEvent.Subscriber subscriber) {
+        DamageEntry[] updated = new DamageEntry[damageSubscribers.length + 1];
+        int insertAt = damageSubscribers.length;
+        for (int i = 0; i < damageSubscribers.length; i++) {
+            if (damageSubscribers[i].priority.ordinal() > priority.ordinal()) {
+                insertAt = i;
+                break;
+            }
+        }
+        System.arraycopy(damageSubscribers, 0, updated, 0, insertAt);
+        updated[insertAt] = new DamageEntry(priority, subscriber);
+        System.arraycopy(damageSubscribers, insertAt, updated, insertAt + 1, damageSubscribers.length - insertAt);
+        damageSubscribers = updated;
+    }
+
+    /**
+     * Dispatch at LOWEST so subscribers can strip custom names before death messages are built
+     */
+    @EventHandler(priority = EventPriority.LOWEST)
+    public void onEntityDeath(EntityDeathEvent event) {
+        LivingEntity entity = event.getEntity();
+        if (entity instanceof Player || killSubscribers.length == 0) {
+            return;
+        }
+
+        // Entity record - read before any subscriber clears names/glowing
+        boolean isElite = false;
+        boolean isLegendary = false;
+        try {
+            isElite = entity.isGlowing() || (entity.getCustomName() != null && entity.getCustomName().contains("ELITE"));
+            isLegendary = entity.hasMetadata("is_legendary");
+        } catch (Exception e) {
+            // Silently ignore - entity might already be dead/removed
+        }
+        boolean isBoss = entity.hasMetadata("roguecraft_boss") || entity.hasMetadata("roguecraft_elite_boss");
+        boolean wasNuked = entity.hasMetadata("roguecraft_nuked");
+
+        // Direct killer from Bukkit, otherwise the last player to hit it within the credit window
+        Player directKiller = entity.getKiller();
+        boolean directKill = directKiller != null;
+        Player killer = plugin.getDamageLedgerManager().attributeKill(entity, directKiller);
+
+        RunKillEvent runEvent = acquireKillEvent();
+        try {
+            runEvent.reset(event, killer, directKill, isElite, isLegendary, isBoss, wasNuked);
+            runEvent.getContext().resolve(plugin, killer);
+            if (killer != null) {
+                runEvent.setKillerInGUI(runEvent.getContext().isPlayerInGUI(plugin, killer.getUniqueId()));
+            }
+
+            KillEntry[] subscribers = killSubscribers;
+            for (int i = 0; i < subscribers.length; i++) {
+                try {
+                    subscribers[i].subscriber.onRunKill(runEvent);
+                } catch (Exception e) {
+                    plugin.getLogger().log(Level.SEVERE, "[RunEventBus] Kill subscriber failed", e);
+                }
+            }
+        } finally {
+            runEvent.release();
+            killDepth--;
+        }
+    }
+
+    @EventHandler(priority = EventPriority.HIGH)
+    public void onEntityDamage(EntityDamageEvent event) {
+        if (!(event.getEntity() instanceof LivingEntity) || damageSubscribers.length == 0) {
+            return;
+        }
+        LivingEntity victim = (LivingEntity) event.getEntity();
+
+        RunDamageEvent runEvent = acquireDamageEvent();
+        try {
+            runEvent.reset(event, victim);
+
+            // TNT tag set by WeaponManager/GameListener.onEntityExplode
+            if (victim.hasMetadata("roguecraft_tnt_damaged")) {
+                runEvent.setTntOwnerId(parseUuid(victim.getMetadata("roguecraft_tnt_damaged").get(0).asString()));
+            }
+
+            Player attacker = resolveAttacker(event, runEvent.getTntOwnerId());
+            runEvent.setAttacker(attacker);
+
+            RunContext context = runEvent.getContext();
+            if (runEvent.isPlayerVictim()) {
+                Player player = runEvent.getPlayerVictim();
+                context.resolve(plugin, player);
+                runEvent.setVictimInGUI(context.isPlayerInGUI(plugin, player.getUniqueId()));
+            } else if (victim.hasMetadata("roguecraft_mob")) {
+                boolean isLegendary = victim.hasMetadata("is_legendary");
+                boolean isElite = victim.hasMetadata("roguecraft_elite") || victim.hasMetadata("is_elite");
+                boolean isEliteBoss = victim.hasMetadata("roguecraft_elite_boss");
+                boolean isBoss = isEliteBoss || victim.hasMetadata("roguecraft_boss");
+                runEvent.setMobRecord(true, isElite, isLegendary, isEliteBoss, isBoss);
+
+                context.resolve(plugin, attacker);
+                if (!context.isInRun() && (isElite || isLegendary || isEliteBoss)) {
+                    // Environmental damage on a scaled mob - find the run through nearby players
+                    resolveNearbyRun(context, victim.getLocation());
+                }
+            } else if (attacker != null) {
+                context.resolve(plugin, attacker);
+            }
+
+            DamageEntry[] subscribers = damageSubscribers;
+            for (int i = 0; i < subscribers.length; i++) {
+                try {
+                    subscribers[i].subscriber.onRunDamage(runEvent);
+                } catch (Exception e) {
+                    plugin.getLogger().log(Level.SEVERE, "[RunEventBus] Damage subscriber failed", e);
+                }
+            }
+
+            // Record the hit in the run's damage ledger for kill attribution and weapon stats
+            if (attacker != null && !runEvent.isPlayerVictim() && !event.isCancelled()
+                && context.isInRun() && context.getPlayer() == attacker) {
+                com.eldor.roguecraft.models.Weapon weapon = context.getWeapon();
+                plugin.getDamageLedgerManager().recordHit(context.getRunId(), attacker, victim,
+                    DamageLedger.sourceOf(weapon != null ? weapon.getType() : null), event.getFinalDamage());
+            }
+        } finally {
+            runEvent.release();
+            damageDepth--;
+        }
+    }
+
+    /**
+     * Find the player responsible for a hit: direct damager, projectile shooter or TNT owner
+     */
+    private Player resolveAttacker(EntityDamageEvent event, UUID tntOwnerId) {
+        if (event instanceof EntityDamageByEntityEvent) {
+            Entity damager = ((EntityDamageByEntityEvent) event).getDamager();
+            if (damager instanceof Player) {
+                return (Player) damager;
+            }
+            if (damager instanceof org.bukkit.entity.Projectile) {
+                Object shooter = ((org.bukkit.entity.Projectile) damager).getShooter();
+                if (shooter instanceof Player) {
+                    return (Player) shooter;
+                }
+            }
+            if (damager instanceof org.bukkit.entity.TNTPrimed && damager.hasMetadata("roguecraft_tnt_owner")) {
+                UUID ownerId = parseUuid(damager.getMetadata("roguecraft_tnt_owner").get(0).asString());
+                return ownerId != null ? Bukkit.getPlayer(ownerId) : null;
+            }
+        }
+        if (tntOwnerId != null && event.getCause() == EntityDamageEvent.DamageCause.ENTITY_EXPLOSION) {
+            return Bukkit.getPlayer(tntOwnerId);
+        }
+        return null;
+    }
+
+    private void resolveNearbyRun(RunContext context, Location location) {
+        for (Player player : location.getWorld().getPlayers()) {
+            if (location.distanceSquared(player.getLocation()) < RUN_SEARCH_RADIUS_SQUARED) {
+                context.resolve(plugin, player);
+                if (context.isInRun()) {
+                    return;
+                }
+            }
+        }
+        context.clear();
+    }
+
+    private RunKillEvent acquireKillEvent() {
+        if (killDepth == killPool.length) {
+            RunKillEvent[] grown = java.util.Arrays.copyOf(killPool, killPool.length * 2);
+            for (int i = killPool.length; i < grown.length; i++) {
+                grown[i] = new RunKillEvent();
+            }
+            killPool = grown;
+        }
+        return killPool[killDepth++];
+    }
+
+    private RunDamageEvent acquireDamageEvent() {
+        if (damageDepth == damagePool.length) {
+            RunDamageEvent[] grown = java.util.Arrays.copyOf(damagePool, damagePool.length * 2);
+            for (int i = damagePool.length; i < grown.length; i++) {
+                grown[i] = new RunDamageEvent();
+            }
+            damagePool = grown;
+        }
+        return damagePool[damageDepth++];
+    }
+
+    private static UUID parseUuid(String value) {
+        try {
+            return UUID.fromString(value);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static final class KillEntry {
+        private final EventPriority priority;
+        private final RunKillEvent.Subscriber subscriber;
+
+        private KillEntry(EventPriority priority, RunKillEvent.Subscriber subscriber) {
+            this.priority = priority;
+            this.subscriber = subscriber;
+        }
+    }
+
+    private static final class DamageEntry {
+        private final EventPriority priority;
+        private final RunDamageEvent.Subscriber subscriber;
+
+        private DamageEntry(EventPriority priority, RunDamageEvent.Subscriber subscriber) {
+            this.priority = priority;
+            this.subscriber = subscriber;
+        }
+    }
+}
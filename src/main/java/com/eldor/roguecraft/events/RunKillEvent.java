@@ -0,0 +1,100 @@
+package com.eldor.roguecraft.events;
+
+import org.bukkit.entity.LivingEntity;
+import org.bukkit.entity.Player;
+import org.bukkit.event.entity.EntityDeathEvent;
+
+/**
+ * Published once per non-player EntityDeathEvent with the killer, the killer's run and the
+ * mob's Roguecraft flags already resolved.
+ * Instances are pooled by the RunEventBus - subscribers must not keep references to them.
+ */
+public class RunKillEvent {
+    /**
+     * Receives kill events in priority order
+     */
+    @FunctionalInterface
+    public interface Subscriber {
+        void onRunKill(RunKillEvent event);
+    }
+
+    private final RunContext context = new RunContext();
+    private EntityDeathEvent bukkitEvent;
+    private LivingEntity entity;
+    private Player killer; // Direct killer, or the player credited through TNT attribution
+    private boolean directKill; // True if killer came from LivingEntity#getKiller
+    private boolean killerInGUI;
+
+    // Entity record (read before any subscriber strips names/glowing)
+    private boolean elite;
+    private boolean legendary;
+    private boolean boss;
+    private boolean nuked;
+
+    void reset(EntityDeathEvent bukkitEvent, Player killer, boolean directKill,
+               boolean elite, boolean legendary, boolean boss, boolean nuked) {
+        this.bukkitEvent = bukkitEvent;
+        this.entity = bukkitEvent.getEntity();
+        this.killer = killer;
+        this.directKill = directKill;
+        this.elite = elite;
+        this.legendary = legendary;
+        this.boss = boss;
+        this.nuked = nuked;
+        this.killerInGUI = false;
+    }
+
+    void setKillerInGUI(boolean killerInGUI) {
+        this.killerInGUI = killerInGUI;
+    }
+
+    void release() {
+        this.bukkitEvent = null;
+        this.entity = null;
+        this.killer = null;
+        context.clear();
+    }
+
+    public EntityDeathEvent getBukkitEvent() {
+        return bukkitEvent;
+    }
+
+    public LivingEntity getEntity() {
+        return entity;
+    }
+
+    public Player getKiller() {
+        return killer;
+    }
+
+    public boolean isDirectKill() {
+        return directKill;
+    }
+
+    /**
+     * Whether the killer has any Roguecraft GUI open (GuiManager, ShrineManager or TeamRun tracking)
+     */
+    public boolean isKillerInGUI() {
+        return killerInGUI;
+    }
+
+    public RunContext getContext() {
+        return context;
+    }
+
+    public boolean isElite() {
+        return elite;
+    }
+
+    public boolean isLegendary() {
+        return legendary;
+    }
+
+    public boolean isBoss() {
+        return boss;
+    }
+
+    public boolean isNuked() {
+        return nuked;
+    }
+}
@@ -10,8 +10,6 @@ import org.bukkit.Material;
 import org.bukkit.Sound;
 import org.bukkit.enchantments.Enchantment;
 import org.bukkit.entity.Player;
-import org.bukkit.event.EventHandler;
-import org.bukkit.event.Listener;
 import org.bukkit.event.inventory.InventoryClickEvent;
 import org.bukkit.event.inventory.InventoryCloseEvent;
 import org.bukkit.inventory.Inventory;
@@ -21,12 +19,12 @@ import org.bukkit.scheduler.BukkitTask;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Random;
+import java.util.SplittableRandom;
 
 /**
  * GUI for gacha roll animation that freezes the game
  */
-public class GachaRollGUI implements Listener {
+public class GachaRollGUI implements RoutedGUI {
     private final RoguecraftPlugin plugin;
     private final Player player;
     private final Run run;
@@ -36,6 +34,7 @@ public class GachaRollGUI implements Listener {
     private final double luck;
     private BukkitTask animationTask;
     private boolean isRevealed = false;
+    private boolean closed = false; // Close logic already ran
     private int rollCount = 0;
     private final int totalRolls = 25; // Fast rolls
     private final int slowRolls = 8; // Slower final rolls
@@ -47,9 +46,7 @@ public class GachaRollGUI implements Listener {
         this.teamRun = null;
         this.finalItem = finalItem;
         this.luck = luck;
-        this.inventory = Bukkit.createInventory(null, 27, "§6§l✨ GACHA ROLL ✨");
-        
-        Bukkit.getPluginManager().registerEvents(this, plugin);
+        this.inventory = plugin.getGuiRouter().createInventory(this, player, 27, "§6§l✨ GACHA ROLL ✨");
         
         // Stop weapon auto-attack while in GUI
         plugin.getWeaponManager().stopAutoAttack(player);
@@ -62,9 +59,7 @@ public class GachaRollGUI implements Listener {
         this.teamRun = teamRun;
         this.finalItem = finalItem;
         this.luck = luck;
-        this.inventory = Bukkit.createInventory(null, 27, "§6§l✨ GACHA ROLL ✨");
-        
-        Bukkit.getPluginManager().registerEvents(this, plugin);
+        this.inventory = plugin.getGuiRouter().createInventory(this, player, 27, "§6§l✨ GACHA ROLL ✨");
         teamRun.setPlayerInGUI(player.getUniqueId(), true);
         
         // Stop ALL players' weapon auto-attacks when ANY player opens GUI (team-wide pause)
@@ -107,7 +102,7 @@ public class GachaRollGUI implements Listener {
             // Show initial item immediately
             List<GachaItem> allItems = new ArrayList<>(plugin.getGachaManager().getAllItems());
             if (!allItems.isEmpty()) {
-                Random random = new Random();
+                SplittableRandom random = plugin.getRunRandom().getShared(); // Animation only
                 GachaItem initialItem = allItems.get(random.nextInt(allItems.size()));
                 updateRollDisplay(initialItem, false);
             }
@@ -141,7 +136,7 @@ public class GachaRollGUI implements Listener {
             return;
         }
         
-        Random random = new Random();
+        SplittableRandom random = plugin.getRunRandom().getShared(); // Animation only
         
         animationTask = Bukkit.getScheduler().runTaskTimer(plugin, () -> {
             // Check if player is still online and GUI is still open
@@ -274,7 +269,7 @@ public class GachaRollGUI implements Listener {
         }, 60L); // 3 seconds
     }
     
-    @EventHandler
+    @Override
     public void onInventoryClick(InventoryClickEvent event) {
         if (event.getInventory().equals(inventory) && event.getWhoClicked() == player) {
             // Prevent all clicks during animation
@@ -282,9 +277,11 @@ public class GachaRollGUI implements Listener {
         }
     }
     
-    @EventHandler
+    @Override
     public void onInventoryClose(InventoryCloseEvent event) {
-        if (event.getInventory().equals(inventory) && event.getPlayer() == player) {
+        if (event.getInventory().equals(inventory) && event.getPlayer() == player && !closed) {
+            closed = true;
+            
             // Cancel animation task if still running
             if (animationTask != null && !animationTask.isCancelled()) {
                 animationTask.cancel();
@@ -311,10 +308,6 @@ public class GachaRollGUI implements Listener {
             
             // Notify GUI manager that GUI is closing
             plugin.getGuiManager().onGUIClosed(player);
-            
-            // Unregister this listener
-            InventoryClickEvent.getHandlerList().unregister(this);
-            InventoryCloseEvent.getHandlerList().unregister(this);
         }
     }
 }
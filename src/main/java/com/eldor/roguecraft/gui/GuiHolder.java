@@ -0,0 +1,46 @@
+package com.eldor.roguecraft.gui;
+
+import org.bukkit.inventory.Inventory;
+import org.bukkit.inventory.InventoryHolder;
+
+import java.util.UUID;
+
+/**
+ * Holder of every plugin GUI inventory: links the inventory back to the GUI that owns it
+ */
+public class GuiHolder implements InventoryHolder {
+    private final RoutedGUI gui;
+    private final UUID viewerId;
+    private Inventory inventory;
+    private boolean discarded; // Closed by the router (run cleanup) - the GUI no longer gets events
+
+    public GuiHolder(RoutedGUI gui, UUID viewerId) {
+        this.gui = gui;
+        this.viewerId = viewerId;
+    }
+
+    public RoutedGUI getGui() {
+        return gui;
+    }
+
+    public UUID getViewerId() {
+        return viewerId;
+    }
+
+    @Override
+    public Inventory getInventory() {
+        return inventory;
+    }
+
+    public void setInventory(Inventory inventory) {
+        this.inventory = inventory;
+    }
+
+    public boolean isDiscarded() {
+        return discarded;
+    }
+
+    public void discard() {
+        this.discarded = true;
+    }
+}
@@ -9,8 +9,6 @@ import org.bukkit.Bukkit;
 import org.bukkit.ChatColor;
 import org.bukkit.Material;
 import org.bukkit.entity.Player;
-import org.bukkit.event.EventHandler;
-import org.bukkit.event.Listener;
 import org.bukkit.event.inventory.InventoryClickEvent;
 import org.bukkit.event.inventory.InventoryCloseEvent;
 import org.bukkit.inventory.Inventory;
@@ -22,7 +20,7 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
-public class PowerUpGUI implements Listener {
+public class PowerUpGUI implements RoutedGUI {
     private final RoguecraftPlugin plugin;
     private final Player player;
     private final Run run;
@@ -30,6 +28,7 @@ public class PowerUpGUI implements Listener {
     private final Inventory inventory;
     private final List<PowerUp> powerUps;
     private Inventory itemsGUI; // Track items view GUI
+    private boolean closed = false; // Close logic already ran - later events are only cancelled
 
     public PowerUpGUI(RoguecraftPlugin plugin, Player player, Run run) {
         this.plugin = plugin;
@@ -37,10 +36,8 @@ public class PowerUpGUI implements Listener {
         this.run = run;
         this.teamRun = null;
         // Use dynamic power-up generation with luck scaling
-        this.powerUps = plugin.getPowerUpManager().generateDynamicPowerUps(run.getLevel(), run.getStat("luck"), run);
-        this.inventory = Bukkit.createInventory(null, 36, "§6Choose Your Power-Up");
-        
-        Bukkit.getPluginManager().registerEvents(this, plugin);
+        this.powerUps = plugin.getOfferPrefetcher().takeOffers(player.getUniqueId(), run, run.getLevel(), run.getStat("luck"));
+        this.inventory = plugin.getGuiRouter().createInventory(this, player, 36, "§6Choose Your Power-Up");
         
         // Stop weapon auto-attack while in GUI
         plugin.getWeaponManager().stopAutoAttack(player);
@@ -52,10 +49,8 @@ public class PowerUpGUI implements Listener {
         this.run = null;
         this.teamRun = teamRun;
         // Use dynamic power-up generation with luck scaling (player-specific)
-        this.powerUps = plugin.getPowerUpManager().generateDynamicPowerUps(teamRun.getLevel(), teamRun.getStat(player, "luck"), teamRun);
-        this.inventory = Bukkit.createInventory(null, 36, "§6Choose Your Power-Up");
-        
-        Bukkit.getPluginManager().registerEvents(this, plugin);
+        this.powerUps = plugin.getOfferPrefetcher().takeOffers(player.getUniqueId(), teamRun, teamRun.getLevel(), teamRun.getStat(player, "luck"));
+        this.inventory = plugin.getGuiRouter().createInventory(this, player, 36, "§6Choose Your Power-Up");
         teamRun.setPlayerInGUI(player.getUniqueId(), true);
         
         // Stop ALL players' weapon auto-attacks when ANY player opens GUI (team-wide pause)
@@ -123,38 +118,59 @@ public class PowerUpGUI implements Listener {
         // Add collected items view button
         addCollectedItemsButton();
 
-        // Add power-up options at slots 10, 13, 16
-        if (powerUps.size() > 0) {
-            addPowerUpItem(10, powerUps.get(0));
-        }
-        if (powerUps.size() > 1) {
-            addPowerUpItem(13, powerUps.get(1));
-        }
-        if (powerUps.size() > 2) {
-            addPowerUpItem(16, powerUps.get(2));
+        // Add power-up options at slots 10, 13, 16 and the reroll button
+        updateChoices();
+
+        // Close button
+        inventory.setItem(35, plugin.getGuiItemCache().getTemplate("power_up.close", () -> {
+            ItemStack closeItem = new ItemStack(Material.BARRIER);
+            ItemMeta closeMeta = closeItem.getItemMeta();
+            closeMeta.setDisplayName(ChatColor.RED + "Close");
+            closeItem.setItemMeta(closeMeta);
+            return closeItem;
+        }));
+    }
+    
+    /**
+     * Set the three choice slots and the reroll button (open and reroll - nothing else changes on a reroll)
+     */
+    private void updateChoices() {
+        int[] choiceSlots = {10, 13, 16};
+        for (int i = 0; i < choiceSlots.length; i++) {
+            if (i < powerUps.size()) {
+                addPowerUpItem(choiceSlots[i], powerUps.get(i));
+            } else {
+                inventory.setItem(choiceSlots[i], null);
+            }
         }
 
         // Add reroll button if rerolls available
-        if (getRerollsRemaining() > 0) {
-            ItemStack rerollItem = new ItemStack(Material.EMERALD);
-            ItemMeta rerollMeta = rerollItem.getItemMeta();
-            rerollMeta.setDisplayName(ChatColor.GREEN + "Reroll Power-Ups");
-            List<String> rerollLore = new ArrayList<>();
-            rerollLore.add(ChatColor.GRAY + "Rerolls remaining: " + ChatColor.YELLOW + getRerollsRemaining());
-            rerollMeta.setLore(rerollLore);
-            rerollItem.setItemMeta(rerollMeta);
-            inventory.setItem(31, rerollItem);
+        int rerollsRemaining = getRerollsRemaining();
+        if (rerollsRemaining > 0) {
+            inventory.setItem(31, plugin.getGuiItemCache().getTemplate("power_up.reroll:" + rerollsRemaining, () -> {
+                ItemStack rerollItem = new ItemStack(Material.EMERALD);
+                ItemMeta rerollMeta = rerollItem.getItemMeta();
+                rerollMeta.setDisplayName(ChatColor.GREEN + "Reroll Power-Ups");
+                List<String> rerollLore = new ArrayList<>();
+                rerollLore.add(ChatColor.GRAY + "Rerolls remaining: " + ChatColor.YELLOW + rerollsRemaining);
+                rerollMeta.setLore(rerollLore);
+                rerollItem.setItemMeta(rerollMeta);
+                return rerollItem;
+            }));
+        } else {
+            inventory.setItem(31, null);
         }
-
-        // Close button
-        ItemStack closeItem = new ItemStack(Material.BARRIER);
-        ItemMeta closeMeta = closeItem.getItemMeta();
-        closeMeta.setDisplayName(ChatColor.RED + "Close");
-        closeItem.setItemMeta(closeMeta);
-        inventory.setItem(35, closeItem);
     }
     
     private void addStatsDisplay() {
+        // Rebuilt only when this player's stats, power-ups or weapon changed since the last level-up
+        Weapon weapon = run != null ? run.getWeapon() : (teamRun != null ? teamRun.getWeapon(player) : null);
+        long statsVersion = run != null ? run.getStatsVersion() : (teamRun != null ? teamRun.getStatsVersion() : 0L);
+        inventory.setItem(4, plugin.getGuiItemCache().getVersioned("power_up.stats", player.getUniqueId(),
+            this::buildStatsItem, statsVersion, weapon != null ? weapon.getVersion() : 0L));
+    }
+    
+    private ItemStack buildStatsItem() {
         // Current Stats Item
         ItemStack statsItem = new ItemStack(Material.BOOK);
         ItemMeta statsMeta = statsItem.getItemMeta();
@@ -259,18 +275,10 @@ public class PowerUpGUI implements Listener {
         
         statsMeta.setLore(lore);
         statsItem.setItemMeta(statsMeta);
-        inventory.setItem(4, statsItem);
+        return statsItem;
     }
     
     private void addCollectedItemsButton() {
-        // Collected Items Button (next to stats)
-        ItemStack itemsItem = new ItemStack(Material.CHEST);
-        ItemMeta itemsMeta = itemsItem.getItemMeta();
-        itemsMeta.setDisplayName(ChatColor.GOLD + "Collected Items");
-        
-        List<String> lore = new ArrayList<>();
-        lore.add("");
-        
         List<com.eldor.roguecraft.models.GachaItem> collectedItems;
         if (run != null) {
             collectedItems = run.getCollectedGachaItems();
@@ -281,6 +289,20 @@ public class PowerUpGUI implements Listener {
             collectedItems = new ArrayList<>();
         }
         
+        // Items are only ever added, so the count is the version
+        inventory.setItem(8, plugin.getGuiItemCache().getVersioned("power_up.items", player.getUniqueId(),
+            () -> buildCollectedItemsButton(collectedItems), collectedItems.size()));
+    }
+    
+    private ItemStack buildCollectedItemsButton(List<com.eldor.roguecraft.models.GachaItem> collectedItems) {
+        // Collected Items Button (next to stats)
+        ItemStack itemsItem = new ItemStack(Material.CHEST);
+        ItemMeta itemsMeta = itemsItem.getItemMeta();
+        itemsMeta.setDisplayName(ChatColor.GOLD + "Collected Items");
+        
+        List<String> lore = new ArrayList<>();
+        lore.add("");
+        
         if (collectedItems.isEmpty()) {
             lore.add(ChatColor.GRAY + "No items collected yet.");
             lore.add(ChatColor.GRAY + "Open chests to collect items!");
@@ -311,7 +333,7 @@ public class PowerUpGUI implements Listener {
         
         itemsMeta.setLore(lore);
         itemsItem.setItemMeta(itemsMeta);
-        inventory.setItem(8, itemsItem);
+        return itemsItem;
     }
     
     private void showCollectedItemsGUI() {
@@ -331,7 +353,7 @@ public class PowerUpGUI implements Listener {
         }
         
         // Create items view GUI
-        Inventory itemsGUI = Bukkit.createInventory(null, 54, "§6Collected Items (" + collectedItems.size() + ")");
+        Inventory itemsGUI = plugin.getGuiRouter().createInventory(this, player, 54, "§6Collected Items (" + collectedItems.size() + ")");
         
         int slot = 0;
         for (com.eldor.roguecraft.models.GachaItem item : collectedItems) {
@@ -367,6 +389,22 @@ public class PowerUpGUI implements Listener {
     }
 
     private void addPowerUpItem(int slot, PowerUp powerUp) {
+        // Power-up IDs are random per roll, so the item is keyed by what it shows
+        Weapon weapon = null;
+        StringBuilder key = new StringBuilder(powerUp.getName()).append('|').append(powerUp.getRarity())
+            .append('|').append(powerUp.getType()).append('|').append(powerUp.getIcon())
+            .append('|').append(powerUp.getDescription()).append('|').append(String.join(",", powerUp.getSynergies()));
+        if (powerUp.getType() == PowerUp.PowerUpType.WEAPON_UPGRADE) {
+            weapon = run != null ? run.getWeapon() : (teamRun != null ? teamRun.getWeapon(player) : null);
+            if (weapon != null) {
+                key.append('|').append(weapon.getVersion()).append('|').append((int) powerUp.getValue()); // Preview depends on the weapon
+            }
+        }
+        Weapon previewWeapon = weapon;
+        inventory.setItem(slot, plugin.getGuiItemCache().getOffer(key.toString(), () -> buildPowerUpItem(powerUp, previewWeapon)));
+    }
+    
+    private ItemStack buildPowerUpItem(PowerUp powerUp, Weapon weapon) {
         ItemStack item = new ItemStack(powerUp.getIcon());
         ItemMeta meta = item.getItemMeta();
         
@@ -383,7 +421,6 @@ public class PowerUpGUI implements Listener {
         
         // Add predicted weapon stats for weapon upgrades
         if (powerUp.getType() == PowerUp.PowerUpType.WEAPON_UPGRADE) {
-            Weapon weapon = run != null ? run.getWeapon() : (teamRun != null ? teamRun.getWeapon(player) : null);
             if (weapon != null) {
                 int levels = (int) powerUp.getValue();
                 PredictedWeaponStats predicted = calculatePredictedWeaponStats(weapon, levels);
@@ -431,7 +468,7 @@ public class PowerUpGUI implements Listener {
         
         meta.setLore(lore);
         item.setItemMeta(meta);
-        inventory.setItem(slot, item);
+        return item;
     }
     
     /**
@@ -565,9 +602,13 @@ public class PowerUpGUI implements Listener {
         }
     }
 
-    @EventHandler
+    @Override
     public void onInventoryClick(InventoryClickEvent event) {
         if (event.getWhoClicked() != player) return;
+        if (closed) {
+            event.setCancelled(true);
+            return;
+        }
         
         // Handle items GUI clicks
         if (itemsGUI != null && event.getInventory().equals(itemsGUI)) {
@@ -1008,14 +1049,16 @@ public class PowerUpGUI implements Listener {
         // Use dynamic generation with current luck (player-specific for team runs)
         double luck = run != null ? run.getStat("luck") : (teamRun != null ? teamRun.getStat(player, "luck") : 1.0);
         Object currentRun = run != null ? run : teamRun;
-        powerUps.addAll(plugin.getPowerUpManager().generateDynamicPowerUps(getLevel(), luck, currentRun));
-        setupGUI();
+        powerUps.addAll(plugin.getOfferPrefetcher().takeReroll(player.getUniqueId(), currentRun, getLevel(), luck));
+        updateChoices(); // Stats, collected items and close button are unchanged
         player.sendMessage(ChatColor.YELLOW + "Power-ups rerolled! " + getRerollsRemaining() + " rerolls remaining.");
     }
 
-    @EventHandler
+    @Override
     public void onInventoryClose(InventoryCloseEvent event) {
-        if (event.getInventory().equals(inventory) && event.getPlayer() == player) {
+        if (event.getInventory().equals(inventory) && event.getPlayer() == player && !closed) {
+            closed = true;
+            
             // Mark player as no longer in GUI
             if (teamRun != null) {
                 teamRun.setPlayerInGUI(player.getUniqueId(), false);
@@ -1041,10 +1084,6 @@ public class PowerUpGUI implements Listener {
             
             // Notify GUI manager that GUI is closing
             plugin.getGuiManager().onGUIClosed(player);
-            
-            // Unregister this listener
-            InventoryClickEvent.getHandlerList().unregister(this);
-            InventoryCloseEvent.getHandlerList().unregister(this);
         }
     }
     
@@ -1062,7 +1101,7 @@ public class PowerUpGUI implements Listener {
         applyHealthAttribute(player, newHealth);
         
         player.sendMessage(ChatColor.RED + "§lGLASS CANNON! §r§c+" + String.format("%.0f%%", damageBoost) + " Damage, -50% Max HP!");
-        player.getWorld().spawnParticle(org.bukkit.Particle.CRIT, player.getLocation(), 30, 0.5, 1.0, 0.5, 0.1);
+        plugin.getFxEmitter().particle(org.bukkit.Particle.CRIT, player.getLocation(), 30, 0.5, 1.0, 0.5, 0.1);
         player.playSound(player.getLocation(), org.bukkit.Sound.ENTITY_PLAYER_LEVELUP, 0.5f, 0.8f);
     }
     
@@ -1084,7 +1123,7 @@ public class PowerUpGUI implements Listener {
         for (Player p : teamRun.getPlayers()) {
             if (p != null && p.isOnline()) {
                 p.sendMessage(ChatColor.RED + "§lGLASS CANNON! §r§c+" + String.format("%.0f%%", damageBoost) + " Damage, -50% Max HP!");
-                p.getWorld().spawnParticle(org.bukkit.Particle.CRIT, p.getLocation(), 30, 0.5, 1.0, 0.5, 0.1);
+                plugin.getFxEmitter().particle(org.bukkit.Particle.CRIT, p.getLocation(), 30, 0.5, 1.0, 0.5, 0.1);
                 p.playSound(p.getLocation(), org.bukkit.Sound.ENTITY_PLAYER_LEVELUP, 0.5f, 0.8f);
             }
         }
@@ -0,0 +1,14 @@
+package com.eldor.roguecraft.gui;
+
+import org.bukkit.event.inventory.InventoryClickEvent;
+import org.bukkit.event.inventory.InventoryCloseEvent;
+
+/**
+ * A plugin GUI whose inventories are created through the GuiRouter.
+ * The router finds the GUI from the inventory's holder and hands it only the events for its own inventories.
+ */
+public interface RoutedGUI {
+    void onInventoryClick(InventoryClickEvent event);
+
+    void onInventoryClose(InventoryCloseEvent event);
+}
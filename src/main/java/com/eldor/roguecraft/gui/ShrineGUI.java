@@ -9,8 +9,6 @@ import org.bukkit.Bukkit;
 import org.bukkit.ChatColor;
 import org.bukkit.Material;
 import org.bukkit.entity.Player;
-import org.bukkit.event.EventHandler;
-import org.bukkit.event.Listener;
 import org.bukkit.event.inventory.InventoryClickEvent;
 import org.bukkit.event.inventory.InventoryCloseEvent;
 import org.bukkit.inventory.Inventory;
@@ -22,7 +20,7 @@ import java.util.*;
 /**
  * GUI for shrine buff selection
  */
-public class ShrineGUI implements Listener {
+public class ShrineGUI implements RoutedGUI {
     private final RoguecraftPlugin plugin;
     private final Player player;
     private final Shrine shrine;
@@ -30,15 +28,14 @@ public class ShrineGUI implements Listener {
     private final Inventory inventory;
     private List<ShrineBuff> generatedBuffs; // Store generated buffs
     private Inventory itemsGUI; // Track items view GUI
+    private boolean closed = false; // Buff chosen or GUI closed - later events are only cancelled
     
     public ShrineGUI(RoguecraftPlugin plugin, Player player, Shrine shrine, UUID teamId) {
         this.plugin = plugin;
         this.player = player;
         this.shrine = shrine;
         this.teamId = teamId;
-        this.inventory = Bukkit.createInventory(null, 27, ChatColor.GOLD + "⚡ " + shrine.getType().getName());
-        
-        plugin.getServer().getPluginManager().registerEvents(this, plugin);
+        this.inventory = plugin.getGuiRouter().createInventory(this, player, 27, ChatColor.GOLD + "⚡ " + shrine.getType().getName());
         
         // Game is already frozen from channeling, just maintain the state
         // (TeamRun.setPlayerInGUI was already called during channeling)
@@ -48,10 +45,13 @@ public class ShrineGUI implements Listener {
     
     private void setupGUI() {
         // Border
-        ItemStack border = new ItemStack(Material.BLACK_STAINED_GLASS_PANE);
-        ItemMeta borderMeta = border.getItemMeta();
-        borderMeta.setDisplayName(" ");
-        border.setItemMeta(borderMeta);
+        ItemStack border = plugin.getGuiItemCache().getTemplate("shrine.border", () -> {
+            ItemStack pane = new ItemStack(Material.BLACK_STAINED_GLASS_PANE);
+            ItemMeta paneMeta = pane.getItemMeta();
+            paneMeta.setDisplayName(" ");
+            pane.setItemMeta(paneMeta);
+            return pane;
+        });
         
         for (int i = 0; i < 27; i++) {
             if (i < 9 || i >= 18 || i % 9 == 0 || i % 9 == 8) {
@@ -66,16 +66,18 @@ public class ShrineGUI implements Listener {
         addCollectedItemsButton();
         
         // Shrine info
-        ItemStack info = new ItemStack(shrine.getType().getLightMaterial());
-        ItemMeta infoMeta = info.getItemMeta();
-        infoMeta.setDisplayName(ChatColor.GOLD + "" + ChatColor.BOLD + shrine.getType().getName());
-        List<String> lore = new ArrayList<>();
-        lore.add(ChatColor.GRAY + shrine.getType().getDescription());
-        lore.add("");
-        lore.add(ChatColor.YELLOW + "Choose a buff variant:");
-        infoMeta.setLore(lore);
-        info.setItemMeta(infoMeta);
-        inventory.setItem(4, info);
+        inventory.setItem(4, plugin.getGuiItemCache().getTemplate("shrine.info:" + shrine.getType().name(), () -> {
+            ItemStack info = new ItemStack(shrine.getType().getLightMaterial());
+            ItemMeta infoMeta = info.getItemMeta();
+            infoMeta.setDisplayName(ChatColor.GOLD + "" + ChatColor.BOLD + shrine.getType().getName());
+            List<String> lore = new ArrayList<>();
+            lore.add(ChatColor.GRAY + shrine.getType().getDescription());
+            lore.add("");
+            lore.add(ChatColor.YELLOW + "Choose a buff variant:");
+            infoMeta.setLore(lore);
+            info.setItemMeta(infoMeta);
+            return info;
+        }));
         
         // Generate 3 variants of the shrine buff
         generatedBuffs = generateBuffVariants();
@@ -87,7 +89,6 @@ public class ShrineGUI implements Listener {
     
     private List<ShrineBuff> generateBuffVariants() {
         List<ShrineBuff> buffs = new ArrayList<>();
-        Random random = new Random();
         
         // Get player's run info for level and luck
         TeamRun teamRun = plugin.getRunManager().getTeamRun(player.getUniqueId());
@@ -95,6 +96,7 @@ public class ShrineGUI implements Listener {
         if (teamRun == null) {
             run = plugin.getRunManager().getRun(player.getUniqueId());
         }
+        SplittableRandom random = plugin.getRunRandom().get(teamRun != null ? teamRun : run, com.eldor.roguecraft.managers.RunRandom.Stream.POWER_UPS);
         
         int playerLevel = 1;
         double luck = 1.0;
@@ -108,65 +110,40 @@ public class ShrineGUI implements Listener {
         }
         
         // Generate 3 unique power-ups (excluding weapon-related ones)
-        Set<String> usedTypes = new HashSet<>();
-        int maxAttempts = 50;
-        int attempts = 0;
-        
-        while (buffs.size() < 3 && attempts < maxAttempts) {
-            attempts++;
-            double roll = random.nextDouble();
-            com.eldor.roguecraft.models.PowerUp powerUp = null;
-            String uniqueKey = null;
-            
-            // 8% chance for jump height (rarer pull)
-            if (roll < 0.08) {
-                powerUp = createJumpHeightPowerUp(playerLevel, luck);
-                uniqueKey = "jump_height";
-            } else {
-                // 92% chance for stat boost (damage, regen, crit, speed, health, etc.)
-                // Exclude regeneration if capped, but allow it for shrines
-                boolean excludeRegen = false;
-                if (teamRun != null) {
-                    // Check player-specific regeneration stat
-                    excludeRegen = teamRun.getStat(player, "regeneration") >= 4.0;
-                } else if (run != null) {
-                    excludeRegen = run.getStat("regeneration") >= 4.0;
-                }
-                
-                powerUp = com.eldor.roguecraft.models.DynamicPowerUp.generateStatBoost(playerLevel, luck, excludeRegen);
-                // Extract stat name for uniqueness
-                String statName = powerUp.getId().replaceAll("dynamic_", "").replaceAll("_\\d+", "");
-                uniqueKey = "stat_" + statName;
-            }
-            
-            // Only add if not already present and not null
-            if (powerUp != null && !usedTypes.contains(uniqueKey)) {
-                // Convert PowerUp to ShrineBuff
-                ChatColor color = getColorForRarity(powerUp.getRarity());
-                Material icon = powerUp.getIcon();
-                ShrineBuff buff = new ShrineBuff(
-                    powerUp.getName(),
-                    powerUp.getDescription(),
-                    color,
-                    icon,
-                    powerUp.getId(), // Store power-up ID as effectType
-                    powerUp // Store the actual power-up object
-                );
-                buffs.add(buff);
-                usedTypes.add(uniqueKey);
+        // Each slot has an 8% chance to be jump height (rarer pull, at most once); the rest are different stat boosts
+        List<com.eldor.roguecraft.models.PowerUp> powerUps = new ArrayList<>();
+        int statSlots = 3;
+        for (int i = 0; i < 3; i++) {
+            if (random.nextDouble() < 0.08) {
+                powerUps.add(createJumpHeightPowerUp(playerLevel, luck, random));
+                statSlots--;
+                break;
             }
         }
         
-        // If we couldn't generate 3, fill with random stat boosts
-        while (buffs.size() < 3) {
-            com.eldor.roguecraft.models.PowerUp powerUp = com.eldor.roguecraft.models.DynamicPowerUp.generateStatBoost(playerLevel, luck, false);
+        // Stat boosts (damage, regen, crit, speed, health, etc.)
+        // Exclude regeneration if capped, but allow it for shrines
+        boolean excludeRegen = false;
+        if (teamRun != null) {
+            // Check player-specific regeneration stat
+            excludeRegen = teamRun.getStat(player, "regeneration") >= 4.0;
+        } else if (run != null) {
+            excludeRegen = run.getStat("regeneration") >= 4.0;
+        }
+        for (String stat : plugin.getRollTables().rollStats(statSlots, excludeRegen, random)) {
+            powerUps.add(com.eldor.roguecraft.models.DynamicPowerUp.generateStatBoost(playerLevel, luck, stat, random));
+        }
+        
+        for (com.eldor.roguecraft.models.PowerUp powerUp : powerUps) {
+            // Convert PowerUp to ShrineBuff
             ChatColor color = getColorForRarity(powerUp.getRarity());
             ShrineBuff buff = new ShrineBuff(
                 powerUp.getName(),
                 powerUp.getDescription(),
                 color,
                 powerUp.getIcon(),
-                powerUp.getId()
+                powerUp.getId(), // Store power-up ID as effectType
+                powerUp // Store the actual power-up object
             );
             buffs.add(buff);
         }
@@ -174,11 +151,11 @@ public class ShrineGUI implements Listener {
         return buffs;
     }
     
-    private com.eldor.roguecraft.models.PowerUp createJumpHeightPowerUp(int playerLevel, double luck) {
+    private com.eldor.roguecraft.models.PowerUp createJumpHeightPowerUp(int playerLevel, double luck, SplittableRandom random) {
         // Jump height power-up (rarer)
         // Determine rarity based on luck (similar to DynamicPowerUp logic)
         com.eldor.roguecraft.models.PowerUp.Rarity rarity;
-        double roll = new Random().nextDouble() * luck;
+        double roll = random.nextDouble() * luck;
         if (roll < 0.5) {
             rarity = com.eldor.roguecraft.models.PowerUp.Rarity.COMMON;
         } else if (roll < 0.8) {
@@ -227,6 +204,12 @@ public class ShrineGUI implements Listener {
     }
     
     private ItemStack createBuffItem(ShrineBuff buff, int slot) {
+        // Keyed by what the item shows - the same variant is often offered again
+        String key = "shrine|" + buff.icon + "|" + buff.color + "|" + buff.name + "|" + buff.description;
+        return plugin.getGuiItemCache().getOffer(key, () -> buildBuffItem(buff));
+    }
+    
+    private ItemStack buildBuffItem(ShrineBuff buff) {
         ItemStack item = new ItemStack(buff.icon);
         ItemMeta meta = item.getItemMeta();
         meta.setDisplayName(buff.color + "" + ChatColor.BOLD + buff.name);
@@ -258,8 +241,13 @@ public class ShrineGUI implements Listener {
         player.openInventory(inventory);
     }
     
-    @EventHandler
+    @Override
     public void onInventoryClick(InventoryClickEvent event) {
+        if (closed) {
+            event.setCancelled(true);
+            return;
+        }
+        
         // Handle items GUI clicks
         if (itemsGUI != null && event.getInventory().equals(itemsGUI)) {
             event.setCancelled(true);
@@ -307,9 +295,8 @@ public class ShrineGUI implements Listener {
             int buffIndex = (slot == 10) ? 0 : (slot == 12) ? 1 : 2;
             ShrineBuff selectedBuff = generatedBuffs.get(buffIndex);
             
-            // Unregister this listener FIRST to prevent any re-triggering
-            InventoryClickEvent.getHandlerList().unregister(this);
-            InventoryCloseEvent.getHandlerList().unregister(this);
+            // Mark closed FIRST so the close event below doesn't run the close logic again
+            closed = true;
             
             // Mark player as no longer in GUI and unfreeze IMMEDIATELY (BEFORE closing)
             TeamRun teamRun = plugin.getRunManager().getTeamRun(player.getUniqueId());
@@ -341,26 +328,18 @@ public class ShrineGUI implements Listener {
         }
     }
     
-    @EventHandler
+    @Override
     public void onInventoryClose(InventoryCloseEvent event) {
         if (!event.getInventory().equals(inventory)) return;
         if (!(event.getPlayer() instanceof Player)) return;
         Player clicker = (Player) event.getPlayer();
         if (!clicker.equals(player)) return;
         
-        // Prevent duplicate processing - use a flag to track if we've already processed
-        // Check if listeners are still registered (if not, we've already processed)
-        boolean clickListenerRegistered = InventoryClickEvent.getHandlerList().getRegisteredListeners(plugin).contains(this);
-        boolean closeListenerRegistered = InventoryCloseEvent.getHandlerList().getRegisteredListeners(plugin).contains(this);
-        
-        if (!clickListenerRegistered && !closeListenerRegistered) {
-            // Already processed, skip
+        // Prevent duplicate processing (buff already chosen, or close already handled)
+        if (closed) {
             return;
         }
-        
-        // Unregister this listener FIRST to prevent re-triggering
-        InventoryClickEvent.getHandlerList().unregister(this);
-        InventoryCloseEvent.getHandlerList().unregister(this);
+        closed = true;
         
         // Mark player as no longer in GUI and unfreeze
         TeamRun teamRun = plugin.getRunManager().getTeamRun(player.getUniqueId());
@@ -394,6 +373,16 @@ public class ShrineGUI implements Listener {
     }
     
     private void addStatsDisplay() {
+        // Rebuilt only when this player's stats, power-ups or weapon changed since the last shrine
+        TeamRun teamRun = plugin.getRunManager().getTeamRun(player.getUniqueId());
+        Run run = teamRun == null ? plugin.getRunManager().getRun(player.getUniqueId()) : null;
+        Weapon weapon = teamRun != null ? teamRun.getWeapon(player) : (run != null ? run.getWeapon() : null);
+        long statsVersion = teamRun != null ? teamRun.getStatsVersion() : (run != null ? run.getStatsVersion() : 0L);
+        inventory.setItem(0, plugin.getGuiItemCache().getVersioned("shrine.stats", player.getUniqueId(),
+            this::buildStatsItem, statsVersion, weapon != null ? weapon.getVersion() : 0L));
+    }
+    
+    private ItemStack buildStatsItem() {
         // Current Stats Item
         ItemStack statsItem = new ItemStack(Material.BOOK);
         ItemMeta statsMeta = statsItem.getItemMeta();
@@ -523,18 +512,10 @@ public class ShrineGUI implements Listener {
         
         statsMeta.setLore(lore);
         statsItem.setItemMeta(statsMeta);
-        inventory.setItem(0, statsItem);
+        return statsItem;
     }
     
     private void addCollectedItemsButton() {
-        // Collected Items Button
-        ItemStack itemsItem = new ItemStack(Material.CHEST);
-        ItemMeta itemsMeta = itemsItem.getItemMeta();
-        itemsMeta.setDisplayName(ChatColor.GOLD + "Collected Items");
-        
-        List<String> lore = new ArrayList<>();
-        lore.add("");
-        
         TeamRun teamRun = plugin.getRunManager().getTeamRun(player.getUniqueId());
         Run run = null;
         if (teamRun == null) {
@@ -550,6 +531,20 @@ public class ShrineGUI implements Listener {
             collectedItems = new ArrayList<>();
         }
         
+        // Items are only ever added, so the count is the version
+        inventory.setItem(1, plugin.getGuiItemCache().getVersioned("shrine.items", player.getUniqueId(),
+            () -> buildCollectedItemsButton(collectedItems), collectedItems.size()));
+    }
+    
+    private ItemStack buildCollectedItemsButton(List<com.eldor.roguecraft.models.GachaItem> collectedItems) {
+        // Collected Items Button
+        ItemStack itemsItem = new ItemStack(Material.CHEST);
+        ItemMeta itemsMeta = itemsItem.getItemMeta();
+        itemsMeta.setDisplayName(ChatColor.GOLD + "Collected Items");
+        
+        List<String> lore = new ArrayList<>();
+        lore.add("");
+        
         if (collectedItems.isEmpty()) {
             lore.add(ChatColor.GRAY + "No items collected yet.");
             lore.add(ChatColor.GRAY + "Open chests to collect items!");
@@ -580,7 +575,7 @@ public class ShrineGUI implements Listener {
         
         itemsMeta.setLore(lore);
         itemsItem.setItemMeta(itemsMeta);
-        inventory.setItem(1, itemsItem);
+        return itemsItem;
     }
     
     private void showStatsInChat() {
@@ -681,7 +676,7 @@ public class ShrineGUI implements Listener {
         }
         
         // Create items view GUI
-        Inventory itemsGUI = Bukkit.createInventory(null, 54, "§6Collected Items (" + collectedItems.size() + ")");
+        Inventory itemsGUI = plugin.getGuiRouter().createInventory(this, player, 54, "§6Collected Items (" + collectedItems.size() + ")");
         
         int slot = 0;
         for (com.eldor.roguecraft.models.GachaItem item : collectedItems) {
@@ -2,11 +2,8 @@ package com.eldor.roguecraft.gui;
 
 import com.eldor.roguecraft.RoguecraftPlugin;
 import com.eldor.roguecraft.models.Weapon;
-import org.bukkit.Bukkit;
 import org.bukkit.ChatColor;
 import org.bukkit.entity.Player;
-import org.bukkit.event.EventHandler;
-import org.bukkit.event.Listener;
 import org.bukkit.event.inventory.InventoryClickEvent;
 import org.bukkit.event.inventory.InventoryCloseEvent;
 import org.bukkit.inventory.Inventory;
@@ -17,19 +14,18 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.function.Consumer;
 
-public class WeaponSelectionGUI implements Listener {
+public class WeaponSelectionGUI implements RoutedGUI {
     private final RoguecraftPlugin plugin;
     private final Player player;
     private final Inventory inventory;
     private final Consumer<Weapon.WeaponType> onSelect;
+    private boolean closed; // Selected or closed - ignore further events
     
     public WeaponSelectionGUI(RoguecraftPlugin plugin, Player player, Consumer<Weapon.WeaponType> onSelect) {
         this.plugin = plugin;
         this.player = player;
         this.onSelect = onSelect;
-        this.inventory = Bukkit.createInventory(null, 27, ChatColor.GOLD + "Choose Your Weapon");
-        
-        Bukkit.getPluginManager().registerEvents(this, plugin);
+        this.inventory = plugin.getGuiRouter().createInventory(this, player, 27, ChatColor.GOLD + "Choose Your Weapon");
     }
     
     public void open() {
@@ -81,12 +77,13 @@ public class WeaponSelectionGUI implements Listener {
         inventory.setItem(slot, item);
     }
     
-    @EventHandler
+    @Override
     public void onInventoryClick(InventoryClickEvent event) {
         if (!event.getInventory().equals(inventory)) return;
         if (event.getWhoClicked() != player) return;
         
         event.setCancelled(true);
+        if (closed) return;
         
         ItemStack clicked = event.getCurrentItem();
         if (clicked == null || !clicked.hasItemMeta()) return;
@@ -96,23 +93,18 @@ public class WeaponSelectionGUI implements Listener {
             if (clicked.getType() == type.getIcon()) {
                 onSelect.accept(type);
                 player.sendMessage(ChatColor.GREEN + "Selected: " + ChatColor.AQUA + type.getDisplayName());
+                closed = true;
                 player.closeInventory();
-                unregister();
                 return;
             }
         }
     }
     
-    @EventHandler
+    @Override
     public void onInventoryClose(InventoryCloseEvent event) {
         if (event.getInventory().equals(inventory) && event.getPlayer() == player) {
-            unregister();
+            closed = true;
         }
     }
-    
-    private void unregister() {
-        InventoryClickEvent.getHandlerList().unregister(this);
-        InventoryCloseEvent.getHandlerList().unregister(this);
-    }
 }
 
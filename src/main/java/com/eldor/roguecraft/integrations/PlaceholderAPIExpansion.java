@@ -35,6 +35,20 @@ public class PlaceholderAPIExpansion extends PlaceholderExpansion {
 
     @Override
     public String onPlaceholderRequest(Player player, @NotNull String params) {
+        // Server-wide metrics (no run needed)
+        switch (params.toLowerCase()) {
+            case "quality":
+                return plugin.getQualityGovernor().getLevelName();
+            case "mspt":
+                return String.format("%.1f", plugin.getQualityGovernor().getMspt());
+            case "gui_open":
+                return String.valueOf(plugin.getGuiRouter().getOpenCount());
+            case "gui_leaks":
+                return String.valueOf(plugin.getGuiRouter().getLeakCount());
+            default:
+                break;
+        }
+
         if (player == null) {
             return "";
         }
@@ -122,29 +122,7 @@ public class ChestListener implements Listener {
                 (teamRun != null ? teamRun.getChestCost() : run.getChestCost()) + " gold.");
             
             // Update boss bar with new gold amount
-            if (teamRun != null) {
-                for (Player p : teamRun.getPlayers()) {
-                    if (p != null && p.isOnline()) {
-                        com.eldor.roguecraft.util.XPBar.updateXPBarWithGold(
-                            p,
-                            teamRun.getExperience(),
-                            teamRun.getExperienceToNextLevel(),
-                            teamRun.getLevel(),
-                            teamRun.getWave(),
-                            teamRun.getCurrentGold()
-                        );
-                    }
-                }
-            } else if (run != null) {
-                com.eldor.roguecraft.util.XPBar.updateXPBarWithGold(
-                    player,
-                    run.getExperience(),
-                    run.getExperienceToNextLevel(),
-                    run.getLevel(),
-                    run.getWave(),
-                    run.getCurrentGold()
-                );
-            }
+            plugin.getHudRenderer().markDirty(teamRun != null ? teamRun : run);
         } else {
             // This shouldn't happen anymore since legendary chests cost gold
             // But keep this for backwards compatibility
@@ -162,13 +140,13 @@ public class ChestListener implements Listener {
         }
         
         // Perform gacha roll with luck stat (same roll for all team members)
-        GachaItem item = plugin.getGachaManager().roll(luck);
+        GachaItem item = plugin.getGachaManager().roll(luck, plugin.getRunRandom().get(teamRun != null ? teamRun : run, com.eldor.roguecraft.managers.RunRandom.Stream.GACHA));
         
         // Mark chest as opened
         chest.setOpened(true);
         
         // Remove chest immediately (before opening GUI)
-        chest.remove();
+        chest.remove(plugin.getBlockMutationQueue());
         
         // Open gacha roll GUI for all team members (same roll for everyone)
         if (teamRun != null) {
@@ -428,7 +406,7 @@ public class ChestListener implements Listener {
         
         // Get all items for rolling animation
         java.util.List<GachaItem> allItems = new java.util.ArrayList<>(plugin.getGachaManager().getAllItems());
-        java.util.Random random = new java.util.Random();
+        java.util.SplittableRandom random = plugin.getRunRandom().getShared(); // Animation only
         
         // Animation variables
         final int[] rollCount = {0};
@@ -453,8 +431,9 @@ public class ChestListener implements Listener {
             org.bukkit.Location particleLoc = chest.getLocation().add(0.5, 0.5, 0.5);
             
             // Create a glowing aura with particles in a circle around the chest
-            for (int i = 0; i < 8; i++) {
-                double angle = (i * Math.PI * 2) / 8;
+            int glowParticles = plugin.getQualityGovernor().scale(8);
+            for (int i = 0; i < glowParticles; i++) {
+                double angle = (i * Math.PI * 2) / glowParticles;
                 double radius = 0.8 + (Math.random() * 0.3); // Slight variation
                 double x = particleLoc.getX() + Math.cos(angle) * radius;
                 double y = particleLoc.getY() + (Math.random() * 0.5);
@@ -465,7 +444,7 @@ public class ChestListener implements Listener {
                 org.bukkit.Color glowColor = Math.random() < 0.5 ? 
                     org.bukkit.Color.fromRGB(255, 215, 0) : // Gold
                     org.bukkit.Color.fromRGB(255, 255, 100); // Bright yellow
-                particleLoc.getWorld().spawnParticle(org.bukkit.Particle.DUST, glowLoc, 1, 
+                plugin.getFxEmitter().particle(org.bukkit.Particle.DUST, glowLoc, 1, 
                     new org.bukkit.Particle.DustOptions(glowColor, 1.5f));
             }
             
@@ -475,7 +454,7 @@ public class ChestListener implements Listener {
                 double offsetX = (Math.random() - 0.5) * 0.6;
                 double offsetZ = (Math.random() - 0.5) * 0.6;
                 org.bukkit.Location auraLoc = topLoc.clone().add(offsetX, 0, offsetZ);
-                topLoc.getWorld().spawnParticle(org.bukkit.Particle.DUST, auraLoc, 1, 
+                plugin.getFxEmitter().particle(org.bukkit.Particle.DUST, auraLoc, 1, 
                     new org.bukkit.Particle.DustOptions(org.bukkit.Color.fromRGB(255, 215, 0), 1.8f));
             }
         }, 0L, 3L); // Every 3 ticks (0.15 seconds) for smooth glow
@@ -519,7 +498,7 @@ public class ChestListener implements Listener {
                 player.playSound(player.getLocation(), Sound.ENTITY_FIREWORK_ROCKET_LAUNCH, 0.8f, 1.2f);
                 
                 // Spawn particles
-                chestLoc.getWorld().spawnParticle(
+                plugin.getFxEmitter().particle(
                     org.bukkit.Particle.TOTEM_OF_UNDYING,
                     chestLoc,
                     50,
@@ -536,7 +515,7 @@ public class ChestListener implements Listener {
                     particle = org.bukkit.Particle.ENCHANT;
                 }
                 
-                chestLoc.getWorld().spawnParticle(
+                plugin.getFxEmitter().particle(
                     particle,
                     chestLoc,
                     30,
@@ -614,7 +593,7 @@ public class ChestListener implements Listener {
                         player.playSound(player.getLocation(), Sound.ENTITY_FIREWORK_ROCKET_LAUNCH, 0.8f, 1.2f);
                         
                         // Spawn particles
-                        chestLoc.getWorld().spawnParticle(
+                        plugin.getFxEmitter().particle(
                             org.bukkit.Particle.TOTEM_OF_UNDYING,
                             chestLoc,
                             50,
@@ -631,7 +610,7 @@ public class ChestListener implements Listener {
                             particle = org.bukkit.Particle.ENCHANT;
                         }
                         
-                        chestLoc.getWorld().spawnParticle(
+                        plugin.getFxEmitter().particle(
                             particle,
                             chestLoc,
                             30,
@@ -1,6 +1,8 @@
 package com.eldor.roguecraft.listeners;
 
 import com.eldor.roguecraft.RoguecraftPlugin;
+import com.eldor.roguecraft.events.RunDamageEvent;
+import com.eldor.roguecraft.events.RunKillEvent;
 import com.eldor.roguecraft.models.Run;
 import org.bukkit.Bukkit;
 import org.bukkit.ChatColor;
@@ -18,9 +20,9 @@ import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
 import org.bukkit.event.entity.EntityDamageEvent;
-import org.bukkit.event.entity.EntityDeathEvent;
 import org.bukkit.event.entity.EntityExplodeEvent;
 import org.bukkit.event.entity.EntityPickupItemEvent;
+import org.bukkit.event.entity.EntityRemoveEvent;
 import org.bukkit.event.entity.PotionSplashEvent;
 import org.bukkit.event.entity.ProjectileHitEvent;
 import org.bukkit.event.player.PlayerQuitEvent;
@@ -32,73 +34,33 @@ import org.bukkit.potion.PotionEffectType;
 import org.bukkit.util.Vector;
 
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
-import java.util.Map;
-import java.util.Random;
 import java.util.Set;
+import java.util.SplittableRandom;
 import java.util.UUID;
 
 public class GameListener implements Listener {
     private final RoguecraftPlugin plugin;
-    private final Map<UUID, Integer> accumulatedGold; // Track accumulated gold per player
-    private org.bukkit.scheduler.BukkitTask goldDisplayTask; // Task to periodically display accumulated gold
 
     public GameListener(RoguecraftPlugin plugin) {
         this.plugin = plugin;
-        this.accumulatedGold = new HashMap<>();
-        startGoldDisplayTask();
+        plugin.getRunEventBus().subscribeKill(EventPriority.LOWEST, this::onRunKill);
+        plugin.getRunEventBus().subscribeDamage(EventPriority.HIGH, this::onRunDamage);
     }
 
-    private static final Random RANDOM = new Random();
-    
     /**
-     * Start a task that periodically displays accumulated gold and resets it
+     * Kill handling - subscribed to the RunEventBus at LOWEST so names are cleared before death messages
      */
-    private void startGoldDisplayTask() {
-        // Run every 1 second (20 ticks) to display accumulated gold
-        goldDisplayTask = Bukkit.getScheduler().runTaskTimer(plugin, () -> {
-            for (Map.Entry<UUID, Integer> entry : new HashMap<>(accumulatedGold).entrySet()) {
-                UUID playerId = entry.getKey();
-                int gold = entry.getValue();
-                
-                if (gold > 0) {
-                    Player player = Bukkit.getPlayer(playerId);
-                    if (player != null && player.isOnline()) {
-                        // Display the accumulated gold
-                        showGoldTextDisplayNow(player, gold);
-                        // Reset accumulated gold
-                        accumulatedGold.put(playerId, 0);
-                    } else {
-                        // Player offline, remove from map
-                        accumulatedGold.remove(playerId);
-                    }
-                }
-            }
-        }, 20L, 20L); // Every 1 second
-    }
-    
-    @EventHandler(priority = EventPriority.LOWEST)
-    public void onEntityDeath(EntityDeathEvent event) {
+    private void onRunKill(RunKillEvent event) {
         LivingEntity entity = event.getEntity();
-        EntityType type = entity.getType();
-        
-        // Only handle mobs in arenas (not players)
-        if (entity instanceof Player) {
-            return;
-        }
+        boolean isElite = event.isElite();
+        boolean isLegendary = event.isLegendary();
         
         // Clear custom name and glowing effect IMMEDIATELY at LOWEST priority
         // This prevents death message logs for named entities
         // This is needed because we add custom names to all mobs for health display
-        boolean isElite = false;
-        boolean isLegendary = false;
         try {
-            // Check if elite/legendary before clearing (for drop bonuses and XP)
-            isElite = entity.isGlowing() || (entity.getCustomName() != null && entity.getCustomName().contains("ELITE"));
-            isLegendary = entity.hasMetadata("is_legendary");
-            
             // Clear custom name and glowing for all mobs IMMEDIATELY
             if (entity.getCustomName() != null) {
                 entity.setCustomName(null);
@@ -123,86 +85,27 @@ public class GameListener implements Listener {
             // Silently ignore - entity might already be dead/removed
         }
         
-        // Check if killed by a player
-        Player killer = entity.getKiller();
-        
-        // If no direct killer, check if killed by TNT explosion from a player's weapon
-        // This is the PRIMARY method - check metadata first (most reliable)
-        if (killer == null && entity.hasMetadata("roguecraft_tnt_damaged")) {
-            String playerUuidStr = entity.getMetadata("roguecraft_tnt_damaged").get(0).asString();
-            Player tntOwner = Bukkit.getPlayer(java.util.UUID.fromString(playerUuidStr));
-            if (tntOwner != null && tntOwner.isOnline()) {
-                Location deathLoc = entity.getLocation();
-                
-                // Check if damage was recent (within last 5 seconds) to avoid stale metadata
-                long damageTime = 0;
-                if (entity.hasMetadata("roguecraft_tnt_damage_time")) {
-                    damageTime = entity.getMetadata("roguecraft_tnt_damage_time").get(0).asLong();
-                }
-                long timeSinceDamage = System.currentTimeMillis() - damageTime;
-                
-                // Only attribute if damage was recent (within 5 seconds)
-                if (timeSinceDamage < 5000 || damageTime == 0) {
-                    // Verify entity was within explosion radius
-                    if (entity.hasMetadata("roguecraft_tnt_explosion_loc")) {
-                        Location explosionLoc = (Location) entity.getMetadata("roguecraft_tnt_explosion_loc").get(0).value();
-                        if (explosionLoc != null && deathLoc.distanceSquared(explosionLoc) <= 400) { // 20 block radius
-                            killer = tntOwner;
-                        }
-                    } else {
-                        // No explosion loc metadata, but has tnt_damaged - assume valid (within reasonable range)
-                        killer = tntOwner;
-                    }
-                }
-            }
-        }
-        
-        // Fallback: Check for nearby TNT entities (in case metadata wasn't set)
-        if (killer == null) {
-            Location deathLoc = entity.getLocation();
-            for (Entity nearbyEntity : deathLoc.getWorld().getNearbyEntities(deathLoc, 20, 20, 20)) {
-                if (nearbyEntity instanceof org.bukkit.entity.TNTPrimed) {
-                    org.bukkit.entity.TNTPrimed tnt = (org.bukkit.entity.TNTPrimed) nearbyEntity;
-                    if (tnt.hasMetadata("roguecraft_tnt_owner")) {
-                        String playerUuidStr = tnt.getMetadata("roguecraft_tnt_owner").get(0).asString();
-                        Player tntOwner = Bukkit.getPlayer(java.util.UUID.fromString(playerUuidStr));
-                        if (tntOwner != null && tntOwner.isOnline()) {
-                            // Entity is near TNT, attribute kill
-                            killer = tntOwner;
-                            break;
-                        }
-                    }
-                }
-            }
-        }
+        // Killer is resolved by the bus (direct killer, or TNT owner for weapon explosions)
+        Player killer = event.getKiller();
         
         if (killer == null) {
             // Still handle drops if no killer (but disable normal drops)
             if (plugin.getConfigManager().getMainConfig().getBoolean("drops.disable-normal-drops", true)) {
-                event.getDrops().clear();
-                event.setDroppedExp(0);
+                event.getBukkitEvent().getDrops().clear();
+                event.getBukkitEvent().setDroppedExp(0);
             }
             return;
         }
         
         // Check if player is in a run
-        com.eldor.roguecraft.models.TeamRun teamRun = plugin.getRunManager().getTeamRun(killer);
-        Run run = null;
-        boolean inRun = false;
-        
-        if (teamRun != null && teamRun.isActive()) {
-            inRun = true;
-        } else {
-            run = plugin.getRunManager().getRun(killer);
-            if (run != null && run.isActive()) {
-                inRun = true;
-            }
-        }
+        com.eldor.roguecraft.models.TeamRun teamRun = event.getContext().getTeamRun();
+        Run run = event.getContext().getRun();
+        boolean inRun = event.getContext().isInRun();
         
         // Disable normal drops if configured
         if (plugin.getConfigManager().getMainConfig().getBoolean("drops.disable-normal-drops", true)) {
-            event.getDrops().clear();
-            event.setDroppedExp(0);
+            event.getBukkitEvent().getDrops().clear();
+            event.getBukkitEvent().setDroppedExp(0);
         }
         
         // Only drop custom items if player is in a run
@@ -211,10 +114,10 @@ public class GameListener implements Listener {
         }
         
         // Check if mob was nuked (no XP for nuked mobs)
-        boolean wasNuked = entity.hasMetadata("roguecraft_nuked");
+        boolean wasNuked = event.isNuked();
         
         // Check if it's the Wither boss - trigger large radius magnet instead of XP
-        boolean isBoss = entity.hasMetadata("roguecraft_boss") || entity.hasMetadata("roguecraft_elite_boss");
+        boolean isBoss = event.isBoss();
         if (isBoss && !wasNuked && killer != null) {
             // Trigger magnet effect with very large radius for all players in the run
             if (teamRun != null && teamRun.isActive()) {
@@ -255,18 +158,7 @@ public class GameListener implements Listener {
             teamRun.addExperience(xp);
 
             // Update XP bar for all team members instead of messages
-            for (Player player : teamRun.getPlayers()) {
-                if (player != null && player.isOnline()) {
-                    com.eldor.roguecraft.util.XPBar.updateXPBarWithGold(
-                        player,
-                        teamRun.getExperience(),
-                        teamRun.getExperienceToNextLevel(),
-                        teamRun.getLevel(),
-                        teamRun.getWave(),
-                        teamRun.getCurrentGold()
-                    );
-                }
-            }
+            plugin.getHudRenderer().markDirty(teamRun);
         } else if (!wasNuked && run != null && run.isActive()) {
             // Award experience based on entity type with multiplier
             int baseXp = calculateExperience(type, run.getWave(), run.getStat("difficulty"));
@@ -291,14 +183,7 @@ public class GameListener implements Listener {
             run.addExperience(xp);
 
             // Update XP bar instead of message
-            com.eldor.roguecraft.util.XPBar.updateXPBarWithGold(
-                killer,
-                run.getExperience(),
-                run.getExperienceToNextLevel(),
-                run.getLevel(),
-                run.getWave(),
-                run.getCurrentGold()
-            );
+            plugin.getHudRenderer().markDirty(run);
         }
         */
         
@@ -329,19 +214,19 @@ public class GameListener implements Listener {
             // Award gold
             if (teamRun != null && teamRun.isActive()) {
                 teamRun.addGold(goldReward);
-                // Accumulate gold for all team members (will be displayed periodically)
+                // Gold popup for all team members (summed with other kills shortly after)
                 for (Player p : teamRun.getPlayers()) {
                     if (p != null && p.isOnline()) {
-                        accumulateGold(p.getUniqueId(), goldReward);
-                        // Update boss bar with new gold amount
-                        updateBossBarWithGold(p, teamRun);
+                        plugin.getFloatingTextService().addGold(p, goldReward);
                     }
                 }
+                // Update boss bars with new gold amount
+                plugin.getHudRenderer().markDirty(teamRun);
             } else if (run != null && run.isActive()) {
                 run.addGold(goldReward);
-                accumulateGold(killer.getUniqueId(), goldReward);
+                plugin.getFloatingTextService().addGold(killer, goldReward);
                 // Update boss bar with new gold amount
-                updateBossBarWithGold(killer, run);
+                plugin.getHudRenderer().markDirty(run);
             }
         }
         
@@ -374,7 +259,7 @@ public class GameListener implements Listener {
      */
     private void spawnLegendaryChest(org.bukkit.Location location, Object run) {
         // 5% chance to spawn a chest (very rare drops)
-        if (RANDOM.nextDouble() < 0.05) {
+        if (plugin.getRunRandom().get(run, com.eldor.roguecraft.managers.RunRandom.Stream.DROPS).nextDouble() < 0.05) {
             // Get team ID for chest tracking
             java.util.UUID teamId = null;
             if (run instanceof com.eldor.roguecraft.models.TeamRun) {
@@ -389,20 +274,20 @@ public class GameListener implements Listener {
             if (teamId != null) {
                 // Spawn chest at legendary mob death location (costs gold, scales exponentially)
                 com.eldor.roguecraft.models.GachaChest chest = new com.eldor.roguecraft.models.GachaChest(location, false);
-                chest.spawn();
+                chest.spawn(plugin.getBlockMutationQueue());
                 
                 // Add to chest manager's tracking
                 plugin.getChestManager().addChestForRun(teamId, chest);
                 
                 // Visual feedback
-                location.getWorld().spawnParticle(
+                plugin.getFxEmitter().particle(
                     org.bukkit.Particle.TOTEM_OF_UNDYING,
                     location.add(0, 1, 0),
                     50,
                     0.5, 0.5, 0.5,
                     0.1
                 );
-                location.getWorld().playSound(
+                plugin.getFxEmitter().sound(
                     location,
                     org.bukkit.Sound.ENTITY_PLAYER_LEVELUP,
                     1.0f,
@@ -490,12 +375,8 @@ public class GameListener implements Listener {
                             }
                             
                             LivingEntity living = (LivingEntity) nearbyEntity;
-                            // Tag entity for XP attribution (use setMetadata which will overwrite if exists)
+                            // Tag entity so natural explosion damage/knockback is cancelled (use setMetadata which will overwrite if exists)
                             living.setMetadata("roguecraft_tnt_damaged", new org.bukkit.metadata.FixedMetadataValue(plugin, tntOwner.getUniqueId().toString()));
-                            // Also store explosion location for distance check
-                            living.setMetadata("roguecraft_tnt_explosion_loc", new org.bukkit.metadata.FixedMetadataValue(plugin, explosionLoc.clone()));
-                            // Store timestamp for cleanup
-                            living.setMetadata("roguecraft_tnt_damage_time", new org.bukkit.metadata.FixedMetadataValue(plugin, System.currentTimeMillis()));
                         }
                     }
                 }
@@ -505,6 +386,7 @@ public class GameListener implements Listener {
     
     private void dropCustomItems(LivingEntity entity, boolean isElite, boolean isLegendary, Object run) {
         org.bukkit.Location loc = entity.getLocation();
+        SplittableRandom random = plugin.getRunRandom().get(run, com.eldor.roguecraft.managers.RunRandom.Stream.DROPS);
         
         // Get drop_rate stat multiplier
         double dropRate = 1.0;
@@ -527,9 +409,9 @@ public class GameListener implements Listener {
             ItemStack xpToken = createXPToken(xpMultiplier);
             Item item = loc.getWorld().dropItem(loc, xpToken);
             item.setVelocity(new Vector(
-                (RANDOM.nextDouble() - 0.5) * 0.3,
-                0.2 + RANDOM.nextDouble() * 0.2,
-                (RANDOM.nextDouble() - 0.5) * 0.3
+                (random.nextDouble() - 0.5) * 0.3,
+                0.2 + random.nextDouble() * 0.2,
+                (random.nextDouble() - 0.5) * 0.3
             ));
             // Store multiplier in custom name for pickup handler
             if (xpMultiplier > 1) {
@@ -539,8 +421,8 @@ public class GameListener implements Listener {
             }
             item.setCustomNameVisible(false);
             // Minimal visual effect on drop (since it's always dropping)
-            if (RANDOM.nextDouble() < 0.1) { // Only show particles 10% of the time to reduce lag
-                loc.getWorld().spawnParticle(org.bukkit.Particle.HAPPY_VILLAGER, loc, 2, 0.2, 0.3, 0.2, 0.05);
+            if (plugin.getQualityGovernor().isAtLeast(com.eldor.roguecraft.managers.QualityGovernor.HIGH) && plugin.getRunRandom().getShared().nextDouble() < 0.1) { // Only show particles 10% of the time to reduce lag
+                plugin.getFxEmitter().particle(org.bukkit.Particle.HAPPY_VILLAGER, loc, 2, 0.2, 0.3, 0.2, 0.05);
             }
         }
         
@@ -555,19 +437,19 @@ public class GameListener implements Listener {
             heartChance *= dropRate;
             heartChance = Math.min(1.0, heartChance); // Cap at 100%
             
-            if (RANDOM.nextDouble() < heartChance) {
+            if (random.nextDouble() < heartChance) {
                 ItemStack heart = createHeart();
                 Item item = loc.getWorld().dropItem(loc, heart);
                 item.setVelocity(new Vector(
-                    (RANDOM.nextDouble() - 0.5) * 0.3,
-                    0.2 + RANDOM.nextDouble() * 0.2,
-                    (RANDOM.nextDouble() - 0.5) * 0.3
+                    (random.nextDouble() - 0.5) * 0.3,
+                    0.2 + random.nextDouble() * 0.2,
+                    (random.nextDouble() - 0.5) * 0.3
                 ));
                 item.setCustomName("HEART_ITEM");
                 item.setCustomNameVisible(false);
                 // Visual effect on drop
-                loc.getWorld().spawnParticle(org.bukkit.Particle.HEART, loc, 3, 0.3, 0.5, 0.3, 0);
-                loc.getWorld().playSound(loc, org.bukkit.Sound.ENTITY_PLAYER_LEVELUP, 0.3f, 1.2f);
+                plugin.getFxEmitter().particle(org.bukkit.Particle.HEART, loc, 3, 0.3, 0.5, 0.3, 0);
+                plugin.getFxEmitter().sound(loc, org.bukkit.Sound.ENTITY_PLAYER_LEVELUP, 0.3f, 1.2f);
             }
         }
         
@@ -582,9 +464,9 @@ public class GameListener implements Listener {
             // Check if run is valid (either Run or TeamRun)
             boolean isValidRun = run instanceof com.eldor.roguecraft.models.Run || run instanceof com.eldor.roguecraft.models.TeamRun;
             
-            if (RANDOM.nextDouble() < powerupChance && isValidRun) {
+            if (random.nextDouble() < powerupChance && isValidRun) {
                 // Choose between unique power-ups (Magnet has higher chance: 30%, others 17.5% each)
-                double powerUpRoll = RANDOM.nextDouble();
+                double powerUpRoll = random.nextDouble();
                 String powerUpType;
                 if (powerUpRoll < 0.25) {
                     powerUpType = "MAGNET"; // 25% chance for magnet
@@ -605,50 +487,50 @@ public class GameListener implements Listener {
                 powerupItem.setAmount(1);
                 // Offset drop location slightly to prevent merging with XP tokens
                 Location dropLoc = loc.clone().add(
-                    (RANDOM.nextDouble() - 0.5) * 0.5,
+                    (random.nextDouble() - 0.5) * 0.5,
                     0.2,
-                    (RANDOM.nextDouble() - 0.5) * 0.5
+                    (random.nextDouble() - 0.5) * 0.5
                 );
                 Item item = dropLoc.getWorld().dropItem(dropLoc, powerupItem);
                 // Prevent item from merging with other items
                 item.setPickupDelay(0);
                 // Add unique metadata to prevent merging
-                item.setMetadata("roguecraft_powerup_" + System.currentTimeMillis() + "_" + RANDOM.nextInt(10000), 
+                item.setMetadata("roguecraft_powerup_" + System.currentTimeMillis() + "_" + random.nextInt(10000), 
                     new org.bukkit.metadata.FixedMetadataValue(plugin, true));
                 item.setVelocity(new Vector(
-                    (RANDOM.nextDouble() - 0.5) * 0.3,
-                    0.3 + RANDOM.nextDouble() * 0.3,
-                    (RANDOM.nextDouble() - 0.5) * 0.3
+                    (random.nextDouble() - 0.5) * 0.3,
+                    0.3 + random.nextDouble() * 0.3,
+                    (random.nextDouble() - 0.5) * 0.3
                 ));
                 item.setCustomName("POWERUP_ITEM_" + powerUpType);
                 item.setCustomNameVisible(false);
                 
                 // Unique visual and sound effects for power-up drop
                 if (powerUpType.equals("SPEED_BOOST")) {
-                    loc.getWorld().spawnParticle(org.bukkit.Particle.CLOUD, loc, 20, 0.5, 0.5, 0.5, 0.3);
-                    loc.getWorld().spawnParticle(org.bukkit.Particle.CRIT, loc, 15, 0.5, 0.5, 0.5, 0.2);
-                    loc.getWorld().playSound(loc, org.bukkit.Sound.ENTITY_HORSE_GALLOP, 0.5f, 1.5f);
+                    plugin.getFxEmitter().particle(org.bukkit.Particle.CLOUD, loc, 20, 0.5, 0.5, 0.5, 0.3);
+                    plugin.getFxEmitter().particle(org.bukkit.Particle.CRIT, loc, 15, 0.5, 0.5, 0.5, 0.2);
+                    plugin.getFxEmitter().sound(loc, org.bukkit.Sound.ENTITY_HORSE_GALLOP, 0.5f, 1.5f);
                 } else if (powerUpType.equals("TIME_FREEZE")) {
-                    loc.getWorld().spawnParticle(org.bukkit.Particle.TOTEM_OF_UNDYING, loc, 15, 0.5, 0.5, 0.5, 0.2);
-                    loc.getWorld().spawnParticle(org.bukkit.Particle.ENCHANT, loc, 20, 0.5, 0.5, 0.5, 0.3);
-                    loc.getWorld().playSound(loc, org.bukkit.Sound.ENTITY_PLAYER_LEVELUP, 1.0f, 1.5f);
-                    loc.getWorld().playSound(loc, org.bukkit.Sound.ITEM_TOTEM_USE, 0.5f, 1.2f);
+                    plugin.getFxEmitter().particle(org.bukkit.Particle.TOTEM_OF_UNDYING, loc, 15, 0.5, 0.5, 0.5, 0.2);
+                    plugin.getFxEmitter().particle(org.bukkit.Particle.ENCHANT, loc, 20, 0.5, 0.5, 0.5, 0.3);
+                    plugin.getFxEmitter().sound(loc, org.bukkit.Sound.ENTITY_PLAYER_LEVELUP, 1.0f, 1.5f);
+                    plugin.getFxEmitter().sound(loc, org.bukkit.Sound.ITEM_TOTEM_USE, 0.5f, 1.2f);
                 } else if (powerUpType.equals("NUCLEAR_STRIKE")) {
-                    loc.getWorld().spawnParticle(org.bukkit.Particle.EXPLOSION, loc, 5, 0.5, 0.5, 0.5, 0.1);
-                    loc.getWorld().spawnParticle(org.bukkit.Particle.SMOKE, loc, 20, 0.5, 0.5, 0.5, 0.2);
-                    loc.getWorld().playSound(loc, org.bukkit.Sound.ENTITY_GENERIC_EXPLODE, 0.5f, 1.0f);
+                    plugin.getFxEmitter().particle(org.bukkit.Particle.EXPLOSION, loc, 5, 0.5, 0.5, 0.5, 0.1);
+                    plugin.getFxEmitter().particle(org.bukkit.Particle.SMOKE, loc, 20, 0.5, 0.5, 0.5, 0.2);
+                    plugin.getFxEmitter().sound(loc, org.bukkit.Sound.ENTITY_GENERIC_EXPLODE, 0.5f, 1.0f);
                 } else if (powerUpType.equals("MAGNET")) {
-                    loc.getWorld().spawnParticle(org.bukkit.Particle.ENCHANT, loc, 20, 0.5, 0.5, 0.5, 0.3);
-                    loc.getWorld().spawnParticle(org.bukkit.Particle.HAPPY_VILLAGER, loc, 15, 0.5, 0.5, 0.5, 0.2);
-                    loc.getWorld().playSound(loc, org.bukkit.Sound.BLOCK_ENCHANTMENT_TABLE_USE, 0.5f, 1.2f);
+                    plugin.getFxEmitter().particle(org.bukkit.Particle.ENCHANT, loc, 20, 0.5, 0.5, 0.5, 0.3);
+                    plugin.getFxEmitter().particle(org.bukkit.Particle.HAPPY_VILLAGER, loc, 15, 0.5, 0.5, 0.5, 0.2);
+                    plugin.getFxEmitter().sound(loc, org.bukkit.Sound.BLOCK_ENCHANTMENT_TABLE_USE, 0.5f, 1.2f);
                 } else if (powerUpType.equals("DOUBLE_XP")) {
-                    loc.getWorld().spawnParticle(org.bukkit.Particle.HAPPY_VILLAGER, loc, 25, 0.5, 0.5, 0.5, 0.3);
-                    loc.getWorld().spawnParticle(org.bukkit.Particle.ENCHANT, loc, 20, 0.5, 0.5, 0.5, 0.2);
-                    loc.getWorld().playSound(loc, org.bukkit.Sound.ENTITY_PLAYER_LEVELUP, 1.0f, 1.2f);
+                    plugin.getFxEmitter().particle(org.bukkit.Particle.HAPPY_VILLAGER, loc, 25, 0.5, 0.5, 0.5, 0.3);
+                    plugin.getFxEmitter().particle(org.bukkit.Particle.ENCHANT, loc, 20, 0.5, 0.5, 0.5, 0.2);
+                    plugin.getFxEmitter().sound(loc, org.bukkit.Sound.ENTITY_PLAYER_LEVELUP, 1.0f, 1.2f);
                 } else { // DOUBLE_GOLD
-                    loc.getWorld().spawnParticle(org.bukkit.Particle.HAPPY_VILLAGER, loc, 25, 0.5, 0.5, 0.5, 0.3);
-                    loc.getWorld().spawnParticle(org.bukkit.Particle.ENCHANT, loc, 20, 0.5, 0.5, 0.5, 0.2);
-                    loc.getWorld().playSound(loc, org.bukkit.Sound.ENTITY_PLAYER_LEVELUP, 1.0f, 1.2f);
+                    plugin.getFxEmitter().particle(org.bukkit.Particle.HAPPY_VILLAGER, loc, 25, 0.5, 0.5, 0.5, 0.3);
+                    plugin.getFxEmitter().particle(org.bukkit.Particle.ENCHANT, loc, 20, 0.5, 0.5, 0.5, 0.2);
+                    plugin.getFxEmitter().sound(loc, org.bukkit.Sound.ENTITY_PLAYER_LEVELUP, 1.0f, 1.2f);
                 }
             }
         }
@@ -777,20 +659,9 @@ public class GameListener implements Listener {
                 teamRun.addExperience(finalXp);
                 
                 // Update XP bar for all team members
-                for (Player p : teamRun.getPlayers()) {
-                    if (p != null && p.isOnline()) {
-                        com.eldor.roguecraft.util.XPBar.updateXPBarWithGold(
-                            p,
-                            teamRun.getExperience(),
-                            teamRun.getExperienceToNextLevel(),
-                            teamRun.getLevel(),
-                            teamRun.getWave(),
-                            teamRun.getCurrentGold()
-                        );;
-                    }
-                }
+                plugin.getHudRenderer().markDirty(teamRun);
                 // Show XP gain as Text Display above player instead of chat
-                showXPTextDisplay(player, finalXp);
+                plugin.getFloatingTextService().addXp(player, finalXp);
             } else if (run != null && run.isActive()) {
                 // Scale XP with player level (increased scaling for later levels)
                 int playerLevel = run.getLevel();
@@ -803,19 +674,12 @@ public class GameListener implements Listener {
                 int finalXp = (int) (xpAmount * multiplier);
                 run.addExperience(finalXp);
                 
-                com.eldor.roguecraft.util.XPBar.updateXPBarWithGold(
-                    player,
-                    run.getExperience(),
-                    run.getExperienceToNextLevel(),
-                    run.getLevel(),
-                    run.getWave(),
-                    run.getCurrentGold()
-                );
+                plugin.getHudRenderer().markDirty(run);
                 // Show XP gain as Text Display above player instead of chat
-                showXPTextDisplay(player, finalXp);
+                plugin.getFloatingTextService().addXp(player, finalXp);
                 // Sound effect for XP token pickup
                 player.playSound(player.getLocation(), org.bukkit.Sound.ENTITY_EXPERIENCE_ORB_PICKUP, 0.8f, 1.2f);
-                player.getWorld().spawnParticle(org.bukkit.Particle.HAPPY_VILLAGER, player.getLocation().add(0, 1, 0), 10, 0.3, 0.5, 0.3, 0.1);
+                plugin.getFxEmitter().particle(org.bukkit.Particle.HAPPY_VILLAGER, player.getLocation().add(0, 1, 0), 10, 0.3, 0.5, 0.3, 0.1);
             }
             return;
         }
@@ -826,13 +690,10 @@ public class GameListener implements Listener {
             item.remove();
             
             double healAmount = plugin.getConfigManager().getMainConfig().getDouble("drops.heart.heal-amount", 4.0);
-            double currentHealth = player.getHealth();
-            double maxHealth = player.getAttribute(org.bukkit.attribute.Attribute.GENERIC_MAX_HEALTH).getValue();
-            double newHealth = Math.min(maxHealth, currentHealth + healAmount);
-            player.setHealth(newHealth);
+            plugin.getHealingService().heal(player, com.eldor.roguecraft.managers.HealingService.Source.PICKUP, healAmount);
             
             // Visual feedback
-            player.getWorld().spawnParticle(org.bukkit.Particle.HEART, player.getEyeLocation(), 5, 0.3, 0.5, 0.3, 0);
+            plugin.getFxEmitter().particle(org.bukkit.Particle.HEART, player.getEyeLocation(), 5, 0.3, 0.5, 0.3, 0);
             player.playSound(player.getLocation(), org.bukkit.Sound.ENTITY_PLAYER_LEVELUP, 0.5f, 1.5f);
             player.sendMessage(ChatColor.RED + "❤ +" + String.format("%.1f", healAmount) + " Health restored!");
             return;
@@ -879,41 +740,18 @@ public class GameListener implements Listener {
     
     /**
      * Cancel natural TNT explosion damage to mobs (we apply custom damage instead)
-     * and track damage for lifesteal
+     * Lifesteal for TNT hits is applied by the scheduled custom damage in WeaponManager
      */
-    @EventHandler(priority = EventPriority.HIGH)
-    public void onEntityDamage(EntityDamageEvent event) {
+    private void onRunDamage(RunDamageEvent event) {
         // Only handle damage to mobs (not players)
-        if (!(event.getEntity() instanceof LivingEntity) || event.getEntity() instanceof Player) {
+        if (event.isPlayerVictim()) {
             return;
         }
         
-        LivingEntity entity = (LivingEntity) event.getEntity();
-        
         // Check if this entity was damaged by TNT explosion from our weapon
-        if (event.getCause() == EntityDamageEvent.DamageCause.ENTITY_EXPLOSION && 
-            entity.hasMetadata("roguecraft_tnt_damaged")) {
-            
+        if (event.getCause() == EntityDamageEvent.DamageCause.ENTITY_EXPLOSION && event.getTntOwnerId() != null) {
             // Cancel the natural explosion damage since we apply custom damage
             event.setCancelled(true);
-            
-            String playerUuidStr = entity.getMetadata("roguecraft_tnt_damaged").get(0).asString();
-            Player tntOwner = Bukkit.getPlayer(java.util.UUID.fromString(playerUuidStr));
-            
-            if (tntOwner != null && tntOwner.isOnline()) {
-                // Check if player is in a run
-                com.eldor.roguecraft.models.TeamRun teamRun = plugin.getRunManager().getTeamRun(tntOwner);
-                com.eldor.roguecraft.models.Run run = null;
-                
-                if (teamRun == null || !teamRun.isActive()) {
-                    run = plugin.getRunManager().getRun(tntOwner);
-                }
-                
-                if ((teamRun != null && teamRun.isActive()) || (run != null && run.isActive())) {
-                    // The custom damage from the scheduled task will apply lifesteal, so we don't need to do it here
-                    // This handler just cancels the natural explosion damage
-                }
-            }
         }
     }
     
@@ -1006,8 +844,8 @@ public class GameListener implements Listener {
             
             player.sendMessage(ChatColor.AQUA + "✨ Movement Speed Boost activated! +100% speed for 15 seconds!");
             player.playSound(player.getLocation(), org.bukkit.Sound.ENTITY_HORSE_GALLOP, 1.0f, 1.5f);
-            player.getWorld().spawnParticle(org.bukkit.Particle.CLOUD, player.getLocation().add(0, 1, 0), 30, 0.5, 0.5, 0.5, 0.3);
-            player.getWorld().spawnParticle(org.bukkit.Particle.CRIT, player.getLocation().add(0, 1, 0), 20, 0.5, 0.5, 0.5, 0.2);
+            plugin.getFxEmitter().particle(org.bukkit.Particle.CLOUD, player.getLocation().add(0, 1, 0), 30, 0.5, 0.5, 0.5, 0.3);
+            plugin.getFxEmitter().particle(org.bukkit.Particle.CRIT, player.getLocation().add(0, 1, 0), 20, 0.5, 0.5, 0.5, 0.2);
         }
     }
     
@@ -1019,7 +857,7 @@ public class GameListener implements Listener {
                 if (p != null && p.isOnline()) {
                     p.sendMessage(ChatColor.LIGHT_PURPLE + "⏸ Time Freeze activated! All enemies frozen for 8 seconds!");
                     p.playSound(p.getLocation(), org.bukkit.Sound.ITEM_TOTEM_USE, 1.0f, 0.8f);
-                    p.getWorld().spawnParticle(org.bukkit.Particle.TOTEM_OF_UNDYING, p.getLocation().add(0, 1, 0), 20, 0.5, 0.5, 0.5, 0.2);
+                    plugin.getFxEmitter().particle(org.bukkit.Particle.TOTEM_OF_UNDYING, p.getLocation().add(0, 1, 0), 20, 0.5, 0.5, 0.5, 0.2);
                 }
             }
         } else if (run != null && run.isActive()) {
@@ -1029,12 +867,12 @@ public class GameListener implements Listener {
             if (soloTeamRun != null && soloTeamRun.isActive()) {
                 plugin.getGameManager().freezeAllMobs(soloTeamRun, 8);
             } else {
-                // For pure solo runs, freeze mobs directly in a radius
-                freezeMobsInRadius(player, 100.0, 8);
+                // Pure solo runs are keyed by the player's UUID
+                plugin.getGameManager().freezeAllMobs(run.getPlayerId(), 8);
             }
             player.sendMessage(ChatColor.LIGHT_PURPLE + "⏸ Time Freeze activated! All enemies frozen for 8 seconds!");
             player.playSound(player.getLocation(), org.bukkit.Sound.ITEM_TOTEM_USE, 1.0f, 0.8f);
-            player.getWorld().spawnParticle(org.bukkit.Particle.TOTEM_OF_UNDYING, player.getLocation().add(0, 1, 0), 20, 0.5, 0.5, 0.5, 0.2);
+            plugin.getFxEmitter().particle(org.bukkit.Particle.TOTEM_OF_UNDYING, player.getLocation().add(0, 1, 0), 20, 0.5, 0.5, 0.5, 0.2);
         }
     }
     
@@ -1076,7 +914,7 @@ public class GameListener implements Listener {
         // Notify player
         player.sendMessage(ChatColor.BLUE + "🧲 Boss Defeated! Pulling all items from " + (int)radius + " blocks!");
         player.playSound(player.getLocation(), org.bukkit.Sound.BLOCK_ENCHANTMENT_TABLE_USE, 1.5f, 1.0f);
-        player.getWorld().spawnParticle(org.bukkit.Particle.ENCHANT, player.getLocation().add(0, 1, 0), 50, radius * 0.5, 2.0, radius * 0.5, 0.5);
+        plugin.getFxEmitter().particle(org.bukkit.Particle.ENCHANT, player.getLocation().add(0, 1, 0), 50, radius * 0.5, 2.0, radius * 0.5, 0.5);
         
         // Start magnet effect (pull items every tick for 10 seconds with large radius)
         final Player finalPlayer = player;
@@ -1136,7 +974,7 @@ public class GameListener implements Listener {
                         
                         // Visual effect
                         if (ticksElapsed[0] % 5 == 0) { // Only show particles every 5 ticks to reduce lag
-                            finalPlayer.getWorld().spawnParticle(org.bukkit.Particle.ENCHANT, item.getLocation(), 1, 0.1, 0.1, 0.1, 0.01);
+                            plugin.getFxEmitter().particle(org.bukkit.Particle.ENCHANT, item.getLocation(), 1, 0.1, 0.1, 0.1, 0.01);
                         }
                     }
                 }
@@ -1160,7 +998,7 @@ public class GameListener implements Listener {
         // Notify player
         player.sendMessage(ChatColor.BLUE + "🧲 Magnet activated! Pulling items for 20 seconds!");
         player.playSound(player.getLocation(), org.bukkit.Sound.BLOCK_ENCHANTMENT_TABLE_USE, 1.0f, 1.2f);
-        player.getWorld().spawnParticle(org.bukkit.Particle.ENCHANT, player.getLocation().add(0, 1, 0), 30, 0.5, 0.5, 0.5, 0.3);
+        plugin.getFxEmitter().particle(org.bukkit.Particle.ENCHANT, player.getLocation().add(0, 1, 0), 30, 0.5, 0.5, 0.5, 0.3);
         
         // Start magnet effect (pull items every tick for 20 seconds)
         final Player finalPlayer = player;
@@ -1220,7 +1058,7 @@ public class GameListener implements Listener {
                         item.setVelocity(direction.multiply(pullSpeed));
                         
                         // Visual effect
-                        finalPlayer.getWorld().spawnParticle(org.bukkit.Particle.ENCHANT, item.getLocation(), 2, 0.1, 0.1, 0.1, 0.01);
+                        plugin.getFxEmitter().particle(org.bukkit.Particle.ENCHANT, item.getLocation(), 2, 0.1, 0.1, 0.1, 0.01);
                     }
                 }
             }
@@ -1251,7 +1089,7 @@ public class GameListener implements Listener {
                 if (p != null && p.isOnline()) {
                     p.sendMessage(ChatColor.GREEN + "✨ Double XP activated! 2x XP for 30 seconds!");
                     p.playSound(p.getLocation(), org.bukkit.Sound.ENTITY_PLAYER_LEVELUP, 1.0f, 1.2f);
-                    p.getWorld().spawnParticle(org.bukkit.Particle.HAPPY_VILLAGER, p.getLocation().add(0, 1, 0), 30, 0.5, 0.5, 0.5, 0.3);
+                    plugin.getFxEmitter().particle(org.bukkit.Particle.HAPPY_VILLAGER, p.getLocation().add(0, 1, 0), 30, 0.5, 0.5, 0.5, 0.3);
                 }
             }
         } else if (run != null && run.isActive()) {
@@ -1260,7 +1098,7 @@ public class GameListener implements Listener {
             
             player.sendMessage(ChatColor.GREEN + "✨ Double XP activated! 2x XP for 30 seconds!");
             player.playSound(player.getLocation(), org.bukkit.Sound.ENTITY_PLAYER_LEVELUP, 1.0f, 1.2f);
-            player.getWorld().spawnParticle(org.bukkit.Particle.HAPPY_VILLAGER, player.getLocation().add(0, 1, 0), 30, 0.5, 0.5, 0.5, 0.3);
+            plugin.getFxEmitter().particle(org.bukkit.Particle.HAPPY_VILLAGER, player.getLocation().add(0, 1, 0), 30, 0.5, 0.5, 0.5, 0.3);
         } else {
             return;
         }
@@ -1308,13 +1146,13 @@ public class GameListener implements Listener {
                 if (p != null && p.isOnline()) {
                     p.sendMessage(ChatColor.GOLD + "✨ Double Gold activated! 2x gold for 30 seconds!");
                     p.playSound(p.getLocation(), org.bukkit.Sound.ENTITY_PLAYER_LEVELUP, 1.0f, 1.2f);
-                    p.getWorld().spawnParticle(org.bukkit.Particle.HAPPY_VILLAGER, p.getLocation().add(0, 1, 0), 30, 0.5, 0.5, 0.5, 0.3);
+                    plugin.getFxEmitter().particle(org.bukkit.Particle.HAPPY_VILLAGER, p.getLocation().add(0, 1, 0), 30, 0.5, 0.5, 0.5, 0.3);
                 }
             }
         } else if (run != null && run.isActive()) {
             player.sendMessage(ChatColor.GOLD + "✨ Double Gold activated! 2x gold for 30 seconds!");
             player.playSound(player.getLocation(), org.bukkit.Sound.ENTITY_PLAYER_LEVELUP, 1.0f, 1.2f);
-            player.getWorld().spawnParticle(org.bukkit.Particle.HAPPY_VILLAGER, player.getLocation().add(0, 1, 0), 30, 0.5, 0.5, 0.5, 0.3);
+            plugin.getFxEmitter().particle(org.bukkit.Particle.HAPPY_VILLAGER, player.getLocation().add(0, 1, 0), 30, 0.5, 0.5, 0.5, 0.3);
         } else {
             return;
         }
@@ -1341,167 +1179,6 @@ public class GameListener implements Listener {
         }, 30 * 20L); // 30 seconds
     }
     
-    /**
-     * Accumulate gold for a player (will be displayed periodically)
-     */
-    private void accumulateGold(UUID playerId, int goldAmount) {
-        accumulatedGold.put(playerId, accumulatedGold.getOrDefault(playerId, 0) + goldAmount);
-    }
-    
-    /**
-     * Show gold gain as floating text above the player using ArmorStand
-     * This is called periodically to display accumulated gold
-     */
-    private void showGoldTextDisplayNow(Player player, int goldAmount) {
-        // Lower spawn height - just above player's head
-        Location loc = player.getLocation().add(0, 0.3, 0);
-        
-        try {
-            // Spawn invisible ArmorStand with custom name
-            org.bukkit.entity.ArmorStand armorStand = loc.getWorld().spawn(loc, org.bukkit.entity.ArmorStand.class, (stand) -> {
-                stand.setVisible(false);
-                stand.setGravity(false);
-                stand.setMarker(true);
-                stand.setSmall(true);
-                stand.setInvulnerable(true);
-                stand.setCollidable(false);
-                // Make text visible with bold and gold color
-                stand.setCustomName(ChatColor.GOLD + "" + ChatColor.BOLD + "💰 +" + goldAmount + " gold");
-                stand.setCustomNameVisible(true);
-                // Add glowing effect to make it more visible
-                stand.setGlowing(true);
-                // Add metadata to prevent mob naming system from interfering
-                stand.setMetadata("roguecraft_xp_display", new org.bukkit.metadata.FixedMetadataValue(plugin, true));
-            });
-            
-            // Add particles around the text for extra visibility
-            player.getWorld().spawnParticle(org.bukkit.Particle.HAPPY_VILLAGER, loc, 5, 0.3, 0.3, 0.3, 0.1);
-            
-            // Make it move upward and fade out
-            final org.bukkit.entity.ArmorStand finalStand = armorStand;
-            org.bukkit.scheduler.BukkitTask task = Bukkit.getScheduler().runTaskTimer(plugin, () -> {
-                if (!finalStand.isValid()) {
-                    return;
-                }
-                
-                Location currentLoc = finalStand.getLocation();
-                currentLoc.add(0, 0.05, 0); // Move upward slowly
-                finalStand.teleport(currentLoc);
-            }, 0L, 1L);
-            
-            // Remove after 2 seconds
-            Bukkit.getScheduler().runTaskLater(plugin, () -> {
-                if (finalStand.isValid()) {
-                    finalStand.remove();
-                }
-                if (task != null && !task.isCancelled()) {
-                    task.cancel();
-                }
-            }, 40L); // 2 seconds
-        } catch (Exception e) {
-            plugin.getLogger().warning("[GameListener] Failed to show gold text display: " + e.getMessage());
-        }
-    }
-    
-    /**
-     * Update boss bar to include gold information
-     */
-    private void updateBossBarWithGold(Player player, Object run) {
-        if (run instanceof com.eldor.roguecraft.models.TeamRun) {
-            com.eldor.roguecraft.models.TeamRun teamRun = (com.eldor.roguecraft.models.TeamRun) run;
-            com.eldor.roguecraft.util.XPBar.updateXPBarWithGold(
-                player,
-                teamRun.getExperience(),
-                teamRun.getExperienceToNextLevel(),
-                teamRun.getLevel(),
-                teamRun.getWave(),
-                teamRun.getCurrentGold()
-            );
-        } else if (run instanceof com.eldor.roguecraft.models.Run) {
-            com.eldor.roguecraft.models.Run soloRun = (com.eldor.roguecraft.models.Run) run;
-            com.eldor.roguecraft.util.XPBar.updateXPBarWithGold(
-                player,
-                soloRun.getExperience(),
-                soloRun.getExperienceToNextLevel(),
-                soloRun.getLevel(),
-                soloRun.getWave(),
-                soloRun.getCurrentGold()
-            );
-        }
-    }
-    
-    /**
-     * Show XP gain as floating text above the player using ArmorStand
-     */
-    private void showXPTextDisplay(Player player, int xpAmount) {
-        // Lower spawn height - just above player's head
-        Location loc = player.getLocation().add(0, 0.3, 0);
-        
-        try {
-            // Spawn invisible ArmorStand with custom name
-            // Use spawn method that allows setting properties before entity becomes visible
-            org.bukkit.entity.ArmorStand armorStand = loc.getWorld().spawn(loc, org.bukkit.entity.ArmorStand.class, (stand) -> {
-                stand.setVisible(false);
-                stand.setGravity(false);
-                stand.setMarker(true); // Makes it not interactable and invisible
-                stand.setSmall(true);
-                stand.setInvulnerable(true);
-                stand.setCollidable(false);
-                // Make text more visible with bold and bright green
-                stand.setCustomName(ChatColor.GREEN + "" + ChatColor.BOLD + "✨ +" + xpAmount + " XP");
-                stand.setCustomNameVisible(true);
-                // Add glowing effect to make it more visible
-                stand.setGlowing(true);
-                // Add metadata to prevent mob naming system from interfering
-                stand.setMetadata("roguecraft_xp_display", new org.bukkit.metadata.FixedMetadataValue(plugin, true));
-            });
-            
-            // Add particles around the text for extra visibility
-            player.getWorld().spawnParticle(org.bukkit.Particle.HAPPY_VILLAGER, loc, 5, 0.3, 0.3, 0.3, 0.1);
-            
-            // Make it move upward and fade out
-            final org.bukkit.entity.ArmorStand finalStand = armorStand;
-            org.bukkit.scheduler.BukkitTask task = Bukkit.getScheduler().runTaskTimer(plugin, () -> {
-                if (!finalStand.isValid()) {
-                    return;
-                }
-                
-                Location currentLoc = finalStand.getLocation();
-                finalStand.teleport(currentLoc.add(0, 0.05, 0)); // Move up slowly
-                
-                // Fade out over time by making name less visible
-                int age = finalStand.getTicksLived();
-                if (age > 20) { // Start fading after 1 second
-                    int fadeTime = 40; // 2 seconds to fade
-                    int fadeProgress = Math.min(age - 20, fadeTime);
-                    double opacity = 1.0 - ((double) fadeProgress / fadeTime);
-                    
-                    // Update name with opacity (using color codes) - keep bold for visibility
-                    if (opacity > 0) {
-                        String colorCode = opacity > 0.75 ? ChatColor.GREEN.toString() + ChatColor.BOLD.toString() : 
-                                         opacity > 0.5 ? ChatColor.YELLOW.toString() + ChatColor.BOLD.toString() : 
-                                         ChatColor.GRAY.toString() + ChatColor.BOLD.toString();
-                        finalStand.setCustomName(colorCode + "✨ +" + xpAmount + " XP");
-                    }
-                }
-            }, 0L, 1L);
-            
-            // Remove after 3 seconds
-            Bukkit.getScheduler().runTaskLater(plugin, () -> {
-                if (finalStand.isValid()) {
-                    finalStand.remove();
-                }
-                if (task != null && !task.isCancelled()) {
-                    task.cancel();
-                }
-            }, 60L); // 3 seconds
-            
-        } catch (Exception e) {
-            // Fallback to chat message if ArmorStand is not available
-            player.sendMessage(ChatColor.GREEN + "✨ +" + xpAmount + " XP from token!");
-        }
-    }
-    
     /**
      * Grant a rare power-up to the player when they kill a mob (Treasure Hunter shrine buff)
      */
@@ -1538,40 +1215,10 @@ public class GameListener implements Listener {
             
             player.sendMessage(ChatColor.GOLD + "✦ Rare Power-Up earned from Treasure Hunter: " + rarePowerUp.getName() + "!");
             player.playSound(player.getLocation(), Sound.ENTITY_PLAYER_LEVELUP, 1.0f, 1.5f);
-            player.getWorld().spawnParticle(Particle.TOTEM_OF_UNDYING, player.getLocation().add(0, 1, 0), 30, 0.5, 0.5, 0.5, 0.3);
+            plugin.getFxEmitter().particle(Particle.TOTEM_OF_UNDYING, player.getLocation().add(0, 1, 0), 30, 0.5, 0.5, 0.5, 0.3);
         }
     }
     
-    private void freezeMobsInRadius(Player player, double radius, int seconds) {
-        java.util.Set<LivingEntity> frozenMobs = new java.util.HashSet<>();
-        Location center = player.getLocation();
-        
-        // Find and freeze all mobs in radius
-        for (org.bukkit.entity.Entity entity : center.getWorld().getNearbyEntities(center, radius, radius, radius)) {
-            if (entity instanceof LivingEntity && !(entity instanceof Player)) {
-                LivingEntity mob = (LivingEntity) entity;
-                mob.setAI(false);
-                frozenMobs.add(mob);
-                
-                // Remove nearby projectiles
-                for (org.bukkit.entity.Entity nearby : mob.getNearbyEntities(5, 5, 5)) {
-                    if (nearby instanceof org.bukkit.entity.Projectile) {
-                        nearby.remove();
-                    }
-                }
-            }
-        }
-        
-        // Unfreeze after duration
-        Bukkit.getScheduler().runTaskLater(plugin, () -> {
-            for (LivingEntity mob : frozenMobs) {
-                if (mob != null && !mob.isDead() && mob.isValid()) {
-                    mob.setAI(true);
-                }
-            }
-        }, seconds * 20L);
-    }
-
     private int calculateExperience(EntityType type, int wave, double difficultyMultiplier) {
         // Try to get XP from balance.yml config, fallback to default if not found
         org.bukkit.configuration.ConfigurationSection experienceSection = 
@@ -1627,8 +1274,8 @@ public class GameListener implements Listener {
             Location splashLoc = potion.getLocation();
             
             // Spawn particles once (not continuously)
-            splashLoc.getWorld().spawnParticle(Particle.WITCH, splashLoc, 30, 1.5, 1, 1.5, 0);
-            splashLoc.getWorld().playSound(splashLoc, Sound.ENTITY_SPLASH_POTION_BREAK, 1.0f, 1.0f);
+            plugin.getFxEmitter().particle(Particle.WITCH, splashLoc, 30, 1.5, 1, 1.5, 0);
+            plugin.getFxEmitter().sound(splashLoc, Sound.ENTITY_SPLASH_POTION_BREAK, 1.0f, 1.0f);
             
             // Apply damage and effects to nearby enemies
             double totalDamageDealt = 0.0;
@@ -1687,8 +1334,8 @@ public class GameListener implements Listener {
                 Location hitLoc = snowball.getLocation();
                 
                 // Spawn particles
-                hitLoc.getWorld().spawnParticle(Particle.SNOWFLAKE, hitLoc, 30, 1, 1, 1, 0);
-                hitLoc.getWorld().playSound(hitLoc, Sound.BLOCK_GLASS_BREAK, 1.0f, 1.5f);
+                plugin.getFxEmitter().particle(Particle.SNOWFLAKE, hitLoc, 30, 1, 1, 1, 0);
+                plugin.getFxEmitter().sound(hitLoc, Sound.BLOCK_GLASS_BREAK, 1.0f, 1.5f);
                 
                 // Apply damage and effects to nearby enemies
                 double totalDamageDealt = 0.0;
@@ -1731,10 +1378,25 @@ public class GameListener implements Listener {
     }
     
     /**
-     * Clean up accumulated gold when player quits
+     * Remove floating text when player quits
      */
     @EventHandler
     public void onPlayerQuit(PlayerQuitEvent event) {
-        accumulatedGold.remove(event.getPlayer().getUniqueId());
+        plugin.getFloatingTextService().releasePlayer(event.getPlayer().getUniqueId());
+    }
+    
+    /**
+     * Drop run tracking for mobs removed from the world for good, including ones that never died (despawn, /kill).
+     * Chunk unloads are skipped - the mob comes back on reload and must stay frozen/steered with its run.
+     * Deaths have already gone through the kill path by the time the body is removed.
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onEntityRemove(EntityRemoveEvent event) {
+        if (event.getCause() == EntityRemoveEvent.Cause.UNLOAD) {
+            return;
+        }
+        if (event.getEntity() instanceof LivingEntity && !(event.getEntity() instanceof Player)) {
+            plugin.getGameManager().onMobRemoved((LivingEntity) event.getEntity());
+        }
     }
 }
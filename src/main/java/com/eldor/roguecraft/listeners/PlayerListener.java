@@ -1,6 +1,7 @@
 package com.eldor.roguecraft.listeners;
 
 import com.eldor.roguecraft.RoguecraftPlugin;
+import com.eldor.roguecraft.events.RunDamageEvent;
 import com.eldor.roguecraft.models.Arena;
 import com.eldor.roguecraft.models.Run;
 import com.eldor.roguecraft.models.TeamRun;
@@ -10,10 +11,10 @@ import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
 import org.bukkit.entity.LivingEntity;
 import org.bukkit.event.entity.EntityDamageByEntityEvent;
-import org.bukkit.event.entity.EntityDamageEvent;
 import org.bukkit.event.entity.EntityRegainHealthEvent;
 import org.bukkit.event.entity.FoodLevelChangeEvent;
 import org.bukkit.event.entity.PlayerDeathEvent;
+import org.bukkit.event.player.PlayerJoinEvent;
 import org.bukkit.event.player.PlayerMoveEvent;
 import org.bukkit.event.player.PlayerQuitEvent;
 import org.bukkit.event.player.PlayerRespawnEvent;
@@ -26,6 +27,7 @@ public class PlayerListener implements Listener {
 
     public PlayerListener(RoguecraftPlugin plugin) {
         this.plugin = plugin;
+        plugin.getRunEventBus().subscribeDamage(EventPriority.HIGH, this::onRunDamage);
     }
 
     @EventHandler
@@ -50,38 +52,24 @@ public class PlayerListener implements Listener {
     
     @EventHandler
     public void onPlayerMove(PlayerMoveEvent event) {
-        Player player = event.getPlayer();
-        
-        // Check if player is in a team run
-        TeamRun teamRun = plugin.getRunManager().getTeamRun(player);
-        if (teamRun != null && teamRun.isActive()) {
-            // If ANY team member is in a GUI, block movement for ALL team members
-            if (teamRun.hasAnyPlayerInGUI()) {
-                // Only cancel if player actually moved (not just rotated)
-                if (event.getFrom().getBlockX() != event.getTo().getBlockX() ||
-                    event.getFrom().getBlockY() != event.getTo().getBlockY() ||
-                    event.getFrom().getBlockZ() != event.getTo().getBlockZ()) {
-                    event.setCancelled(true);
-                    // Teleport player back to prevent any movement
-                    event.setTo(event.getFrom());
-                }
-                return;
-            }
+        // Frozen while they or a team member has a GUI open (flag maintained by FreezeController)
+        if (!plugin.getFreezeController().isFrozen(event.getPlayer().getUniqueId())) {
+            return;
         }
         
-        // Also check individual GUI tracking
-        if (plugin.getGuiManager().isPlayerInGUI(player.getUniqueId()) || 
-            plugin.getShrineManager().isPlayerInShrineGUI(player.getUniqueId())) {
-            // Only cancel if player actually moved (not just rotated)
-            if (event.getFrom().getBlockX() != event.getTo().getBlockX() ||
-                event.getFrom().getBlockY() != event.getTo().getBlockY() ||
-                event.getFrom().getBlockZ() != event.getTo().getBlockZ()) {
-                event.setCancelled(true);
-                event.setTo(event.getFrom());
-            }
+        // Movement is locked via attributes; only snap back external pushes that cross a block
+        if (event.getFrom().getBlockX() != event.getTo().getBlockX() ||
+            event.getFrom().getBlockZ() != event.getTo().getBlockZ()) {
+            event.setTo(event.getFrom());
         }
     }
     
+    @EventHandler
+    public void onPlayerJoin(PlayerJoinEvent event) {
+        // Strip a movement lock left over from a crash or restart mid-GUI
+        plugin.getFreezeController().release(event.getPlayer());
+    }
+    
     @EventHandler(priority = EventPriority.HIGH)
     public void onPlayerVelocity(PlayerVelocityEvent event) {
         Player player = event.getPlayer();
@@ -126,6 +114,7 @@ public class PlayerListener implements Listener {
         
         // Clean up any active shrine channeling/GUI tasks for this player
         plugin.getShrineManager().cleanupPlayerChanneling(player);
+        plugin.getFreezeController().release(player);
         
         // Check if player has an active run (solo or team)
         if (plugin.getRunManager().hasActiveRun(player)) {
@@ -229,14 +218,16 @@ public class PlayerListener implements Listener {
         }
     }
     
-    @EventHandler(priority = EventPriority.HIGH)
-    public void onEntityDamage(EntityDamageEvent event) {
+    /**
+     * Mob resistances and player armor - subscribed to the RunEventBus at HIGH
+     */
+    private void onRunDamage(RunDamageEvent event) {
         // Prevent sunlight damage to plugin-spawned undead mobs
-        if (event.getEntity() instanceof LivingEntity && !(event.getEntity() instanceof Player)) {
-            LivingEntity entity = (LivingEntity) event.getEntity();
+        if (!event.isPlayerVictim()) {
+            LivingEntity entity = event.getVictim();
             
             // Check if it's a plugin-spawned undead mob
-            if (entity.hasMetadata("roguecraft_mob")) {
+            if (event.isRoguecraftMob()) {
                 // Check if damage is from fire (sunlight damage)
                 if (event.getCause() == org.bukkit.event.entity.EntityDamageEvent.DamageCause.FIRE_TICK ||
                     event.getCause() == org.bukkit.event.entity.EntityDamageEvent.DamageCause.FIRE) {
@@ -252,34 +243,15 @@ public class PlayerListener implements Listener {
                 }
                 
                 // Apply elite/legendary damage resistance based on wave number (replaces armor system)
-                boolean isLegendary = entity.hasMetadata("is_legendary");
-                boolean isElite = entity.hasMetadata("roguecraft_elite") || entity.hasMetadata("is_elite");
-                boolean isEliteBoss = entity.hasMetadata("roguecraft_elite_boss");
+                boolean isLegendary = event.isLegendary();
+                boolean isElite = event.isElite();
+                boolean isEliteBoss = event.isEliteBoss();
                 
                 if (isElite || isEliteBoss || isLegendary) {
                     // Elite boss (Wither) gets very high resistance that scales with player level
                     if (isEliteBoss) {
-                        // Get player level from the run
-                        int playerLevel = 1;
-                        TeamRun teamRun = null;
-                        Run run = null;
-                        
-                        // Try to find the active run by checking nearby players
-                        for (Player player : entity.getWorld().getPlayers()) {
-                            if (entity.getLocation().distance(player.getLocation()) < 100) {
-                                teamRun = plugin.getRunManager().getTeamRun(player);
-                                if (teamRun != null && teamRun.isActive()) {
-                                    playerLevel = teamRun.getLevel();
-                                    break;
-                                } else {
-                                    run = plugin.getRunManager().getRun(player);
-                                    if (run != null && run.isActive()) {
-                                        playerLevel = run.getLevel();
-                                        break;
-                                    }
-                                }
-                            }
-                        }
+                        // Get player level from the run (resolved by the bus from the attacker or nearby players)
+                        int playerLevel = event.getContext().getLevel();
                         
                         // Base resistance: 50% (50% damage taken) - balanced middle ground
                         // Scale up resistance for overleveled players: +1.5% per level above 10
@@ -303,26 +275,7 @@ public class PlayerListener implements Listener {
                     }
                     
                     // Get the wave number from the run
-                    int wave = 1;
-                    TeamRun teamRun = null;
-                    Run run = null;
-                    
-                    // Try to find the active run by checking nearby players
-                    for (Player player : entity.getWorld().getPlayers()) {
-                        if (entity.getLocation().distance(player.getLocation()) < 100) {
-                            teamRun = plugin.getRunManager().getTeamRun(player);
-                            if (teamRun != null && teamRun.isActive()) {
-                                wave = teamRun.getWave();
-                                break;
-                            } else {
-                                run = plugin.getRunManager().getRun(player);
-                                if (run != null && run.isActive()) {
-                                    wave = run.getWave();
-                                    break;
-                                }
-                            }
-                        }
-                    }
+                    int wave = event.getContext().getWave();
                     
                     // Only apply resistance for wave 10+ (when armor would have been applied)
                     if (wave >= 10) {
@@ -333,8 +286,8 @@ public class PlayerListener implements Listener {
                         // Infinite waves: +3% resistance per wave beyond 20 (60% at wave 30, caps at 98% max)
                         double resistancePercent = 0.0;
                         
-                        // Get max wave from config
-                        int maxWave = plugin.getConfigManager().getBalanceConfig().getInt("waves.max-wave", 20);
+                        // Max wave from the compiled wave schedule
+                        int maxWave = plugin.getSpawnManager().getWaveSchedule().getMaxWave();
                         boolean isInfiniteWave = wave > maxWave;
                         
                         if (isInfiniteWave) {
@@ -385,48 +338,30 @@ public class PlayerListener implements Listener {
         }
         
         // Apply defense stat to reduce incoming damage for players
-        if (!(event.getEntity() instanceof Player)) {
+        if (!event.isPlayerVictim()) {
             return;
         }
         
-        Player player = (Player) event.getEntity();
+        Player player = event.getPlayerVictim();
         
         // CANCEL all damage if player is in GUI (prevents damage from projectiles shot before freeze)
-        if (plugin.getGuiManager().isPlayerInGUI(player.getUniqueId()) || 
-            plugin.getShrineManager().isPlayerInShrineGUI(player.getUniqueId())) {
-            event.setCancelled(true);
-            return;
-        }
-        
-        // Also check TeamRun's GUI tracking
-        TeamRun teamRun = plugin.getRunManager().getTeamRun(player);
-        if (teamRun != null && teamRun.isPlayerInGUI(player.getUniqueId())) {
+        if (event.isVictimInGUI()) {
             event.setCancelled(true);
             return;
         }
         
         // Check if player has an active run
-        Run run = null;
-        double armor = 0.0;
-        
-        if (teamRun != null && teamRun.isActive()) {
-            armor = teamRun.getStat(player, "armor");
-        } else {
-            run = plugin.getRunManager().getRun(player);
-            if (run != null && run.isActive()) {
-                armor = run.getStat("armor");
-            } else {
-                return; // Not in a run, don't modify damage
-            }
+        if (!event.getContext().isInRun()) {
+            return; // Not in a run, don't modify damage
         }
+        TeamRun teamRun = event.getContext().getTeamRun();
+        double armor = event.getContext().getStat("armor");
         
         // Cancel explosion damage from team member TNT
         if (event.getCause() == org.bukkit.event.entity.EntityDamageEvent.DamageCause.ENTITY_EXPLOSION) {
             // Check if player was tagged by a TNT explosion from a team member
-            if (player.hasMetadata("roguecraft_tnt_damaged")) {
-                String ownerUuid = player.getMetadata("roguecraft_tnt_damaged").get(0).asString();
-                UUID ownerId = java.util.UUID.fromString(ownerUuid);
-                
+            UUID ownerId = event.getTntOwnerId();
+            if (ownerId != null) {
                 // Check if TNT belongs to this player
                 if (ownerId.equals(player.getUniqueId())) {
                     event.setCancelled(true);
@@ -436,8 +371,8 @@ public class PlayerListener implements Listener {
                 }
                 
                 // Check if TNT belongs to a team member
-                if (teamRun != null && teamRun.isActive()) {
-                    if (teamRun.getPlayerIds().contains(ownerId)) {
+                if (teamRun != null) {
+                    if (teamRun.hasPlayer(ownerId)) {
                         event.setCancelled(true);
                         // Remove metadata after cancelling
                         player.removeMetadata("roguecraft_tnt_damaged", plugin);
@@ -456,9 +391,9 @@ public class PlayerListener implements Listener {
             event.setDamage(newDamage);
         }
         
-        // Track last damage time for regeneration proc system
+        // Track last damage tick for regeneration proc system
         if (event.getFinalDamage() > 0) {
-            plugin.getGameManager().setLastDamageTime(player.getUniqueId(), System.currentTimeMillis());
+            plugin.getGameManager().setLastDamageTick(player.getUniqueId(), plugin.getRunClock().getTick());
         }
     }
     
@@ -600,8 +535,8 @@ public class PlayerListener implements Listener {
                     double baseEliteMultiplier = plugin.getConfigManager().getBalanceConfig().getDouble("elites.damage-multiplier", 1.75);
                     double legendaryMultiplier = plugin.getConfigManager().getBalanceConfig().getDouble("legendary.damage-multiplier", 1.5);
                     
-                    // Get max wave from config
-                    int maxWave = plugin.getConfigManager().getBalanceConfig().getInt("waves.max-wave", 20);
+                    // Max wave from the compiled wave schedule
+                    int maxWave = plugin.getSpawnManager().getWaveSchedule().getMaxWave();
                     boolean isInfiniteWave = wave > maxWave;
                     
                     if (isInfiniteWave) {
@@ -616,8 +551,8 @@ public class PlayerListener implements Listener {
                     // Base elite damage multiplier from config
                     double baseEliteMultiplier = plugin.getConfigManager().getBalanceConfig().getDouble("elites.damage-multiplier", 1.75);
                     
-                    // Get max wave from config
-                    int maxWave = plugin.getConfigManager().getBalanceConfig().getInt("waves.max-wave", 20);
+                    // Max wave from the compiled wave schedule
+                    int maxWave = plugin.getSpawnManager().getWaveSchedule().getMaxWave();
                     boolean isInfiniteWave = wave > maxWave;
                     
                     if (isInfiniteWave) {
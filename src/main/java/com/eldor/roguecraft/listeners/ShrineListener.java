@@ -4,6 +4,7 @@ import com.eldor.roguecraft.RoguecraftPlugin;
 import com.eldor.roguecraft.models.Shrine;
 import com.eldor.roguecraft.models.TeamRun;
 import com.eldor.roguecraft.models.Run;
+import com.eldor.roguecraft.util.ProximityTriggerIndex;
 import org.bukkit.ChatColor;
 import org.bukkit.Location;
 import org.bukkit.Sound;
@@ -21,7 +22,7 @@ import java.util.UUID;
 /**
  * Handles shrine interactions
  */
-public class ShrineListener implements Listener {
+public class ShrineListener implements Listener, ProximityTriggerIndex.Callback {
     private final RoguecraftPlugin plugin;
     
     public ShrineListener(RoguecraftPlugin plugin) {
@@ -62,29 +63,43 @@ public class ShrineListener implements Listener {
             return;
         }
         
-        // Check if player is already channeling - don't try to start again
-        if (plugin.getShrineManager().isPlayerChanneling(player.getUniqueId())) {
-            // Player is channeling, just check if they're still near
-            return; // Let the channeling task handle distance checks
-        }
-        
-        // Check if there's a shrine near the player
-        Shrine shrine = plugin.getShrineManager().getShrineNearPlayer(teamId, player);
+        // Enter/leave transitions for shrines around the player (chests only use point queries)
+        plugin.getProximityManager().update(teamId, player, event.getTo(), this);
         
-        if (shrine != null) {
-            // Only start channeling for POWER shrines (DIFFICULTY and BOSS shrines use right-click)
-            if (shrine.getType() == Shrine.ShrineType.POWER) {
-                // Only start channeling if not on cooldown and not already channeling
-                if (plugin.getShrineManager().canPlayerUseShrine(player.getUniqueId(), shrine.getType())) {
-                    plugin.getShrineManager().startChanneling(player, shrine, teamId);
+        // Retry power shrines the player is still standing in (e.g. their cooldown just expired)
+        if (!plugin.getShrineManager().isPlayerChanneling(player.getUniqueId())) {
+            for (Object payload : plugin.getProximityManager().getInside(teamId, player.getUniqueId())) {
+                if (payload instanceof Shrine) {
+                    tryStartChanneling(player, (Shrine) payload, teamId);
                 }
             }
-            // For DIFFICULTY and BOSS shrines, do nothing on move - they use right-click only
-        } else {
-            // Cancel channeling if they moved away (only if actually channeling)
-            if (plugin.getShrineManager().isPlayerChanneling(player.getUniqueId())) {
-                plugin.getShrineManager().cancelChanneling(player);
-            }
+        }
+    }
+    
+    @Override
+    public void onEnter(Player player, Object payload, UUID runId) {
+        if (payload instanceof Shrine) {
+            tryStartChanneling(player, (Shrine) payload, runId);
+        }
+    }
+    
+    @Override
+    public void onLeave(Player player, Object payload, UUID runId) {
+        // Cancel channeling if they moved away (the channeling task also checks, e.g. after teleports)
+        if (payload instanceof Shrine && plugin.getShrineManager().isPlayerChanneling(player.getUniqueId())) {
+            plugin.getShrineManager().cancelChanneling(player);
+            player.sendMessage(ChatColor.RED + "Channeling interrupted! Stay near the shrine.");
+        }
+    }
+    
+    private void tryStartChanneling(Player player, Shrine shrine, UUID teamId) {
+        // Only start channeling for POWER shrines (DIFFICULTY and BOSS shrines use right-click)
+        if (shrine.getType() != Shrine.ShrineType.POWER || !shrine.isActive() || shrine.hasBeenUsed()) {
+            return;
+        }
+        // Only start channeling if not on cooldown and not already channeling
+        if (plugin.getShrineManager().canPlayerUseShrine(player.getUniqueId(), shrine.getType())) {
+            plugin.getShrineManager().startChanneling(player, shrine, teamId);
         }
     }
     
@@ -218,12 +233,12 @@ public class ShrineListener implements Listener {
         }
         
         // Mark shrine as used
-        shrine.markAsUsed();
+        shrine.markAsUsed(plugin.getBlockMutationQueue());
         
         // Visual effects
         org.bukkit.Location loc = shrine.getLocation();
-        loc.getWorld().spawnParticle(org.bukkit.Particle.DUST, loc.add(0, 2, 0), 30, 0.5, 0.5, 0.5, 0.1, new org.bukkit.Particle.DustOptions(org.bukkit.Color.RED, 1.0f));
-        loc.getWorld().playSound(loc, Sound.ENTITY_WITHER_SPAWN, 1.0f, 0.8f);
+        plugin.getFxEmitter().particle(org.bukkit.Particle.DUST, loc.add(0, 2, 0), 30, 0.5, 0.5, 0.5, 0.1, new org.bukkit.Particle.DustOptions(org.bukkit.Color.RED, 1.0f));
+        plugin.getFxEmitter().sound(loc, Sound.ENTITY_WITHER_SPAWN, 1.0f, 0.8f);
     }
     
     private void handleBossShrine(Player player, Shrine shrine, TeamRun teamRun, Run run) {
@@ -246,12 +261,12 @@ public class ShrineListener implements Listener {
         }
         
         // Mark shrine as used (prevents multiple clicks)
-        shrine.markAsUsed();
+        shrine.markAsUsed(plugin.getBlockMutationQueue());
         
         // Visual effects
         org.bukkit.Location loc = shrine.getLocation();
-        loc.getWorld().spawnParticle(org.bukkit.Particle.DUST, loc.add(0, 2, 0), 30, 0.5, 0.5, 0.5, 0.1, new org.bukkit.Particle.DustOptions(org.bukkit.Color.PURPLE, 1.0f));
-        loc.getWorld().playSound(loc, Sound.ENTITY_WITHER_SPAWN, 1.0f, 0.8f);
+        plugin.getFxEmitter().particle(org.bukkit.Particle.DUST, loc.add(0, 2, 0), 30, 0.5, 0.5, 0.5, 0.1, new org.bukkit.Particle.DustOptions(org.bukkit.Color.PURPLE, 1.0f));
+        plugin.getFxEmitter().sound(loc, Sound.ENTITY_WITHER_SPAWN, 1.0f, 0.8f);
     }
 }
 
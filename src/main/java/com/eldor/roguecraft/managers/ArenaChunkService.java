@@ -0,0 +1,226 @@
+package com.eldor.roguecraft.managers;
+
+import com.eldor.roguecraft.RoguecraftPlugin;
+import com.eldor.roguecraft.models.Arena;
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.lang.reflect.Method;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Keeps every chunk inside an arena's radius loaded while anyone needs it.
+ * Holders (a readying team lobby, an active run) acquire an arena; its chunks are loaded ahead of time
+ * and pinned with plugin chunk tickets, so nothing during a run triggers a synchronous chunk load.
+ * When the last holder releases the arena, the tickets are dropped once pending block restores have landed.
+ */
+public class ArenaChunkService {
+    private final RoguecraftPlugin plugin;
+    private final Map<String, ArenaChunks> arenas; // Arena ID -> chunk/ticket state
+    private final Method getChunkAtAsync; // Paper's World#getChunkAtAsync(int, int), null on plain Spigot
+    private final int loadsPerTick; // Spigot fallback: synchronous ticket adds per tick while pre-warming
+
+    public ArenaChunkService(RoguecraftPlugin plugin) {
+        this.plugin = plugin;
+        this.arenas = new HashMap<>();
+        this.loadsPerTick = Math.max(1, plugin.getConfigManager().getMainConfig().getInt("placement.prewarm-chunks-per-tick", 4));
+
+        Method asyncLoad = null;
+        try {
+            asyncLoad = World.class.getMethod("getChunkAtAsync", int.class, int.class);
+        } catch (NoSuchMethodException e) {
+            plugin.getLogger().info("[Chunks] Async chunk loading not available, arena pre-warm will load " + loadsPerTick + " chunks per tick");
+        }
+        this.getChunkAtAsync = asyncLoad;
+    }
+
+    /**
+     * Start loading and ticketing an arena's chunks on behalf of a holder (lobby, run)
+     */
+    public void acquire(Arena arena, Object holder) {
+        if (arena == null || arena.getCenter() == null || arena.getCenter().getWorld() == null) {
+            return;
+        }
+        ArenaChunks chunks = arenas.computeIfAbsent(arena.getId(), id -> new ArenaChunks(arena));
+        chunks.holders.add(holder);
+        if (!chunks.started) {
+            chunks.started = true;
+            chunks.startTime = System.currentTimeMillis();
+            startLoading(chunks);
+        }
+    }
+
+    /**
+     * Release everything a holder acquired. Tickets are dropped when no holders remain.
+     */
+    public void release(Object holder) {
+        for (ArenaChunks chunks : new ArrayList<>(arenas.values())) {
+            if (chunks.holders.remove(holder) && chunks.holders.isEmpty()) {
+                // Let shrine/chest restores finish before the chunks are allowed to unload
+                plugin.getBlockMutationQueue().whenDrained(() -> releaseIfUnused(chunks));
+            }
+        }
+    }
+
+    /**
+     * Run an action once an arena's chunks are all loaded (immediately if they already are,
+     * or if nobody acquired the arena)
+     */
+    public void whenReady(Arena arena, Runnable action) {
+        ArenaChunks chunks = arena != null ? arenas.get(arena.getId()) : null;
+        if (chunks == null || chunks.isReady()) {
+            action.run();
+        } else {
+            chunks.readyActions.add(action);
+        }
+    }
+
+    public boolean isReady(Arena arena) {
+        ArenaChunks chunks = arenas.get(arena.getId());
+        return chunks != null && chunks.isReady();
+    }
+
+    private void startLoading(ArenaChunks chunks) {
+        if (getChunkAtAsync != null) {
+            for (long key : chunks.keys) {
+                try {
+                    CompletableFuture<?> future = (CompletableFuture<?>) getChunkAtAsync.invoke(chunks.world, chunkX(key), chunkZ(key));
+                    future.thenRun(() -> {
+                        if (plugin.isEnabled()) {
+                            Bukkit.getScheduler().runTask(plugin, () -> onLoaded(chunks, key));
+                        }
+                    });
+                } catch (Exception e) {
+                    plugin.getLogger().warning("[Chunks] Async load failed for chunk " + chunkX(key) + "," + chunkZ(key) + ": " + e.getMessage());
+                    chunks.pendingSync.add(key);
+                }
+            }
+            if (chunks.pendingSync.isEmpty()) {
+                return;
+            }
+        } else {
+            chunks.pendingSync.addAll(chunks.keys);
+        }
+
+        // Spigot: ticket a few chunks per tick (each may load synchronously, but before the run needs it)
+        chunks.loadTask = Bukkit.getScheduler().runTaskTimer(plugin, () -> {
+            for (int i = 0; i < loadsPerTick && !chunks.pendingSync.isEmpty(); i++) {
+                onLoaded(chunks, chunks.pendingSync.poll());
+            }
+            if (chunks.pendingSync.isEmpty() && chunks.loadTask != null) {
+                chunks.loadTask.cancel();
+                chunks.loadTask = null;
+            }
+        }, 1L, 1L);
+    }
+
+    private void onLoaded(ArenaChunks chunks, long key) {
+        if (arenas.get(chunks.arenaId) != chunks || chunks.ticketed.contains(key)) {
+            return; // Released while loading, or already ticketed
+        }
+        chunks.world.addPluginChunkTicket(chunkX(key), chunkZ(key), plugin);
+        chunks.ticketed.add(key);
+
+        if (chunks.isReady()) {
+            plugin.getLogger().info("[Chunks] Arena " + chunks.arenaId + " ready: " + chunks.ticketed.size() +
+                " chunks ticketed in " + (System.currentTimeMillis() - chunks.startTime) + "ms");
+            List<Runnable> actions = new ArrayList<>(chunks.readyActions);
+            chunks.readyActions.clear();
+            for (Runnable action : actions) {
+                action.run();
+            }
+        }
+    }
+
+    private void releaseIfUnused(ArenaChunks chunks) {
+        if (!chunks.holders.isEmpty() || arenas.get(chunks.arenaId) != chunks) {
+            return; // Re-acquired (e.g. a new lobby readied) while restores were draining
+        }
+        arenas.remove(chunks.arenaId);
+        removeTickets(chunks);
+        plugin.getLogger().fine("[Chunks] Released tickets for arena " + chunks.arenaId);
+    }
+
+    private void removeTickets(ArenaChunks chunks) {
+        if (chunks.loadTask != null) {
+            chunks.loadTask.cancel();
+            chunks.loadTask = null;
+        }
+        for (long key : chunks.ticketed) {
+            chunks.world.removePluginChunkTicket(chunkX(key), chunkZ(key), plugin);
+        }
+        chunks.ticketed.clear();
+        chunks.readyActions.clear();
+    }
+
+    /**
+     * Drop every ticket (plugin disable)
+     */
+    public void cleanup() {
+        for (ArenaChunks chunks : arenas.values()) {
+            removeTickets(chunks);
+        }
+        arenas.clear();
+    }
+
+    private static long chunkKey(int cx, int cz) {
+        return ((long) cx << 32) | (cz & 0xFFFFFFFFL);
+    }
+
+    private static int chunkX(long key) {
+        return (int) (key >> 32);
+    }
+
+    private static int chunkZ(long key) {
+        return (int) key;
+    }
+
+    private static final class ArenaChunks {
+        private final String arenaId;
+        private final World world;
+        private final List<Long> keys; // Every chunk that overlaps the arena's circle
+        private final Set<Long> ticketed;
+        private final Set<Object> holders;
+        private final List<Runnable> readyActions;
+        private final ArrayDeque<Long> pendingSync; // Chunks left for the synchronous fallback
+        private boolean started;
+        private long startTime;
+        private BukkitTask loadTask;
+
+        private ArenaChunks(Arena arena) {
+            this.arenaId = arena.getId();
+            this.world = arena.getCenter().getWorld();
+            this.keys = new ArrayList<>();
+            this.ticketed = new HashSet<>();
+            this.holders = new HashSet<>();
+            this.readyActions = new ArrayList<>();
+            this.pendingSync = new ArrayDeque<>();
+
+            Location center = arena.getCenter();
+            double radius = arena.getRadius();
+            int minCx = ((int) Math.floor(center.getX() - radius)) >> 4;
+            int maxCx = ((int) Math.floor(center.getX() + radius)) >> 4;
+            int minCz = ((int) Math.floor(center.getZ() - radius)) >> 4;
+            int maxCz = ((int) Math.floor(center.getZ() + radius)) >> 4;
+            for (int cx = minCx; cx <= maxCx; cx++) {
+                for (int cz = minCz; cz <= maxCz; cz++) {
+                    // Closest point of the chunk to the center must be inside the radius
+                    double nearestX = Math.max(cx << 4, Math.min(center.getX(), (cx << 4) + 16));
+                    double nearestZ = Math.max(cz << 4, Math.min(center.getZ(), (cz << 4) + 16));
+                    double dx = nearestX - center.getX();
+                    double dz = nearestZ - center.getZ();
+                    if (dx * dx + dz * dz <= radius * radius) {
+                        keys.add(chunkKey(cx, cz));
+                    }
+                }
+            }
+        }
+
+        private boolean isReady() {
+            return ticketed.size() >= keys.size();
+        }
+    }
+}
@@ -1,13 +1,13 @@
 package com.eldor.roguecraft.managers;
 
 import com.eldor.roguecraft.RoguecraftPlugin;
+import com.eldor.roguecraft.models.DamageLedger;
 import com.eldor.roguecraft.models.PowerUp;
 import com.eldor.roguecraft.models.Run;
 import com.eldor.roguecraft.models.TeamRun;
 import org.bukkit.Bukkit;
 import org.bukkit.Particle;
 import org.bukkit.Sound;
-import org.bukkit.attribute.Attribute;
 import org.bukkit.entity.*;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.Listener;
@@ -69,6 +69,7 @@ public class AuraManager implements Listener {
     private void processAuras(Object run) {
         List<Player> players = getPlayers(run);
         if (players.isEmpty()) return;
+        UUID runId = getRunId(run); // Damage ledger key for aura hits
         
         for (Player player : players) {
             if (player == null || !player.isOnline() || player.isDead()) continue;
@@ -98,16 +99,16 @@ public class AuraManager implements Listener {
                         applyRegenerationAura(player, value);
                         break;
                     case "Fire Aura":
-                        applyFireAura(player, value);
+                        applyFireAura(runId, player, value);
                         break;
                     case "Ice Aura":
                         applyIceAura(player, value);
                         break;
                     case "Lightning Aura":
-                        applyLightningAura(player, value);
+                        applyLightningAura(runId, player, value);
                         break;
                     case "Poison Aura":
-                        applyPoisonAura(player, value);
+                        applyPoisonAura(runId, player, value);
                         break;
                     case "Shield Aura":
                         // Shield is handled on damage event
@@ -144,7 +145,7 @@ public class AuraManager implements Listener {
             attacker.damage(reflectDamage, player);
             
             // Visual feedback
-            player.getWorld().spawnParticle(Particle.CRIT, attacker.getLocation(), 10, 0.5, 0.5, 0.5, 0.1);
+            plugin.getFxEmitter().particle(Particle.CRIT, attacker.getLocation(), 10, 0.5, 0.5, 0.5, 0.1);
             player.playSound(player.getLocation(), Sound.ENTITY_IRON_GOLEM_HURT, 0.3f, 1.5f);
         }
         
@@ -166,7 +167,7 @@ public class AuraManager implements Listener {
                         event.setDamage(event.getDamage() - absorbed);
                         
                         // Visual feedback
-                        player.getWorld().spawnParticle(Particle.END_ROD, player.getLocation(), 5, 0.5, 1.0, 0.5, 0.1);
+                        plugin.getFxEmitter().particle(Particle.END_ROD, player.getLocation(), 5, 0.5, 1.0, 0.5, 0.1);
                     } else {
                         player.removeMetadata("shield_remaining", plugin);
                         event.setDamage(event.getDamage() - remaining);
@@ -180,36 +181,20 @@ public class AuraManager implements Listener {
                 event.setDamage(event.getDamage() - absorbed);
                 
                 // Visual feedback
-                player.getWorld().spawnParticle(Particle.END_ROD, player.getLocation(), 10, 0.5, 1.0, 0.5, 0.1);
+                plugin.getFxEmitter().particle(Particle.END_ROD, player.getLocation(), 10, 0.5, 1.0, 0.5, 0.1);
             }
         }
     }
     
     private void applyRegenerationAura(Player player, double value) {
-        // Heal every 5 seconds (check if 5 seconds passed)
-        if (!player.hasMetadata("regen_aura_last")) {
-            player.setMetadata("regen_aura_last", new FixedMetadataValue(plugin, System.currentTimeMillis()));
-            return;
-        }
-        
-        long lastHeal = player.getMetadata("regen_aura_last").get(0).asLong();
-        long now = System.currentTimeMillis();
-        
-        if (now - lastHeal >= 5000) { // 5 seconds
-            double healAmount = value * 0.5; // 0.5 HP per value point
-            double currentHealth = player.getHealth();
-            double maxHealth = player.getAttribute(Attribute.GENERIC_MAX_HEALTH).getValue();
-            double newHealth = Math.min(maxHealth, currentHealth + healAmount);
-            
-            player.setHealth(newHealth);
-            player.setMetadata("regen_aura_last", new FixedMetadataValue(plugin, now));
-            
+        // Heal every 5 seconds (100 ticks), 0.5 HP per value point
+        if (plugin.getHealingService().healEvery(player, HealingService.Source.AURA, value * 0.5, 100L) > 0) {
             // Visual feedback
-            player.getWorld().spawnParticle(Particle.HEART, player.getLocation().add(0, 1, 0), 3, 0.3, 0.3, 0.3, 0);
+            plugin.getFxEmitter().particle(Particle.HEART, player.getLocation().add(0, 1, 0), 3, 0.3, 0.3, 0.3, 0);
         }
     }
     
-    private void applyFireAura(Player player, double value) {
+    private void applyFireAura(UUID runId, Player player, double value) {
         double radius = 8.0; // 8 block radius
         double damagePerSecond = value * 2.0; // 2 damage per value point per second
         
@@ -221,10 +206,11 @@ public class AuraManager implements Listener {
                 mob.setFireTicks(Math.max(mob.getFireTicks(), 20));
                 
                 // Apply direct damage
+                plugin.getDamageLedgerManager().recordHit(runId, player, mob, DamageLedger.SOURCE_AURA, damagePerSecond);
                 mob.damage(damagePerSecond);
                 
                 // Visual feedback
-                player.getWorld().spawnParticle(Particle.FLAME, mob.getLocation(), 5, 0.3, 0.5, 0.3, 0.05);
+                plugin.getFxEmitter().particle(Particle.FLAME, mob.getLocation(), 5, 0.3, 0.5, 0.3, 0.05);
             }
         }
     }
@@ -243,22 +229,22 @@ public class AuraManager implements Listener {
                 mob.addPotionEffect(new PotionEffect(PotionEffectType.SLOWNESS, 40, slowLevel, false, false));
                 
                 // Visual feedback
-                player.getWorld().spawnParticle(Particle.SNOWFLAKE, mob.getLocation(), 5, 0.3, 0.5, 0.3, 0.05);
+                plugin.getFxEmitter().particle(Particle.SNOWFLAKE, mob.getLocation(), 5, 0.3, 0.5, 0.3, 0.05);
             }
         }
     }
     
-    private void applyLightningAura(Player player, double value) {
-        // Chain lightning every 3 seconds
+    private void applyLightningAura(UUID runId, Player player, double value) {
+        // Chain lightning every 3 seconds (RunClock ticks)
+        long now = plugin.getRunClock().getTick();
         if (!player.hasMetadata("lightning_aura_last")) {
-            player.setMetadata("lightning_aura_last", new FixedMetadataValue(plugin, System.currentTimeMillis()));
+            player.setMetadata("lightning_aura_last", new FixedMetadataValue(plugin, now));
             return;
         }
         
         long lastLightning = player.getMetadata("lightning_aura_last").get(0).asLong();
-        long now = System.currentTimeMillis();
         
-        if (now - lastLightning >= 3000) { // 3 seconds
+        if (now - lastLightning >= 3 * RunClock.TICKS_PER_SECOND) { // 3 seconds
             double radius = 10.0;
             double damage = value * 3.0; // 3 damage per value point
             
@@ -278,10 +264,11 @@ public class AuraManager implements Listener {
             if (nearest != null) {
                 // Strike lightning
                 player.getWorld().strikeLightningEffect(nearest.getLocation());
+                plugin.getDamageLedgerManager().recordHit(runId, player, nearest, DamageLedger.SOURCE_AURA, damage);
                 nearest.damage(damage);
                 
                 // Visual feedback
-                player.getWorld().spawnParticle(Particle.ELECTRIC_SPARK, nearest.getLocation(), 20, 0.5, 1.0, 0.5, 0.1);
+                plugin.getFxEmitter().particle(Particle.ELECTRIC_SPARK, nearest.getLocation(), 20, 0.5, 1.0, 0.5, 0.1);
                 player.playSound(player.getLocation(), Sound.ENTITY_LIGHTNING_BOLT_THUNDER, 0.3f, 1.0f);
                 
                 player.setMetadata("lightning_aura_last", new FixedMetadataValue(plugin, now));
@@ -289,7 +276,7 @@ public class AuraManager implements Listener {
         }
     }
     
-    private void applyPoisonAura(Player player, double value) {
+    private void applyPoisonAura(UUID runId, Player player, double value) {
         double radius = 8.0;
         double damagePerSecond = value; // 1 damage per value point per second
         
@@ -303,10 +290,11 @@ public class AuraManager implements Listener {
                 mob.addPotionEffect(new PotionEffect(PotionEffectType.POISON, 40, poisonLevel, false, false));
                 
                 // Apply direct damage
+                plugin.getDamageLedgerManager().recordHit(runId, player, mob, DamageLedger.SOURCE_AURA, damagePerSecond);
                 mob.damage(damagePerSecond);
                 
                 // Visual feedback - use a simpler particle that doesn't require extra data
-                player.getWorld().spawnParticle(Particle.SMOKE, mob.getLocation(), 5, 0.3, 0.5, 0.3, 0.05);
+                plugin.getFxEmitter().particle(Particle.SMOKE, mob.getLocation(), 5, 0.3, 0.5, 0.3, 0.05);
             }
         }
     }
@@ -0,0 +1,156 @@
+package com.eldor.roguecraft.managers;
+
+import com.eldor.roguecraft.RoguecraftPlugin;
+import org.bukkit.Bukkit;
+import org.bukkit.Material;
+import org.bukkit.block.Block;
+import org.bukkit.block.data.BlockData;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.*;
+
+/**
+ * Applies every block change Roguecraft makes to the world (shrines, chests) through one queue.
+ * Changes are applied with physics disabled, at most a fixed number per tick, and the prior BlockData
+ * of each touched block is recorded per owner so teardown restores exactly what was there before.
+ */
+public class BlockMutationQueue {
+    private final RoguecraftPlugin plugin;
+    private final ArrayDeque<Mutation> pending; // Changes waiting for a tick with budget left
+    private final Map<Object, LinkedHashMap<Block, BlockData>> originals; // Owner -> block -> data before the owner first changed it
+    private final List<Runnable> drainedActions; // Run once the queue is empty (e.g. releasing chunk tickets)
+    private final int budgetPerTick;
+    private BukkitTask drainTask; // Only scheduled while there is pending work
+
+    public BlockMutationQueue(RoguecraftPlugin plugin) {
+        this.plugin = plugin;
+        this.pending = new ArrayDeque<>();
+        this.originals = new IdentityHashMap<>();
+        this.drainedActions = new ArrayList<>();
+        this.budgetPerTick = Math.max(1, plugin.getConfigManager().getMainConfig().getInt("placement.block-updates-per-tick", 128));
+    }
+
+    /**
+     * Queue a block change on behalf of an owner (a shrine, a chest)
+     */
+    public void set(Object owner, Block block, Material material) {
+        set(owner, block, material.createBlockData());
+    }
+
+    public void set(Object owner, Block block, BlockData data) {
+        if (block == null || block.getWorld() == null) {
+            return;
+        }
+        pending.add(new Mutation(owner, block, data, false));
+        scheduleDrain();
+    }
+
+    /**
+     * Queue restoring every block an owner changed. Changes that haven't reached the world yet are dropped.
+     */
+    public void revert(Object owner) {
+        pending.removeIf(mutation -> mutation.owner == owner && !mutation.restore);
+
+        LinkedHashMap<Block, BlockData> recorded = originals.remove(owner);
+        if (recorded == null || recorded.isEmpty()) {
+            return;
+        }
+        // Restore in reverse order so blocks placed on top of others come off first
+        List<Map.Entry<Block, BlockData>> entries = new ArrayList<>(recorded.entrySet());
+        for (int i = entries.size() - 1; i >= 0; i--) {
+            pending.add(new Mutation(owner, entries.get(i).getKey(), entries.get(i).getValue(), true));
+        }
+        scheduleDrain();
+    }
+
+    public int getPendingCount() {
+        return pending.size();
+    }
+
+    /**
+     * Run an action once every queued change has been applied (immediately if nothing is queued)
+     */
+    public void whenDrained(Runnable action) {
+        if (pending.isEmpty()) {
+            action.run();
+        } else {
+            drainedActions.add(action);
+        }
+    }
+
+    private void scheduleDrain() {
+        if (drainTask == null && plugin.isEnabled()) {
+            // Spread work thinner while the server is struggling
+            drainTask = Bukkit.getScheduler().runTaskTimer(plugin, () -> drain(plugin.getQualityGovernor().scale(budgetPerTick)), 1L, 1L);
+        }
+    }
+
+    /**
+     * Apply up to the given number of queued changes
+     */
+    private void drain(int budget) {
+        int applied = 0;
+        while (applied < budget && !pending.isEmpty()) {
+            Mutation mutation = pending.poll();
+            try {
+                if (!mutation.restore) {
+                    // Only the first change an owner makes to a block records the original
+                    originals.computeIfAbsent(mutation.owner, k -> new LinkedHashMap<>())
+                        .putIfAbsent(mutation.block, mutation.block.getBlockData());
+                }
+                mutation.block.setBlockData(mutation.data, false); // No physics - no neighbour updates or drops
+            } catch (Exception e) {
+                plugin.getLogger().warning("[Blocks] Failed to apply block change at " + mutation.block.getLocation() + ": " + e.getMessage());
+            }
+            applied++;
+        }
+
+        if (pending.isEmpty()) {
+            if (drainTask != null) {
+                drainTask.cancel();
+                drainTask = null;
+            }
+            runDrainedActions();
+        }
+    }
+
+    private void runDrainedActions() {
+        List<Runnable> actions = new ArrayList<>(drainedActions);
+        drainedActions.clear();
+        for (Runnable action : actions) {
+            action.run();
+        }
+    }
+
+    /**
+     * Restore everything still recorded and apply all pending work immediately (plugin disable)
+     */
+    public void cleanup() {
+        for (Object owner : new ArrayList<>(originals.keySet())) {
+            revert(owner);
+        }
+        int remaining = pending.size();
+        drain(Integer.MAX_VALUE);
+        if (drainTask != null) {
+            drainTask.cancel();
+            drainTask = null;
+        }
+        if (remaining > 0) {
+            plugin.getLogger().info("[Blocks] Flushed " + remaining + " pending block changes");
+        }
+    }
+
+    private static final class Mutation {
+        private final Object owner;
+        private final Block block;
+        private final BlockData data;
+        private final boolean restore; // Restores an original rather than recording a new change
+
+        private Mutation(Object owner, Block block, BlockData data, boolean restore) {
+            this.owner = owner;
+            this.block = block;
+            this.data = data;
+            this.restore = restore;
+        }
+    }
+}
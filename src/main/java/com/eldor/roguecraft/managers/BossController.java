@@ -0,0 +1,194 @@
+package com.eldor.roguecraft.managers;
+
+import com.eldor.roguecraft.RoguecraftPlugin;
+import org.bukkit.Bukkit;
+import org.bukkit.Color;
+import org.bukkit.Location;
+import org.bukkit.Particle;
+import org.bukkit.World;
+import org.bukkit.entity.LivingEntity;
+import org.bukkit.entity.Mob;
+import org.bukkit.entity.Player;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.*;
+import java.util.function.Supplier;
+
+/**
+ * Drives every boss and legendary mob of one run from a single task.
+ * Each entry gets a phase offset so targeting and particles are staggered across ticks instead of
+ * all firing together, targeting uses squared distances, and all cosmetic particles share a per-tick budget.
+ * The task only runs while the run has bosses or legendaries alive; nothing is stored in entity metadata.
+ */
+public class BossController {
+    private static final int TARGET_INTERVAL = 40; // Ticks between boss retargets (2 seconds)
+    private static final int BOSS_PARTICLE_INTERVAL = 10; // Red ring every 0.5 seconds
+    private static final int LEGENDARY_PARTICLE_INTERVAL = 6; // Golden glow every 0.3 seconds
+    private static final double TARGET_RANGE_SQUARED = 100.0 * 100.0; // Only pull aggro within 100 blocks
+    private static final Particle.DustOptions BOSS_DUST = new Particle.DustOptions(Color.RED, 1.0f);
+    private static final Particle.DustOptions GOLD_DUST = new Particle.DustOptions(Color.fromRGB(255, 215, 0), 1.2f);
+    private static final Particle.DustOptions YELLOW_DUST = new Particle.DustOptions(Color.fromRGB(255, 255, 0), 1.2f);
+    private static final Particle.DustOptions GOLD_AURA_DUST = new Particle.DustOptions(Color.fromRGB(255, 215, 0), 1.5f);
+
+    private final RoguecraftPlugin plugin;
+    private final Supplier<List<Player>> players; // The run's current players
+    private final List<Entry> entries;
+    private final Random random;
+    private final int particleBudget; // Particles per tick shared by every entry
+    private BukkitTask task;
+    private int tick;
+    private int nextPhase; // Spreads entries across the interval as they're added
+
+    public BossController(RoguecraftPlugin plugin, Supplier<List<Player>> players) {
+        this.plugin = plugin;
+        this.players = players;
+        this.entries = new ArrayList<>();
+        this.random = new Random();
+        this.particleBudget = plugin.getConfigManager().getMainConfig().getInt("effects.boss-particle-budget-per-tick", 48);
+    }
+
+    /**
+     * Track a boss: keeps it targeting the nearest player and draws its red particle ring.
+     * Targets immediately so a fresh spawn doesn't idle until the next pass.
+     */
+    public void addBoss(LivingEntity boss) {
+        if (add(boss, true)) {
+            retarget(boss);
+        }
+    }
+
+    /**
+     * Track a legendary mob for its golden glow
+     */
+    public void addLegendary(LivingEntity legendary) {
+        add(legendary, false);
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private boolean add(LivingEntity entity, boolean boss) {
+        if (entity == null || entity.isDead()) {
+            return false;
+        }
+        entries.add(new Entry(entity, boss, nextPhase));
+        nextPhase = (nextPhase + 7) % TARGET_INTERVAL; // Odd step so phases also spread over the shorter particle intervals
+        if (task == null) {
+            task = Bukkit.getScheduler().runTaskTimer(plugin, this::tick, 1L, 1L);
+        }
+        return true;
+    }
+
+    private void tick() {
+        tick++;
+        int budget = particleBudget; // Not quality-scaled here: the FxEmitter scales its per-player budget already
+
+        Iterator<Entry> it = entries.iterator();
+        while (it.hasNext()) {
+            Entry entry = it.next();
+            LivingEntity entity = entry.entity;
+            if (entity.isDead() || !entity.isValid()) {
+                it.remove();
+                continue;
+            }
+
+            int phaseTick = tick + entry.phase;
+            if (entry.boss) {
+                if (phaseTick % TARGET_INTERVAL == 0) {
+                    retarget(entity);
+                }
+                if (phaseTick % BOSS_PARTICLE_INTERVAL == 0 && budget >= 8) {
+                    budget -= drawBossRing(entity);
+                }
+            } else if (phaseTick % LEGENDARY_PARTICLE_INTERVAL == 0 && budget >= 16) {
+                budget -= drawLegendaryGlow(entity);
+            }
+        }
+
+        if (entries.isEmpty()) {
+            stop();
+        }
+    }
+
+    /**
+     * Point a boss at the nearest living player in range
+     */
+    private void retarget(LivingEntity boss) {
+        if (!(boss instanceof Mob)) {
+            return;
+        }
+        Location bossLoc = boss.getLocation();
+        World world = bossLoc.getWorld();
+        Player nearestPlayer = null;
+        double nearestDistSquared = TARGET_RANGE_SQUARED;
+        for (Player player : players.get()) {
+            if (player == null || !player.isOnline() || player.isDead() || player.getWorld() != world) {
+                continue;
+            }
+            double distSquared = player.getLocation().distanceSquared(bossLoc);
+            if (distSquared < nearestDistSquared) {
+                nearestDistSquared = distSquared;
+                nearestPlayer = player;
+            }
+        }
+        if (nearestPlayer != null) {
+            ((Mob) boss).setTarget(nearestPlayer);
+        }
+    }
+
+    private int drawBossRing(LivingEntity boss) {
+        Location loc = boss.getLocation();
+        World world = loc.getWorld();
+        FxEmitter fx = plugin.getFxEmitter();
+        for (int i = 0; i < 8; i++) {
+            double angle = (i * Math.PI * 2) / 8;
+            fx.particle(Particle.DUST, new Location(world, loc.getX() + Math.cos(angle) * 1.5, loc.getY() + 1.0,
+                loc.getZ() + Math.sin(angle) * 1.5), 1, BOSS_DUST);
+        }
+        return 8;
+    }
+
+    private int drawLegendaryGlow(LivingEntity legendary) {
+        Location loc = legendary.getLocation();
+        World world = loc.getWorld();
+        FxEmitter fx = plugin.getFxEmitter();
+        // Golden aura around the mob, mostly gold with some bright yellow
+        for (int i = 0; i < 12; i++) {
+            double angle = (i * Math.PI * 2) / 12;
+            double radius = 1.0 + random.nextDouble() * 0.4; // Slight variation in radius
+            double y = loc.getY() + 0.5 + random.nextDouble(); // Vary height
+            fx.particle(Particle.DUST, new Location(world, loc.getX() + Math.cos(angle) * radius, y, loc.getZ() + Math.sin(angle) * radius),
+                1, random.nextDouble() < 0.7 ? GOLD_DUST : YELLOW_DUST);
+        }
+        // A few above the mob
+        for (int i = 0; i < 4; i++) {
+            fx.particle(Particle.DUST, new Location(world, loc.getX() + (random.nextDouble() - 0.5) * 0.8, loc.getY() + 1.5,
+                loc.getZ() + (random.nextDouble() - 0.5) * 0.8), 1, GOLD_AURA_DUST);
+        }
+        return 16;
+    }
+
+    /**
+     * Stop the task and forget every entry (run end). Entities themselves are removed by arena cleanup.
+     */
+    public void stop() {
+        if (task != null) {
+            task.cancel();
+            task = null;
+        }
+        entries.clear();
+    }
+
+    private static final class Entry {
+        private final LivingEntity entity;
+        private final boolean boss; // Boss (targeting + red ring) or legendary (golden glow)
+        private final int phase;
+
+        private Entry(LivingEntity entity, boolean boss, int phase) {
+            this.entity = entity;
+            this.boss = boss;
+            this.phase = phase;
+        }
+    }
+}
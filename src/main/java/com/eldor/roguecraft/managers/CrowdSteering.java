@@ -0,0 +1,327 @@
+package com.eldor.roguecraft.managers;
+
+import com.eldor.roguecraft.RoguecraftPlugin;
+import com.eldor.roguecraft.models.MobRegistry;
+import com.eldor.roguecraft.util.ArenaSurfaceMap;
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.attribute.Attribute;
+import org.bukkit.attribute.AttributeInstance;
+import org.bukkit.entity.Blaze;
+import org.bukkit.entity.Flying;
+import org.bukkit.entity.LivingEntity;
+import org.bukkit.entity.Mob;
+import org.bukkit.entity.Player;
+import org.bukkit.entity.Vex;
+import org.bukkit.scheduler.BukkitTask;
+import org.bukkit.util.Vector;
+
+import java.util.*;
+import java.util.function.Supplier;
+
+/**
+ * Optional crowd steering for a run's wave mobs (crowd-steering.enabled).
+ * A flow field over the arena's surface columns holds each column's walking distance to the nearest player.
+ * Mobs far from every player have their vanilla AI set unaware and are pushed down the field instead of
+ * pathfinding; once a mob gets close it is handed back to vanilla AI with the nearest player as its target.
+ * Elites, bosses, legendaries and flying mobs always keep full vanilla pathfinding.
+ * The field is rebuilt when a player moves to another column, a fixed number of columns per tick.
+ */
+public class CrowdSteering {
+    private static final int UNREACHED = Integer.MAX_VALUE;
+    private static final int[] STEP_X = {1, -1, 0, 0, 1, 1, -1, -1};
+    private static final int[] STEP_Z = {0, 0, 1, -1, 1, -1, 1, -1};
+    private static final int STATS_INTERVAL = 600; // Log timing every 30 seconds
+
+    private final RoguecraftPlugin plugin;
+    private final ArenaSurfaceMap surface;
+    private final World world;
+    private final Supplier<List<Player>> players; // The run's current players
+    private final MobRegistry registry;
+    private final int size;
+    private int[] field; // Last complete field: steps from each column to the nearest player
+    private int[] building; // Field being rebuilt, swapped in when finished
+    private final int[] queue; // Breadth-first frontier for the rebuild
+    private int queueHead;
+    private int queueTail;
+    private boolean rebuilding;
+    private int[] sources; // Player columns the current field was built from
+    private final Set<LivingEntity> steered; // Mobs currently set unaware and driven by the field
+    private final int cellsPerTick;
+    private final int steerInterval;
+    private final double nearRadiusSquared;
+    private final double pushStrength;
+    private final boolean reportTimings; // Log the timing line at INFO instead of FINE
+    private BukkitTask task;
+    private int tick;
+    private long totalNanos;
+    private int rebuilds;
+
+    public CrowdSteering(RoguecraftPlugin plugin, ArenaSurfaceMap surface, World world, Supplier<List<Player>> players, MobRegistry registry) {
+        this.plugin = plugin;
+        this.surface = surface;
+        this.world = world;
+        this.players = players;
+        this.registry = registry;
+        this.size = surface.getSize();
+        this.field = new int[size * size];
+        this.building = new int[size * size];
+        this.queue = new int[size * size];
+        this.sources = new int[0];
+        this.steered = new HashSet<>();
+        Arrays.fill(field, UNREACHED);
+
+        org.bukkit.configuration.file.FileConfiguration config = plugin.getConfigManager().getMainConfig();
+        this.cellsPerTick = Math.max(64, config.getInt("crowd-steering.cells-per-tick", 2048));
+        this.steerInterval = Math.max(1, config.getInt("crowd-steering.steer-interval-ticks", 4));
+        double nearRadius = config.getDouble("crowd-steering.near-radius", 12.0);
+        this.nearRadiusSquared = nearRadius * nearRadius;
+        this.pushStrength = config.getDouble("crowd-steering.push-strength", 1.6);
+        this.reportTimings = config.getBoolean("crowd-steering.report-timings", false);
+    }
+
+    public void start() {
+        if (task == null) {
+            task = Bukkit.getScheduler().runTaskTimer(plugin, this::tick, 1L, 1L);
+        }
+    }
+
+    private void tick() {
+        long start = System.nanoTime();
+        tick++;
+
+        int[] current = playerColumns();
+        if (!Arrays.equals(current, sources) && !rebuilding) {
+            beginRebuild(current);
+        }
+        if (rebuilding) {
+            continueRebuild();
+        }
+
+        // Frozen mobs have no AI to steer; their velocity must stay zero
+        if (!registry.isFrozen()) {
+            steer(tick % steerInterval);
+        }
+
+        totalNanos += System.nanoTime() - start;
+        if (tick % STATS_INTERVAL == 0) {
+            steered.removeIf(mob -> !mob.isValid()); // Dead mobs never come back through release()
+            String stats = "[Crowd] " + (totalNanos / STATS_INTERVAL / 1000L) + "us/tick average, " + steered.size() +
+                " of " + registry.size() + " mobs steered, " + rebuilds + " field rebuilds";
+            double mspt = plugin.getQualityGovernor().getMspt();
+            if (mspt > 0) {
+                stats += ", server " + String.format("%.1f", mspt) + " mspt";
+            }
+            if (reportTimings) {
+                plugin.getLogger().info(stats);
+            } else {
+                plugin.getLogger().fine(stats);
+            }
+            totalNanos = 0L;
+            rebuilds = 0;
+        }
+    }
+
+    /**
+     * Sorted column indices of every living player standing inside the arena
+     */
+    private int[] playerColumns() {
+        List<Player> current = players.get();
+        int[] columns = new int[current.size()];
+        int count = 0;
+        for (Player player : current) {
+            if (player == null || !player.isOnline() || player.isDead() || player.getWorld() != world) {
+                continue;
+            }
+            int index = columnIndex(player.getLocation().getBlockX(), player.getLocation().getBlockZ());
+            if (index >= 0) {
+                columns[count++] = index;
+            }
+        }
+        int[] result = Arrays.copyOf(columns, count);
+        Arrays.sort(result);
+        return result;
+    }
+
+    private void beginRebuild(int[] newSources) {
+        sources = newSources;
+        Arrays.fill(building, UNREACHED);
+        queueHead = 0;
+        queueTail = 0;
+        for (int index : newSources) {
+            if (building[index] == UNREACHED) {
+                building[index] = 0;
+                queue[queueTail++] = index;
+            }
+        }
+        rebuilding = true;
+    }
+
+    /**
+     * Expand the breadth-first search by up to the per-tick column budget, swapping the field in when done.
+     * Neighbouring columns connect when both have a surface inside the arena and differ by at most one block.
+     */
+    private void continueRebuild() {
+        int expanded = 0;
+        while (queueHead < queueTail && expanded < cellsPerTick) {
+            int index = queue[queueHead++];
+            int x = surface.getMinX() + index / size;
+            int z = surface.getMinZ() + index % size;
+            int y = surface.getSurfaceY(x, z);
+            int distance = building[index];
+            for (int i = 0; i < STEP_X.length; i++) {
+                int nx = x + STEP_X[i];
+                int nz = z + STEP_Z[i];
+                int next = columnIndex(nx, nz);
+                if (next < 0 || building[next] != UNREACHED) {
+                    continue;
+                }
+                int ny = surface.getSurfaceY(nx, nz);
+                if (ny == ArenaSurfaceMap.NO_SURFACE || y == ArenaSurfaceMap.NO_SURFACE || Math.abs(ny - y) > 1) {
+                    continue;
+                }
+                building[next] = distance + 1;
+                queue[queueTail++] = next;
+            }
+            expanded++;
+        }
+
+        if (queueHead >= queueTail) {
+            int[] finished = building;
+            building = field;
+            field = finished;
+            rebuilding = false;
+            rebuilds++;
+        }
+    }
+
+    /**
+     * Handle this tick's slice of the run's mobs (each mob is visited once per steer interval)
+     */
+    private void steer(int slice) {
+        List<Player> targets = players.get();
+        int i = 0;
+        for (LivingEntity entity : registry.getMobs()) {
+            if (i++ % steerInterval != slice) {
+                continue;
+            }
+            if (!(entity instanceof Mob) || entity.isDead() || !entity.isValid() || !isSteerable(entity)) {
+                continue;
+            }
+            Mob mob = (Mob) entity;
+            Location loc = mob.getLocation();
+
+            Player nearest = null;
+            double nearestDistSquared = Double.MAX_VALUE;
+            for (Player player : targets) {
+                if (player == null || !player.isOnline() || player.isDead() || player.getWorld() != world) {
+                    continue;
+                }
+                double distSquared = player.getLocation().distanceSquared(loc);
+                if (distSquared < nearestDistSquared) {
+                    nearestDistSquared = distSquared;
+                    nearest = player;
+                }
+            }
+
+            if (nearest == null || nearestDistSquared <= nearRadiusSquared || !push(mob, loc)) {
+                // Close enough for vanilla pathfinding (or off the field) - hand back to the AI with a fresh target
+                release(mob);
+                if (nearest != null && mob.getTarget() != nearest) {
+                    mob.setTarget(nearest);
+                }
+            }
+        }
+    }
+
+    /**
+     * Push a mob toward the neighbouring column closest to a player
+     * @return false if the mob isn't on a reachable column, so it should pathfind normally
+     */
+    private boolean push(Mob mob, Location loc) {
+        int x = loc.getBlockX();
+        int z = loc.getBlockZ();
+        int index = columnIndex(x, z);
+        if (index < 0 || field[index] == UNREACHED) {
+            return false;
+        }
+
+        int bestDistance = field[index];
+        int bestStep = -1;
+        for (int i = 0; i < STEP_X.length; i++) {
+            int next = columnIndex(x + STEP_X[i], z + STEP_Z[i]);
+            if (next >= 0 && field[next] < bestDistance) {
+                bestDistance = field[next];
+                bestStep = i;
+            }
+        }
+        if (bestStep < 0) {
+            return false; // Already on a player's column
+        }
+
+        // Aim at the middle of the next column
+        double dx = x + STEP_X[bestStep] + 0.5 - loc.getX();
+        double dz = z + STEP_Z[bestStep] + 0.5 - loc.getZ();
+        double length = Math.sqrt(dx * dx + dz * dz);
+        if (length < 0.01) {
+            return false;
+        }
+
+        if (steered.add(mob)) {
+            mob.setAware(false); // Stops goal selection and pathfinding; physics still apply
+        }
+        AttributeInstance speedAttribute = mob.getAttribute(Attribute.GENERIC_MOVEMENT_SPEED);
+        double speed = (speedAttribute != null ? speedAttribute.getValue() : 0.23) * pushStrength;
+        Vector velocity = mob.getVelocity();
+        velocity.setX(dx / length * speed);
+        velocity.setZ(dz / length * speed);
+        int nextY = surface.getSurfaceY(x + STEP_X[bestStep], z + STEP_Z[bestStep]);
+        if (mob.isOnGround() && nextY != ArenaSurfaceMap.NO_SURFACE && nextY > loc.getBlockY()) {
+            velocity.setY(0.42); // Vanilla jump velocity for a one-block step
+        }
+        mob.setVelocity(velocity);
+        mob.setRotation((float) Math.toDegrees(Math.atan2(-dx, dz)), loc.getPitch());
+        return true;
+    }
+
+    /**
+     * Elites, bosses, legendaries and flyers keep full pathfinding
+     */
+    private boolean isSteerable(LivingEntity entity) {
+        return !(entity instanceof Flying || entity instanceof Vex || entity instanceof Blaze) &&
+            !entity.hasMetadata("is_elite") && !entity.hasMetadata("roguecraft_boss") &&
+            !entity.hasMetadata("roguecraft_elite_boss") && !entity.hasMetadata("roguecraft_legendary");
+    }
+
+    private void release(Mob mob) {
+        if (steered.remove(mob)) {
+            mob.setAware(true);
+        }
+    }
+
+    private int columnIndex(int x, int z) {
+        int lx = x - surface.getMinX();
+        int lz = z - surface.getMinZ();
+        if (lx < 0 || lz < 0 || lx >= size || lz >= size || !surface.inDisk(x + 0.5, z + 0.5)) {
+            return -1;
+        }
+        return lx * size + lz;
+    }
+
+    /**
+     * Stop steering and hand every steered mob back to vanilla AI (run end)
+     */
+    public void stop() {
+        if (task != null) {
+            task.cancel();
+            task = null;
+        }
+        for (LivingEntity mob : steered) {
+            if (mob.isValid()) {
+                ((Mob) mob).setAware(true);
+            }
+        }
+        steered.clear();
+    }
+}
@@ -0,0 +1,124 @@
+package com.eldor.roguecraft.managers;
+
+import com.eldor.roguecraft.RoguecraftPlugin;
+import com.eldor.roguecraft.models.DamageLedger;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.LivingEntity;
+import org.bukkit.entity.Player;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Owns the per-run damage ledgers used for kill attribution and per-weapon stats
+ */
+public class DamageLedgerManager {
+    private final RoguecraftPlugin plugin;
+    private final Map<UUID, DamageLedger> ledgers; // Run ID -> ledger
+    private DamageLedger[] activeLedgers; // Snapshot of ledgers.values() for allocation-free lookups
+    private int ledgerSize;
+    private long creditWindowTicks;
+
+    public DamageLedgerManager(RoguecraftPlugin plugin) {
+        this.plugin = plugin;
+        this.ledgers = new HashMap<>();
+        this.activeLedgers = new DamageLedger[0];
+        loadSettings();
+    }
+
+    private void loadSettings() {
+        this.ledgerSize = plugin.getConfigManager().getMainConfig().getInt("combat.ledger-size", 1024);
+        this.creditWindowTicks = plugin.getConfigManager().getMainConfig().getLong("combat.kill-credit-window-ticks", 100L);
+    }
+
+    public void reload() {
+        loadSettings();
+    }
+
+    /**
+     * Hit timestamps use the RunClock tick
+     */
+    public long getCurrentTick() {
+        return plugin.getRunClock().getTick();
+    }
+
+    /**
+     * Create the ledger for a run (no-op if it already exists)
+     */
+    public void startLedger(UUID runId) {
+        if (runId == null || ledgers.containsKey(runId)) {
+            return;
+        }
+        ledgers.put(runId, new DamageLedger(ledgerSize));
+        activeLedgers = ledgers.values().toArray(new DamageLedger[0]);
+    }
+
+    /**
+     * Remove a run's ledger once its stats have been reported
+     */
+    public void stopLedger(UUID runId) {
+        if (ledgers.remove(runId) != null) {
+            activeLedgers = ledgers.values().toArray(new DamageLedger[0]);
+        }
+    }
+
+    public DamageLedger getLedger(UUID runId) {
+        return runId != null ? ledgers.get(runId) : null;
+    }
+
+    /**
+     * Record a plugin-originated hit against a mob
+     */
+    public void recordHit(UUID runId, Player attacker, LivingEntity victim, int source, double damage) {
+        DamageLedger ledger = getLedger(runId);
+        if (ledger == null || attacker == null || victim == null || victim instanceof Player) {
+            return;
+        }
+        ledger.record(victim.getUniqueId(), attacker.getUniqueId(), source, getCurrentTick(), damage);
+    }
+
+    /**
+     * Attribute a death to the last player who hit the victim within the credit window.
+     * The kill is counted towards that hit's source.
+     * @param directKiller killer reported by Bukkit, or null
+     * @return the credited player (directKiller if set), or null if nobody gets credit
+     */
+    public Player attributeKill(LivingEntity victim, Player directKiller) {
+        UUID victimId = victim.getUniqueId();
+        DamageLedger[] snapshot = activeLedgers;
+        for (int i = 0; i < snapshot.length; i++) {
+            DamageLedger ledger = snapshot[i];
+            int slot = ledger.findCredit(victimId, getCurrentTick(), creditWindowTicks);
+            if (slot < 0) {
+                ledger.forget(victimId);
+                continue;
+            }
+
+            UUID attackerId = ledger.getAttacker(slot);
+            if (directKiller != null) {
+                if (attackerId.equals(directKiller.getUniqueId())) {
+                    ledger.recordKill(slot);
+                    return directKiller;
+                }
+                ledger.forget(victimId);
+                continue;
+            }
+
+            Player attacker = Bukkit.getPlayer(attackerId);
+            ledger.recordKill(slot);
+            if (attacker != null && attacker.isOnline()) {
+                return attacker;
+            }
+        }
+        return directKiller;
+    }
+
+    /**
+     * Cleanup all ledgers
+     */
+    public void cleanup() {
+        ledgers.clear();
+        activeLedgers = new DamageLedger[0];
+    }
+}
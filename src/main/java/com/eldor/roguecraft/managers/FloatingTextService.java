@@ -0,0 +1,255 @@
+package com.eldor.roguecraft.managers;
+
+import com.eldor.roguecraft.RoguecraftPlugin;
+import org.bukkit.Bukkit;
+import org.bukkit.ChatColor;
+import org.bukkit.Color;
+import org.bukkit.Location;
+import org.bukkit.entity.Display;
+import org.bukkit.entity.Player;
+import org.bukkit.entity.TextDisplay;
+import org.bukkit.scheduler.BukkitTask;
+import org.bukkit.util.Transformation;
+import org.joml.AxisAngle4f;
+import org.joml.Vector3f;
+
+import java.util.*;
+
+/**
+ * "+gold" and "+XP" popups above players.
+ * Gains are summed per player over effects.floating-text-window-ticks and shown as one popup. Popups are
+ * TextDisplays from a small per-player pool: a finished popup is hidden and reused for the next one instead of
+ * spawning and removing an entity each time, and the rise is a client-side interpolated transformation rather
+ * than a teleport per tick. A player's pool is removed when their run ends or they quit (releasePlayer).
+ */
+public class FloatingTextService {
+    /**
+     * Kinds of popup: text color stages (fading), lifetime and height above the player
+     */
+    public enum Channel {
+        GOLD("💰 +%d gold", 40, 0.55f, ChatColor.GOLD, ChatColor.GOLD, ChatColor.GOLD),
+        XP("✨ +%d XP", 60, 0.3f, ChatColor.GREEN, ChatColor.YELLOW, ChatColor.GRAY);
+
+        private final String format;
+        private final int lifetime;
+        private final float height;
+        private final ChatColor[] stages; // Color for each third of the lifetime
+
+        Channel(String format, int lifetime, float height, ChatColor... stages) {
+            this.format = format;
+            this.lifetime = lifetime;
+            this.height = height;
+            this.stages = stages;
+        }
+    }
+
+    private static final float RISE = 1.5f; // Blocks a popup rises over its lifetime
+
+    private final RoguecraftPlugin plugin;
+    private final Map<UUID, PlayerTexts> players;
+    private final int window; // Ticks gains are summed before a popup
+    private final int poolSize; // TextDisplays kept per player
+    private BukkitTask tickTask; // Only runs while a popup is pending or showing
+
+    public FloatingTextService(RoguecraftPlugin plugin) {
+        this.plugin = plugin;
+        this.players = new HashMap<>();
+        org.bukkit.configuration.file.FileConfiguration config = plugin.getConfigManager().getMainConfig();
+        this.window = Math.max(1, config.getInt("effects.floating-text-window-ticks", 10));
+        this.poolSize = Math.max(1, config.getInt("effects.floating-text-pool", 3));
+    }
+
+    /**
+     * Add gold to the player's next gold popup
+     */
+    public void addGold(Player player, int amount) {
+        add(player, Channel.GOLD, amount);
+    }
+
+    /**
+     * Add XP to the player's next XP popup
+     */
+    public void addXp(Player player, int amount) {
+        add(player, Channel.XP, amount);
+    }
+
+    private void add(Player player, Channel channel, int amount) {
+        if (amount <= 0 || player == null || !player.isOnline()) {
+            return;
+        }
+        PlayerTexts texts = players.get(player.getUniqueId());
+        if (texts == null) {
+            texts = new PlayerTexts();
+            players.put(player.getUniqueId(), texts);
+        }
+        int index = channel.ordinal();
+        if (texts.pending[index] == 0) {
+            texts.windowLeft[index] = window; // First gain opens the window
+        }
+        texts.pending[index] += amount;
+        if (tickTask == null && plugin.isEnabled()) {
+            tickTask = Bukkit.getScheduler().runTaskTimer(plugin, this::tick, 1L, 1L);
+        }
+    }
+
+    private void tick() {
+        boolean busy = false;
+        Iterator<Map.Entry<UUID, PlayerTexts>> iterator = players.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<UUID, PlayerTexts> entry = iterator.next();
+            Player player = Bukkit.getPlayer(entry.getKey());
+            PlayerTexts texts = entry.getValue();
+            if (player == null || !player.isOnline()) {
+                texts.removeAll();
+                iterator.remove();
+                continue;
+            }
+            for (Channel channel : Channel.values()) {
+                int index = channel.ordinal();
+                if (texts.pending[index] > 0 && --texts.windowLeft[index] <= 0) {
+                    show(player, texts, channel, texts.pending[index]);
+                    texts.pending[index] = 0;
+                }
+                busy |= texts.pending[index] > 0;
+            }
+            for (Popup popup : texts.pool) {
+                if (popup.age < 0) {
+                    continue;
+                }
+                busy = true;
+                if (popup.shownThisTick) {
+                    // Let the snap-down reach clients on its own tick, the rise starts next tick
+                    popup.shownThisTick = false;
+                    continue;
+                }
+                popup.age++;
+                if (popup.age == 1) {
+                    // Reset went out last tick - now interpolate the rise on the client
+                    popup.display.setInterpolationDelay(0);
+                    popup.display.setInterpolationDuration(popup.channel.lifetime);
+                    popup.display.setTransformation(transformation(RISE));
+                }
+                int stage = Math.min(2, popup.age * 3 / popup.channel.lifetime);
+                if (stage != popup.stage) {
+                    popup.stage = stage;
+                    popup.display.setText(popup.channel.stages[stage] + "" + ChatColor.BOLD + popup.text);
+                }
+                if (popup.age >= popup.channel.lifetime) {
+                    popup.display.setText(""); // Hidden until reused
+                    popup.age = -1;
+                }
+            }
+        }
+        if (!busy) {
+            tickTask.cancel();
+            tickTask = null;
+        }
+    }
+
+    private void show(Player player, PlayerTexts texts, Channel channel, int amount) {
+        Location loc = player.getLocation().add(0, channel.height, 0);
+        Popup popup = texts.acquire(loc, poolSize);
+        if (popup.display == null || !popup.display.isValid() || popup.display.getWorld() != loc.getWorld()) {
+            if (popup.display != null) {
+                popup.display.remove();
+            }
+            popup.display = spawn(loc);
+        } else {
+            popup.display.teleport(loc);
+        }
+        popup.channel = channel;
+        popup.text = String.format(channel.format, amount);
+        popup.age = 0;
+        popup.stage = 0;
+        popup.shownThisTick = true;
+        popup.display.setText(channel.stages[0] + "" + ChatColor.BOLD + popup.text);
+        popup.display.setInterpolationDuration(0);
+        popup.display.setTransformation(transformation(0.0f)); // Snap back down before the next rise
+
+        // Add particles around the text for extra visibility
+        plugin.getFxEmitter().particle(org.bukkit.Particle.HAPPY_VILLAGER, loc, 5, 0.3, 0.3, 0.3, 0.1);
+    }
+
+    private TextDisplay spawn(Location loc) {
+        return loc.getWorld().spawn(loc, TextDisplay.class, display -> {
+            display.setPersistent(false);
+            display.setBillboard(Display.Billboard.CENTER);
+            display.setDefaultBackground(false);
+            display.setBackgroundColor(Color.fromARGB(0, 0, 0, 0));
+            display.setShadowed(true);
+            display.setText("");
+            // Add metadata to prevent mob naming system from interfering
+            display.setMetadata("roguecraft_xp_display", new org.bukkit.metadata.FixedMetadataValue(plugin, true));
+        });
+    }
+
+    private static Transformation transformation(float rise) {
+        return new Transformation(new Vector3f(0.0f, rise, 0.0f), new AxisAngle4f(), new Vector3f(1.0f, 1.0f, 1.0f), new AxisAngle4f());
+    }
+
+    /**
+     * Remove a player's popups and drop their pending gains (run end, quit)
+     */
+    public void releasePlayer(UUID playerId) {
+        PlayerTexts texts = players.remove(playerId);
+        if (texts != null) {
+            texts.removeAll();
+        }
+    }
+
+    public void cleanup() {
+        if (tickTask != null) {
+            tickTask.cancel();
+            tickTask = null;
+        }
+        for (PlayerTexts texts : players.values()) {
+            texts.removeAll();
+        }
+        players.clear();
+    }
+
+    private static final class PlayerTexts {
+        private final int[] pending = new int[Channel.values().length]; // Summed gains not shown yet
+        private final int[] windowLeft = new int[Channel.values().length]; // Ticks until they are shown
+        private final List<Popup> pool = new ArrayList<>();
+
+        /**
+         * A hidden popup, a new one while the pool has room, otherwise the oldest showing
+         */
+        private Popup acquire(Location loc, int poolSize) {
+            Popup oldest = null;
+            for (Popup popup : pool) {
+                if (popup.age < 0) {
+                    return popup;
+                }
+                if (oldest == null || popup.age > oldest.age) {
+                    oldest = popup;
+                }
+            }
+            if (pool.size() < poolSize || oldest == null) {
+                Popup popup = new Popup();
+                pool.add(popup);
+                return popup;
+            }
+            return oldest;
+        }
+
+        private void removeAll() {
+            for (Popup popup : pool) {
+                if (popup.display != null && popup.display.isValid()) {
+                    popup.display.remove();
+                }
+            }
+            pool.clear();
+        }
+    }
+
+    private static final class Popup {
+        private TextDisplay display;
+        private Channel channel;
+        private String text;
+        private int age = -1; // Ticks shown, -1 = hidden and free
+        private int stage;
+        private boolean shownThisTick; // Reset not sent to clients yet, hold the rise a tick
+    }
+}
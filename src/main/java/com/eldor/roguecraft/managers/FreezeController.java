@@ -0,0 +1,139 @@
+package com.eldor.roguecraft.managers;
+
+import com.eldor.roguecraft.RoguecraftPlugin;
+import com.eldor.roguecraft.models.TeamRun;
+import org.bukkit.Bukkit;
+import org.bukkit.NamespacedKey;
+import org.bukkit.attribute.Attribute;
+import org.bukkit.attribute.AttributeInstance;
+import org.bukkit.attribute.AttributeModifier;
+import org.bukkit.entity.Player;
+import org.bukkit.inventory.EquipmentSlotGroup;
+
+import java.util.*;
+
+/**
+ * Tracks which players are movement-locked because they (or a team member) have a GUI open.
+ * GUI open/close sites call refresh(); the move handler only checks isFrozen().
+ * Frozen players get zero movement speed and jump strength via attribute modifiers,
+ * so the client stops sending movement instead of every move being cancelled server-side.
+ */
+public class FreezeController {
+    private final RoguecraftPlugin plugin;
+    private final Set<UUID> frozenPlayers; // Players currently movement-locked
+    private final NamespacedKey freezeKey;
+    private final AttributeModifier speedLock;
+    private final AttributeModifier jumpLock;
+
+    public FreezeController(RoguecraftPlugin plugin) {
+        this.plugin = plugin;
+        this.frozenPlayers = new HashSet<>();
+        this.freezeKey = new NamespacedKey(plugin, "gui_freeze");
+        // MULTIPLY_SCALAR_1 with -1 scales the final value to 0 without touching base values set by stats
+        this.speedLock = new AttributeModifier(freezeKey, -1.0, AttributeModifier.Operation.MULTIPLY_SCALAR_1, EquipmentSlotGroup.ANY);
+        this.jumpLock = new AttributeModifier(freezeKey, -1.0, AttributeModifier.Operation.MULTIPLY_SCALAR_1, EquipmentSlotGroup.ANY);
+    }
+
+    /**
+     * Whether a player is movement-locked (single set lookup, safe to call per move event)
+     */
+    public boolean isFrozen(UUID playerId) {
+        return frozenPlayers.contains(playerId);
+    }
+
+    /**
+     * Recompute the freeze state after a GUI opened or closed for a player.
+     * In a team run, any member with a GUI open freezes the whole team.
+     */
+    public void refresh(UUID playerId) {
+        TeamRun teamRun = plugin.getRunManager().getTeamRun(playerId);
+        if (teamRun != null && teamRun.isActive()) {
+            refreshTeam(teamRun);
+            return;
+        }
+
+        Player player = Bukkit.getPlayer(playerId);
+        if (player != null) {
+            setFrozen(player, isInAnyGUI(playerId));
+        } else {
+            frozenPlayers.remove(playerId);
+        }
+    }
+
+    /**
+     * Recompute the freeze state for every member of a team run, and sync the run's mob freeze
+     */
+    public void refreshTeam(TeamRun teamRun) {
+        boolean teamFrozen = teamRun.hasAnyPlayerInGUI();
+        plugin.getGameManager().updateMobFreeze(teamRun);
+        for (Player member : teamRun.getPlayers()) {
+            if (member != null) {
+                setFrozen(member, teamFrozen || isInAnyGUI(member.getUniqueId()));
+            }
+        }
+    }
+    
+    /**
+     * Unfreeze a player unconditionally (quit, run end) and strip any stale lock modifiers
+     */
+    public void release(Player player) {
+        frozenPlayers.remove(player.getUniqueId());
+        removeLock(player);
+    }
+
+    private boolean isInAnyGUI(UUID playerId) {
+        return plugin.getGuiManager().isPlayerInGUI(playerId) ||
+            plugin.getShrineManager().isPlayerInShrineGUI(playerId);
+    }
+
+    private void setFrozen(Player player, boolean frozen) {
+        if (frozen) {
+            if (frozenPlayers.add(player.getUniqueId())) {
+                applyLock(player);
+            }
+        } else if (frozenPlayers.remove(player.getUniqueId())) {
+            removeLock(player);
+        }
+    }
+
+    private void applyLock(Player player) {
+        removeLock(player); // Never stack modifiers with the same key
+        AttributeInstance speed = player.getAttribute(Attribute.GENERIC_MOVEMENT_SPEED);
+        if (speed != null) {
+            speed.addModifier(speedLock);
+        }
+        AttributeInstance jump = player.getAttribute(Attribute.GENERIC_JUMP_STRENGTH);
+        if (jump != null) {
+            jump.addModifier(jumpLock);
+        }
+    }
+
+    private void removeLock(Player player) {
+        removeModifier(player.getAttribute(Attribute.GENERIC_MOVEMENT_SPEED));
+        removeModifier(player.getAttribute(Attribute.GENERIC_JUMP_STRENGTH));
+    }
+
+    private void removeModifier(AttributeInstance instance) {
+        if (instance == null) {
+            return;
+        }
+        for (AttributeModifier modifier : new ArrayList<>(instance.getModifiers())) {
+            if (freezeKey.equals(modifier.getKey())) {
+                instance.removeModifier(modifier);
+            }
+        }
+    }
+
+    /**
+     * Unfreeze everyone (plugin disable)
+     */
+    public void cleanup() {
+        for (UUID playerId : new ArrayList<>(frozenPlayers)) {
+            Player player = Bukkit.getPlayer(playerId);
+            if (player != null) {
+                removeLock(player);
+            }
+        }
+        frozenPlayers.clear();
+    }
+}
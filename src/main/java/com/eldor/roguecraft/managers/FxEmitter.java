@@ -0,0 +1,262 @@
+package com.eldor.roguecraft.managers;
+
+import com.eldor.roguecraft.RoguecraftPlugin;
+import com.eldor.roguecraft.models.Arena;
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.Particle;
+import org.bukkit.Sound;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.*;
+import java.util.function.Supplier;
+
+/**
+ * Sends every cosmetic particle and sound through one place.
+ * Requests made during a tick are collected and flushed together on the next tick: identical requests at the
+ * same spot are merged, each request only goes to viewers within view distance, and every player has a packet
+ * budget per tick (scaled by the QualityGovernor). Viewers for an effect inside a run's arena are that run's
+ * players, resolved once per flush, instead of everyone in the world.
+ */
+public class FxEmitter {
+    private static final double CELL = 0.5; // Requests closer than this (per axis) at the same tick are merged
+
+    private final RoguecraftPlugin plugin;
+    private final LinkedHashMap<Request, Request> pending; // Merged requests in arrival order
+    private final Map<UUID, ViewerGroup> viewerGroups; // Run ID -> arena and players
+    private final double viewDistanceSquared;
+    private final int packetsPerPlayer; // Per-tick budget before quality scaling
+    private BukkitTask flushTask; // Only scheduled while requests are pending
+    private long droppedPackets; // Culled by budget since the last report
+
+    public FxEmitter(RoguecraftPlugin plugin) {
+        this.plugin = plugin;
+        this.pending = new LinkedHashMap<>();
+        this.viewerGroups = new HashMap<>();
+        double viewDistance = plugin.getConfigManager().getMainConfig().getDouble("effects.view-distance", 48.0);
+        this.viewDistanceSquared = viewDistance * viewDistance;
+        this.packetsPerPlayer = Math.max(1, plugin.getConfigManager().getMainConfig().getInt("effects.packets-per-player-per-tick", 64));
+    }
+
+    /**
+     * Send effects inside an arena to a run's players only (run start)
+     */
+    public void registerViewers(UUID runId, Arena arena, Supplier<List<Player>> players) {
+        if (runId == null || arena == null || arena.getCenter() == null) {
+            return;
+        }
+        viewerGroups.put(runId, new ViewerGroup(arena, players));
+    }
+
+    public void unregisterViewers(UUID runId) {
+        viewerGroups.remove(runId);
+    }
+
+    // Same shapes as World#spawnParticle
+
+    public void particle(Particle particle, Location location, int count) {
+        particle(particle, location, count, 0, 0, 0, 0, null);
+    }
+
+    public <T> void particle(Particle particle, Location location, int count, T data) {
+        particle(particle, location, count, 0, 0, 0, 0, data);
+    }
+
+    public void particle(Particle particle, Location location, int count, double offsetX, double offsetY, double offsetZ) {
+        particle(particle, location, count, offsetX, offsetY, offsetZ, 0, null);
+    }
+
+    public void particle(Particle particle, Location location, int count, double offsetX, double offsetY, double offsetZ, double extra) {
+        particle(particle, location, count, offsetX, offsetY, offsetZ, extra, null);
+    }
+
+    public <T> void particle(Particle particle, Location location, int count, double offsetX, double offsetY, double offsetZ,
+                             double extra, T data) {
+        if (location == null || location.getWorld() == null || count <= 0) {
+            return;
+        }
+        enqueue(new Request(null, null, particle, location, count, offsetX, offsetY, offsetZ, extra, data, 0f, 0f));
+    }
+
+    /**
+     * Particles for an explicit set of viewers (e.g. an arena outline shown to one team)
+     */
+    public void particle(Collection<? extends Player> viewers, Particle particle, Location location, int count,
+                         double offsetX, double offsetY, double offsetZ, double extra) {
+        if (location == null || location.getWorld() == null || count <= 0) {
+            return;
+        }
+        enqueue(new Request(viewers, null, particle, location, count, offsetX, offsetY, offsetZ, extra, null, 0f, 0f));
+    }
+
+    /**
+     * Same shape as World#playSound
+     */
+    public void sound(Location location, Sound sound, float volume, float pitch) {
+        if (location == null || location.getWorld() == null) {
+            return;
+        }
+        enqueue(new Request(null, sound, null, location, 1, 0, 0, 0, 0, null, volume, pitch));
+    }
+
+    private void enqueue(Request request) {
+        Request existing = pending.get(request);
+        if (existing != null) {
+            // Identical effect at the same spot this tick - one packet carries both
+            existing.count += request.count;
+            existing.volume = Math.max(existing.volume, request.volume);
+        } else {
+            pending.put(request, request);
+        }
+        if (flushTask == null && plugin.isEnabled()) {
+            flushTask = Bukkit.getScheduler().runTaskTimer(plugin, this::flush, 1L, 1L);
+        }
+    }
+
+    private void flush() {
+        if (pending.isEmpty()) {
+            flushTask.cancel();
+            flushTask = null;
+            return;
+        }
+
+        QualityGovernor quality = plugin.getQualityGovernor();
+        int budget = quality.scale(packetsPerPlayer);
+        Map<Player, int[]> sent = new HashMap<>(); // Packets sent per player this flush
+        Map<Player, Location> viewerLocations = new HashMap<>();
+        Map<ViewerGroup, List<Player>> groupPlayers = new HashMap<>(); // Each run's players, resolved once
+
+        for (Request request : pending.values()) {
+            Collection<? extends Player> viewers = request.viewers != null ? request.viewers : viewersFor(request.location, groupPlayers);
+            int count = request.sound == null ? quality.scale(request.count) : 0;
+            for (Player viewer : viewers) {
+                if (viewer == null || !viewer.isOnline() || viewer.getWorld() != request.location.getWorld()) {
+                    continue;
+                }
+                Location viewerLoc = viewerLocations.computeIfAbsent(viewer, Player::getLocation);
+                if (viewerLoc.distanceSquared(request.location) > viewDistanceSquared) {
+                    continue;
+                }
+                int[] packets = sent.computeIfAbsent(viewer, k -> new int[1]);
+                if (packets[0] >= budget) {
+                    droppedPackets++;
+                    continue;
+                }
+                packets[0]++;
+                if (request.sound != null) {
+                    viewer.playSound(request.location, request.sound, request.volume, request.pitch);
+                } else {
+                    viewer.spawnParticle(request.particle, request.location, count, request.offsetX, request.offsetY,
+                        request.offsetZ, request.extra, request.data);
+                }
+            }
+        }
+        pending.clear();
+
+        if (droppedPackets >= 1000) {
+            plugin.getLogger().fine("[Fx] Dropped " + droppedPackets + " effect packets over player budgets");
+            droppedPackets = 0;
+        }
+    }
+
+    /**
+     * Players of the run whose arena contains the location, or nearby players in the world if no run owns it
+     */
+    private Collection<? extends Player> viewersFor(Location location, Map<ViewerGroup, List<Player>> groupPlayers) {
+        for (ViewerGroup group : viewerGroups.values()) {
+            if (group.contains(location)) {
+                return groupPlayers.computeIfAbsent(group, g -> g.players.get());
+            }
+        }
+        return location.getWorld().getPlayers();
+    }
+
+    public void cleanup() {
+        if (flushTask != null) {
+            flushTask.cancel();
+            flushTask = null;
+        }
+        pending.clear();
+        viewerGroups.clear();
+    }
+
+    private static final class ViewerGroup {
+        private final World world;
+        private final double centerX;
+        private final double centerZ;
+        private final double radiusSquared;
+        private final Supplier<List<Player>> players;
+
+        private ViewerGroup(Arena arena, Supplier<List<Player>> players) {
+            Location center = arena.getCenter();
+            this.world = center.getWorld();
+            this.centerX = center.getX();
+            this.centerZ = center.getZ();
+            double radius = arena.getRadius() + 16.0; // Effects just outside the border still belong to the run
+            this.radiusSquared = radius * radius;
+            this.players = players;
+        }
+
+        private boolean contains(Location location) {
+            double dx = location.getX() - centerX;
+            double dz = location.getZ() - centerZ;
+            return location.getWorld() == world && dx * dx + dz * dz <= radiusSquared;
+        }
+    }
+
+    private static final class Request {
+        private final Collection<? extends Player> viewers; // Explicit viewers, or null to resolve by location
+        private final Sound sound; // Set for sounds, null for particles
+        private final Particle particle;
+        private final Location location;
+        private final long cellX;
+        private final long cellY;
+        private final long cellZ;
+        private int count;
+        private final double offsetX;
+        private final double offsetY;
+        private final double offsetZ;
+        private final double extra;
+        private final Object data;
+        private float volume;
+        private final float pitch;
+
+        private Request(Collection<? extends Player> viewers, Sound sound, Particle particle, Location location, int count,
+                        double offsetX, double offsetY, double offsetZ, double extra, Object data, float volume, float pitch) {
+            this.viewers = viewers;
+            this.sound = sound;
+            this.particle = particle;
+            this.location = location.clone();
+            this.cellX = (long) Math.floor(location.getX() / CELL);
+            this.cellY = (long) Math.floor(location.getY() / CELL);
+            this.cellZ = (long) Math.floor(location.getZ() / CELL);
+            this.count = count;
+            this.offsetX = offsetX;
+            this.offsetY = offsetY;
+            this.offsetZ = offsetZ;
+            this.extra = extra;
+            this.data = data;
+            this.volume = volume;
+            this.pitch = pitch;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Request)) return false;
+            Request other = (Request) o;
+            return cellX == other.cellX && cellY == other.cellY && cellZ == other.cellZ &&
+                location.getWorld() == other.location.getWorld() && viewers == other.viewers &&
+                sound == other.sound && particle == other.particle && pitch == other.pitch &&
+                offsetX == other.offsetX && offsetY == other.offsetY && offsetZ == other.offsetZ &&
+                extra == other.extra && Objects.equals(data, other.data);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(cellX, cellY, cellZ, sound, particle, offsetX, offsetY, offsetZ, extra, pitch);
+        }
+    }
+}
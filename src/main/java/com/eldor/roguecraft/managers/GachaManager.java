@@ -14,12 +14,6 @@ public class GachaManager {
     private final Map<String, GachaItem> items;
     private final Map<GachaItem.ItemRarity, List<GachaItem>> itemsByRarity;
     
-    // Roll probabilities (inspired by Megabonk)
-    private static final double COMMON_CHANCE = 0.50;      // 50%
-    private static final double UNCOMMON_CHANCE = 0.30;     // 30%
-    private static final double RARE_CHANCE = 0.15;         // 15%
-    private static final double LEGENDARY_CHANCE = 0.05;   // 5%
-    
     public GachaManager(RoguecraftPlugin plugin) {
         this.plugin = plugin;
         this.items = new HashMap<>();
@@ -213,48 +207,14 @@ public class GachaManager {
     /**
      * Perform a gacha roll and return a random item based on rarity probabilities
      * Luck stat affects the roll - higher luck increases chances for better rarities
+     * Rarity chances (inspired by Megabonk) come from rolls.gacha in balance.yml
      * 
      * @param luck The player's luck stat (1.0 = base, higher = better chances)
+     * @param random The run's roll stream (RollTables#getRandom)
      * @return A random gacha item
      */
-    public GachaItem roll(double luck) {
-        Random random = new Random();
-        double roll = random.nextDouble();
-        
-        // Calculate luck-adjusted probabilities
-        // Luck acts as a multiplier that shifts probability from common to higher rarities
-        // Base luck is 1.0, so at 1.0 luck we use base probabilities
-        // At 2.0 luck, we roughly double the chances for rare/legendary
-        // Cap luck effect at 3.0x to prevent it from being too overpowered
-        
-        double effectiveLuck = Math.min(luck, 3.0); // Cap at 3x
-        double luckMultiplier = (effectiveLuck - 1.0) * 0.5 + 1.0; // Scale from 1.0 to 2.0
-        
-        // Adjust probabilities based on luck
-        // Higher luck reduces common chance and increases higher rarity chances
-        double commonChance = COMMON_CHANCE / luckMultiplier;
-        double uncommonChance = UNCOMMON_CHANCE * luckMultiplier;
-        double rareChance = RARE_CHANCE * luckMultiplier;
-        double legendaryChance = LEGENDARY_CHANCE * luckMultiplier;
-        
-        // Normalize probabilities to ensure they sum to 1.0
-        double total = commonChance + uncommonChance + rareChance + legendaryChance;
-        commonChance /= total;
-        uncommonChance /= total;
-        rareChance /= total;
-        legendaryChance /= total;
-        
-        // Determine rarity based on adjusted probabilities
-        GachaItem.ItemRarity rarity;
-        if (roll < legendaryChance) {
-            rarity = GachaItem.ItemRarity.LEGENDARY;
-        } else if (roll < legendaryChance + rareChance) {
-            rarity = GachaItem.ItemRarity.RARE;
-        } else if (roll < legendaryChance + rareChance + uncommonChance) {
-            rarity = GachaItem.ItemRarity.UNCOMMON;
-        } else {
-            rarity = GachaItem.ItemRarity.COMMON;
-        }
+    public GachaItem roll(double luck, SplittableRandom random) {
+        GachaItem.ItemRarity rarity = plugin.getRollTables().rollGachaRarity(luck, random);
         
         // Get random item from that rarity
         List<GachaItem> rarityItems = itemsByRarity.get(rarity);
@@ -266,6 +226,13 @@ public class GachaManager {
         return rarityItems.get(random.nextInt(rarityItems.size()));
     }
     
+    /**
+     * Perform a gacha roll outside any run's stream
+     */
+    public GachaItem roll(double luck) {
+        return roll(luck, plugin.getRunRandom().getShared());
+    }
+    
     /**
      * Perform a gacha roll with base luck (1.0) - for backwards compatibility
      */
@@ -2,9 +2,12 @@ package com.eldor.roguecraft.managers;
 
 import com.eldor.roguecraft.RoguecraftPlugin;
 import com.eldor.roguecraft.models.Arena;
+import com.eldor.roguecraft.models.MobRegistry;
 import com.eldor.roguecraft.models.Run;
 import com.eldor.roguecraft.models.TeamRun;
 import com.eldor.roguecraft.models.Weapon;
+import com.eldor.roguecraft.util.ArenaSurfaceMap;
+import com.eldor.roguecraft.util.BlockExpiryMap;
 import net.md_5.bungee.api.ChatMessageType;
 import net.md_5.bungee.api.chat.TextComponent;
 import org.bukkit.Bukkit;
@@ -28,12 +31,14 @@ public class GameManager {
     private final Map<UUID, BukkitTask> jumpHeightTasks; // Jump height (slow falling) tasks
     private final Map<UUID, BukkitTask> healthDisplayTasks; // Health display for players
     private final Set<UUID> teamsInWeaponSelection; // Track players currently in weapon selection phase
-    private final Map<UUID, Set<LivingEntity>> frozenMobs; // Track frozen mobs per team run
-    private final Map<UUID, Long> timeFreezeEndTime; // Track when time freeze ends for each team run (for new spawns)
+    private final Map<UUID, MobRegistry> mobRegistries; // Spawned mobs and freeze state per team run
+    private final Map<UUID, BossController> bossControllers; // Boss/legendary targeting and particles per team run
+    private final Map<UUID, CrowdSteering> crowdSteerings; // Flow-field steering per team run (crowd-steering.enabled)
     private final Map<UUID, WorldBorderSettings> originalBorders; // Store original border settings per team
-    private final Set<Location> roguecraftSpawnLocations; // Track spawn locations for WorldGuard compatibility
-    private final Map<UUID, Long> lastDamageTime; // Track last damage time for regeneration proc system
+    private final Map<UUID, BlockExpiryMap> spawnMarks; // World UUID -> spawn blocks marked until a RunClock tick (WorldGuard compatibility)
+    private final Map<UUID, Long> lastDamageTick; // Track last damage tick (RunClock) for regeneration proc system
     private final Map<UUID, Integer> bossSpawnedWave; // Track which wave has spawned the boss for each team
+    private final Map<UUID, HordeStack> hordeStacks; // Entity UUID -> stacked horde mob (units left and owning run)
 
     public GameManager(RoguecraftPlugin plugin) {
         this.plugin = plugin;
@@ -43,40 +48,66 @@ public class GameManager {
         this.jumpHeightTasks = new HashMap<>();
         this.healthDisplayTasks = new HashMap<>();
         this.teamsInWeaponSelection = new HashSet<>();
-        this.frozenMobs = new HashMap<>();
-        this.timeFreezeEndTime = new HashMap<>();
+        this.mobRegistries = new HashMap<>();
+        this.bossControllers = new HashMap<>();
+        this.crowdSteerings = new HashMap<>();
         this.originalBorders = new HashMap<>();
-        this.roguecraftSpawnLocations = new HashSet<>();
-        this.lastDamageTime = new HashMap<>();
+        this.spawnMarks = new HashMap<>();
+        this.lastDamageTick = new HashMap<>();
         this.bossSpawnedWave = new HashMap<>();
+        this.hordeStacks = new HashMap<>();
+        
+        // Drop dead mobs from their run's registry
+        plugin.getRunEventBus().subscribeKill(org.bukkit.event.EventPriority.MONITOR, event -> unregisterMob(event.getEntity()));
+        // Respawn the rest of a horde stack after one of its units dies (rewards were handled as a normal kill)
+        plugin.getRunEventBus().subscribeKill(org.bukkit.event.EventPriority.MONITOR, event -> splitHordeStack(event.getEntity(), event.isNuked()));
     }
     
     /**
      * Check if a location is a Roguecraft spawn location (for WorldGuard compatibility)
      */
     public boolean isRoguecraftSpawnLocation(Location loc) {
-        if (loc == null) return false;
-        // Check if location is within 1 block of any tracked spawn location
-        for (Location spawnLoc : roguecraftSpawnLocations) {
-            if (spawnLoc != null && spawnLoc.getWorld().equals(loc.getWorld()) &&
-                spawnLoc.distanceSquared(loc) <= 4.0) { // 2 block radius
-                return true;
-            }
-        }
-        return false;
+        if (loc == null || loc.getWorld() == null) return false;
+        BlockExpiryMap marks = spawnMarks.get(loc.getWorld().getUID());
+        return marks != null && marks.contains(
+            BlockExpiryMap.key(loc.getBlockX(), loc.getBlockY(), loc.getBlockZ()), plugin.getRunClock().getTick());
     }
     
     /**
      * Add a spawn location to tracking (for WorldGuard compatibility)
      */
     private void addSpawnLocation(Location loc) {
-        if (loc != null) {
-            Location cloned = loc.clone();
-            roguecraftSpawnLocations.add(cloned);
-            // Remove after 2 seconds (spawn event should fire immediately, but give buffer)
-            Bukkit.getScheduler().runTaskLater(plugin, () -> {
-                roguecraftSpawnLocations.remove(cloned);
-            }, 40L); // 2 seconds
+        if (loc != null && loc.getWorld() != null) {
+            // Marked for 2 seconds (spawn event should fire immediately, but give buffer); purged by the RunClock
+            spawnMarks.computeIfAbsent(loc.getWorld().getUID(), id -> new BlockExpiryMap())
+                .put(BlockExpiryMap.key(loc.getBlockX(), loc.getBlockY(), loc.getBlockZ()), plugin.getRunClock().getTick() + 40L);
+        }
+    }
+    
+    /**
+     * Drop expired spawn marks (called from the RunClock)
+     */
+    public void purgeSpawnMarks(long tick) {
+        Iterator<BlockExpiryMap> iterator = spawnMarks.values().iterator();
+        while (iterator.hasNext()) {
+            BlockExpiryMap marks = iterator.next();
+            marks.purge(tick);
+            if (marks.size() == 0) {
+                iterator.remove();
+            }
+        }
+    }
+    
+    // A stacked horde mob: one entity standing in for several identical mobs
+    private static class HordeStack {
+        final UUID runId;
+        final int units; // Units left including the living one
+        final MobArchetypes.MobArchetype archetype; // Spawn scaling, reapplied to each respawned unit
+        
+        HordeStack(UUID runId, int units, MobArchetypes.MobArchetype archetype) {
+            this.runId = runId;
+            this.units = units;
+            this.archetype = archetype;
         }
     }
     
@@ -121,6 +152,9 @@ public class GameManager {
         if (existingTeam == null) {
             existingTeam = plugin.getRunManager().startTeamRun(player, arena);
         }
+        
+        // Keep the arena's chunks loaded for the whole run (already warm if the team readied in a lobby)
+        plugin.getArenaChunkService().acquire(arena, getTeamRunId(existingTeam));
 
         // Teleport player to arena
         if (arena.getSpawnPoint() != null) {
@@ -161,14 +195,7 @@ public class GameManager {
                     plugin.getWeaponManager().startAutoAttack(player, finalTeamRun.getWeapon(player));
                     
                     // Initialize XP bar for this player
-                    com.eldor.roguecraft.util.XPBar.updateXPBarWithGold(
-                        player,
-                        finalTeamRun.getExperience(),
-                        finalTeamRun.getExperienceToNextLevel(),
-                        finalTeamRun.getLevel(),
-                        finalTeamRun.getWave(),
-                        finalTeamRun.getCurrentGold()
-                    );
+                    plugin.getHudRenderer().show(player, finalTeamRun);
                     
                     // Apply initial stats for this player
                     applyInitialStats(player, finalTeamRun);
@@ -178,20 +205,32 @@ public class GameManager {
                     
                     // If this is the first player to select a weapon, start the game loop
                     if (!runTasks.containsKey(teamId)) {
+                        // Seed the run's random streams (logged so the run can be reproduced)
+                        plugin.getRunRandom().startRun(teamId);
+                        
                         // Set up world border visualization
                         setupArenaBorder(finalTeamRun, finalArena, teamId);
                         
-                        // Remove any existing shrines first (safety check)
+                        // Remove any existing shrines and chests first (safety check)
                         plugin.getShrineManager().removeShrinesForRun(teamId);
-                        
-                        // Spawn physical shrines in arena
-                        plugin.getShrineManager().spawnShrinesForRun(teamId, finalArena);
-                        
-                        // Remove any existing chests first (safety check)
                         plugin.getChestManager().removeChestsForRun(teamId);
                         
-                        // Spawn gacha chests in arena
-                        plugin.getChestManager().spawnChestsForRun(teamId, finalArena);
+                        // Plan the shrine/chest layout off-thread once the arena's chunks are loaded,
+                        // then spawn physical shrines and gacha chests in arena
+                        plugin.getArenaChunkService().whenReady(finalArena, () -> {
+                            if (!finalTeamRun.isActive()) {
+                                return;
+                            }
+                            startCrowdSteering(finalTeamRun, finalArena);
+                            long layoutSeed = plugin.getRunRandom().get(teamId, RunRandom.Stream.PLACEMENT).nextLong();
+                            plugin.getPlacementPlanner().planLayout(teamId, finalArena, layoutSeed, layout -> {
+                                if (!finalTeamRun.isActive()) {
+                                    return;
+                                }
+                                plugin.getShrineManager().spawnShrinesForRun(teamId, layout);
+                                plugin.getChestManager().spawnChestsForRun(teamId, layout);
+                            });
+                        });
                         
                         // Start game loop
                         startGameLoop(finalTeamRun, finalArena);
@@ -202,6 +241,9 @@ public class GameManager {
                         // Start synergy tracking
                         plugin.getSynergyManager().startSynergies(finalTeamRun);
                         
+                        // Start damage ledger (kill attribution and weapon stats)
+                        plugin.getDamageLedgerManager().startLedger(teamId);
+                        
                         // Start mob health display updates
                         startMobHealthDisplay(finalTeamRun);
                         
@@ -209,14 +251,7 @@ public class GameManager {
                         for (Player p : finalTeamRun.getPlayers()) {
                             if (p != null && p.isOnline() && finalTeamRun.getWeapon(p) != null) {
                                 // Initialize XP bar
-                                com.eldor.roguecraft.util.XPBar.updateXPBarWithGold(
-                                    p,
-                                    finalTeamRun.getExperience(),
-                                    finalTeamRun.getExperienceToNextLevel(),
-                                    finalTeamRun.getLevel(),
-                                    finalTeamRun.getWave(),
-                                    finalTeamRun.getCurrentGold()
-                                );
+                                plugin.getHudRenderer().show(p, finalTeamRun);
                                 // Apply initial health
                                 applyInitialStats(p, finalTeamRun);
                                 // Start health display
@@ -229,14 +264,7 @@ public class GameManager {
         } else {
             // Player already has a weapon, just initialize their display
             // Initialize XP bar for joining player
-            com.eldor.roguecraft.util.XPBar.updateXPBarWithGold(
-                player,
-                existingTeam.getExperience(),
-                existingTeam.getExperienceToNextLevel(),
-                existingTeam.getLevel(),
-                existingTeam.getWave(),
-                existingTeam.getCurrentGold()
-            );
+            plugin.getHudRenderer().show(player, existingTeam);
             // Apply initial health
             applyInitialStats(player, existingTeam);
             // Start health display
@@ -402,15 +430,18 @@ public class GameManager {
     }
     
     /**
-     * Set the last damage time for a player (used for regeneration proc system)
+     * Set the last damage tick for a player (used for regeneration proc system)
      */
-    public void setLastDamageTime(UUID playerId, long time) {
-        lastDamageTime.put(playerId, time);
+    public void setLastDamageTick(UUID playerId, long tick) {
+        lastDamageTick.put(playerId, tick);
     }
 
     private void startGameLoop(TeamRun teamRun, Arena arena) {
         UUID teamId = getTeamRunId(teamRun);
 
+        // Effects inside the arena go to this team only
+        plugin.getFxEmitter().registerViewers(teamId, arena, teamRun::getPlayers);
+
         // Jump height task - applies slow falling effect based on jump_height stat
         BukkitTask jumpHeightTask = Bukkit.getScheduler().runTaskTimer(plugin, () -> {
             if (!teamRun.isActive()) {
@@ -456,35 +487,28 @@ public class GameManager {
                     double regeneration = teamRun.getStat(player, "regeneration");
                     if (regeneration > 0) {
                         UUID playerId = player.getUniqueId();
-                        long lastDamage = lastDamageTime.getOrDefault(playerId, 0L);
-                        long timeSinceDamage = System.currentTimeMillis() - lastDamage;
+                        long ticksSinceDamage = plugin.getRunClock().ticksSince(lastDamageTick.getOrDefault(playerId, 0L));
                         
                         // Calculate proc delay based on regeneration stat
                         // Base delay: 1.0 second, reduced by 0.1s per point of regen
                         // Minimum delay: 0.2 seconds
                         double procDelaySeconds = Math.max(0.2, 1.0 - (regeneration * 0.1));
-                        long procDelayMs = (long) (procDelaySeconds * 1000);
+                        long procDelayTicks = RunClock.secondsToTicks(procDelaySeconds);
                         
                         // Only heal if enough time has passed since last damage
-                        if (timeSinceDamage >= procDelayMs) {
-                            double currentHealth = player.getHealth();
-                            // Get player-specific max health
-                            double maxHealth = teamRun.getStat(player, "health");
-                            
+                        if (ticksSinceDamage >= procDelayTicks) {
                             // Heal based on regeneration stat (HP per second)
-                            // Cap at 2 hearts (4 HP) per second - fixed value to prevent invincibility
-                            double healAmount = Math.min(regeneration, 4.0); // Cap at 4 HP per second
-                            double newHealth = Math.min(maxHealth, currentHealth + healAmount);
+                            // The HealingService caps it at 2 hearts (4 HP) per second to prevent invincibility
+                            boolean hurt = player.getHealth() < teamRun.getStat(player, "health");
+                            double healed = plugin.getHealingService().heal(player, HealingService.Source.REGENERATION, regeneration);
                             
-                            if (newHealth > currentHealth) {
-                                player.setHealth(newHealth);
-                                
+                            if (hurt && healed > 0) {
                                 // Visual feedback every 2 seconds (40 ticks)
                                 int tickCount = regenTickCounters.getOrDefault(playerId, 0) + 1;
                                 regenTickCounters.put(playerId, tickCount);
                                 
                                 if (tickCount >= 40) { // Every 2 seconds
-                                    player.getWorld().spawnParticle(org.bukkit.Particle.HEART, player.getLocation().add(0, 1, 0), 2, 0.3, 0.3, 0.3, 0);
+                                    plugin.getFxEmitter().particle(org.bukkit.Particle.HEART, player.getLocation().add(0, 1, 0), 2, 0.3, 0.3, 0.3, 0);
                                     regenTickCounters.put(playerId, 0); // Reset counter
                                 }
                             }
@@ -509,10 +533,10 @@ public class GameManager {
 
             // Update difficulty with multiplayer scaling
             long elapsedMinutes = teamRun.getElapsedTime() / 60000;
-            long elapsedSeconds = teamRun.getElapsedTime() / 1000;
             
-            // Get max wave from config
-            int maxWave = plugin.getConfigManager().getBalanceConfig().getInt("waves.max-wave", 20);
+            // Wave timing and max wave, compiled from config at load
+            WaveSchedule schedule = plugin.getSpawnManager().getWaveSchedule();
+            int maxWave = schedule.getMaxWave();
 
             // Handle players in the power-up GUI (team runs)
             // No timeout - players can keep GUI open as long as they want
@@ -525,19 +549,24 @@ public class GameManager {
                         teamRun.setPlayerInGUI(guiPlayerId, false);
                     }
                 }
+                if (!teamRun.hasAnyPlayerInGUI()) {
+                    plugin.getFreezeController().refreshTeam(teamRun);
+                }
                 if (teamRun.hasAnyPlayerInGUI()) {
                     return; // Still waiting on selections - pause game loop
                 }
             }
 
-            boolean isInfiniteMode = maxWave > 0 && teamRun.getWave() > maxWave;
+            boolean isInfiniteMode = schedule.isInfinite(teamRun.getWave());
+            int scheduledWave = schedule.getWaveAt(teamRun.getElapsedTicks());
             
             if (!isInfiniteMode) {
                 // Wave progression: Advance wave every 30 seconds
-                int expectedWave = (int) (elapsedSeconds / 30) + 1;
+                int expectedWave = scheduledWave;
                 if (expectedWave > teamRun.getWave() && expectedWave <= maxWave) {
                     int previousWave = teamRun.getWave();
                     teamRun.setWave(expectedWave);
+                    plugin.getHudRenderer().markDirty(teamRun); // Show the new wave
                     // Notify players
                     for (Player player : teamRun.getPlayers()) {
                         if (player != null && player.isOnline()) {
@@ -572,6 +601,7 @@ public class GameManager {
                 } else if (expectedWave > maxWave && teamRun.getWave() == maxWave) {
                     // Transition to infinite mode
                     teamRun.setWave(maxWave + 1);
+                    plugin.getHudRenderer().markDirty(teamRun); // Show the new wave
                     for (Player player : teamRun.getPlayers()) {
                         if (player != null && player.isOnline()) {
                             player.sendMessage("§c§l☠ INFINITE MODE ACTIVATED! ☠");
@@ -581,34 +611,14 @@ public class GameManager {
                 }
             } else {
                 // Infinite mode: Progressively faster wave progression
-                // Wave interval decreases as infinite waves progress
-                // Start at 10 seconds for wave 21, decrease by 0.5 seconds per infinite wave
-                // Minimum interval: 1 second (caps at wave 19+)
-                int infiniteWaveNumber = teamRun.getWave() - maxWave;
-                double waveInterval = Math.max(1.0, 10.0 - (infiniteWaveNumber * 0.5)); // Decrease by 0.5s per wave, min 1s
-                
-                // Calculate time since infinite mode started
-                // Find when infinite mode began (when wave exceeded maxWave)
-                long infiniteModeStartTime = teamRun.getElapsedTime() - ((elapsedSeconds - (maxWave * 30)) * 1000);
-                long infiniteModeElapsedSeconds = (teamRun.getElapsedTime() - infiniteModeStartTime) / 1000;
-                
-                // Calculate expected wave based on progressive timing
-                int expectedWave = maxWave + 1;
-                double accumulatedTime = 0.0;
-                for (int w = 1; w <= 100; w++) { // Check up to 100 infinite waves
-                    double intervalForWave = Math.max(1.0, 10.0 - ((w - 1) * 0.5));
-                    accumulatedTime += intervalForWave;
-                    if (accumulatedTime <= infiniteModeElapsedSeconds) {
-                        expectedWave = maxWave + w;
-                    } else {
-                        break;
-                    }
-                }
+                // Start at 10 seconds for wave 21, decrease by 0.5 seconds per infinite wave, minimum 1 second
+                int expectedWave = scheduledWave;
                 
                 if (expectedWave > teamRun.getWave()) {
                     int previousWave = teamRun.getWave();
                     // Set wave directly to expected wave (allows catching up if delayed)
                     teamRun.setWave(expectedWave);
+                    plugin.getHudRenderer().markDirty(teamRun); // Show the new wave
                     // Notify players every 5 waves
                     if (expectedWave % 5 == 0 || previousWave < expectedWave - 4) {
                         // Notify if it's a milestone wave, or if we skipped multiple waves
@@ -628,12 +638,7 @@ public class GameManager {
             );
             
             // Add infinite wave difficulty scaling
-            if (isInfiniteMode) {
-                int infiniteWaveNumber = teamRun.getWave() - maxWave;
-                double infiniteDifficultyIncrease = plugin.getConfigManager().getBalanceConfig()
-                    .getDouble("waves.infinite.difficulty-increase-per-wave", 0.15);
-                baseDifficulty += infiniteWaveNumber * infiniteDifficultyIncrease;
-            }
+            baseDifficulty += schedule.getInfiniteDifficulty(teamRun.getWave());
             
             // Scale difficulty based on player count
             int playerCount = teamRun.getPlayerCount();
@@ -653,8 +658,8 @@ public class GameManager {
             double difficulty = baseDifficulty * multiplayerMultiplier * difficultyStat;
             teamRun.setDifficultyMultiplier(difficulty);
 
-            // Freeze/unfreeze mobs based on GUI state
-            updateMobFreeze(teamRun);
+            // Prepare the next level-up's offers while XP is close, so the GUI opens without generating them
+            plugin.getOfferPrefetcher().checkRun(teamRun);
 
             // Check for level up
             if (teamRun.getExperience() >= teamRun.getExperienceToNextLevel()) {
@@ -672,149 +677,249 @@ public class GameManager {
     }
 
     /**
-     * Freeze all mobs for a specific duration (for Time Freeze power-up)
+     * Get the mob registry for a run, creating it on first use
      */
-    public void freezeAllMobs(TeamRun teamRun, int seconds) {
-        UUID teamId = getTeamRunId(teamRun);
-        Set<LivingEntity> frozen = frozenMobs.getOrDefault(teamId, new HashSet<>());
-        
-        if (teamRun.getPlayers().isEmpty()) return;
-        
-        Player firstPlayer = teamRun.getPlayers().get(0);
-        if (firstPlayer == null || !firstPlayer.isOnline()) return;
-        
-        Location center = firstPlayer.getLocation();
-        double radius = 100.0;
-        
-        // Track when time freeze ends (for new spawns)
-        long freezeEndTime = System.currentTimeMillis() + (seconds * 1000L);
-        timeFreezeEndTime.put(teamId, freezeEndTime);
+    public MobRegistry getMobRegistry(UUID runId) {
+        return mobRegistries.computeIfAbsent(runId, k -> new MobRegistry());
+    }
+    
+    /**
+     * Get the boss controller for a team run, creating it on first use
+     */
+    private BossController getBossController(TeamRun teamRun) {
+        return bossControllers.computeIfAbsent(getTeamRunId(teamRun), k -> new BossController(plugin, teamRun::getPlayers));
+    }
+    
+    /**
+     * Get the boss controller for a solo run, creating it on first use
+     */
+    private BossController getBossController(Run run) {
+        return bossControllers.computeIfAbsent(run.getPlayerId(), k -> new BossController(plugin, () -> {
+            Player player = run.getPlayer();
+            return player != null ? Collections.singletonList(player) : Collections.emptyList();
+        }));
+    }
+    
+    /**
+     * Units per stacked mob for a spawn entry (1 = no stacking).
+     * Only ordinary entries large enough to matter stack, from the configured horde wave onward.
+     */
+    private int getHordeStackSize(com.eldor.roguecraft.managers.SpawnManager.SpawnEntry entry, int spawnCount, int wave) {
+        org.bukkit.configuration.file.FileConfiguration balance = plugin.getConfigManager().getBalanceConfig();
+        // Optionally, under LOW quality hordes form from any wave, so the same units cost fewer entities
+        boolean hordeWave = wave >= balance.getInt("horde.start-wave", 20) ||
+            (balance.getBoolean("horde.low-quality-any-wave", false) &&
+                !plugin.getQualityGovernor().isAtLeast(QualityGovernor.MEDIUM));
+        if (!balance.getBoolean("horde.enabled", true) || entry.isElite() ||
+            !hordeWave || spawnCount < balance.getInt("horde.min-spawn-count", 6)) {
+            return 1;
+        }
+        return Math.max(1, balance.getInt("horde.max-stack", 8));
+    }
+    
+    /**
+     * Replace a dead horde unit with a stack of the remaining units at the same spot.
+     * The dead unit already went through the normal kill path, so XP, gold and drops are counted per unit.
+     * A nuke takes the whole stack (nuked kills give no rewards anyway).
+     */
+    private void splitHordeStack(LivingEntity dead, boolean nuked) {
+        HordeStack stack = hordeStacks.remove(dead.getUniqueId());
+        if (stack == null || stack.units <= 1 || nuked) {
+            return;
+        }
+        MobRegistry registry = mobRegistries.get(stack.runId);
+        if (registry == null) {
+            return; // Run already ended
+        }
         
-        // Find and freeze all mobs in arena
-        for (org.bukkit.entity.Entity entity : center.getWorld().getNearbyEntities(center, radius, radius, radius)) {
-            if (entity instanceof LivingEntity && !(entity instanceof Player)) {
-                LivingEntity mob = (LivingEntity) entity;
-                if (!frozen.contains(mob)) {
-                    mob.setAI(false); // Disable AI to freeze
-                    frozen.add(mob);
-                    
-                    // Remove all projectiles near the mob
-                    for (org.bukkit.entity.Entity nearby : mob.getNearbyEntities(5, 5, 5)) {
-                        if (nearby instanceof org.bukkit.entity.Projectile) {
-                            nearby.remove();
-                        }
-                    }
-                }
-            }
+        Location loc = dead.getLocation();
+        addSpawnLocation(loc);
+        org.bukkit.entity.Entity entity;
+        try {
+            entity = loc.getWorld().spawnEntity(loc, dead.getType());
+        } catch (Exception e) {
+            plugin.getLogger().warning("[Horde] Failed to respawn horde stack at " + loc + ": " + e.getMessage());
+            return;
+        }
+        entity.setMetadata("roguecraft_spawned", plugin.getMobArchetypes().getFlag());
+        if (!(entity instanceof LivingEntity)) {
+            entity.remove();
+            return;
         }
         
-        frozenMobs.put(teamId, frozen);
+        LivingEntity mob = (LivingEntity) entity;
+        registry.register(mob);
+        hordeStacks.put(mob.getUniqueId(), new HordeStack(stack.runId, stack.units - 1, stack.archetype));
         
-        // Unfreeze after duration
-        Bukkit.getScheduler().runTaskLater(plugin, () -> {
-            Set<LivingEntity> stillFrozen = frozenMobs.getOrDefault(teamId, new HashSet<>());
-            for (LivingEntity mob : new HashSet<>(stillFrozen)) {
-                if (mob != null && !mob.isDead() && mob.isValid()) {
-                    mob.setAI(true); // Re-enable AI
-                }
-            }
-            // Only remove from frozen set if not in GUI
-            if (!teamRun.hasAnyPlayerInGUI()) {
-                stillFrozen.clear();
+        // Same spawn setup as the wave spawn that created the stack
+        applyWaveArchetype(mob, stack.archetype);
+        if (mob instanceof org.bukkit.entity.Mob && dead instanceof org.bukkit.entity.Mob) {
+            ((org.bukkit.entity.Mob) mob).setTarget(((org.bukkit.entity.Mob) dead).getTarget());
+        }
+        updateMobHealthDisplay(mob);
+    }
+    
+    /**
+     * Start flow-field steering for a team run's wave mobs if enabled (arena chunks must be loaded)
+     */
+    private void startCrowdSteering(TeamRun teamRun, Arena arena) {
+        if (!plugin.getConfigManager().getMainConfig().getBoolean("crowd-steering.enabled", false)) {
+            return;
+        }
+        UUID teamId = getTeamRunId(teamRun);
+        if (teamId == null || crowdSteerings.containsKey(teamId)) {
+            return;
+        }
+        // Own snapshot - the placement planner fills its surface map on a worker thread
+        CrowdSteering steering = new CrowdSteering(plugin, ArenaSurfaceMap.snapshot(arena), arena.getCenter().getWorld(),
+            teamRun::getPlayers, getMobRegistry(teamId));
+        crowdSteerings.put(teamId, steering);
+        steering.start();
+    }
+    
+    /**
+     * Remove a dead mob from whichever run registered it
+     */
+    private void unregisterMob(LivingEntity mob) {
+        for (MobRegistry registry : mobRegistries.values()) {
+            if (registry.unregister(mob)) {
+                return;
             }
-            // Clear time freeze tracking
-            timeFreezeEndTime.remove(teamId);
-        }, seconds * 20L);
+        }
     }
     
     /**
-     * Check if time freeze is currently active for a team run
+     * Forget a mob that left the world for good (despawn, /kill, nuke removal or after death - not chunk unload),
+     * so its horde stack and registry entry don't linger until the run ends
      */
-    public boolean isTimeFreezeActive(UUID teamId) {
-        Long endTime = timeFreezeEndTime.get(teamId);
-        if (endTime == null) {
-            return false;
+    public void onMobRemoved(LivingEntity mob) {
+        hordeStacks.remove(mob.getUniqueId());
+        unregisterMob(mob);
+    }
+    
+    /**
+     * Freeze all mobs for a specific duration (for Time Freeze power-up)
+     */
+    public void freezeAllMobs(TeamRun teamRun, int seconds) {
+        UUID teamId = getTeamRunId(teamRun);
+        if (teamId == null) return;
+        freezeAllMobs(teamId, seconds);
+    }
+    
+    /**
+     * Freeze a run's mobs for a specific duration. New spawns inherit the freeze until it ends.
+     */
+    public void freezeAllMobs(UUID runId, int seconds) {
+        MobRegistry registry = getMobRegistry(runId);
+        // Counted down in run ticks by the RunClock, so the freeze pauses while the run is paused
+        if (registry.startTimeFreeze(seconds * RunClock.TICKS_PER_SECOND)) {
+            removeMobProjectiles(runId, registry);
         }
-        // Check if freeze time has expired
-        if (System.currentTimeMillis() >= endTime) {
-            timeFreezeEndTime.remove(teamId);
-            return false;
+    }
+    
+    /**
+     * Count a team run's Time Freeze down by one run tick (called by the RunClock)
+     */
+    public void advanceTimeFreeze(TeamRun teamRun) {
+        UUID teamId = getTeamRunId(teamRun);
+        if (teamId != null) {
+            advanceTimeFreeze(teamId);
         }
-        return true;
     }
     
+    /**
+     * Count a run's Time Freeze down by one run tick (called by the RunClock)
+     */
+    public void advanceTimeFreeze(UUID runId) {
+        MobRegistry registry = mobRegistries.get(runId);
+        if (registry != null) {
+            registry.advanceTick();
+        }
+    }
+    
+    /**
+     * Check if time freeze is currently active for a team run
+     */
+    public boolean isTimeFreezeActive(UUID teamId) {
+        MobRegistry registry = mobRegistries.get(teamId);
+        return registry != null && registry.isTimeFreezeActive();
+    }
+    
+    /**
+     * Sync the run's mob freeze with its GUI state.
+     * Called on GUI open/close; only touches mobs when the state actually changes.
+     */
     public void updateMobFreeze(TeamRun teamRun) {
         UUID teamId = getTeamRunId(teamRun);
-        Set<LivingEntity> frozen = frozenMobs.getOrDefault(teamId, new HashSet<>());
+        if (teamId == null) return;
         
-        // Don't interfere with time freeze power-up - if time freeze is active, don't unfreeze
-        boolean timeFreezeActive = isTimeFreezeActive(teamId);
+        MobRegistry registry = getMobRegistry(teamId);
+        if (registry.setGuiFrozen(teamRun.hasAnyPlayerInGUI())) {
+            removeMobProjectiles(teamId, registry);
+        }
+    }
+    
+    /**
+     * Remove projectiles (arrows, fireballs, etc.) fired by a run's mobs when they freeze,
+     * so shots already in the air can't hit players during the pause
+     */
+    private void removeMobProjectiles(UUID runId, MobRegistry registry) {
+        if (registry.size() == 0) return;
+        World world = getRunWorld(runId, registry);
+        if (world == null) return;
         
-        // If any player is in GUI, freeze mobs
-        if (teamRun.hasAnyPlayerInGUI()) {
-            // Find and freeze all mobs in arena
-            if (teamRun.getPlayers().isEmpty()) return;
-            
-            Player firstPlayer = teamRun.getPlayers().get(0);
-            if (firstPlayer == null || !firstPlayer.isOnline()) return;
-            
-            Location center = firstPlayer.getLocation();
-            double radius = 100.0; // Freeze radius
-            
-            for (org.bukkit.entity.Entity entity : center.getWorld().getNearbyEntities(center, radius, radius, radius)) {
-                if (entity instanceof LivingEntity && !(entity instanceof Player)) {
-                    LivingEntity mob = (LivingEntity) entity;
-                    if (!frozen.contains(mob)) {
-                        mob.setAI(false); // Disable AI to freeze
-                        frozen.add(mob);
-                    }
-                } else if (entity instanceof org.bukkit.entity.Projectile) {
-                    // Remove any projectiles (arrows, etc.) from mobs when freezing
-                    // This prevents damage from arrows shot right before freeze
-                    org.bukkit.entity.Projectile proj = (org.bukkit.entity.Projectile) entity;
-                    if (proj.getShooter() instanceof LivingEntity && !(proj.getShooter() instanceof Player)) {
-                        proj.remove();
-                    }
-                }
+        for (org.bukkit.entity.Projectile projectile : world.getEntitiesByClass(org.bukkit.entity.Projectile.class)) {
+            if (projectile.getShooter() instanceof LivingEntity && registry.contains((LivingEntity) projectile.getShooter())) {
+                projectile.remove();
             }
-        } else if (!timeFreezeActive) {
-            // Only unfreeze if time freeze is NOT active (don't interfere with time freeze power-up)
-            for (LivingEntity mob : frozen) {
-                if (mob != null && !mob.isDead()) {
-                    mob.setAI(true);
+        }
+    }
+    
+    /**
+     * World of a run, from any online team member (the run ID's own player may have left) or else its mobs
+     */
+    private World getRunWorld(UUID runId, MobRegistry registry) {
+        TeamRun teamRun = plugin.getRunManager().getTeamRun(runId);
+        if (teamRun != null) {
+            for (Player player : teamRun.getPlayers()) {
+                if (player != null && player.isOnline()) {
+                    return player.getWorld();
                 }
             }
-            frozen.clear();
         }
-        // If time freeze is active, keep mobs frozen regardless of GUI state
-        
-        frozenMobs.put(teamId, frozen);
+        Player soloPlayer = Bukkit.getPlayer(runId); // Pure solo runs are keyed by the player's UUID
+        if (soloPlayer != null) {
+            return soloPlayer.getWorld();
+        }
+        for (LivingEntity mob : registry.getMobs()) {
+            if (mob != null && mob.isValid()) {
+                return mob.getWorld();
+            }
+        }
+        return null;
     }
 
     private void startSpawnTask(TeamRun teamRun, Arena arena) {
         UUID teamId = getTeamRunId(teamRun);
         
-        // Track last spawn time to prevent accumulation when GUI is open
-        final long[] lastSpawnTime = {System.currentTimeMillis()};
+        // Run tick of the last spawn - run ticks stop while a GUI is open, so spawns can't accumulate
+        final long[] lastSpawnTick = {teamRun.getElapsedTicks()};
 
         BukkitTask spawnTask = Bukkit.getScheduler().runTaskTimer(plugin, () -> {
             if (!teamRun.isActive()) {
                 return;
             }
             
-            // If someone is in GUI, pause spawning but don't accumulate time
+            // If someone is in GUI, pause spawning (run ticks are paused as well)
             if (teamRun.hasAnyPlayerInGUI()) {
-                // Reset last spawn time when GUI opens so we don't accumulate spawns
-                // This ensures when GUI closes, we wait the full interval before next spawn
                 return;
             }
             
-            // Check if enough time has passed since last spawn (10 seconds = 10000ms)
-            long timeSinceLastSpawn = System.currentTimeMillis() - lastSpawnTime[0];
-            if (timeSinceLastSpawn >= 10000) {
+            // Check if enough run time has passed since last spawn (10 seconds = 200 ticks)
+            if (teamRun.getElapsedTicks() - lastSpawnTick[0] >= 200) {
                 // Spawn mobs for current wave
                 spawnWaveMobs(teamRun, arena);
-                lastSpawnTime[0] = System.currentTimeMillis(); // Update last spawn time
+                lastSpawnTick[0] = teamRun.getElapsedTicks(); // Update last spawn tick
             }
 
         }, 100L, 20L); // Check every second instead of every 10 seconds for more responsive pausing
@@ -825,17 +930,21 @@ public class GameManager {
     private void spawnWaveMobs(TeamRun teamRun, Arena arena) {
         if (arena.getCenter() == null) return;
 
+        SplittableRandom random = plugin.getRunRandom().get(getTeamRunId(teamRun), RunRandom.Stream.SPAWNS);
         List<com.eldor.roguecraft.managers.SpawnManager.SpawnEntry> spawns = 
-            plugin.getSpawnManager().getSpawnsForWave(teamRun.getWave());
+            plugin.getSpawnManager().getSpawnsForWave(teamRun.getWave(), random);
 
         int playerCount = teamRun.getPlayerCount();
         
         for (com.eldor.roguecraft.managers.SpawnManager.SpawnEntry entry : spawns) {
             // Scale spawn count with player count
             int spawnCount = (int) (entry.getCount() * (1.0 + (playerCount - 1) * 0.5));
+            // Horde mode: one stacked entity per group of identical weak mobs
+            int stackSize = getHordeStackSize(entry, spawnCount, teamRun.getWave());
             
-                for (int i = 0; i < spawnCount; i++) {
-                Location spawnLoc = getRandomSpawnLocation(arena);
+            for (int i = 0; i < spawnCount; i += stackSize) {
+                int units = Math.min(stackSize, spawnCount - i);
+                Location spawnLoc = getRandomSpawnLocation(arena, random);
                 if (spawnLoc != null) {
                     // Mark location BEFORE spawning so WorldGuardListener can detect it
                     // Use a slight delay to ensure the event fires before cleanup
@@ -848,7 +957,7 @@ public class GameManager {
                         
                         // Mark entity as plugin-spawned for WorldGuard compatibility
                         if (entity != null) {
-                            entity.setMetadata("roguecraft_spawned", new org.bukkit.metadata.FixedMetadataValue(plugin, true));
+                            entity.setMetadata("roguecraft_spawned", plugin.getMobArchetypes().getFlag());
                         } else {
                             plugin.getLogger().warning("Failed to spawn entity at " + spawnLoc + " - spawnEntity returned null");
                             continue; // Skip to next spawn attempt
@@ -862,106 +971,38 @@ public class GameManager {
                     if (entity instanceof LivingEntity) {
                         LivingEntity mob = (LivingEntity) entity;
                         
-                        // Check if time freeze is active OR if any player is in GUI - freeze new spawns
-                        UUID teamId = getTeamRunId(teamRun);
-                        if (isTimeFreezeActive(teamId) || teamRun.hasAnyPlayerInGUI()) {
-                            mob.setAI(false); // Freeze immediately
-                            Set<LivingEntity> frozen = frozenMobs.getOrDefault(teamId, new HashSet<>());
-                            frozen.add(mob);
-                            frozenMobs.put(teamId, frozen);
-                        }
-                        
-                        // Check if this is an elite mob
-                        boolean isElite = entry.isElite();
-                        
-                        // Check if elite should become legendary (rarer than elite)
-                        boolean isLegendary = false;
-                        if (isElite) {
-                            double legendaryChance = plugin.getConfigManager().getBalanceConfig().getDouble("legendary.spawn-chance", 0.15);
-                            if (Math.random() < legendaryChance) {
-                                isLegendary = true;
-                            }
-                        }
+                        // Track the mob for its run - inherits Time Freeze / GUI pause immediately
+                        getMobRegistry(getTeamRunId(teamRun)).register(mob);
                         
-                        // Scale mob HP based on player count, difficulty, and wave
-                        double hpMultiplier = plugin.getDifficultyManager().getMobHealthMultiplier(teamRun.getDifficultyMultiplier());
-                        hpMultiplier *= (1.0 + (playerCount - 1) * 0.3); // 30% HP per additional player
-                        // Add wave-based scaling (enemies get tankier each wave)
-                        // Slower scaling for early waves (waves 1-5: 5% per wave, waves 6-10: 10% per wave, 11+: 15% per wave)
-                        int wave = teamRun.getWave();
-                        double waveMultiplier;
-                        if (wave <= 5) {
-                            // First 5 waves: 5% per wave (much slower)
-                            waveMultiplier = 1.0 + (wave * 0.05);
-                        } else if (wave <= 10) {
-                            // Waves 6-10: 10% per wave (moderate)
-                            waveMultiplier = 1.0 + (5 * 0.05) + ((wave - 5) * 0.10); // 1.25 base from first 5 waves
-                        } else {
-                            // Waves 11+: 15% per wave (normal scaling)
-                            waveMultiplier = 1.0 + (5 * 0.05) + (5 * 0.10) + ((wave - 10) * 0.15); // 1.75 base from first 10 waves
+                        // Check if this is an elite mob, and if it should become legendary (rarer than elite)
+                        MobArchetypes archetypes = plugin.getMobArchetypes();
+                        MobArchetypes.Tier tier = MobArchetypes.Tier.NORMAL;
+                        if (entry.isElite()) {
+                            tier = random.nextDouble() < archetypes.getLegendaryChance()
+                                ? MobArchetypes.Tier.LEGENDARY : MobArchetypes.Tier.ELITE;
                         }
-                        hpMultiplier *= waveMultiplier;
                         
-                        // Apply elite bonuses (reduced HP multiplier to balance with armor)
-                        if (isElite) {
-                            double eliteHpMultiplier = plugin.getConfigManager().getBalanceConfig().getDouble("elites.hp-multiplier", 2.0);
-                            // Reduce HP multiplier for later waves (wave 10+) since they get armor
-                            if (teamRun.getWave() >= 10) {
-                                eliteHpMultiplier *= 0.7; // 30% reduction when armor is present
-                            }
-                            hpMultiplier *= eliteHpMultiplier;
-                            
-                            // Apply legendary HP multiplier on top of elite
-                            if (isLegendary) {
-                                double legendaryHpMultiplier = plugin.getConfigManager().getBalanceConfig().getDouble("legendary.hp-multiplier", 1.5);
-                                hpMultiplier *= legendaryHpMultiplier;
-                            }
+                        // HP, speed, size and tags for this type/tier/wave/players/difficulty, computed once
+                        MobArchetypes.MobArchetype archetype = archetypes.get(mob, tier, teamRun.getWave(),
+                            playerCount, teamRun.getDifficultyMultiplier());
+                        if (units > 1) {
+                            hordeStacks.put(mob.getUniqueId(), new HordeStack(getTeamRunId(teamRun), units, archetype));
                         }
-                        
-                        // Cap health at Minecraft's maximum (2048.0) to prevent errors
-                        double newMaxHealth = mob.getMaxHealth() * hpMultiplier;
-                        double finalMaxHealth = Math.min(2048.0, newMaxHealth);
-                        mob.setMaxHealth(finalMaxHealth);
-                        mob.setHealth(finalMaxHealth);
+                        applyWaveArchetype(mob, archetype);
                         
                         // Apply elite/legendary bonuses
-                        if (isLegendary) {
-                            applyLegendaryScaling(mob);
+                        if (tier == MobArchetypes.Tier.LEGENDARY) {
+                            applyLegendaryScaling(mob, teamRun, archetype);
                             // Legendary damage resistance is handled in PlayerListener.onEntityDamage
-                        } else if (isElite) {
-                            applyEliteScaling(mob);
+                        } else if (tier == MobArchetypes.Tier.ELITE) {
+                            applyEliteScaling(mob, archetype);
                             // Elite damage resistance is now handled in PlayerListener.onEntityDamage
                             // (replaced armor system with scaling resistance modifier)
                         }
                         
-                        // Tag undead mobs so we can prevent sunlight damage
-                        if (mob instanceof org.bukkit.entity.Zombie || 
-                            mob instanceof org.bukkit.entity.Skeleton ||
-                            mob instanceof org.bukkit.entity.Stray ||
-                            mob instanceof org.bukkit.entity.Husk ||
-                            mob instanceof org.bukkit.entity.Drowned ||
-                            mob instanceof org.bukkit.entity.WitherSkeleton ||
-                            mob instanceof org.bukkit.entity.Phantom) {
-                            // Tag as roguecraft mob so we can prevent sunlight damage
-                            mob.setMetadata("roguecraft_mob", new org.bukkit.metadata.FixedMetadataValue(plugin, true));
-                        }
-                        
-                        // Make creepers explode faster (reduced fuse time)
-                        if (mob instanceof org.bukkit.entity.Creeper) {
-                            org.bukkit.entity.Creeper creeper = (org.bukkit.entity.Creeper) mob;
-                            // Set max fuse ticks to 20 (1 second) instead of default 30 (1.5 seconds)
-                            // This makes creepers explode faster and more dangerous
-                            creeper.setMaxFuseTicks(10);
-                            // Tag as roguecraft mob for tracking
-                            mob.setMetadata("roguecraft_mob", new org.bukkit.metadata.FixedMetadataValue(plugin, true));
-                        }
-                        
                         // Set up health display for all mobs
                         updateMobHealthDisplay(mob);
                         
-                        // Scale mob movement speed with wave number and difficulty
-                        applyMobSpeedScaling(mob, teamRun.getWave(), teamRun.getDifficultyMultiplier());
-                        
                         // Set mob to target nearest player for better pathfinding
                         if (!teamRun.getPlayers().isEmpty()) {
                             Player nearestPlayer = null;
@@ -1028,6 +1069,7 @@ public class GameManager {
                 wither.setMetadata("roguecraft_boss", new org.bukkit.metadata.FixedMetadataValue(plugin, true));
                 wither.setMetadata("roguecraft_mob", new org.bukkit.metadata.FixedMetadataValue(plugin, true));
                 wither.setMetadata("roguecraft_elite_boss", new org.bukkit.metadata.FixedMetadataValue(plugin, true));
+                getMobRegistry(run.getPlayerId()).register(wither);
                 
                 // Calculate scaled health based on level and difficulty
                 int playerLevel = run.getLevel();
@@ -1073,24 +1115,8 @@ public class GameManager {
                 // Update health display
                 updateMobHealthDisplay(wither);
                 
-                // Make Wither target player
-                Player player = run.getPlayer();
-                if (player != null && player.isOnline() && !player.isDead()) {
-                    double dist = player.getLocation().distance(wither.getLocation());
-                    if (dist < 100) {
-                        if (wither instanceof org.bukkit.entity.Mob) {
-                            ((org.bukkit.entity.Mob) wither).setTarget(player);
-                        } else if (wither instanceof org.bukkit.entity.Wither) {
-                            ((org.bukkit.entity.Wither) wither).setTarget(player);
-                        }
-                    }
-                }
-                
-                // Start red particle effect task (create a wrapper for solo runs)
-                startBossParticleEffectForSolo(wither, run);
-                
-                // Start boss targeting task
-                startBossTargetingTaskForSolo(wither, run);
+                // Targeting and red particle ring are driven by the run's boss controller
+                getBossController(run).addBoss(wither);
             }
         } catch (Exception e) {
             plugin.getLogger().warning("Failed to spawn Wither boss for solo run: " + e.getMessage());
@@ -1133,6 +1159,7 @@ public class GameManager {
                 wither.setMetadata("roguecraft_boss", new org.bukkit.metadata.FixedMetadataValue(plugin, true));
                 wither.setMetadata("roguecraft_mob", new org.bukkit.metadata.FixedMetadataValue(plugin, true));
                 wither.setMetadata("roguecraft_elite_boss", new org.bukkit.metadata.FixedMetadataValue(plugin, true)); // Special elite boss tag
+                getMobRegistry(getTeamRunId(teamRun)).register(wither);
                 
                 // Calculate scaled health based on level and difficulty
                 int playerLevel = teamRun.getLevel();
@@ -1182,36 +1209,8 @@ public class GameManager {
                 // Update health display
                 updateMobHealthDisplay(wither);
                 
-                // Make Wither target nearest player
-                if (!teamRun.getPlayers().isEmpty()) {
-                    Player nearestPlayer = null;
-                    double nearestDistance = Double.MAX_VALUE;
-                    for (Player player : teamRun.getPlayers()) {
-                        if (player != null && player.isOnline() && !player.isDead()) {
-                            double dist = player.getLocation().distance(wither.getLocation());
-                            if (dist < nearestDistance) {
-                                nearestDistance = dist;
-                                nearestPlayer = player;
-                            }
-                        }
-                    }
-                    
-                    // Set target if within reasonable range
-                    if (nearestPlayer != null && nearestDistance < 100) {
-                        if (wither instanceof org.bukkit.entity.Mob) {
-                            ((org.bukkit.entity.Mob) wither).setTarget(nearestPlayer);
-                        } else if (wither instanceof org.bukkit.entity.Wither) {
-                            // Wither has special targeting - set target using reflection if needed
-                            ((org.bukkit.entity.Wither) wither).setTarget(nearestPlayer);
-                        }
-                    }
-                }
-                
-                // Start red particle effect task
-                startBossParticleEffect(wither, teamRun);
-                
-                // Start boss targeting task (keeps Wither aggro on players)
-                startBossTargetingTask(wither, teamRun);
+                // Targeting (keeps Wither aggro on the nearest player) and red particle ring are driven by the run's boss controller
+                getBossController(teamRun).addBoss(wither);
                 
                 // Notify all players
                 for (org.bukkit.entity.Player player : teamRun.getPlayers()) {
@@ -1328,222 +1327,15 @@ public class GameManager {
         }
     }
     
-    /**
-     * Start red particle effect around boss
-     */
-    private void startBossParticleEffect(LivingEntity boss, TeamRun teamRun) {
-        if (boss == null || boss.isDead()) return;
-        
-        // Create task to spawn red particles around boss every 0.5 seconds
-        final int[] taskId = new int[1];
-        taskId[0] = plugin.getServer().getScheduler().scheduleSyncRepeatingTask(plugin, new Runnable() {
-            @Override
-            public void run() {
-                if (boss.isDead() || !boss.isValid()) {
-                    plugin.getServer().getScheduler().cancelTask(taskId[0]);
-                    return;
-                }
-                
-                // Spawn red particles around the boss
-                Location loc = boss.getLocation();
-                for (int i = 0; i < 8; i++) {
-                    double angle = (i * Math.PI * 2) / 8;
-                    double radius = 1.5;
-                    double x = loc.getX() + Math.cos(angle) * radius;
-                    double y = loc.getY() + 1.0;
-                    double z = loc.getZ() + Math.sin(angle) * radius;
-                    
-                    Location particleLoc = new Location(loc.getWorld(), x, y, z);
-                    loc.getWorld().spawnParticle(org.bukkit.Particle.DUST, particleLoc, 1, 
-                        new org.bukkit.Particle.DustOptions(org.bukkit.Color.RED, 1.0f));
-                }
-            }
-        }, 0L, 10L); // Every 0.5 seconds (10 ticks)
-        
-        // Store task ID for cleanup
-        boss.setMetadata("boss_particle_task", new org.bukkit.metadata.FixedMetadataValue(plugin, taskId[0]));
-    }
-    
-    /**
-     * Start boss targeting task to keep Wither aggro on players
-     */
-    private void startBossTargetingTask(LivingEntity boss, TeamRun teamRun) {
-        if (boss == null || boss.isDead()) return;
-        
-        // Create task to update boss target every 2 seconds
-        final int[] taskId = new int[1];
-        taskId[0] = plugin.getServer().getScheduler().scheduleSyncRepeatingTask(plugin, new Runnable() {
-            @Override
-            public void run() {
-                if (boss.isDead() || !boss.isValid()) {
-                    plugin.getServer().getScheduler().cancelTask(taskId[0]);
-                    return;
-                }
-                
-                // Find nearest player and set as target
-                if (!teamRun.getPlayers().isEmpty()) {
-                    Player nearestPlayer = null;
-                    double nearestDistance = Double.MAX_VALUE;
-                    for (Player player : teamRun.getPlayers()) {
-                        if (player != null && player.isOnline() && !player.isDead()) {
-                            double dist = player.getLocation().distance(boss.getLocation());
-                            if (dist < nearestDistance) {
-                                nearestDistance = dist;
-                                nearestPlayer = player;
-                            }
-                        }
-                    }
-                    
-                    // Set target if within reasonable range
-                    if (nearestPlayer != null && nearestDistance < 100) {
-                        if (boss instanceof org.bukkit.entity.Mob) {
-                            ((org.bukkit.entity.Mob) boss).setTarget(nearestPlayer);
-                        } else if (boss instanceof org.bukkit.entity.Wither) {
-                            ((org.bukkit.entity.Wither) boss).setTarget(nearestPlayer);
-                        }
-                    }
-                }
-            }
-        }, 0L, 40L); // Every 2 seconds (40 ticks)
-        
-        // Store task ID for cleanup
-        boss.setMetadata("boss_targeting_task", new org.bukkit.metadata.FixedMetadataValue(plugin, taskId[0]));
-    }
-    
-    /**
-     * Start boss particle effect for solo run
-     */
-    private void startBossParticleEffectForSolo(LivingEntity boss, Run run) {
-        if (boss == null || boss.isDead()) return;
-        
-        // Create task to spawn red particles around boss every 0.5 seconds
-        final int[] taskId = new int[1];
-        taskId[0] = plugin.getServer().getScheduler().scheduleSyncRepeatingTask(plugin, new Runnable() {
-            @Override
-            public void run() {
-                if (boss.isDead() || !boss.isValid()) {
-                    plugin.getServer().getScheduler().cancelTask(taskId[0]);
-                    return;
-                }
-                
-                // Spawn red particles around the boss
-                Location loc = boss.getLocation();
-                for (int i = 0; i < 8; i++) {
-                    double angle = (i * Math.PI * 2) / 8;
-                    double radius = 1.5;
-                    double x = loc.getX() + Math.cos(angle) * radius;
-                    double y = loc.getY() + 1.0;
-                    double z = loc.getZ() + Math.sin(angle) * radius;
-                    
-                    Location particleLoc = new Location(loc.getWorld(), x, y, z);
-                    loc.getWorld().spawnParticle(org.bukkit.Particle.DUST, particleLoc, 1, 
-                        new org.bukkit.Particle.DustOptions(org.bukkit.Color.RED, 1.0f));
-                }
-            }
-        }, 0L, 10L); // Every 0.5 seconds (10 ticks)
-        
-        // Store task ID for cleanup
-        boss.setMetadata("boss_particle_task", new org.bukkit.metadata.FixedMetadataValue(plugin, taskId[0]));
-    }
-    
-    /**
-     * Start boss targeting task for solo run
-     */
-    private void startBossTargetingTaskForSolo(LivingEntity boss, Run run) {
-        if (boss == null || boss.isDead()) return;
-        
-        // Create task to update boss target every 2 seconds
-        final int[] taskId = new int[1];
-        taskId[0] = plugin.getServer().getScheduler().scheduleSyncRepeatingTask(plugin, new Runnable() {
-            @Override
-            public void run() {
-                if (boss.isDead() || !boss.isValid()) {
-                    plugin.getServer().getScheduler().cancelTask(taskId[0]);
-                    return;
-                }
-                
-                // Find player and set as target
-                Player player = run.getPlayer();
-                if (player != null && player.isOnline() && !player.isDead()) {
-                    double dist = player.getLocation().distance(boss.getLocation());
-                    if (dist < 100) {
-                        if (boss instanceof org.bukkit.entity.Mob) {
-                            ((org.bukkit.entity.Mob) boss).setTarget(player);
-                        } else if (boss instanceof org.bukkit.entity.Wither) {
-                            ((org.bukkit.entity.Wither) boss).setTarget(player);
-                        }
-                    }
-                }
-            }
-        }, 0L, 40L); // Every 2 seconds (40 ticks)
-        
-        // Store task ID for cleanup
-        boss.setMetadata("boss_targeting_task", new org.bukkit.metadata.FixedMetadataValue(plugin, taskId[0]));
-    }
-    
-    /**
-     * Start legendary particle effect around legendary mob (golden glow)
-     */
-    private void startLegendaryParticleEffect(LivingEntity legendary) {
-        if (legendary == null || legendary.isDead()) return;
-        
-        // Create task to spawn golden particles around legendary mob every 0.3 seconds for a golden glow effect
-        final int[] taskId = new int[1];
-        taskId[0] = plugin.getServer().getScheduler().scheduleSyncRepeatingTask(plugin, new Runnable() {
-            @Override
-            public void run() {
-                if (legendary.isDead() || !legendary.isValid()) {
-                    plugin.getServer().getScheduler().cancelTask(taskId[0]);
-                    return;
-                }
-                
-                // Spawn golden particles around the legendary mob for a golden glow
-                Location loc = legendary.getLocation();
-                // Create a golden aura with more particles
-                for (int i = 0; i < 12; i++) {
-                    double angle = (i * Math.PI * 2) / 12;
-                    double radius = 1.0 + (Math.random() * 0.4); // Slight variation in radius
-                    double x = loc.getX() + Math.cos(angle) * radius;
-                    double y = loc.getY() + 0.5 + (Math.random() * 1.0); // Vary height
-                    double z = loc.getZ() + Math.sin(angle) * radius;
-                    
-                    Location particleLoc = new Location(loc.getWorld(), x, y, z);
-                    // Use golden/yellow particles for a gold glow effect
-                    // Mix of bright gold and yellow for a glowing effect
-                    org.bukkit.Color goldColor = Math.random() < 0.7 ? 
-                        org.bukkit.Color.fromRGB(255, 215, 0) : // Gold
-                        org.bukkit.Color.fromRGB(255, 255, 0); // Bright yellow
-                    loc.getWorld().spawnParticle(org.bukkit.Particle.DUST, particleLoc, 1, 
-                        new org.bukkit.Particle.DustOptions(goldColor, 1.2f));
-                }
-                
-                // Also spawn some particles above the mob for a golden aura
-                Location topLoc = loc.clone().add(0, 1.5, 0);
-                for (int i = 0; i < 4; i++) {
-                    double offsetX = (Math.random() - 0.5) * 0.8;
-                    double offsetZ = (Math.random() - 0.5) * 0.8;
-                    Location auraLoc = topLoc.clone().add(offsetX, 0, offsetZ);
-                    topLoc.getWorld().spawnParticle(org.bukkit.Particle.DUST, auraLoc, 1, 
-                        new org.bukkit.Particle.DustOptions(org.bukkit.Color.fromRGB(255, 215, 0), 1.5f)); // Gold
-                }
-            }
-        }, 0L, 6L); // Every 0.3 seconds (6 ticks) for smoother glow
-        
-        // Store task ID for cleanup
-        legendary.setMetadata("legendary_particle_task", new org.bukkit.metadata.FixedMetadataValue(plugin, taskId[0]));
-    }
-
     /**
      * Get a random spawn location for mobs within the arena
      * Ensures mobs spawn on solid ground (not in air)
      */
-    private Location getRandomSpawnLocation(Arena arena) {
+    private Location getRandomSpawnLocation(Arena arena, SplittableRandom random) {
         if (arena.getCenter() == null) return null;
 
         World world = arena.getCenter().getWorld();
         if (world == null) return null;
-
-        Random random = new Random();
         
         // Spawn mobs closer to players, but still around the arena edge
         // Use 60-90% of radius to ensure they're within pathfinding range (16 blocks default, but can be extended)
@@ -1556,6 +1348,11 @@ public class GameManager {
         double x = arena.getCenter().getX() + Math.cos(angle) * distance;
         double z = arena.getCenter().getZ() + Math.sin(angle) * distance;
         
+        // Arena chunks are held loaded by tickets - never force a synchronous load mid-run
+        if (!world.isChunkLoaded(((int) Math.floor(x)) >> 4, ((int) Math.floor(z)) >> 4)) {
+            return null;
+        }
+        
         // Find surface Y coordinate (on solid ground)
         Location surfaceLoc = findMobSpawnSurface(world, x, z, arena.getCenter().getY());
         if (surfaceLoc == null) {
@@ -1577,13 +1374,8 @@ public class GameManager {
      * @return Surface location on solid ground, or null if no valid surface found
      */
     private Location findMobSpawnSurface(World world, double x, double z, double startY) {
-        // Ensure chunk is loaded
         int blockX = (int) Math.floor(x);
         int blockZ = (int) Math.floor(z);
-        org.bukkit.Chunk chunk = world.getChunkAt(blockX >> 4, blockZ >> 4);
-        if (!chunk.isLoaded()) {
-            chunk.load();
-        }
         
         // Start searching from a reasonable height (arena center Y)
         // Search down first to find the ground
@@ -1643,17 +1435,16 @@ public class GameManager {
     /**
      * Apply elite mob scaling (size, visual effects)
      */
-    private void applyEliteScaling(LivingEntity mob) {
+    private void applyEliteScaling(LivingEntity mob, MobArchetypes.MobArchetype archetype) {
         try {
-            // Get size multiplier from config
-            double sizeMultiplier = plugin.getConfigManager().getBalanceConfig().getDouble("elites.size-multiplier", 4.0);
+            // Size multiplier from config, read when the archetype was built
+            double sizeMultiplier = archetype.getSize();
             
             // Visual indicators
             mob.setGlowing(true);
             // Store original name for health display
-            String originalName = mob.getType().name().replace("_", " ");
-            mob.setMetadata("original_name", new org.bukkit.metadata.FixedMetadataValue(plugin, originalName));
-            mob.setMetadata("is_elite", new org.bukkit.metadata.FixedMetadataValue(plugin, true));
+            mob.setMetadata("original_name", archetype.getNameValue());
+            mob.setMetadata("is_elite", plugin.getMobArchetypes().getFlag());
             // Health display will be updated by the periodic task
             
             // Try to scale entity size using Bukkit Attribute API (available in 1.20.5+)
@@ -1758,25 +1549,25 @@ public class GameManager {
      * Apply legendary mob scaling (size, visual effects)
      * Legendary mobs are rarer and stronger than elites
      */
-    private void applyLegendaryScaling(LivingEntity mob) {
+    private void applyLegendaryScaling(LivingEntity mob, TeamRun teamRun, MobArchetypes.MobArchetype archetype) {
         try {
-            // Get size multiplier from config (2.1x - 0.4x bigger than elite)
-            double sizeMultiplier = plugin.getConfigManager().getBalanceConfig().getDouble("legendary.size-multiplier", 2.1);
+            // Size multiplier from config (2.1x - 0.4x bigger than elite), read when the archetype was built
+            double sizeMultiplier = archetype.getSize();
             
             // Visual indicators - legendary gets golden glow effect using team color
             mob.setGlowing(true);
             // Set gold glow color using scoreboard team
             setGoldGlowColor(mob);
             // Store original name for health display
-            String originalName = mob.getType().name().replace("_", " ");
-            mob.setMetadata("original_name", new org.bukkit.metadata.FixedMetadataValue(plugin, originalName));
-            mob.setMetadata("is_elite", new org.bukkit.metadata.FixedMetadataValue(plugin, true)); // Legendary is also elite
-            mob.setMetadata("is_legendary", new org.bukkit.metadata.FixedMetadataValue(plugin, true)); // Special legendary tag
-            mob.setMetadata("roguecraft_legendary", new org.bukkit.metadata.FixedMetadataValue(plugin, true)); // For easy checking
+            org.bukkit.metadata.FixedMetadataValue flag = plugin.getMobArchetypes().getFlag();
+            mob.setMetadata("original_name", archetype.getNameValue());
+            mob.setMetadata("is_elite", flag); // Legendary is also elite
+            mob.setMetadata("is_legendary", flag); // Special legendary tag
+            mob.setMetadata("roguecraft_legendary", flag); // For easy checking
             // Health display will be updated by the periodic task
             
-            // Start legendary particle effect (golden/purple particles)
-            startLegendaryParticleEffect(mob);
+            // Golden particle glow is drawn by the run's boss controller
+            getBossController(teamRun).addLegendary(mob);
             
             // Try to scale entity size using Bukkit Attribute API (available in 1.20.5+)
             try {
@@ -1933,6 +1724,11 @@ public class GameManager {
         
         double currentHealth = mob.getHealth();
         double maxHealth = mob.getMaxHealth();
+        // Horde stacks show pooled HP: this unit's health plus full health for every unit behind it
+        HordeStack stack = hordeStacks.get(mob.getUniqueId());
+        int units = stack != null ? stack.units : 1;
+        currentHealth += maxHealth * (units - 1);
+        maxHealth *= units;
         double healthPercent = (currentHealth / maxHealth) * 100.0;
         
         // Choose color based on health percentage
@@ -1978,6 +1774,8 @@ public class GameManager {
             name = "§6§l★ LEGENDARY ★ §r" + originalName + " §7[" + healthColor + healthDisplay + "§7]";
         } else if (isElite) {
             name = "§c§l⚡ ELITE §r" + originalName + " §7[" + healthColor + healthDisplay + "§7]";
+        } else if (units > 1) {
+            name = "§e§l×" + units + " §r" + originalName + " §7[" + healthColor + healthDisplay + "§7]";
         } else {
             name = originalName + " §7[" + healthColor + healthDisplay + "§7]";
         }
@@ -1998,9 +1796,11 @@ public class GameManager {
             // Don't cancel the main game loop, just add health display to it
         }
         
-        // Update mob health displays every second (20 ticks)
+        // Update mob health displays every second (20 ticks), less often when the server is struggling
+        final int[] pass = {0};
         Bukkit.getScheduler().runTaskTimer(plugin, () -> {
             if (!teamRun.isActive()) return;
+            if (pass[0]++ % plugin.getQualityGovernor().getIntervalMultiplier() != 0) return;
             
             // Update health for all nearby mobs for all players
             for (Player player : teamRun.getPlayers()) {
@@ -2020,37 +1820,42 @@ public class GameManager {
         }, 20L, 20L); // Every second
     }
     
-    private void applyMobSpeedScaling(LivingEntity mob, int wave, double difficultyMultiplier) {
+    /**
+     * Apply a wave archetype to a fresh mob: scaled health and speed, name and tags.
+     * Shared by wave spawns and horde stack respawns so both come out the same.
+     */
+    private void applyWaveArchetype(LivingEntity mob, MobArchetypes.MobArchetype archetype) {
+        // Cap health at Minecraft's maximum (2048.0) to prevent errors
+        double finalMaxHealth = Math.min(2048.0, mob.getMaxHealth() * archetype.getHealthMultiplier());
+        mob.setMaxHealth(finalMaxHealth);
+        mob.setHealth(finalMaxHealth);
+        
+        // Original name for the health display
+        mob.setMetadata("original_name", archetype.getNameValue());
+        
+        // Tag undead mobs (sunlight damage) and creepers as roguecraft mobs
+        if (archetype.isTagged()) {
+            mob.setMetadata("roguecraft_mob", plugin.getMobArchetypes().getFlag());
+        }
+        
+        // Make creepers explode faster (reduced fuse time)
+        if (archetype.hasShortFuse()) {
+            // Set max fuse ticks to 10 (0.5 seconds) instead of default 30 (1.5 seconds)
+            ((org.bukkit.entity.Creeper) mob).setMaxFuseTicks(10);
+        }
+        
+        // Scale mob movement speed with wave number and difficulty
+        applyMobSpeedScaling(mob, archetype.getSpeedMultiplier());
+    }
+    
+    /**
+     * Apply an archetype's speed multiplier (wave and difficulty scaling) to a fresh mob
+     */
+    private void applyMobSpeedScaling(LivingEntity mob, double speedMultiplier) {
         try {
-            org.bukkit.attribute.Attribute speedAttr = org.bukkit.attribute.Attribute.GENERIC_MOVEMENT_SPEED;
-            org.bukkit.attribute.AttributeInstance speedInstance = mob.getAttribute(speedAttr);
-            
+            org.bukkit.attribute.AttributeInstance speedInstance = mob.getAttribute(org.bukkit.attribute.Attribute.GENERIC_MOVEMENT_SPEED);
             if (speedInstance != null) {
-                double baseSpeed = speedInstance.getBaseValue();
-                
-                // Get max wave from config
-                int maxWave = plugin.getConfigManager().getBalanceConfig().getInt("waves.max-wave", 20);
-                boolean isInfiniteWave = wave > maxWave;
-                
-                double waveSpeedMultiplier;
-                if (isInfiniteWave) {
-                    // Infinite waves: Horrific speed scaling
-                    // Start at +50% for wave 21, then add 5% per infinite wave (uncapped)
-                    // Wave 30 = +95%, Wave 40 = +145%, Wave 50 = +195%, etc.
-                    int infiniteWaveNumber = wave - maxWave;
-                    double infiniteSpeedBonus = 0.50 + (infiniteWaveNumber * 0.05); // 5% per infinite wave
-                    waveSpeedMultiplier = 1.0 + infiniteSpeedBonus; // No cap - let it scale horrifically
-                } else {
-                    // Regular waves: Increase speed by 0.5% per wave, capped at +50%
-                    waveSpeedMultiplier = 1.0 + Math.min(0.5, wave * 0.005);
-                }
-                
-                // Additional scaling from difficulty (time-based) - reduced
-                double difficultySpeedBonus = Math.min(0.25, (difficultyMultiplier - 1.0) * 0.25);
-                
-                double newSpeed = baseSpeed * waveSpeedMultiplier * (1.0 + difficultySpeedBonus);
-                
-                speedInstance.setBaseValue(newSpeed);
+                speedInstance.setBaseValue(speedInstance.getBaseValue() * speedMultiplier);
             }
         } catch (Exception e) {
             // Some mobs might not have speed attribute, ignore
@@ -2209,18 +2014,8 @@ public class GameManager {
                     player.sendMessage("§6§lLEVEL UP! §eLevel " + teamRun.getLevel());
                     player.sendMessage("§aChoose your power-up!");
                     
-                    // Flash XP bar for level up
-                    com.eldor.roguecraft.util.XPBar.flashLevelUp(player, teamRun.getLevel());
-                    
-                    // Update XP bar with gold after level up
-                    com.eldor.roguecraft.util.XPBar.updateXPBarWithGold(
-                        player,
-                        teamRun.getExperience(),
-                        teamRun.getExperienceToNextLevel(),
-                        teamRun.getLevel(),
-                        teamRun.getWave(),
-                        teamRun.getCurrentGold()
-                    );
+                    // Flash XP bar for level up (the new XP, level and gold show when the flash ends)
+                    plugin.getHudRenderer().flashLevelUp(player, teamRun);
                 }
             }
             
@@ -2258,18 +2053,9 @@ public class GameManager {
                 player.sendMessage("§6§lLEVEL UP! §eLevel " + soloRun.getLevel());
                 player.sendMessage("§aChoose your power-up!");
                 
-                // Flash XP bar for level up
-                com.eldor.roguecraft.util.XPBar.flashLevelUp(player, soloRun.getLevel());
-                
-                // Update XP bar with gold after level up
-                com.eldor.roguecraft.util.XPBar.updateXPBarWithGold(
-                    player,
-                    soloRun.getExperience(),
-                    soloRun.getExperienceToNextLevel(),
-                    soloRun.getLevel(),
-                    soloRun.getWave(),
-                    soloRun.getCurrentGold()
-                );
+                // Update XP bar after level up, then flash it
+                plugin.getHudRenderer().markDirty(soloRun);
+                plugin.getHudRenderer().flashLevelUp(player, soloRun);
                 
                 // Open power-up GUI
                 plugin.getGuiManager().openPowerUpGUI(player, soloRun);
@@ -2333,9 +2119,12 @@ public class GameManager {
         // Clean up last damage time tracking for all players in the team
         if (teamRun != null) {
             for (UUID playerId : teamRun.getPlayerIds()) {
-                lastDamageTime.remove(playerId);
+                lastDamageTick.remove(playerId);
             }
         }
+        
+        // Drop the damage ledger (stats were already reported above)
+        plugin.getDamageLedgerManager().stopLedger(teamId);
 
         if (arena != null) {
             arena.setActive(false);
@@ -2361,7 +2150,7 @@ public class GameManager {
                         healthTask.cancel();
                     }
                     // Remove XP bar
-                    com.eldor.roguecraft.util.XPBar.removeXPBar(player);
+                    plugin.getHudRenderer().removePlayer(player);
                     // Reset attributes
                     resetPlayerAttributes(player);
                     // Clean up shrine channeling
@@ -2400,7 +2189,17 @@ public class GameManager {
         }
         
         // Clean up time freeze tracking
-        timeFreezeEndTime.remove(playerId);
+        MobRegistry soloRegistry = mobRegistries.remove(playerId);
+        if (soloRegistry != null) {
+            soloRegistry.thawAll();
+        }
+        BossController soloBosses = bossControllers.remove(playerId);
+        if (soloBosses != null) {
+            soloBosses.stop();
+        }
+        
+        // Drop the damage ledger (stats were already reported above)
+        plugin.getDamageLedgerManager().stopLedger(playerId);
 
         if (arena != null) {
             arena.setActive(false);
@@ -2419,13 +2218,14 @@ public class GameManager {
             ((TeamRun) run).setActive(false);
         }
         
-        // 1. Stop all weapon auto-attacks, remove XP bars, stop health display, and clean up shrine channeling
+        // 1. Remove the run's XP bars and heal buckets, stop all weapon auto-attacks, stop health display, and clean up shrine channeling
+        plugin.getHudRenderer().releaseRun(run);
+        plugin.getHealingService().releaseRun(run);
         if (run instanceof TeamRun) {
             TeamRun teamRun = (TeamRun) run;
             for (Player player : teamRun.getPlayers()) {
                 if (player != null && player.isOnline()) {
                     plugin.getWeaponManager().stopAutoAttack(player);
-                    com.eldor.roguecraft.util.XPBar.removeXPBar(player);
                     
                     // Stop health display
                     BukkitTask healthTask = healthDisplayTasks.remove(player.getUniqueId());
@@ -2452,7 +2252,6 @@ public class GameManager {
             Player player = Bukkit.getPlayer(runId);
             if (player != null) {
                 plugin.getWeaponManager().stopAutoAttack(player);
-                com.eldor.roguecraft.util.XPBar.removeXPBar(player);
                 
                 // Stop health display
                 BukkitTask healthTask = healthDisplayTasks.remove(player.getUniqueId());
@@ -2476,16 +2275,22 @@ public class GameManager {
             removeArenaBorder((TeamRun) run, arena);
         }
         
-        // 3. Unfreeze all mobs
-        Set<LivingEntity> frozen = frozenMobs.remove(runId);
-        if (frozen != null) {
-            for (LivingEntity mob : frozen) {
-                if (mob != null && !mob.isDead()) {
-                    mob.setAI(true);
-                    mob.setGravity(true);
-                }
-            }
+        // 3. Unfreeze all mobs and stop boss/legendary effects and crowd steering
+        MobRegistry registry = mobRegistries.remove(runId);
+        if (registry != null) {
+            registry.thawAll();
+        }
+        BossController bossController = bossControllers.remove(runId);
+        if (bossController != null) {
+            bossController.stop();
+        }
+        CrowdSteering crowdSteering = crowdSteerings.remove(runId);
+        if (crowdSteering != null) {
+            crowdSteering.stop();
         }
+        hordeStacks.values().removeIf(stack -> stack.runId.equals(runId));
+        plugin.getFxEmitter().unregisterViewers(runId);
+        plugin.getRunRandom().releaseRun(runId);
         
         // 4. Remove all spawned mobs and plugin entities in arena
         if (arena != null && arena.getCenter() != null) {
@@ -2526,36 +2331,37 @@ public class GameManager {
         
         // 5. Clean up boss spawn tracking
         bossSpawnedWave.remove(runId);
-        timeFreezeEndTime.remove(runId);
-        lastDamageTime.remove(runId);
+        lastDamageTick.remove(runId);
         
         // 5. Close any open GUIs for players
         if (run instanceof TeamRun) {
             TeamRun teamRun = (TeamRun) run;
             for (Player player : teamRun.getPlayers()) {
                 if (player != null && player.isOnline()) {
-                    if (player.getOpenInventory().getTopInventory().getHolder() == null) {
-                        player.closeInventory();
-                    }
+                    plugin.getGuiRouter().closeAll(player.getUniqueId()); // Closes without running the GUI's close logic
                     teamRun.setPlayerInGUI(player.getUniqueId(), false);
+                    plugin.getFreezeController().release(player);
                 }
             }
         } else if (run instanceof Run) {
             Player player = Bukkit.getPlayer(runId);
             if (player != null && player.isOnline()) {
-                if (player.getOpenInventory().getTopInventory().getHolder() == null) {
-                    player.closeInventory();
-                }
+                plugin.getGuiRouter().closeAll(player.getUniqueId());
+                plugin.getFreezeController().release(player);
             }
         }
         
         // 6. Remove physical shrines (for both team and solo runs)
+        plugin.getPlacementPlanner().cancel(runId); // A layout still being planned must not spawn after cleanup
         plugin.getShrineManager().removeShrinesForRun(runId);
         
         // 6b. Remove gacha chests (for both team and solo runs)
+        // Both restore exactly the blocks they recorded through the block queue, so no arena scan is needed
         plugin.getChestManager().removeChestsForRun(runId);
+        plugin.getProximityManager().removeIndex(runId);
+        plugin.getArenaChunkService().release(runId); // Tickets drop once the restores above have landed
         
-        // 6c. Double-check all shrines are removed and clean up any remaining entities
+        // 6c. Clean up any remaining plugin entities
         if (arena != null && arena.getCenter() != null) {
             double radius = arena.getRadius();
             org.bukkit.World world = arena.getCenter().getWorld();
@@ -2579,8 +2385,9 @@ public class GameManager {
                     }
                 }
                 
-                // Remove XP display ArmorStands
-                if (entity instanceof org.bukkit.entity.ArmorStand && entity.hasMetadata("roguecraft_xp_display")) {
+                // Remove display ArmorStands (gacha roll text) and any stray floating text
+                if ((entity instanceof org.bukkit.entity.ArmorStand || entity instanceof org.bukkit.entity.TextDisplay)
+                        && entity.hasMetadata("roguecraft_xp_display")) {
                     entity.remove();
                     removedEntities++;
                     continue;
@@ -2612,108 +2419,6 @@ public class GameManager {
             if (removedEntities > 0) {
                 plugin.getLogger().info("[GameManager] Removed " + removedEntities + " plugin entities (items, ArmorStands, ItemFrames) from arena during cleanup");
             }
-            
-            // Double-check shrines are removed by scanning for shrine blocks
-            List<com.eldor.roguecraft.models.Shrine> remainingShrines = plugin.getShrineManager().getShrinesForRun(runId);
-            if (remainingShrines != null && !remainingShrines.isEmpty()) {
-                plugin.getLogger().warning("[GameManager] Found " + remainingShrines.size() + " remaining shrines after cleanup, forcing removal");
-                for (com.eldor.roguecraft.models.Shrine shrine : remainingShrines) {
-                    if (shrine != null) {
-                        try {
-                            shrine.remove();
-                        } catch (Exception e) {
-                            plugin.getLogger().warning("[GameManager] Error removing remaining shrine: " + e.getMessage());
-                        }
-                    }
-                }
-                // Clear the list
-                remainingShrines.clear();
-            }
-            
-            // 6d. Aggressive block cleanup - scan entire arena for any remaining shrine blocks
-            int removedBlocks = 0;
-            org.bukkit.Location center = arena.getCenter();
-            double arenaRadius = arena.getRadius();
-            int centerX = center.getBlockX();
-            int centerY = center.getBlockY();
-            int centerZ = center.getBlockZ();
-            
-            // Scan a larger area to catch any missed blocks
-            int scanRadius = (int) Math.ceil(arenaRadius) + 5; // Add 5 blocks buffer
-            int minY = centerY - 5; // Check below arena
-            int maxY = centerY + 10; // Check above arena
-            
-            for (int x = centerX - scanRadius; x <= centerX + scanRadius; x++) {
-                for (int z = centerZ - scanRadius; z <= centerZ + scanRadius; z++) {
-                    // Check distance from center
-                    double distance = Math.sqrt(Math.pow(x - centerX, 2) + Math.pow(z - centerZ, 2));
-                    if (distance > arenaRadius + 10) continue; // Skip if too far
-                    
-                    for (int y = minY; y <= maxY; y++) {
-                        org.bukkit.block.Block block = world.getBlockAt(x, y, z);
-                        if (block == null) continue;
-                        
-                        org.bukkit.Material mat = block.getType();
-                        
-                        // Remove shrine-related blocks
-                        if (mat == org.bukkit.Material.SKELETON_SKULL ||
-                            mat == org.bukkit.Material.BLACK_CONCRETE ||
-                            mat == org.bukkit.Material.BLACK_TERRACOTTA ||
-                            mat == org.bukkit.Material.OBSIDIAN ||
-                            mat == org.bukkit.Material.BLACKSTONE ||
-                            mat == org.bukkit.Material.SOUL_TORCH ||
-                            mat == org.bukkit.Material.END_ROD ||
-                            mat == org.bukkit.Material.DARK_OAK_FENCE ||
-                            (mat.name().contains("CONCRETE") && (mat.name().contains("BLACK") || mat.name().contains("GRAY"))) ||
-                            (mat.name().contains("TERRACOTTA") && (mat.name().contains("BLACK") || mat.name().contains("GRAY")))) {
-                            // Ensure chunk is loaded
-                            org.bukkit.Chunk chunk = block.getChunk();
-                            if (!chunk.isLoaded()) {
-                                chunk.load();
-                            }
-                            block.setType(org.bukkit.Material.AIR);
-                            removedBlocks++;
-                            
-                            // Update lighting for this block to fix dark particles
-                            world.getBlockAt(block.getLocation()).getState().update(false, false);
-                        }
-                    }
-                }
-            }
-            
-            if (removedBlocks > 0) {
-                plugin.getLogger().info("[GameManager] Removed " + removedBlocks + " shrine blocks during aggressive cleanup");
-                
-                // Refresh lighting for all affected chunks to fix dark particles
-                // Get all unique chunks that were modified
-                Set<org.bukkit.Chunk> modifiedChunks = new HashSet<>();
-                int refreshRadius = (int) Math.ceil(arenaRadius) + 5;
-                for (int x = centerX - refreshRadius; x <= centerX + refreshRadius; x += 16) {
-                    for (int z = centerZ - refreshRadius; z <= centerZ + refreshRadius; z += 16) {
-                        double distance = Math.sqrt(Math.pow(x - centerX, 2) + Math.pow(z - centerZ, 2));
-                        if (distance <= arenaRadius + 10) {
-                            org.bukkit.Chunk chunk = world.getChunkAt(x >> 4, z >> 4);
-                            if (!chunk.isLoaded()) {
-                                chunk.load();
-                            }
-                            modifiedChunks.add(chunk);
-                        }
-                    }
-                }
-                
-                // Refresh lighting for all modified chunks
-                for (org.bukkit.Chunk chunk : modifiedChunks) {
-                    try {
-                        // Refresh chunk lighting to fix dark particles
-                        world.refreshChunk(chunk.getX(), chunk.getZ());
-                    } catch (Exception e) {
-                        // Some server implementations may not support refreshChunk, that's okay
-                        plugin.getLogger().fine("Could not refresh chunk lighting: " + e.getMessage());
-                    }
-                }
-                
-                plugin.getLogger().info("[GameManager] Refreshed lighting for " + modifiedChunks.size() + " chunks");
-            }
         }
         
         // 7. Clear GUI queue for all players in the run
@@ -2764,7 +2469,19 @@ public class GameManager {
         runTasks.clear();
         spawnTasks.clear();
         healthDisplayTasks.clear();
-        frozenMobs.clear();
+        for (MobRegistry registry : mobRegistries.values()) {
+            registry.thawAll();
+        }
+        mobRegistries.clear();
+        for (BossController bossController : bossControllers.values()) {
+            bossController.stop();
+        }
+        bossControllers.clear();
+        for (CrowdSteering crowdSteering : crowdSteerings.values()) {
+            crowdSteering.stop();
+        }
+        crowdSteerings.clear();
+        hordeStacks.clear();
         originalBorders.clear();
     }
     
@@ -2808,17 +2525,18 @@ public class GameManager {
             mob.setMetadata("roguecraft_nuked", new org.bukkit.metadata.FixedMetadataValue(plugin, true));
         }
         
-        // Create explosion particles at each mob location
+        // Create explosion particles at each mob location (merged, culled and budgeted by the FxEmitter)
+        FxEmitter fx = plugin.getFxEmitter();
         for (LivingEntity mob : mobsToKill) {
             Location mobLoc = mob.getLocation();
             
             // Spawn explosion particles
-            world.spawnParticle(org.bukkit.Particle.EXPLOSION, mobLoc, 3, 0.5, 0.5, 0.5, 0.1);
-            world.spawnParticle(org.bukkit.Particle.EXPLOSION, mobLoc, 10, 1.0, 1.0, 1.0, 0.05);
-            world.spawnParticle(org.bukkit.Particle.SMOKE, mobLoc, 15, 1.0, 1.0, 1.0, 0.1);
+            fx.particle(org.bukkit.Particle.EXPLOSION, mobLoc, 3, 0.5, 0.5, 0.5, 0.1);
+            fx.particle(org.bukkit.Particle.EXPLOSION, mobLoc, 10, 1.0, 1.0, 1.0, 0.05);
+            fx.particle(org.bukkit.Particle.SMOKE, mobLoc, 15, 1.0, 1.0, 1.0, 0.1);
             
             // Play explosion sound
-            world.playSound(mobLoc, org.bukkit.Sound.ENTITY_GENERIC_EXPLODE, 0.8f, 0.8f);
+            fx.sound(mobLoc, org.bukkit.Sound.ENTITY_GENERIC_EXPLODE, 0.8f, 0.8f);
         }
         
         // Kill all mobs (slight delay for visual effect)
@@ -2832,8 +2550,8 @@ public class GameManager {
         
         // Additional large explosion effect at arena center
         Bukkit.getScheduler().runTaskLater(plugin, () -> {
-            world.spawnParticle(org.bukkit.Particle.EXPLOSION_EMITTER, center, 1, 0, 0, 0, 0);
-            world.playSound(center, org.bukkit.Sound.ENTITY_GENERIC_EXPLODE, 1.0f, 0.5f);
+            fx.particle(org.bukkit.Particle.EXPLOSION_EMITTER, center, 1);
+            fx.sound(center, org.bukkit.Sound.ENTITY_GENERIC_EXPLODE, 1.0f, 0.5f);
         }, 10L); // 0.5 second delay
     }
     
@@ -3037,6 +2755,27 @@ public class GameManager {
             }
         }
         
+        // Per-source kill and damage totals from the run's damage ledger
+        UUID runId = run instanceof TeamRun ? getTeamRunId((TeamRun) run) : ((Run) run).getPlayerId();
+        com.eldor.roguecraft.models.DamageLedger ledger = plugin.getDamageLedgerManager().getLedger(runId);
+        if (ledger != null) {
+            boolean headerSent = false;
+            for (int source = 0; source < ledger.getSourceCount(); source++) {
+                if (ledger.getHits(source) == 0) {
+                    continue;
+                }
+                if (!headerSent) {
+                    player.sendMessage("");
+                    player.sendMessage("§6╠════════════════════════════════════╣");
+                    player.sendMessage("§6║          §c§lDAMAGE DEALT§6          ║");
+                    player.sendMessage("§6╠════════════════════════════════════╣");
+                    headerSent = true;
+                }
+                player.sendMessage("§e" + com.eldor.roguecraft.models.DamageLedger.getSourceName(source) + ": §f" +
+                    ledger.getKills(source) + " kills, " + String.format("%.0f", ledger.getDamage(source)) + " damage");
+            }
+        }
+        
         player.sendMessage("§6╚════════════════════════════════════╝");
         player.sendMessage("");
     }
@@ -0,0 +1,94 @@
+package com.eldor.roguecraft.managers;
+
+import com.eldor.roguecraft.RoguecraftPlugin;
+import org.bukkit.inventory.ItemStack;
+
+import java.util.*;
+import java.util.function.Supplier;
+
+/**
+ * Built ItemStacks for the level-up and shrine GUIs, so opening a GUI doesn't rebuild every item and its lore.
+ * Templates: items that never change (close button, border) or only with a small key (rerolls left, shrine type).
+ * Offer items: a power-up or shrine buff choice, keyed by its content; the same offer is shown to many players.
+ * Versioned items: per-player items (stats book, collected items) rebuilt only when their version changes.
+ * Returned stacks are shared - inventories copy them on setItem, so callers must never modify them.
+ */
+public class GuiItemCache {
+    private static final int MAX_OFFERS = 512; // Offer items kept before the cache is dropped and rebuilt on demand
+
+    private final RoguecraftPlugin plugin;
+    private final Map<String, ItemStack> templates;
+    private final Map<String, ItemStack> offers; // Offer content key -> choice item
+    private final Map<String, VersionedItem> versioned; // "view:player" -> item and the version it was built for
+
+    public GuiItemCache(RoguecraftPlugin plugin) {
+        this.plugin = plugin;
+        this.templates = new HashMap<>();
+        this.offers = new HashMap<>();
+        this.versioned = new HashMap<>();
+    }
+
+    /**
+     * A static item, built once
+     */
+    public ItemStack getTemplate(String key, Supplier<ItemStack> builder) {
+        ItemStack item = templates.get(key);
+        if (item == null) {
+            item = builder.get();
+            templates.put(key, item);
+        }
+        return item;
+    }
+
+    /**
+     * A choice item, shared by every GUI showing the same offer
+     */
+    public ItemStack getOffer(String key, Supplier<ItemStack> builder) {
+        ItemStack item = offers.get(key);
+        if (item == null) {
+            if (offers.size() >= MAX_OFFERS) {
+                offers.clear();
+            }
+            item = builder.get();
+            offers.put(key, item);
+        }
+        return item;
+    }
+
+    /**
+     * A player's item, rebuilt only when the version differs from the one it was built for
+     */
+    public ItemStack getVersioned(String view, UUID playerId, Supplier<ItemStack> builder, long... version) {
+        String key = view + ":" + playerId;
+        VersionedItem cached = versioned.get(key);
+        if (cached == null || !Arrays.equals(cached.version, version)) {
+            cached = new VersionedItem(builder.get(), version);
+            versioned.put(key, cached);
+        }
+        return cached.item;
+    }
+
+    /**
+     * Forget a player's items (run end)
+     */
+    public void releasePlayer(UUID playerId) {
+        String suffix = ":" + playerId;
+        versioned.keySet().removeIf(key -> key.endsWith(suffix));
+    }
+
+    public void cleanup() {
+        templates.clear();
+        offers.clear();
+        versioned.clear();
+    }
+
+    private static final class VersionedItem {
+        private final ItemStack item;
+        private final long[] version;
+
+        private VersionedItem(ItemStack item, long[] version) {
+            this.item = item;
+            this.version = version;
+        }
+    }
+}
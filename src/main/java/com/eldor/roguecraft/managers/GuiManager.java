@@ -46,6 +46,7 @@ public class GuiManager {
             plugin.getGameManager().updateMobFreeze(teamRun);
         }
         
+        plugin.getFreezeController().refresh(playerId);
         new PowerUpGUI(plugin, player, run).open();
     }
 
@@ -67,6 +68,7 @@ public class GuiManager {
         // Freeze mobs IMMEDIATELY before opening GUI (removes projectiles and freezes mobs)
         plugin.getGameManager().updateMobFreeze(teamRun);
         
+        plugin.getFreezeController().refresh(playerId);
         new PowerUpGUI(plugin, player, teamRun).open();
     }
 
@@ -95,6 +97,7 @@ public class GuiManager {
         }
         
         plugin.getLogger().info("[GuiManager] Opening shrine GUI for " + player.getName() + ". playersInGUI now contains: " + playersInGUI.contains(playerId));
+        plugin.getFreezeController().refresh(playerId);
         new ShrineGUI(plugin, player, shrine, teamId).open();
     }
     
@@ -119,6 +122,7 @@ public class GuiManager {
             plugin.getGameManager().updateMobFreeze(teamRun);
         }
         
+        plugin.getFreezeController().refresh(playerId);
         new GachaRollGUI(plugin, player, item, luck, run).open();
     }
     
@@ -140,6 +144,7 @@ public class GuiManager {
         // Freeze mobs IMMEDIATELY before opening GUI
         plugin.getGameManager().updateMobFreeze(teamRun);
         
+        plugin.getFreezeController().refresh(playerId);
         new GachaRollGUI(plugin, player, item, luck, teamRun).open();
     }
     
@@ -157,6 +162,7 @@ public class GuiManager {
         UUID playerId = player.getUniqueId();
         boolean removed = playersInGUI.remove(playerId);
         plugin.getLogger().info("[GuiManager] Player " + player.getName() + " closed GUI. Removed from playersInGUI: " + removed + ". Set now contains: " + playersInGUI.contains(playerId));
+        plugin.getFreezeController().refresh(playerId);
         
         // Check if there are queued GUIs
         LinkedList<PendingGUI> queue = guiQueue.get(playerId);
@@ -187,11 +193,13 @@ public class GuiManager {
                     teamRun.setPlayerInGUI(playerId, true);
                     plugin.getGameManager().updateMobFreeze(teamRun);
                 }
+                plugin.getFreezeController().refresh(playerId);
                 new PowerUpGUI(plugin, player, gui.run).open();
                 break;
             case POWERUP_TEAM:
                 gui.teamRun.setPlayerInGUI(playerId, true);
                 plugin.getGameManager().updateMobFreeze(gui.teamRun);
+                plugin.getFreezeController().refresh(playerId);
                 new PowerUpGUI(plugin, player, gui.teamRun).open();
                 break;
             case SHRINE:
@@ -202,6 +210,7 @@ public class GuiManager {
                         plugin.getGameManager().updateMobFreeze(shrineTeamRun);
                     }
                 }
+                plugin.getFreezeController().refresh(playerId);
                 new ShrineGUI(plugin, player, gui.shrine, gui.teamId).open();
                 break;
             case GACHA_ROLL_SOLO:
@@ -210,11 +219,13 @@ public class GuiManager {
                     gachaTeamRun.setPlayerInGUI(playerId, true);
                     plugin.getGameManager().updateMobFreeze(gachaTeamRun);
                 }
+                plugin.getFreezeController().refresh(playerId);
                 new GachaRollGUI(plugin, player, gui.gachaItem, gui.luck, gui.run).open();
                 break;
             case GACHA_ROLL_TEAM:
                 gui.teamRun.setPlayerInGUI(playerId, true);
                 plugin.getGameManager().updateMobFreeze(gui.teamRun);
+                plugin.getFreezeController().refresh(playerId);
                 new GachaRollGUI(plugin, player, gui.gachaItem, gui.luck, gui.teamRun).open();
                 break;
         }
@@ -233,6 +244,11 @@ public class GuiManager {
     public void clearQueue(UUID playerId) {
         guiQueue.remove(playerId);
         playersInGUI.remove(playerId);
+        plugin.getGuiRouter().closeAll(playerId); // Drop any GUI still open for the player
+        plugin.getGuiItemCache().releasePlayer(playerId);
+        plugin.getOfferPrefetcher().releasePlayer(playerId);
+        plugin.getFloatingTextService().releasePlayer(playerId);
+        plugin.getFreezeController().refresh(playerId);
     }
     
     /**
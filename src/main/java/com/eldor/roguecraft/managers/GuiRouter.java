@@ -0,0 +1,137 @@
+package com.eldor.roguecraft.managers;
+
+import com.eldor.roguecraft.RoguecraftPlugin;
+import com.eldor.roguecraft.gui.GuiHolder;
+import com.eldor.roguecraft.gui.RoutedGUI;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.inventory.InventoryClickEvent;
+import org.bukkit.event.inventory.InventoryCloseEvent;
+import org.bukkit.event.inventory.InventoryOpenEvent;
+import org.bukkit.inventory.Inventory;
+import org.bukkit.inventory.InventoryHolder;
+
+import java.util.*;
+import java.util.logging.Level;
+
+/**
+ * Single listener for every plugin GUI.
+ * GUI inventories are created here with a GuiHolder, so a click or close is routed to its GUI straight from
+ * the inventory's holder instead of being offered to every open GUI. GUIs hold no listener registration,
+ * so one that is never opened or never closed is simply garbage collected.
+ * Open GUIs are tracked per viewer; a run ending closes its players' GUIs without running their close logic.
+ */
+public class GuiRouter implements Listener {
+    private final RoguecraftPlugin plugin;
+    private final Map<UUID, GuiHolder> openByViewer; // Player -> the plugin GUI inventory they have open
+    private long leaked; // GUIs whose close was never seen (replaced by another open, or found stale at cleanup)
+
+    public GuiRouter(RoguecraftPlugin plugin) {
+        this.plugin = plugin;
+        this.openByViewer = new HashMap<>();
+        plugin.getServer().getPluginManager().registerEvents(this, plugin);
+    }
+
+    /**
+     * Create an inventory whose events go to the given GUI
+     */
+    public Inventory createInventory(RoutedGUI gui, Player viewer, int size, String title) {
+        GuiHolder holder = new GuiHolder(gui, viewer.getUniqueId());
+        Inventory inventory = Bukkit.createInventory(holder, size, title);
+        holder.setInventory(inventory);
+        return inventory;
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onInventoryOpen(InventoryOpenEvent event) {
+        InventoryHolder holder = event.getInventory().getHolder();
+        if (!(holder instanceof GuiHolder)) {
+            return;
+        }
+        GuiHolder previous = openByViewer.put(event.getPlayer().getUniqueId(), (GuiHolder) holder);
+        if (previous != null && previous != holder) {
+            // Opening over another inventory closes it first, so the old one's close should already have arrived
+            leaked++;
+        }
+    }
+
+    @EventHandler
+    public void onInventoryClick(InventoryClickEvent event) {
+        InventoryHolder holder = event.getInventory().getHolder();
+        if (!(holder instanceof GuiHolder)) {
+            return;
+        }
+        GuiHolder guiHolder = (GuiHolder) holder;
+        if (guiHolder.isDiscarded()) {
+            event.setCancelled(true);
+            return;
+        }
+        try {
+            guiHolder.getGui().onInventoryClick(event);
+        } catch (Throwable t) {
+            event.setCancelled(true); // Never let items out of a broken GUI
+            plugin.getLogger().log(Level.SEVERE, "[GuiRouter] " + guiHolder.getGui().getClass().getSimpleName() + " click handler failed", t);
+        }
+    }
+
+    @EventHandler
+    public void onInventoryClose(InventoryCloseEvent event) {
+        InventoryHolder holder = event.getInventory().getHolder();
+        if (!(holder instanceof GuiHolder)) {
+            return;
+        }
+        GuiHolder guiHolder = (GuiHolder) holder;
+        openByViewer.remove(event.getPlayer().getUniqueId(), guiHolder);
+        if (guiHolder.isDiscarded()) {
+            return;
+        }
+        try {
+            guiHolder.getGui().onInventoryClose(event);
+        } catch (Throwable t) {
+            plugin.getLogger().log(Level.SEVERE, "[GuiRouter] " + guiHolder.getGui().getClass().getSimpleName() + " close handler failed", t);
+        }
+    }
+
+    /**
+     * Close a player's open plugin GUI without running its close logic (run cleanup)
+     */
+    public void closeAll(UUID viewerId) {
+        GuiHolder holder = openByViewer.remove(viewerId);
+        if (holder == null) {
+            return;
+        }
+        holder.discard();
+        Player viewer = Bukkit.getPlayer(viewerId);
+        if (viewer != null && viewer.isOnline() && viewer.getOpenInventory().getTopInventory().getHolder() == holder) {
+            viewer.closeInventory();
+        } else {
+            leaked++;
+            plugin.getLogger().warning("[GuiRouter] Dropped a " + holder.getGui().getClass().getSimpleName() +
+                " for " + viewerId + " that never reported closing");
+        }
+    }
+
+    /**
+     * Plugin GUIs currently open
+     */
+    public int getOpenCount() {
+        return openByViewer.size();
+    }
+
+    /**
+     * GUIs that were dropped without a close event since startup
+     */
+    public long getLeakCount() {
+        return leaked;
+    }
+
+    public void cleanup() {
+        for (UUID viewerId : new ArrayList<>(openByViewer.keySet())) {
+            closeAll(viewerId);
+        }
+        openByViewer.clear();
+    }
+}
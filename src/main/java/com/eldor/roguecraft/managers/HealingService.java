@@ -0,0 +1,258 @@
+package com.eldor.roguecraft.managers;
+
+import com.eldor.roguecraft.RoguecraftPlugin;
+import com.eldor.roguecraft.models.PowerUp;
+import com.eldor.roguecraft.models.Run;
+import com.eldor.roguecraft.models.TeamRun;
+import org.bukkit.Bukkit;
+import org.bukkit.attribute.Attribute;
+import org.bukkit.attribute.AttributeInstance;
+import org.bukkit.entity.Player;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.*;
+
+/**
+ * All player healing during runs (lifesteal, regeneration, auras, pickups, shrines).
+ * Each run keeps its players in slots with primitive arrays: a token bucket per heal source (rate-limited sources
+ * take tokens, refilled from the RunClock tick count) and the HP waiting to be applied. Heals requested during a
+ * tick are summed and applied to each player once, in a single batch the next tick.
+ * The lifesteal percentage is worked out again only when the player's power-ups change (run stats version).
+ */
+public class HealingService {
+    /**
+     * Heal sources: HP refilled per second and bucket size (0 = not limited)
+     */
+    public enum Source {
+        LIFESTEAL(2.0, 2.0), // Max 1 heart per second, so lifesteal can't make a player invincible
+        REGENERATION(4.0, 4.0), // Max 2 hearts per second
+        AURA(0.0, 0.0),
+        PICKUP(0.0, 0.0),
+        SHRINE(0.0, 0.0);
+
+        private final double perSecond;
+        private final double capacity;
+
+        Source(double perSecond, double capacity) {
+            this.perSecond = perSecond;
+            this.capacity = capacity;
+        }
+    }
+
+    private static final int SOURCES = Source.values().length;
+
+    private final RoguecraftPlugin plugin;
+    private final Map<Object, RunHeals> runs; // TeamRun or Run -> its players' buckets
+    private BukkitTask flushTask; // Scheduled for the next tick while heals are pending
+
+    public HealingService(RoguecraftPlugin plugin) {
+        this.plugin = plugin;
+        this.runs = new HashMap<>();
+    }
+
+    /**
+     * Queue a heal for the player's run, limited by the source's bucket.
+     * Returns the HP that will be applied (0 if the bucket is empty or the player isn't in a run).
+     */
+    public double heal(Player player, Source source, double amount) {
+        if (amount <= 0) {
+            return 0.0;
+        }
+        Object run = getActiveRun(player);
+        if (run == null) {
+            return 0.0;
+        }
+        RunHeals heals = getHeals(run);
+        int slot = heals.getSlot(player.getUniqueId());
+        double granted = heals.take(slot, source, amount, currentTick());
+        if (granted > 0) {
+            heals.pending[slot] += granted;
+            if (flushTask == null && plugin.isEnabled()) {
+                flushTask = Bukkit.getScheduler().runTask(plugin, this::flush);
+            }
+        }
+        return granted;
+    }
+
+    /**
+     * Heal every intervalTicks while called regularly (regeneration aura). The first call only starts the timer.
+     */
+    public double healEvery(Player player, Source source, double amount, long intervalTicks) {
+        Object run = getActiveRun(player);
+        if (run == null) {
+            return 0.0;
+        }
+        RunHeals heals = getHeals(run);
+        int index = heals.getSlot(player.getUniqueId()) * SOURCES + source.ordinal();
+        long now = currentTick();
+        if (heals.nextHealTick[index] == 0L) {
+            heals.nextHealTick[index] = now + intervalTicks;
+            return 0.0;
+        }
+        if (now < heals.nextHealTick[index]) {
+            return 0.0;
+        }
+        heals.nextHealTick[index] = now + intervalTicks;
+        return heal(player, source, amount);
+    }
+
+    /**
+     * Heal a share of the damage dealt if the player has a Vampire Aura (weapon hits)
+     */
+    public double applyLifesteal(Player player, double damageDealt) {
+        Object run = getActiveRun(player);
+        if (run == null) {
+            return 0.0;
+        }
+        RunHeals heals = getHeals(run);
+        int slot = heals.getSlot(player.getUniqueId());
+        long version = run instanceof TeamRun ? ((TeamRun) run).getStatsVersion() : ((Run) run).getStatsVersion();
+        if (heals.lifestealVersion[slot] != version) {
+            heals.lifestealVersion[slot] = version;
+            heals.lifesteal[slot] = calculateLifesteal(run, player);
+        }
+        if (heals.lifesteal[slot] <= 0) {
+            return 0.0;
+        }
+        return heal(player, Source.LIFESTEAL, damageDealt * (heals.lifesteal[slot] / 100.0));
+    }
+
+    /**
+     * Lifesteal percentage from the player's first Vampire Aura (value 1.0 = 2% lifesteal, no cap)
+     */
+    private static double calculateLifesteal(Object run, Player player) {
+        List<PowerUp> powerUps = run instanceof TeamRun
+            ? ((TeamRun) run).getCollectedPowerUps(player)
+            : ((Run) run).getCollectedPowerUps();
+        for (PowerUp powerUp : powerUps) {
+            if (powerUp.getType() == PowerUp.PowerUpType.AURA) {
+                String name = powerUp.getName().toLowerCase();
+                if (name.contains("vampire") || name.contains("lifesteal")) {
+                    return powerUp.getValue() * 2.0;
+                }
+            }
+        }
+        return 0.0;
+    }
+
+    private Object getActiveRun(Player player) {
+        TeamRun teamRun = plugin.getRunManager().getTeamRun(player);
+        if (teamRun != null && teamRun.isActive()) {
+            return teamRun;
+        }
+        Run run = plugin.getRunManager().getRun(player);
+        return run != null && run.isActive() ? run : null;
+    }
+
+    private RunHeals getHeals(Object run) {
+        RunHeals heals = runs.get(run);
+        if (heals == null) {
+            heals = new RunHeals();
+            runs.put(run, heals);
+        }
+        return heals;
+    }
+
+    private long currentTick() {
+        return plugin.getRunClock().getTick();
+    }
+
+    /**
+     * Apply every pending heal, once per player
+     */
+    private void flush() {
+        flushTask = null;
+        for (RunHeals heals : runs.values()) {
+            for (int slot = 0; slot < heals.size; slot++) {
+                double amount = heals.pending[slot];
+                if (amount <= 0) {
+                    continue;
+                }
+                heals.pending[slot] = 0.0;
+                Player player = Bukkit.getPlayer(heals.players[slot]);
+                if (player == null || !player.isOnline() || player.isDead()) {
+                    continue;
+                }
+                AttributeInstance maxHealth = player.getAttribute(Attribute.GENERIC_MAX_HEALTH);
+                double max = maxHealth != null ? maxHealth.getValue() : 20.0;
+                double health = Math.min(max, player.getHealth() + amount);
+                if (health > player.getHealth()) {
+                    player.setHealth(health);
+                }
+            }
+        }
+    }
+
+    /**
+     * Forget a run's buckets and drop its pending heals (run cleanup)
+     */
+    public void releaseRun(Object run) {
+        runs.remove(run);
+    }
+
+    public void cleanup() {
+        if (flushTask != null) {
+            flushTask.cancel();
+            flushTask = null;
+        }
+        runs.clear();
+    }
+
+    /**
+     * One run's players by slot; per-source arrays are indexed slot * SOURCES + source
+     */
+    private static final class RunHeals {
+        private UUID[] players = new UUID[4];
+        private double[] tokens = new double[4 * SOURCES];
+        private long[] refillTick = new long[4 * SOURCES];
+        private long[] nextHealTick = new long[4 * SOURCES];
+        private double[] pending = new double[4];
+        private double[] lifesteal = new double[4];
+        private long[] lifestealVersion = new long[4];
+        private int size;
+
+        private int getSlot(UUID playerId) {
+            for (int slot = 0; slot < size; slot++) {
+                if (players[slot].equals(playerId)) {
+                    return slot;
+                }
+            }
+            if (size == players.length) {
+                int capacity = size * 2;
+                players = Arrays.copyOf(players, capacity);
+                tokens = Arrays.copyOf(tokens, capacity * SOURCES);
+                refillTick = Arrays.copyOf(refillTick, capacity * SOURCES);
+                nextHealTick = Arrays.copyOf(nextHealTick, capacity * SOURCES);
+                pending = Arrays.copyOf(pending, capacity);
+                lifesteal = Arrays.copyOf(lifesteal, capacity);
+                lifestealVersion = Arrays.copyOf(lifestealVersion, capacity);
+            }
+            int slot = size++;
+            players[slot] = playerId;
+            for (Source source : Source.values()) {
+                tokens[slot * SOURCES + source.ordinal()] = source.capacity; // Start full
+                refillTick[slot * SOURCES + source.ordinal()] = -1L;
+            }
+            lifestealVersion[slot] = -1L;
+            return slot;
+        }
+
+        /**
+         * Take up to amount from the slot's bucket for the source, after refilling it for the ticks since last time
+         */
+        private double take(int slot, Source source, double amount, long now) {
+            if (source.capacity <= 0) {
+                return amount;
+            }
+            int index = slot * SOURCES + source.ordinal();
+            if (refillTick[index] >= 0) {
+                double refill = (now - refillTick[index]) * source.perSecond / 20.0;
+                tokens[index] = Math.min(source.capacity, tokens[index] + refill);
+            }
+            refillTick[index] = now;
+            double granted = Math.min(amount, tokens[index]);
+            tokens[index] -= granted;
+            return granted;
+        }
+    }
+}
@@ -0,0 +1,267 @@
+package com.eldor.roguecraft.managers;
+
+import com.eldor.roguecraft.RoguecraftPlugin;
+import com.eldor.roguecraft.models.Run;
+import com.eldor.roguecraft.models.TeamRun;
+import org.bukkit.Bukkit;
+import org.bukkit.boss.BarColor;
+import org.bukkit.boss.BarStyle;
+import org.bukkit.boss.BossBar;
+import org.bukkit.entity.Player;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.*;
+
+/**
+ * Boss-bar HUD (wave, level, XP, gold) for every run.
+ * XP, gold, level and wave changes only mark the run dirty; every effects.hud-update-ticks the dirty runs are
+ * read once and each shown bar gets only the title, progress or color updates that actually changed.
+ * Bars belong to their run and are removed with it (releaseRun), or with the plugin.
+ */
+public class HudRenderer {
+    private static final long FLASH_TICKS = 40L; // Level-up flash length
+
+    private final RoguecraftPlugin plugin;
+    private final Map<Object, RunHud> runs; // TeamRun or Run -> its players' bars
+    private final int interval; // Ticks between flushes
+    private BukkitTask flushTask; // Only runs while something is dirty or flashing
+    private long ticks; // Ticks counted by flushes, for flash timing
+
+    public HudRenderer(RoguecraftPlugin plugin) {
+        this.plugin = plugin;
+        this.runs = new HashMap<>();
+        this.interval = Math.max(1, plugin.getConfigManager().getMainConfig().getInt("effects.hud-update-ticks", 4));
+    }
+
+    /**
+     * Give a player their run's bar, drawn right away (run start, weapon chosen, join)
+     */
+    public void show(Player player, Object run) {
+        if (!isActive(run)) {
+            return;
+        }
+        RunHud hud = getHud(run);
+        PlayerBar bar = hud.bars.get(player.getUniqueId());
+        if (bar == null) {
+            bar = new PlayerBar(player);
+            hud.bars.put(player.getUniqueId(), bar);
+        }
+        render(run, bar);
+    }
+
+    /**
+     * XP, gold, level or wave changed - the run's bars are redrawn on the next flush
+     */
+    public void markDirty(Object run) {
+        if (!isActive(run)) {
+            return; // Late events after cleanup must not bring back a released run's bars
+        }
+        RunHud hud = getHud(run);
+        if (run instanceof Run && hud.bars.isEmpty()) {
+            // Solo runs have no separate start step: the player's bar appears with the first update
+            Player player = ((Run) run).getPlayer();
+            if (player != null && player.isOnline()) {
+                hud.bars.put(player.getUniqueId(), new PlayerBar(player));
+            }
+        }
+        hud.dirty = true;
+        startFlushing();
+    }
+
+    /**
+     * Show the level-up banner on a player's bar for two seconds
+     */
+    public void flashLevelUp(Player player, Object run) {
+        RunHud hud = runs.get(run);
+        PlayerBar bar = hud != null ? hud.bars.get(player.getUniqueId()) : null;
+        if (bar == null) {
+            return;
+        }
+        bar.flashUntil = ticks + FLASH_TICKS;
+        hud.dirty = true;
+        startFlushing();
+    }
+
+    private static boolean isActive(Object run) {
+        if (run instanceof TeamRun) {
+            return ((TeamRun) run).isActive();
+        }
+        return run instanceof Run && ((Run) run).isActive();
+    }
+
+    private RunHud getHud(Object run) {
+        RunHud hud = runs.get(run);
+        if (hud == null) {
+            hud = new RunHud();
+            runs.put(run, hud);
+        }
+        return hud;
+    }
+
+    private void startFlushing() {
+        if (flushTask == null && plugin.isEnabled()) {
+            flushTask = Bukkit.getScheduler().runTaskTimer(plugin, this::flush, interval, interval);
+        }
+    }
+
+    private void flush() {
+        ticks += interval;
+        boolean busy = false;
+        for (Map.Entry<Object, RunHud> entry : runs.entrySet()) {
+            RunHud hud = entry.getValue();
+            if (!hud.dirty) {
+                continue;
+            }
+            hud.dirty = false;
+            for (PlayerBar bar : hud.bars.values()) {
+                render(entry.getKey(), bar);
+                if (bar.flashUntil > ticks) {
+                    hud.dirty = true; // Come back when the flash ends
+                }
+            }
+            busy |= hud.dirty;
+        }
+        if (!busy) {
+            flushTask.cancel();
+            flushTask = null;
+        }
+    }
+
+    /**
+     * Bring one bar up to date with its run, sending only the parts that changed
+     */
+    private void render(Object run, PlayerBar bar) {
+        int xp;
+        int required;
+        int level;
+        int wave;
+        int gold;
+        if (run instanceof TeamRun) {
+            TeamRun teamRun = (TeamRun) run;
+            xp = teamRun.getExperience();
+            required = teamRun.getExperienceToNextLevel();
+            level = teamRun.getLevel();
+            wave = teamRun.getWave();
+            gold = teamRun.getCurrentGold();
+        } else if (run instanceof Run) {
+            Run soloRun = (Run) run;
+            xp = soloRun.getExperience();
+            required = soloRun.getExperienceToNextLevel();
+            level = soloRun.getLevel();
+            wave = soloRun.getWave();
+            gold = soloRun.getCurrentGold();
+        } else {
+            return;
+        }
+
+        // Prevent division by zero - if no XP is required, show a full bar
+        double progress = required > 0 ? Math.min(1.0, Math.max(0.0, (double) xp / required)) : 1.0;
+        if (progress != bar.progress) {
+            bar.progress = progress;
+            bar.bossBar.setProgress(progress);
+        }
+
+        boolean flashing = bar.flashUntil > ticks;
+        BarColor color;
+        if (flashing) {
+            color = BarColor.YELLOW; // Gold/legendary color while flashing
+        } else if (progress < 0.33) {
+            color = BarColor.RED;
+        } else if (progress < 0.66) {
+            color = BarColor.YELLOW;
+        } else {
+            color = BarColor.GREEN;
+        }
+        if (color != bar.color) {
+            bar.color = color;
+            bar.bossBar.setColor(color);
+        }
+
+        // Only build the title when something shown in it changed
+        if (flashing != bar.flashing || xp != bar.xp || required != bar.required || level != bar.level
+                || wave != bar.wave || gold != bar.gold) {
+            bar.flashing = flashing;
+            bar.xp = xp;
+            bar.required = required;
+            bar.level = level;
+            bar.wave = wave;
+            bar.gold = gold;
+            String title;
+            if (flashing) {
+                title = "§6§l★ LEVEL UP! ★ §eLevel " + level;
+            } else if (wave > 0) {
+                title = "§bWave §f" + wave + " §7| §6Level " + level + " §7| §eXP: §f" + xp + " §7/ §f" + required + " §7| §6💰 Gold: §f" + gold;
+            } else {
+                title = "§6Level " + level + " §7| §eXP: §f" + xp + " §7/ §f" + required + " §7| §6💰 Gold: §f" + gold;
+            }
+            if (!title.equals(bar.title)) {
+                bar.title = title;
+                bar.bossBar.setTitle(title);
+            }
+        }
+    }
+
+    /**
+     * Remove one player's bar (player leaves a run that goes on)
+     */
+    public void removePlayer(Player player) {
+        for (RunHud hud : runs.values()) {
+            PlayerBar bar = hud.bars.remove(player.getUniqueId());
+            if (bar != null) {
+                bar.bossBar.removeAll();
+            }
+        }
+    }
+
+    /**
+     * Remove all of a run's bars (run cleanup)
+     */
+    public void releaseRun(Object run) {
+        RunHud hud = runs.remove(run);
+        if (hud != null) {
+            for (PlayerBar bar : hud.bars.values()) {
+                bar.bossBar.removeAll();
+            }
+        }
+    }
+
+    public void cleanup() {
+        if (flushTask != null) {
+            flushTask.cancel();
+            flushTask = null;
+        }
+        for (RunHud hud : runs.values()) {
+            for (PlayerBar bar : hud.bars.values()) {
+                bar.bossBar.removeAll();
+            }
+        }
+        runs.clear();
+    }
+
+    private static final class RunHud {
+        private final Map<UUID, PlayerBar> bars = new HashMap<>();
+        private boolean dirty;
+    }
+
+    /**
+     * A player's bar and what it currently shows
+     */
+    private static final class PlayerBar {
+        private final BossBar bossBar;
+        private String title;
+        private double progress = -1.0;
+        private BarColor color;
+        private boolean flashing;
+        private int xp = -1;
+        private int required = -1;
+        private int level = -1;
+        private int wave = -1;
+        private int gold = -1;
+        private long flashUntil;
+
+        private PlayerBar(Player player) {
+            this.bossBar = Bukkit.createBossBar("", BarColor.GREEN, BarStyle.SEGMENTED_10);
+            this.bossBar.addPlayer(player);
+        }
+    }
+}
@@ -0,0 +1,209 @@
+package com.eldor.roguecraft.managers;
+
+import com.eldor.roguecraft.RoguecraftPlugin;
+import org.bukkit.configuration.file.FileConfiguration;
+import org.bukkit.entity.EntityType;
+import org.bukkit.entity.LivingEntity;
+import org.bukkit.metadata.FixedMetadataValue;
+
+import java.util.*;
+
+/**
+ * Spawn-time scaling of wave mobs, worked out once per archetype instead of per mob.
+ * An archetype is (entity type, tier, wave, player count, difficulty bucket) and holds the HP and speed
+ * multipliers, elite/legendary size, the name used by the health display and whether the type is tagged
+ * as a roguecraft mob. Difficulty is bucketed to 0.05 so archetypes are reused while it creeps up over time.
+ * Config values are read when an archetype is built; reload drops them all.
+ */
+public class MobArchetypes {
+    private static final int MAX_ARCHETYPES = 1024; // Kept before the cache is dropped and rebuilt on demand
+    private static final double DIFFICULTY_BUCKET = 0.05;
+
+    public enum Tier { NORMAL, ELITE, LEGENDARY }
+
+    private final RoguecraftPlugin plugin;
+    private final Map<Long, MobArchetype> archetypes;
+    private final FixedMetadataValue flag; // Shared "true" metadata value for spawn tags
+    private double legendaryChance;
+
+    public MobArchetypes(RoguecraftPlugin plugin) {
+        this.plugin = plugin;
+        this.archetypes = new HashMap<>();
+        this.flag = new FixedMetadataValue(plugin, true);
+        loadSettings();
+    }
+
+    private void loadSettings() {
+        legendaryChance = plugin.getConfigManager().getBalanceConfig().getDouble("legendary.spawn-chance", 0.15);
+    }
+
+    public void reload() {
+        archetypes.clear();
+        loadSettings();
+    }
+
+    /**
+     * Chance for an elite spawn to be legendary instead
+     */
+    public double getLegendaryChance() {
+        return legendaryChance;
+    }
+
+    /**
+     * Shared "true" metadata value
+     */
+    public FixedMetadataValue getFlag() {
+        return flag;
+    }
+
+    /**
+     * The archetype for a freshly spawned mob, built from it the first time
+     */
+    public MobArchetype get(LivingEntity mob, Tier tier, int wave, int playerCount, double difficulty) {
+        long difficultyBucket = Math.max(0L, Math.round(difficulty / DIFFICULTY_BUCKET));
+        long key = ((long) mob.getType().ordinal() << 48) | ((long) tier.ordinal() << 46)
+            | ((long) Math.min(wave, 0xFFFF) << 30) | ((long) Math.min(playerCount, 0xFF) << 22)
+            | Math.min(difficultyBucket, 0x3FFFFFL);
+        MobArchetype archetype = archetypes.get(key);
+        if (archetype == null) {
+            if (archetypes.size() >= MAX_ARCHETYPES) {
+                archetypes.clear();
+            }
+            archetype = build(mob, tier, wave, playerCount, difficultyBucket * DIFFICULTY_BUCKET);
+            archetypes.put(key, archetype);
+        }
+        return archetype;
+    }
+
+    private MobArchetype build(LivingEntity mob, Tier tier, int wave, int playerCount, double difficulty) {
+        FileConfiguration balance = plugin.getConfigManager().getBalanceConfig();
+
+        // Scale mob HP based on player count, difficulty, and wave
+        double hpMultiplier = plugin.getDifficultyManager().getMobHealthMultiplier(difficulty);
+        hpMultiplier *= (1.0 + (playerCount - 1) * 0.3); // 30% HP per additional player
+        // Add wave-based scaling (enemies get tankier each wave)
+        // Slower scaling for early waves (waves 1-5: 5% per wave, waves 6-10: 10% per wave, 11+: 15% per wave)
+        double waveMultiplier;
+        if (wave <= 5) {
+            // First 5 waves: 5% per wave (much slower)
+            waveMultiplier = 1.0 + (wave * 0.05);
+        } else if (wave <= 10) {
+            // Waves 6-10: 10% per wave (moderate)
+            waveMultiplier = 1.0 + (5 * 0.05) + ((wave - 5) * 0.10); // 1.25 base from first 5 waves
+        } else {
+            // Waves 11+: 15% per wave (normal scaling)
+            waveMultiplier = 1.0 + (5 * 0.05) + (5 * 0.10) + ((wave - 10) * 0.15); // 1.75 base from first 10 waves
+        }
+        hpMultiplier *= waveMultiplier;
+
+        // Apply elite bonuses (reduced HP multiplier to balance with armor)
+        double size = 1.0;
+        if (tier != Tier.NORMAL) {
+            double eliteHpMultiplier = balance.getDouble("elites.hp-multiplier", 2.0);
+            // Reduce HP multiplier for later waves (wave 10+) since they get armor
+            if (wave >= 10) {
+                eliteHpMultiplier *= 0.7; // 30% reduction when armor is present
+            }
+            hpMultiplier *= eliteHpMultiplier;
+
+            // Apply legendary HP multiplier on top of elite
+            if (tier == Tier.LEGENDARY) {
+                hpMultiplier *= balance.getDouble("legendary.hp-multiplier", 1.5);
+                size = balance.getDouble("legendary.size-multiplier", 2.1); // 0.4x bigger than elite by default
+            } else {
+                size = balance.getDouble("elites.size-multiplier", 4.0);
+            }
+        }
+
+        // Scale mob movement speed with wave number and difficulty
+        double waveSpeedMultiplier;
+        if (plugin.getSpawnManager().getWaveSchedule().isInfinite(wave)) {
+            // Infinite waves: Horrific speed scaling
+            // Start at +50% for wave 21, then add 5% per infinite wave (uncapped)
+            // Wave 30 = +95%, Wave 40 = +145%, Wave 50 = +195%, etc.
+            int infiniteWaveNumber = wave - plugin.getSpawnManager().getWaveSchedule().getMaxWave();
+            double infiniteSpeedBonus = 0.50 + (infiniteWaveNumber * 0.05); // 5% per infinite wave
+            waveSpeedMultiplier = 1.0 + infiniteSpeedBonus; // No cap - let it scale horrifically
+        } else {
+            // Regular waves: Increase speed by 0.5% per wave, capped at +50%
+            waveSpeedMultiplier = 1.0 + Math.min(0.5, wave * 0.005);
+        }
+        // Additional scaling from difficulty (time-based) - reduced
+        double difficultySpeedBonus = Math.min(0.25, (difficulty - 1.0) * 0.25);
+        double speedMultiplier = waveSpeedMultiplier * (1.0 + difficultySpeedBonus);
+
+        // Undead are tagged so we can prevent sunlight damage; creepers for tracking (and a shorter fuse)
+        boolean creeper = mob instanceof org.bukkit.entity.Creeper;
+        boolean tagged = creeper ||
+            mob instanceof org.bukkit.entity.Zombie ||
+            mob instanceof org.bukkit.entity.Skeleton ||
+            mob instanceof org.bukkit.entity.Stray ||
+            mob instanceof org.bukkit.entity.Husk ||
+            mob instanceof org.bukkit.entity.Drowned ||
+            mob instanceof org.bukkit.entity.WitherSkeleton ||
+            mob instanceof org.bukkit.entity.Phantom;
+
+        // Original name for the health display
+        String name = mob.getType().name().replace("_", " ");
+        return new MobArchetype(mob.getType(), tier, hpMultiplier, speedMultiplier, size,
+            new FixedMetadataValue(plugin, name), tagged, creeper);
+    }
+
+    /**
+     * Precomputed spawn scaling for one archetype
+     */
+    public static final class MobArchetype {
+        private final EntityType type;
+        private final Tier tier;
+        private final double healthMultiplier;
+        private final double speedMultiplier;
+        private final double size; // Elite/legendary scale, 1.0 for normal mobs
+        private final FixedMetadataValue nameValue; // "original_name" metadata for the health display
+        private final boolean tagged; // Gets "roguecraft_mob"
+        private final boolean shortFuse; // Creeper
+
+        private MobArchetype(EntityType type, Tier tier, double healthMultiplier, double speedMultiplier, double size,
+                             FixedMetadataValue nameValue, boolean tagged, boolean shortFuse) {
+            this.type = type;
+            this.tier = tier;
+            this.healthMultiplier = healthMultiplier;
+            this.speedMultiplier = speedMultiplier;
+            this.size = size;
+            this.nameValue = nameValue;
+            this.tagged = tagged;
+            this.shortFuse = shortFuse;
+        }
+
+        public EntityType getType() {
+            return type;
+        }
+
+        public Tier getTier() {
+            return tier;
+        }
+
+        public double getHealthMultiplier() {
+            return healthMultiplier;
+        }
+
+        public double getSpeedMultiplier() {
+            return speedMultiplier;
+        }
+
+        public double getSize() {
+            return size;
+        }
+
+        public FixedMetadataValue getNameValue() {
+            return nameValue;
+        }
+
+        public boolean isTagged() {
+            return tagged;
+        }
+
+        public boolean hasShortFuse() {
+            return shortFuse;
+        }
+    }
+}
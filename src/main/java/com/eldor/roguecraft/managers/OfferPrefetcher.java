@@ -0,0 +1,140 @@
+package com.eldor.roguecraft.managers;
+
+import com.eldor.roguecraft.RoguecraftPlugin;
+import com.eldor.roguecraft.models.PowerUp;
+import com.eldor.roguecraft.models.Run;
+import com.eldor.roguecraft.models.TeamRun;
+import org.bukkit.entity.Player;
+
+import java.util.*;
+
+/**
+ * Prepares each player's next level-up offers (and one reroll) before the level-up happens.
+ * Once a run's XP passes game.offer-prefetch-at of the threshold, the offers for the next level are generated
+ * in the run's once-a-second tick, so the power-up GUI opens with them instead of generating at level-up.
+ * A prepared set is used only if the run is still at the level it was made for and no stat or power-up
+ * changed since (run stats version); otherwise the GUI generates fresh offers as before.
+ */
+public class OfferPrefetcher {
+    private final RoguecraftPlugin plugin;
+    private final Map<UUID, Prepared> prepared; // Player -> offers prepared for their next level-up
+    private final Map<UUID, Prepared> rerolls; // Player -> reroll set of the power-up GUI they have open
+    private double prefetchAt; // Fraction of the XP threshold, 0 = off
+
+    public OfferPrefetcher(RoguecraftPlugin plugin) {
+        this.plugin = plugin;
+        this.prepared = new HashMap<>();
+        this.rerolls = new HashMap<>();
+        loadConfig();
+    }
+
+    private void loadConfig() {
+        prefetchAt = plugin.getConfigManager().getMainConfig().getDouble("game.offer-prefetch-at", 0.8);
+    }
+
+    public void reload() {
+        loadConfig();
+    }
+
+    /**
+     * Prepare offers for a run's players once its XP is near the next level (run tick)
+     */
+    public void checkRun(TeamRun teamRun) {
+        if (prefetchAt <= 0.0 || teamRun.getExperience() < teamRun.getExperienceToNextLevel() * prefetchAt) {
+            return;
+        }
+        for (Player player : teamRun.getPlayers()) {
+            if (player != null && player.isOnline() && !isPrepared(player.getUniqueId(), teamRun)) {
+                prepare(player.getUniqueId(), teamRun, teamRun.getStat(player, "luck"));
+            }
+        }
+    }
+
+    private boolean isPrepared(UUID playerId, Object run) {
+        Prepared entry = prepared.get(playerId);
+        return entry != null && entry.isValidFor(run, getLevel(run) + 1);
+    }
+
+    private void prepare(UUID playerId, Object run, double luck) {
+        int nextLevel = getLevel(run) + 1;
+        PowerUpManager powerUps = plugin.getPowerUpManager();
+        List<PowerUp> offers = powerUps.generateDynamicPowerUps(nextLevel, luck, run);
+        List<PowerUp> reroll = powerUps.generateDynamicPowerUps(nextLevel, luck, run);
+        prepared.put(playerId, new Prepared(run, nextLevel, getStatsVersion(run), offers, reroll));
+    }
+
+    /**
+     * Offers for a power-up GUI being opened: the prepared set if still valid, otherwise freshly generated.
+     * The prepared reroll set is kept for takeReroll.
+     */
+    public List<PowerUp> takeOffers(UUID playerId, Object run, int level, double luck) {
+        Prepared entry = prepared.remove(playerId);
+        rerolls.remove(playerId);
+        if (entry != null && entry.isValidFor(run, level)) {
+            rerolls.put(playerId, entry);
+            return new ArrayList<>(entry.offers);
+        }
+        return plugin.getPowerUpManager().generateDynamicPowerUps(level, luck, run);
+    }
+
+    /**
+     * Offers for a reroll: the prepared reroll set (once) if still valid, otherwise freshly generated
+     */
+    public List<PowerUp> takeReroll(UUID playerId, Object run, int level, double luck) {
+        Prepared entry = rerolls.remove(playerId);
+        if (entry != null && entry.isValidFor(run, level)) {
+            return new ArrayList<>(entry.reroll);
+        }
+        return plugin.getPowerUpManager().generateDynamicPowerUps(level, luck, run);
+    }
+
+    private static int getLevel(Object run) {
+        if (run instanceof TeamRun) {
+            return ((TeamRun) run).getLevel();
+        }
+        return run instanceof Run ? ((Run) run).getLevel() : 1;
+    }
+
+    private static long getStatsVersion(Object run) {
+        if (run instanceof TeamRun) {
+            return ((TeamRun) run).getStatsVersion();
+        }
+        return run instanceof Run ? ((Run) run).getStatsVersion() : 0L;
+    }
+
+    /**
+     * Forget a player's prepared offers (run end)
+     */
+    public void releasePlayer(UUID playerId) {
+        prepared.remove(playerId);
+        rerolls.remove(playerId);
+    }
+
+    public void cleanup() {
+        prepared.clear();
+        rerolls.clear();
+    }
+
+    /**
+     * Offers generated for one level of one run, with the stats version they were generated from
+     */
+    private static final class Prepared {
+        private final Object run;
+        private final int level;
+        private final long statsVersion;
+        private final List<PowerUp> offers;
+        private final List<PowerUp> reroll;
+
+        private Prepared(Object run, int level, long statsVersion, List<PowerUp> offers, List<PowerUp> reroll) {
+            this.run = run;
+            this.level = level;
+            this.statsVersion = statsVersion;
+            this.offers = offers;
+            this.reroll = reroll;
+        }
+
+        private boolean isValidFor(Object currentRun, int currentLevel) {
+            return run == currentRun && level == currentLevel && statsVersion == getStatsVersion(currentRun);
+        }
+    }
+}
@@ -0,0 +1,274 @@
+package com.eldor.roguecraft.managers;
+
+import com.eldor.roguecraft.RoguecraftPlugin;
+import com.eldor.roguecraft.models.Arena;
+import com.eldor.roguecraft.util.ArenaSurfaceMap;
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.World;
+
+import java.util.*;
+import java.util.function.Consumer;
+
+/**
+ * Plans shrine and chest layouts for a run.
+ * The arena's chunks are snapshotted on the main thread, then a worker thread fills in the surface map
+ * and runs Bridson Poisson-disk sampling over it, so every point is on valid ground and at least
+ * min-spacing away from every other point. The finished layout is handed back to the main thread,
+ * which only has to place blocks. Layouts are reproducible from their seed.
+ */
+public class PlacementPlanner {
+    private static final int SAMPLE_ATTEMPTS = 30; // Bridson's k: candidates tried around each active point
+    private static final int RESEED_ATTEMPTS = 30; // Fresh starting points tried when sampling runs out (disconnected ground)
+
+    private final RoguecraftPlugin plugin;
+    private final Map<UUID, Long> pendingPlans; // TeamRun ID -> ID of the plan whose result is still wanted
+    private long nextPlanId;
+
+    public PlacementPlanner(RoguecraftPlugin plugin) {
+        this.plugin = plugin;
+        this.pendingPlans = new HashMap<>();
+        this.nextPlanId = 0L;
+    }
+
+    /**
+     * Plan a layout for a run. Must be called on the main thread; onReady runs on the main thread
+     * unless the plan was cancelled (run ended) or superseded by a newer plan for the same run.
+     */
+    public void planLayout(UUID runId, Arena arena, long seed, Consumer<Layout> onReady) {
+        if (arena.getCenter() == null || arena.getCenter().getWorld() == null) {
+            plugin.getLogger().warning("[Placement] Cannot plan layout: Arena center or world is null!");
+            return;
+        }
+
+        long planId = ++nextPlanId;
+        pendingPlans.put(runId, planId);
+
+        ArenaSurfaceMap surface = ArenaSurfaceMap.snapshot(arena);
+        double minSpacing = plugin.getConfigManager().getMainConfig().getDouble("placement.min-spacing", 8.0);
+
+        Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> {
+            long start = System.nanoTime();
+            Layout layout = buildLayout(surface, arena.getCenter().getWorld(), minSpacing, seed);
+            long elapsedMs = (System.nanoTime() - start) / 1_000_000L;
+
+            if (!plugin.isEnabled()) {
+                return;
+            }
+            Bukkit.getScheduler().runTask(plugin, () -> {
+                Long current = pendingPlans.get(runId);
+                if (current == null || current != planId) {
+                    plugin.getLogger().fine("[Placement] Discarded stale layout for team " + runId);
+                    return;
+                }
+                pendingPlans.remove(runId);
+                plugin.getLogger().info("[Placement] Planned layout for team " + runId + " in " + elapsedMs + "ms: " +
+                    layout.getCandidateCount() + " candidate points (seed " + seed + ")");
+                onReady.accept(layout);
+            });
+        });
+    }
+
+    /**
+     * Drop any layout still being planned for a run (run ended before it arrived)
+     */
+    public void cancel(UUID runId) {
+        pendingPlans.remove(runId);
+    }
+
+    /**
+     * Poisson-disk sample the arena and assign the points to shrines and chests (worker thread)
+     */
+    private Layout buildLayout(ArenaSurfaceMap surface, World world, double minSpacing, long seed) {
+        Random random = new Random(seed);
+        List<double[]> points = samplePoints(surface, minSpacing, random);
+
+        // Sampling grows outward from its seed points, so shuffle before handing out types
+        Collections.shuffle(points, random);
+
+        int difficultyCount = 5 + random.nextInt(3); // 5, 6, or 7 shrines
+        int bossCount = 2 + random.nextInt(2); // 2 or 3 shrines
+        int powerCount = 6 + random.nextInt(3); // 6, 7, or 8 shrines
+        int chestCount = 12 + random.nextInt(4); // 12, 13, 14, or 15 chests
+
+        // Shrines first, then chests, as when they were placed one after the other
+        Iterator<double[]> it = points.iterator();
+        Layout layout = new Layout(seed, points.size(), difficultyCount, bossCount, powerCount, chestCount);
+        take(it, world, difficultyCount, layout.difficultyShrines);
+        take(it, world, bossCount, layout.bossShrines);
+        take(it, world, powerCount, layout.powerShrines);
+        take(it, world, chestCount, layout.chests);
+        return layout;
+    }
+
+    private void take(Iterator<double[]> it, World world, int count, List<Location> target) {
+        while (target.size() < count && it.hasNext()) {
+            double[] point = it.next();
+            target.add(new Location(world, point[0], point[1], point[2]));
+        }
+    }
+
+    /**
+     * Bridson's algorithm over the arena disk. Candidates off valid ground are rejected like any other;
+     * when the active list empties, fresh starting points are tried so separated patches of ground are covered.
+     */
+    private List<double[]> samplePoints(ArenaSurfaceMap surface, double minSpacing, Random random) {
+        double cellSize = minSpacing / Math.sqrt(2);
+        double originX = surface.getCenterX() - surface.getRadius();
+        double originZ = surface.getCenterZ() - surface.getRadius();
+        int gridSize = (int) Math.ceil(surface.getRadius() * 2 / cellSize) + 1;
+        int[] grid = new int[gridSize * gridSize]; // Index into points + 1, 0 = empty
+        double minSpacingSquared = minSpacing * minSpacing;
+
+        List<double[]> points = new ArrayList<>();
+        List<Integer> active = new ArrayList<>();
+
+        int reseeds = 0;
+        while (reseeds < RESEED_ATTEMPTS) {
+            if (active.isEmpty()) {
+                reseeds++;
+                double[] start = randomPointInDisk(surface, random);
+                if (tryPlace(surface, grid, gridSize, cellSize, originX, originZ, points, minSpacingSquared, start[0], start[1]) != null) {
+                    active.add(points.size() - 1);
+                }
+                continue;
+            }
+
+            int activeIndex = random.nextInt(active.size());
+            double[] base = points.get(active.get(activeIndex));
+            boolean found = false;
+            for (int i = 0; i < SAMPLE_ATTEMPTS; i++) {
+                // Uniform in the annulus [r, 2r) around the active point
+                double angle = random.nextDouble() * Math.PI * 2;
+                double dist = minSpacing * Math.sqrt(1 + random.nextDouble() * 3);
+                double x = base[0] + Math.cos(angle) * dist;
+                double z = base[2] + Math.sin(angle) * dist;
+                if (tryPlace(surface, grid, gridSize, cellSize, originX, originZ, points, minSpacingSquared, x, z) != null) {
+                    active.add(points.size() - 1);
+                    found = true;
+                    break;
+                }
+            }
+            if (!found) {
+                // Swap-remove: order of the active list doesn't matter
+                int last = active.size() - 1;
+                active.set(activeIndex, active.get(last));
+                active.remove(last);
+            }
+        }
+        return points;
+    }
+
+    private double[] tryPlace(ArenaSurfaceMap surface, int[] grid, int gridSize, double cellSize, double originX, double originZ,
+                              List<double[]> points, double minSpacingSquared, double x, double z) {
+        if (!surface.inDisk(x, z)) {
+            return null;
+        }
+        int gx = (int) ((x - originX) / cellSize);
+        int gz = (int) ((z - originZ) / cellSize);
+        if (gx < 0 || gz < 0 || gx >= gridSize || gz >= gridSize) {
+            return null;
+        }
+
+        // A cell is smaller than the spacing, so only neighbours within two cells can conflict
+        for (int nx = Math.max(0, gx - 2); nx <= Math.min(gridSize - 1, gx + 2); nx++) {
+            for (int nz = Math.max(0, gz - 2); nz <= Math.min(gridSize - 1, gz + 2); nz++) {
+                int occupant = grid[nx * gridSize + nz];
+                if (occupant != 0) {
+                    double[] other = points.get(occupant - 1);
+                    double dx = other[0] - x;
+                    double dz = other[2] - z;
+                    if (dx * dx + dz * dz < minSpacingSquared) {
+                        return null;
+                    }
+                }
+            }
+        }
+
+        // Ground check last - it is the only part that reads block data
+        int y = surface.getSurfaceY((int) Math.floor(x), (int) Math.floor(z));
+        if (y == ArenaSurfaceMap.NO_SURFACE) {
+            return null;
+        }
+
+        double[] point = new double[] {x, y, z};
+        points.add(point);
+        grid[gx * gridSize + gz] = points.size();
+        return point;
+    }
+
+    private double[] randomPointInDisk(ArenaSurfaceMap surface, Random random) {
+        // Rejection sampling for a uniform point in the circle
+        double x, z;
+        do {
+            x = (random.nextDouble() * 2 - 1) * surface.getRadius();
+            z = (random.nextDouble() * 2 - 1) * surface.getRadius();
+        } while (x * x + z * z > surface.getRadius() * surface.getRadius());
+        return new double[] {surface.getCenterX() + x, surface.getCenterZ() + z};
+    }
+
+    /**
+     * A planned set of shrine and chest locations for one run
+     */
+    public static class Layout {
+        private final long seed;
+        private final int candidateCount;
+        private final int difficultyCount;
+        private final int bossCount;
+        private final int powerCount;
+        private final int chestCount;
+        private final List<Location> difficultyShrines = new ArrayList<>();
+        private final List<Location> bossShrines = new ArrayList<>();
+        private final List<Location> powerShrines = new ArrayList<>();
+        private final List<Location> chests = new ArrayList<>();
+
+        private Layout(long seed, int candidateCount, int difficultyCount, int bossCount, int powerCount, int chestCount) {
+            this.seed = seed;
+            this.candidateCount = candidateCount;
+            this.difficultyCount = difficultyCount;
+            this.bossCount = bossCount;
+            this.powerCount = powerCount;
+            this.chestCount = chestCount;
+        }
+
+        public long getSeed() {
+            return seed;
+        }
+
+        public int getCandidateCount() {
+            return candidateCount;
+        }
+
+        public int getDifficultyCount() {
+            return difficultyCount;
+        }
+
+        public int getBossCount() {
+            return bossCount;
+        }
+
+        public int getPowerCount() {
+            return powerCount;
+        }
+
+        public int getChestCount() {
+            return chestCount;
+        }
+
+        public List<Location> getDifficultyShrines() {
+            return difficultyShrines;
+        }
+
+        public List<Location> getBossShrines() {
+            return bossShrines;
+        }
+
+        public List<Location> getPowerShrines() {
+            return powerShrines;
+        }
+
+        public List<Location> getChests() {
+            return chests;
+        }
+    }
+}
@@ -129,58 +129,27 @@ public class PowerUpManager {
         boolean excludeRegeneration = currentRegen >= 4.0;
         boolean excludeVampireAura = currentLifesteal >= 4.0;
         
-        List<PowerUp> powerUps = new ArrayList<>();
-        Set<String> usedTypes = new HashSet<>();
-        Random random = new Random();
-        int maxAttempts = 30; // Increased from 20 to account for exclusions
-        
-        while (powerUps.size() < 3 && maxAttempts > 0) {
-            maxAttempts--;
-            double roll = random.nextDouble();
-            PowerUp powerUp = null;
-            String uniqueKey = null;
-            
-            if (roll < 0.22) {
-                // 22% chance for weapon upgrade
-                powerUp = com.eldor.roguecraft.models.DynamicPowerUp.generateWeaponUpgrade(playerLevel, luck);
-                uniqueKey = "weapon_upgrade";
-            } else if (roll < 0.42) {
-                // 18% chance for weapon mod
-                powerUp = com.eldor.roguecraft.models.DynamicPowerUp.generateWeaponMod(playerLevel, luck);
-                uniqueKey = "weapon_mod_" + powerUp.getName();
-            } else if (roll < 0.62) {
-                // 20% chance for aura
-                powerUp = com.eldor.roguecraft.models.DynamicPowerUp.generateAura(playerLevel, luck, excludeVampireAura);
-                uniqueKey = "aura_" + powerUp.getName();
-            } else if (roll < 0.72) {
-                // 10% chance for synergy
-                powerUp = com.eldor.roguecraft.models.DynamicPowerUp.generateSynergy(playerLevel, luck);
-                uniqueKey = "synergy_" + powerUp.getName();
-            } else {
-                // 30% chance for stat boost (SHRINES REMOVED - now physical in arena)
-                powerUp = com.eldor.roguecraft.models.DynamicPowerUp.generateStatBoost(playerLevel, luck, excludeRegeneration);
-                // Extract stat name from ID for uniqueness
-                String statName = powerUp.getId().replaceAll("dynamic_", "").replaceAll("_\\d+", "");
-                uniqueKey = "stat_" + statName;
-            }
-            
-            // Only add if not already present and not null
-            if (powerUp != null && !usedTypes.contains(uniqueKey)) {
-                powerUps.add(powerUp);
-                usedTypes.add(uniqueKey);
-            }
-        }
-        
-        // If we couldn't generate 3 unique ones, fill remaining with random stats
-        while (powerUps.size() < 3) {
-            PowerUp fallback = com.eldor.roguecraft.models.DynamicPowerUp.generateStatBoost(playerLevel, luck, excludeRegeneration);
-            if (fallback != null) {
-                String statName = fallback.getId().replaceAll("dynamic_", "").replaceAll("_\\d+", "");
-                String uniqueKey = "stat_" + statName;
-                if (!usedTypes.contains(uniqueKey)) {
-                    powerUps.add(fallback);
-                    usedTypes.add(uniqueKey);
-                }
+        // Three different offers, drawn without replacement (SHRINES REMOVED - now physical in arena)
+        SplittableRandom random = plugin.getRunRandom().get(run, RunRandom.Stream.POWER_UPS);
+        List<RollTables.Offer> offers = plugin.getRollTables().rollOffers(3, excludeRegeneration, excludeVampireAura, random);
+        List<PowerUp> powerUps = new ArrayList<>(offers.size());
+        for (RollTables.Offer offer : offers) {
+            switch (offer.getCategory()) {
+                case WEAPON_UPGRADE:
+                    powerUps.add(com.eldor.roguecraft.models.DynamicPowerUp.generateWeaponUpgrade(playerLevel, luck, random));
+                    break;
+                case WEAPON_MOD:
+                    powerUps.add(com.eldor.roguecraft.models.DynamicPowerUp.generateWeaponMod(playerLevel, luck, offer.getName(), random));
+                    break;
+                case AURA:
+                    powerUps.add(com.eldor.roguecraft.models.DynamicPowerUp.generateAura(playerLevel, luck, offer.getName(), random));
+                    break;
+                case SYNERGY:
+                    powerUps.add(com.eldor.roguecraft.models.DynamicPowerUp.generateSynergy(playerLevel, luck, offer.getName(), random));
+                    break;
+                case STAT:
+                    powerUps.add(com.eldor.roguecraft.models.DynamicPowerUp.generateStatBoost(playerLevel, luck, offer.getName(), random));
+                    break;
             }
         }
         
@@ -225,8 +194,7 @@ public class PowerUpManager {
 
     private PowerUp.Rarity determineRarityForLevel(int level) {
         // Higher levels have better rarity chances
-        Random random = new Random();
-        double roll = random.nextDouble();
+        double roll = plugin.getRunRandom().getShared().nextDouble();
         
         if (level >= 20 && roll < 0.05) {
             return PowerUp.Rarity.LEGENDARY;
@@ -256,7 +224,9 @@ public class PowerUpManager {
         }
         
         // Generate a dynamic power-up and ensure it's rare rarity
-        PowerUp powerUp = com.eldor.roguecraft.models.DynamicPowerUp.generateStatBoost(playerLevel, luck, excludeRegeneration);
+        SplittableRandom random = plugin.getRunRandom().get(run, RunRandom.Stream.POWER_UPS);
+        String stat = plugin.getRollTables().rollStat(excludeRegeneration, random);
+        PowerUp powerUp = com.eldor.roguecraft.models.DynamicPowerUp.generateStatBoost(playerLevel, luck, stat, random);
         // Force rare rarity
         if (powerUp != null) {
             // Create a new power-up with rare rarity
@@ -0,0 +1,91 @@
+package com.eldor.roguecraft.managers;
+
+import com.eldor.roguecraft.RoguecraftPlugin;
+import com.eldor.roguecraft.util.ProximityTriggerIndex;
+import org.bukkit.Location;
+import org.bukkit.entity.Player;
+
+import java.util.*;
+import java.util.function.Predicate;
+
+/**
+ * Owns the per-run proximity trigger indexes that shrines and chests register into
+ */
+public class ProximityManager {
+    private final RoguecraftPlugin plugin;
+    private final Map<UUID, ProximityTriggerIndex> indexes; // TeamRun ID -> trigger index
+
+    public ProximityManager(RoguecraftPlugin plugin) {
+        this.plugin = plugin;
+        this.indexes = new HashMap<>();
+    }
+
+    /**
+     * Register a trigger for a run (creates the run's index on first use)
+     */
+    public void register(UUID runId, Object payload, Location center, double enterRadius, double exitRadius) {
+        if (runId == null || center == null || center.getWorld() == null) {
+            return;
+        }
+        indexes.computeIfAbsent(runId, ProximityTriggerIndex::new).register(payload, center, enterRadius, exitRadius);
+    }
+
+    public void unregister(UUID runId, Object payload) {
+        ProximityTriggerIndex index = indexes.get(runId);
+        if (index != null) {
+            index.unregister(payload);
+        }
+    }
+
+    /**
+     * Feed a player's new position into their run's index
+     */
+    public void update(UUID runId, Player player, Location location, ProximityTriggerIndex.Callback callback) {
+        ProximityTriggerIndex index = indexes.get(runId);
+        if (index != null) {
+            index.update(player, location, callback);
+        }
+    }
+
+    /**
+     * Payloads of the triggers a player is currently inside
+     */
+    public List<Object> getInside(UUID runId, UUID playerId) {
+        ProximityTriggerIndex index = indexes.get(runId);
+        return index != null ? index.getInside(playerId) : Collections.emptyList();
+    }
+
+    /**
+     * Closest registered payload within a radius that passes the filter, or null
+     */
+    public Object findNearest(UUID runId, Location location, double radius, Predicate<Object> filter) {
+        ProximityTriggerIndex index = indexes.get(runId);
+        return index != null ? index.findNearest(location, radius, filter) : null;
+    }
+
+    /**
+     * Drop a player's cached cell/inside state from every run (quit, death, run end)
+     */
+    public void forgetPlayer(UUID playerId) {
+        for (ProximityTriggerIndex index : indexes.values()) {
+            index.forgetPlayer(playerId);
+        }
+    }
+
+    /**
+     * Remove a run's index once its shrines and chests are gone
+     */
+    public void removeIndex(UUID runId) {
+        ProximityTriggerIndex index = indexes.remove(runId);
+        if (index != null && !index.isEmpty()) {
+            plugin.getLogger().fine("[Proximity] Dropped non-empty trigger index for team " + runId);
+        }
+    }
+
+    /**
+     * Cleanup all indexes
+     */
+    public void cleanup() {
+        indexes.clear();
+    }
+}
@@ -0,0 +1,148 @@
+package com.eldor.roguecraft.managers;
+
+import com.eldor.roguecraft.RoguecraftPlugin;
+import org.bukkit.Bukkit;
+import org.bukkit.Server;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.lang.reflect.Method;
+
+/**
+ * Samples server tick time and publishes a cosmetic quality level (HIGH, MEDIUM, LOW).
+ * Particle emitters, nameplate refreshes and other cosmetic work read the level and scale themselves down.
+ * The level drops as soon as tick time crosses a threshold, but only climbs back one step after tick time has
+ * stayed well under that threshold for a while, so it doesn't flap around a boundary.
+ */
+public class QualityGovernor {
+    public static final int LOW = 0;
+    public static final int MEDIUM = 1;
+    public static final int HIGH = 2;
+    private static final String[] LEVEL_NAMES = {"LOW", "MEDIUM", "HIGH"};
+    private static final double[] SCALES = {0.25, 0.5, 1.0}; // Share of cosmetic work kept per level
+    private static final int SAMPLE_INTERVAL = 20; // Ticks per sample
+
+    private final RoguecraftPlugin plugin;
+    private final Method getAverageTickTime; // Paper's Server#getAverageTickTime(), null on plain Spigot
+    private final double mediumMspt; // Drop to MEDIUM above this
+    private final double lowMspt; // Drop to LOW above this
+    private final double recoverMargin; // Tick time must be this far under a threshold to climb back over it
+    private final int recoverSamples; // Consecutive good samples needed per step up
+    private BukkitTask task;
+    private long windowStart;
+    private double mspt;
+    private int level;
+    private int goodSamples;
+
+    public QualityGovernor(RoguecraftPlugin plugin) {
+        this.plugin = plugin;
+        org.bukkit.configuration.file.FileConfiguration config = plugin.getConfigManager().getMainConfig();
+        this.mediumMspt = config.getDouble("quality.medium-mspt", 40.0);
+        this.lowMspt = config.getDouble("quality.low-mspt", 47.0);
+        this.recoverMargin = config.getDouble("quality.recover-margin-mspt", 6.0);
+        this.recoverSamples = Math.max(1, config.getInt("quality.recover-seconds", 10)); // One sample per second
+        this.level = HIGH;
+
+        Method averageTickTime = null;
+        try {
+            averageTickTime = Server.class.getMethod("getAverageTickTime");
+        } catch (NoSuchMethodException e) {
+            plugin.getLogger().info("[Quality] Tick time not available, quality only drops when the server falls behind 20 TPS");
+        }
+        this.getAverageTickTime = averageTickTime;
+
+        this.windowStart = System.nanoTime();
+        this.task = Bukkit.getScheduler().runTaskTimer(plugin, this::sample, SAMPLE_INTERVAL, SAMPLE_INTERVAL);
+    }
+
+    /**
+     * Read the tick time for the last second and move the level
+     */
+    private void sample() {
+        long now = System.nanoTime();
+        double intervalMspt = (now - windowStart) / 1_000_000.0 / SAMPLE_INTERVAL;
+        windowStart = now;
+
+        double sampled = -1.0;
+        if (getAverageTickTime != null) {
+            try {
+                sampled = ((Number) getAverageTickTime.invoke(Bukkit.getServer())).doubleValue();
+            } catch (Exception e) {
+                sampled = -1.0;
+            }
+        }
+        if (sampled < 0) {
+            // Spigot: ticks only take longer than 50ms apart once the server is behind, so that's all we can see
+            sampled = intervalMspt > 50.5 ? intervalMspt : 0.0;
+        }
+        mspt = sampled;
+
+        int target = mspt > lowMspt ? LOW : mspt > mediumMspt ? MEDIUM : HIGH;
+        if (target < level) {
+            setLevel(target);
+            goodSamples = 0;
+        } else if (target > level) {
+            // Step up only after staying under the current level's threshold (minus the margin) long enough
+            double threshold = level == LOW ? lowMspt : mediumMspt;
+            if (mspt < threshold - recoverMargin) {
+                goodSamples++;
+                if (goodSamples >= recoverSamples) {
+                    setLevel(level + 1);
+                    goodSamples = 0;
+                }
+            } else {
+                goodSamples = 0;
+            }
+        } else {
+            goodSamples = 0;
+        }
+    }
+
+    private void setLevel(int newLevel) {
+        plugin.getLogger().info("[Quality] " + LEVEL_NAMES[level] + " -> " + LEVEL_NAMES[newLevel] +
+            " (" + String.format("%.1f", mspt) + " mspt)");
+        level = newLevel;
+    }
+
+    public int getLevel() {
+        return level;
+    }
+
+    public String getLevelName() {
+        return LEVEL_NAMES[level];
+    }
+
+    /**
+     * Last sampled tick time in milliseconds (0 on Spigot while the server keeps up)
+     */
+    public double getMspt() {
+        return mspt;
+    }
+
+    /**
+     * Scale a particle count (or other cosmetic amount) for the current level, keeping at least one
+     */
+    public int scale(int count) {
+        if (count <= 0) {
+            return 0;
+        }
+        return Math.max(1, (int) Math.round(count * SCALES[level]));
+    }
+
+    /**
+     * How many times less often periodic cosmetic refreshes should run (1 at HIGH, 2 at MEDIUM, 4 at LOW)
+     */
+    public int getIntervalMultiplier() {
+        return level == HIGH ? 1 : level == MEDIUM ? 2 : 4;
+    }
+
+    public boolean isAtLeast(int minLevel) {
+        return level >= minLevel;
+    }
+
+    public void cleanup() {
+        if (task != null) {
+            task.cancel();
+            task = null;
+        }
+    }
+}
@@ -0,0 +1,304 @@
+package com.eldor.roguecraft.managers;
+
+import com.eldor.roguecraft.RoguecraftPlugin;
+import com.eldor.roguecraft.models.GachaItem;
+import com.eldor.roguecraft.util.AliasTable;
+import org.bukkit.configuration.ConfigurationSection;
+
+import java.util.*;
+
+/**
+ * Weighted rolls for gacha rarities, level-up offers and stat boosts (rolls: in balance.yml).
+ * Each distribution is compiled once into an alias table and cached per (luck bucket, exclusion mask),
+ * so a draw is O(1) and allocates nothing. Picking several unique choices removes each pick from the mask
+ * and draws again from the table for the smaller set (sampling without replacement, no retries).
+ * Callers pass the run's stream from RunRandom.
+ */
+public class RollTables {
+    public enum Category {
+        WEAPON_UPGRADE, WEAPON_MOD, AURA, SYNERGY, STAT
+    }
+
+    /**
+     * One possible level-up offer: a category plus the mod, aura, synergy or stat it grants
+     */
+    public static final class Offer {
+        private final Category category;
+        private final String name;
+
+        private Offer(Category category, String name) {
+            this.category = category;
+            this.name = name;
+        }
+
+        public Category getCategory() {
+            return category;
+        }
+
+        public String getName() {
+            return name;
+        }
+    }
+
+    public static final String[] STATS = {
+        "difficulty", "damage", "crit_chance", "crit_damage", "health", "armor", "speed", "luck",
+        "regeneration", "drop_rate", "pickup_range", "jump_height", "xp_multiplier"
+    };
+    private static final double[] DEFAULT_STAT_WEIGHTS = {
+        0.12, 0.20, 0.18, 0.10, 0.10, 0.08, 0.07, 0.07, 0.05, 0.022, 0.002, 0.003, 0.003
+    };
+    public static final String[] AURAS = {
+        "Vampire Aura", "Thorns Aura", "Regeneration Aura", "Fire Aura", "Ice Aura", "Lightning Aura", "Poison Aura", "Shield Aura"
+    };
+    private static final String[] AURA_KEYS = {"vampire", "thorns", "regeneration", "fire", "ice", "lightning", "poison", "shield"};
+    private static final double[] DEFAULT_AURA_WEIGHTS = {0.25, 0.10, 0.10, 0.10, 0.10, 0.10, 0.10, 0.15};
+    public static final String[] WEAPON_MODS = {
+        "Piercing Shot", "Explosive Rounds", "Chain Lightning", "Frost Nova",
+        "Rapid Fire", "Homing Projectiles", "Multi-Shot", "Burn Effect"
+    };
+    public static final String[] SYNERGIES = {
+        "Critical Mass", "Elemental Fusion", "Rapid Escalation", "Chain Reaction",
+        "Berserker Mode", "Glass Cannon", "Immortal Build", "Lucky Streak"
+    };
+    private static final int REGENERATION = 8; // Index in STATS
+    private static final int VAMPIRE = 0; // Index in AURAS
+    private static final int MAX_CACHED = 4096; // Offer tables kept before the cache is dropped and rebuilt on demand
+    private static final double LUCK_STEP = 0.05; // Gacha luck is bucketed to this precision
+
+    private final RoguecraftPlugin plugin;
+    private final Map<Long, AliasTable> gachaTables; // Luck bucket -> rarity table
+    private final Map<Long, AliasTable> statTables; // Excluded stats mask -> stat table
+    private final Map<Long, AliasTable> offerTables; // (regen/vampire flags, taken offers mask) -> offer table
+    private double[] rarityWeights; // Base gacha weights in ItemRarity order
+    private double[] statWeights;
+    private double[] auraWeights;
+    private double[] categoryWeights; // Category order
+    private Offer[] offers; // Every leaf offer, at most 64 so a mask fits in a long
+    private int regenerationOffer;
+    private int vampireOffer;
+
+    public RollTables(RoguecraftPlugin plugin) {
+        this.plugin = plugin;
+        this.gachaTables = new HashMap<>();
+        this.statTables = new HashMap<>();
+        this.offerTables = new HashMap<>();
+        loadWeights();
+    }
+
+    private void loadWeights() {
+        ConfigurationSection section = plugin.getConfigManager().getBalanceConfig().getConfigurationSection("rolls");
+
+        rarityWeights = new double[] {
+            weight(section, "gacha.common", 0.50),
+            weight(section, "gacha.uncommon", 0.30),
+            weight(section, "gacha.rare", 0.15),
+            weight(section, "gacha.legendary", 0.05)
+        };
+        categoryWeights = new double[] {
+            weight(section, "offer-categories.weapon-upgrade", 0.22),
+            weight(section, "offer-categories.weapon-mod", 0.20),
+            weight(section, "offer-categories.aura", 0.20),
+            weight(section, "offer-categories.synergy", 0.10),
+            weight(section, "offer-categories.stat", 0.30)
+        };
+        statWeights = new double[STATS.length];
+        for (int i = 0; i < STATS.length; i++) {
+            statWeights[i] = weight(section, "stats." + STATS[i], DEFAULT_STAT_WEIGHTS[i]);
+        }
+        auraWeights = new double[AURAS.length];
+        for (int i = 0; i < AURAS.length; i++) {
+            auraWeights[i] = weight(section, "auras." + AURA_KEYS[i], DEFAULT_AURA_WEIGHTS[i]);
+        }
+
+        List<Offer> leaves = new ArrayList<>();
+        leaves.add(new Offer(Category.WEAPON_UPGRADE, "Weapon Enhancement"));
+        for (String mod : WEAPON_MODS) {
+            leaves.add(new Offer(Category.WEAPON_MOD, mod));
+        }
+        vampireOffer = leaves.size() + VAMPIRE;
+        for (String aura : AURAS) {
+            leaves.add(new Offer(Category.AURA, aura));
+        }
+        for (String synergy : SYNERGIES) {
+            leaves.add(new Offer(Category.SYNERGY, synergy));
+        }
+        regenerationOffer = leaves.size() + REGENERATION;
+        for (String stat : STATS) {
+            leaves.add(new Offer(Category.STAT, stat));
+        }
+        offers = leaves.toArray(new Offer[0]);
+
+        gachaTables.clear();
+        statTables.clear();
+        offerTables.clear();
+    }
+
+    private static double weight(ConfigurationSection section, String path, double def) {
+        return section == null ? def : Math.max(0.0, section.getDouble(path, def));
+    }
+
+    /**
+     * Reload weights from balance.yml
+     */
+    public void reload() {
+        loadWeights();
+    }
+
+    /**
+     * Gacha rarity for a luck stat.
+     * Luck (capped at 3.0) divides the common weight and multiplies the others by 1.0 to 2.0.
+     */
+    public GachaItem.ItemRarity rollGachaRarity(double luck, SplittableRandom random) {
+        long bucket = Math.round(Math.max(0.0, Math.min(luck, 3.0)) / LUCK_STEP);
+        AliasTable table = gachaTables.get(bucket);
+        if (table == null) {
+            double luckMultiplier = (bucket * LUCK_STEP - 1.0) * 0.5 + 1.0;
+            double[] weights = new double[rarityWeights.length];
+            weights[0] = rarityWeights[0] / luckMultiplier;
+            for (int i = 1; i < weights.length; i++) {
+                weights[i] = rarityWeights[i] * luckMultiplier;
+            }
+            table = new AliasTable(weights);
+            gachaTables.put(bucket, table);
+        }
+        return GachaItem.ItemRarity.values()[table.sample(random)];
+    }
+
+    /**
+     * One stat for a stat boost
+     */
+    public String rollStat(boolean excludeRegeneration, SplittableRandom random) {
+        AliasTable table = statTable(excludeRegeneration ? 1L << REGENERATION : 0L);
+        return STATS[table.sample(random)];
+    }
+
+    /**
+     * Up to count different stats, fewer only if every allowed stat is taken
+     */
+    public List<String> rollStats(int count, boolean excludeRegeneration, SplittableRandom random) {
+        List<String> stats = new ArrayList<>(count);
+        long taken = excludeRegeneration ? 1L << REGENERATION : 0L;
+        while (stats.size() < count) {
+            AliasTable table = statTable(taken);
+            if (table == null) {
+                break;
+            }
+            int index = table.sample(random);
+            stats.add(STATS[index]);
+            taken |= 1L << index;
+        }
+        return stats;
+    }
+
+    private AliasTable statTable(long excluded) {
+        AliasTable table = statTables.get(excluded);
+        if (table == null && !statTables.containsKey(excluded)) {
+            double[] weights = statWeights.clone();
+            for (int i = 0; i < weights.length; i++) {
+                if ((excluded & (1L << i)) != 0) {
+                    weights[i] = 0.0;
+                }
+            }
+            table = hasWeight(weights) ? new AliasTable(weights) : null; // null = nothing left to draw
+            statTables.put(excluded, table);
+        }
+        return table;
+    }
+
+    /**
+     * Up to count different level-up offers.
+     * A capped stat or aura is removed and its category's share spread over the rest of that category.
+     */
+    public List<Offer> rollOffers(int count, boolean excludeRegeneration, boolean excludeVampire, SplittableRandom random) {
+        List<Offer> picked = new ArrayList<>(count);
+        long flags = (excludeRegeneration ? 1L : 0L) | (excludeVampire ? 2L : 0L);
+        long taken = 0L;
+        while (picked.size() < count) {
+            AliasTable table = offerTable(flags, taken);
+            if (table == null) {
+                break;
+            }
+            int index = table.sample(random);
+            picked.add(offers[index]);
+            taken |= 1L << index;
+        }
+        return picked;
+    }
+
+    private AliasTable offerTable(long flags, long taken) {
+        long key = taken | (flags << 62); // Offers use the low bits; both flags fit above them
+        AliasTable table = offerTables.get(key);
+        if (table == null && !offerTables.containsKey(key)) {
+            if (offerTables.size() >= MAX_CACHED) {
+                offerTables.clear();
+            }
+            double[] weights = offerWeights((flags & 1L) != 0, (flags & 2L) != 0);
+            for (int i = 0; i < weights.length; i++) {
+                if ((taken & (1L << i)) != 0) {
+                    weights[i] = 0.0;
+                }
+            }
+            table = hasWeight(weights) ? new AliasTable(weights) : null;
+            offerTables.put(key, table);
+        }
+        return table;
+    }
+
+    /**
+     * Leaf weights: category weight times the leaf's share of its category
+     */
+    private double[] offerWeights(boolean excludeRegeneration, boolean excludeVampire) {
+        double[] auras = auraWeights.clone();
+        if (excludeVampire) {
+            auras[VAMPIRE] = 0.0;
+        }
+        double[] stats = statWeights.clone();
+        if (excludeRegeneration) {
+            stats[REGENERATION] = 0.0;
+        }
+        double auraTotal = sum(auras);
+        double statTotal = sum(stats);
+
+        double[] weights = new double[offers.length];
+        for (int i = 0; i < offers.length; i++) {
+            Offer offer = offers[i];
+            switch (offer.category) {
+                case WEAPON_UPGRADE:
+                    weights[i] = categoryWeights[0];
+                    break;
+                case WEAPON_MOD:
+                    weights[i] = categoryWeights[1] / WEAPON_MODS.length;
+                    break;
+                case AURA:
+                    int aura = i - (vampireOffer - VAMPIRE);
+                    weights[i] = auraTotal > 0.0 ? categoryWeights[2] * auras[aura] / auraTotal : 0.0;
+                    break;
+                case SYNERGY:
+                    weights[i] = categoryWeights[3] / SYNERGIES.length;
+                    break;
+                case STAT:
+                    int stat = i - (regenerationOffer - REGENERATION);
+                    weights[i] = statTotal > 0.0 ? categoryWeights[4] * stats[stat] / statTotal : 0.0;
+                    break;
+            }
+        }
+        return weights;
+    }
+
+    private static double sum(double[] values) {
+        double total = 0.0;
+        for (double value : values) {
+            total += value;
+        }
+        return total;
+    }
+
+    private static boolean hasWeight(double[] weights) {
+        for (double weight : weights) {
+            if (weight > 0.0) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,75 @@
+package com.eldor.roguecraft.managers;
+
+import com.eldor.roguecraft.RoguecraftPlugin;
+import com.eldor.roguecraft.models.Run;
+import com.eldor.roguecraft.models.TeamRun;
+import org.bukkit.Bukkit;
+import org.bukkit.scheduler.BukkitTask;
+
+/**
+ * Game-tick time for run logic, instead of wall-clock millis.
+ * getTick() is a monotonic server tick counter for cooldowns and "time since" checks (damage, shrines, heals).
+ * Each active run also counts its own ticks, skipping ticks while a player has a GUI open, so run time, wave
+ * timing, spawn intervals and Time Freeze stop while the game is paused and don't jump when the server lags.
+ * Expired WorldGuard spawn marks are purged from here every couple of seconds.
+ */
+public class RunClock {
+    public static final long TICKS_PER_SECOND = 20L;
+    private static final long PURGE_INTERVAL = 40L; // Ticks between purges of expired spawn marks
+
+    private final RoguecraftPlugin plugin;
+    private final BukkitTask tickTask;
+    private long tick = 1L; // Starts at 1 so a stored tick of 0 means "never"
+
+    public RunClock(RoguecraftPlugin plugin) {
+        this.plugin = plugin;
+        this.tickTask = Bukkit.getScheduler().runTaskTimer(plugin, this::tick, 1L, 1L);
+    }
+
+    private void tick() {
+        tick++;
+        GameManager gameManager = plugin.getGameManager();
+        for (TeamRun teamRun : plugin.getRunManager().getAllActiveTeamRuns()) {
+            if (teamRun.isActive() && !teamRun.hasAnyPlayerInGUI()) {
+                teamRun.advanceTick();
+                if (gameManager != null) {
+                    gameManager.advanceTimeFreeze(teamRun);
+                }
+            }
+        }
+        for (Run run : plugin.getRunManager().getAllActiveRuns()) {
+            if (run.isActive()) {
+                run.advanceTick();
+                // Solo runs inside a team run are counted down with the team run
+                if (gameManager != null && plugin.getRunManager().getTeamRun(run.getPlayerId()) == null) {
+                    gameManager.advanceTimeFreeze(run.getPlayerId());
+                }
+            }
+        }
+        if (tick % PURGE_INTERVAL == 0 && gameManager != null) {
+            gameManager.purgeSpawnMarks(tick);
+        }
+    }
+
+    /**
+     * Monotonic server tick count
+     */
+    public long getTick() {
+        return tick;
+    }
+
+    /**
+     * Ticks since the given tick, or Long.MAX_VALUE if it was never set (0)
+     */
+    public long ticksSince(long pastTick) {
+        return pastTick > 0 ? tick - pastTick : Long.MAX_VALUE;
+    }
+
+    public static long secondsToTicks(double seconds) {
+        return Math.round(seconds * TICKS_PER_SECOND);
+    }
+
+    public void cleanup() {
+        tickTask.cancel();
+    }
+}
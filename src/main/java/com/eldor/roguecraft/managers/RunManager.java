@@ -100,6 +100,13 @@ public class RunManager {
         return null;
     }
 
+    /**
+     * Get the team ID (first player's UUID) of the team run a player belongs to
+     */
+    public UUID getTeamRunId(UUID playerId) {
+        return playerToTeamRun.get(playerId);
+    }
+
     public void endRun(Player player) {
         Run run = activeRuns.remove(player.getUniqueId());
         if (run != null) {
@@ -0,0 +1,125 @@
+package com.eldor.roguecraft.managers;
+
+import com.eldor.roguecraft.RoguecraftPlugin;
+import com.eldor.roguecraft.models.Run;
+import com.eldor.roguecraft.models.TeamRun;
+import org.bukkit.entity.Player;
+
+import java.util.*;
+
+/**
+ * Seeded randomness for runs.
+ * Each run gets one seed (random.seed in config.yml, or a fresh one) and every subsystem draws from its own
+ * stream split off that seed, so extra rolls in one subsystem never shift another's. The same seed and the
+ * same inputs give the same layout, waves, drops, gacha pulls and level-up offers.
+ * Streams are main thread only. Cosmetic randomness (particle offsets, roll animations) uses getShared().
+ */
+public class RunRandom {
+    /**
+     * Subsystems with their own stream. Order matters: streams are split off the run seed in this order.
+     */
+    public enum Stream {
+        SPAWNS, DROPS, GACHA, POWER_UPS, PLACEMENT, COMBAT
+    }
+
+    private final RoguecraftPlugin plugin;
+    private final SplittableRandom shared; // Rolls outside any run, and cosmetic rolls
+    private final Map<UUID, RunStreams> runs; // Run ID -> seed and streams
+
+    public RunRandom(RoguecraftPlugin plugin) {
+        this.plugin = plugin;
+        this.shared = new SplittableRandom();
+        this.runs = new HashMap<>();
+    }
+
+    /**
+     * Give a run its seed (run start). Does nothing if the run already has one.
+     * @return The run's seed
+     */
+    public long startRun(UUID runId) {
+        RunStreams streams = runs.get(runId);
+        if (streams == null) {
+            streams = new RunStreams(nextSeed());
+            runs.put(runId, streams);
+            plugin.getLogger().info("[Random] Run " + runId + " seed " + streams.seed);
+        }
+        return streams.seed;
+    }
+
+    /**
+     * The configured fixed seed, or a fresh random one
+     */
+    private long nextSeed() {
+        org.bukkit.configuration.file.FileConfiguration config = plugin.getConfigManager().getMainConfig();
+        long seed = config.getLong("random.seed", config.getLong("placement.seed", 0L)); // placement.seed is the old name
+        return seed != 0L ? seed : shared.nextLong();
+    }
+
+    /**
+     * A run's stream for a subsystem (seeds the run first if needed); the shared stream if runId is null
+     */
+    public SplittableRandom get(UUID runId, Stream stream) {
+        if (runId == null) {
+            return shared;
+        }
+        if (!runs.containsKey(runId)) {
+            startRun(runId);
+        }
+        return runs.get(runId).streams[stream.ordinal()];
+    }
+
+    /**
+     * Stream for a TeamRun or Run (run ID as in GameManager: the first player's UUID for teams)
+     */
+    public SplittableRandom get(Object run, Stream stream) {
+        return get(getRunId(run), stream);
+    }
+
+    /**
+     * Stream for the run a player is in
+     */
+    public SplittableRandom forPlayer(Player player, Stream stream) {
+        TeamRun teamRun = plugin.getRunManager().getTeamRun(player);
+        return get(teamRun != null ? teamRun : plugin.getRunManager().getRun(player), stream);
+    }
+
+    public SplittableRandom getShared() {
+        return shared;
+    }
+
+    private UUID getRunId(Object run) {
+        if (run instanceof TeamRun) {
+            TeamRun teamRun = (TeamRun) run;
+            return teamRun.getPlayers().isEmpty() ? null : teamRun.getPlayers().get(0).getUniqueId();
+        }
+        if (run instanceof Run) {
+            return ((Run) run).getPlayerId();
+        }
+        return null;
+    }
+
+    /**
+     * Forget a run's seed and streams (run end)
+     */
+    public void releaseRun(UUID runId) {
+        runs.remove(runId);
+    }
+
+    public void cleanup() {
+        runs.clear();
+    }
+
+    private static final class RunStreams {
+        private final long seed;
+        private final SplittableRandom[] streams;
+
+        private RunStreams(long seed) {
+            this.seed = seed;
+            SplittableRandom root = new SplittableRandom(seed);
+            this.streams = new SplittableRandom[Stream.values().length];
+            for (int i = 0; i < streams.length; i++) {
+                streams[i] = root.split();
+            }
+        }
+    }
+}
@@ -1,7 +1,6 @@
 package com.eldor.roguecraft.managers;
 
 import com.eldor.roguecraft.RoguecraftPlugin;
-import com.eldor.roguecraft.models.Arena;
 import com.eldor.roguecraft.models.Shrine;
 import com.eldor.roguecraft.models.TeamRun;
 import net.md_5.bungee.api.ChatMessageType;
@@ -9,9 +8,6 @@ import net.md_5.bungee.api.chat.TextComponent;
 import org.bukkit.Bukkit;
 import org.bukkit.ChatColor;
 import org.bukkit.Location;
-import org.bukkit.Material;
-import org.bukkit.World;
-import org.bukkit.block.Block;
 import org.bukkit.entity.LivingEntity;
 import org.bukkit.entity.Player;
 import org.bukkit.scheduler.BukkitTask;
@@ -23,11 +19,14 @@ import java.util.concurrent.ConcurrentHashMap;
  * Manages physical shrines in the arena
  */
 public class ShrineManager {
+    private static final double SHRINE_ENTER_RADIUS = 3.0; // Channeling starts within this distance
+    private static final double SHRINE_EXIT_RADIUS = 3.5; // Channeling is interrupted beyond this distance
+    
     private final RoguecraftPlugin plugin;
     private final Map<UUID, List<Shrine>> arenaShrines; // TeamRun ID -> Shrines
     private final java.util.concurrent.ConcurrentHashMap<UUID, ShrineChanneling> activeChanneling; // Player ID -> Channeling info (thread-safe)
-    private final Map<UUID, Map<Shrine.ShrineType, Long>> playerCooldowns; // Player ID -> Shrine Type -> Last use time
-    private final Map<UUID, Long> recentlyUsed; // Player ID -> Last GUI close time (prevents immediate re-channel)
+    private final Map<UUID, Map<Shrine.ShrineType, Long>> playerCooldowns; // Player ID -> Shrine Type -> Last use tick (RunClock)
+    private final Map<UUID, Long> recentlyUsed; // Player ID -> Last GUI close tick (prevents immediate re-channel)
     private final Set<UUID> playersInShrineGUI; // Players currently viewing shrine GUI
     
     public ShrineManager(RoguecraftPlugin plugin) {
@@ -40,92 +39,32 @@ public class ShrineManager {
     }
     
     /**
-     * Spawn shrines for a team run
+     * Spawn shrines for a team run at the locations planned by the PlacementPlanner
      */
-    public void spawnShrinesForRun(UUID teamId, Arena arena) {
+    public void spawnShrinesForRun(UUID teamId, PlacementPlanner.Layout layout) {
         // Remove any existing shrines first (safety check to prevent duplicates)
         removeShrinesForRun(teamId);
         
         List<Shrine> shrines = new ArrayList<>();
-        Random random = new Random();
-        double minDistance = 8.0; // Minimum distance between shrines and chests (8 blocks)
-        
-        // Get existing chests to check spacing
-        List<com.eldor.roguecraft.models.GachaChest> existingChests = plugin.getChestManager().getChestsForRun(teamId);
-        
-        // Spawn 5-7 difficulty shrines
-        int difficultyCount = 5 + random.nextInt(3); // 5, 6, or 7 shrines
-        int difficultyAttempts = 0;
-        int maxDifficultyAttempts = difficultyCount * 10;
-        while (shrines.size() < difficultyCount && difficultyAttempts < maxDifficultyAttempts) {
-            difficultyAttempts++;
-            Location spawnLoc = getRandomShrineLocation(arena);
-            if (spawnLoc != null && isLocationValid(spawnLoc, shrines, existingChests, minDistance)) {
-                Shrine shrine = new Shrine(spawnLoc, Shrine.ShrineType.DIFFICULTY);
-                shrine.build();
-                shrine.setActive(true);
-                shrines.add(shrine);
-                plugin.getLogger().info("[Shrine] Spawned " + shrine.getType().getName() + " at " + spawnLoc);
-            }
-        }
-        
-        // Spawn 2-3 boss shrines
-        int bossCount = 2 + random.nextInt(2); // 2 or 3 shrines
-        int bossAttempts = 0;
-        int maxBossAttempts = bossCount * 10;
-        while (shrines.size() < (difficultyCount + bossCount) && bossAttempts < maxBossAttempts) {
-            bossAttempts++;
-            Location spawnLoc = getRandomShrineLocation(arena);
-            if (spawnLoc != null && isLocationValid(spawnLoc, shrines, existingChests, minDistance)) {
-                Shrine shrine = new Shrine(spawnLoc, Shrine.ShrineType.BOSS);
-                shrine.build();
-                shrine.setActive(true);
-                shrines.add(shrine);
-                plugin.getLogger().info("[Shrine] Spawned " + shrine.getType().getName() + " at " + spawnLoc);
-            }
-        }
-        
-        // Spawn 6-8 regular power shrines (the ones that use channeling)
-        int powerCount = 6 + random.nextInt(3); // 6, 7, or 8 shrines
-        int powerAttempts = 0;
-        int maxPowerAttempts = powerCount * 10;
-        while (shrines.size() < (difficultyCount + bossCount + powerCount) && powerAttempts < maxPowerAttempts) {
-            powerAttempts++;
-            Location spawnLoc = getRandomShrineLocation(arena);
-            if (spawnLoc != null && isLocationValid(spawnLoc, shrines, existingChests, minDistance)) {
-                Shrine shrine = new Shrine(spawnLoc, Shrine.ShrineType.POWER);
-                shrine.build();
-                shrine.setActive(true);
-                shrines.add(shrine);
-                plugin.getLogger().info("[Shrine] Spawned " + shrine.getType().getName() + " at " + spawnLoc);
-            }
-        }
+        buildShrines(layout.getDifficultyShrines(), Shrine.ShrineType.DIFFICULTY, shrines);
+        buildShrines(layout.getBossShrines(), Shrine.ShrineType.BOSS, shrines);
+        buildShrines(layout.getPowerShrines(), Shrine.ShrineType.POWER, shrines); // Regular power shrines (the ones that use channeling)
         
         arenaShrines.put(teamId, shrines);
-        plugin.getLogger().info("[Shrine] Spawned " + shrines.size() + " shrines for team " + teamId + " (" + difficultyCount + " difficulty, " + bossCount + " boss, " + powerCount + " power)");
+        for (Shrine shrine : shrines) {
+            plugin.getProximityManager().register(teamId, shrine, shrine.getLocation(), SHRINE_ENTER_RADIUS, SHRINE_EXIT_RADIUS);
+        }
+        plugin.getLogger().info("[Shrine] Spawned " + shrines.size() + " shrines for team " + teamId + " (" + layout.getDifficultyShrines().size() + "/" + layout.getDifficultyCount() + " difficulty, " + layout.getBossShrines().size() + "/" + layout.getBossCount() + " boss, " + layout.getPowerShrines().size() + "/" + layout.getPowerCount() + " power)");
     }
     
-    /**
-     * Check if a location is valid (not too close to other shrines or chests)
-     */
-    private boolean isLocationValid(Location loc, List<Shrine> existingShrines, List<com.eldor.roguecraft.models.GachaChest> existingChests, double minDistance) {
-        // Check distance from existing shrines
-        for (Shrine shrine : existingShrines) {
-            if (loc.distance(shrine.getLocation()) < minDistance) {
-                return false;
-            }
+    private void buildShrines(List<Location> locations, Shrine.ShrineType type, List<Shrine> shrines) {
+        for (Location spawnLoc : locations) {
+            Shrine shrine = new Shrine(spawnLoc, type);
+            shrine.build(plugin.getBlockMutationQueue());
+            shrine.setActive(true);
+            shrines.add(shrine);
+            plugin.getLogger().info("[Shrine] Spawned " + shrine.getType().getName() + " at " + spawnLoc);
         }
-        
-        // Check distance from existing chests
-        if (existingChests != null) {
-            for (com.eldor.roguecraft.models.GachaChest chest : existingChests) {
-                if (loc.distance(chest.getLocation()) < minDistance) {
-                    return false;
-                }
-            }
-        }
-        
-        return true;
     }
     
     /**
@@ -137,8 +76,9 @@ public class ShrineManager {
             plugin.getLogger().info("[Shrine] Removing " + shrines.size() + " shrines for team " + teamId);
             for (Shrine shrine : shrines) {
                 if (shrine != null) {
+                    plugin.getProximityManager().unregister(teamId, shrine);
                     try {
-                        shrine.remove();
+                        shrine.remove(plugin.getBlockMutationQueue());
                     } catch (Exception e) {
                         plugin.getLogger().warning("[Shrine] Error removing shrine: " + e.getMessage());
                     }
@@ -153,7 +93,7 @@ public class ShrineManager {
                 for (Shrine shrine : allShrines) {
                     if (shrine != null) {
                         try {
-                            shrine.remove();
+                            shrine.remove(plugin.getBlockMutationQueue());
                         } catch (Exception e) {
                             plugin.getLogger().warning("[Shrine] Error removing orphaned shrine: " + e.getMessage());
                         }
@@ -172,30 +112,8 @@ public class ShrineManager {
      * Only returns shrines that haven't been used yet
      */
     public Shrine getShrineNearPlayer(UUID teamId, Player player) {
-        List<Shrine> shrines = arenaShrines.get(teamId);
-        if (shrines == null) {
-            plugin.getLogger().fine("[Shrine] No shrines found for team " + teamId);
-            return null;
-        }
-        
-        Location playerLoc = player.getLocation();
-        for (Shrine shrine : shrines) {
-            // Only return active shrines that haven't been used
-            if (!shrine.isActive() || shrine.hasBeenUsed()) {
-                continue;
-            }
-            
-            Location shrineLoc = shrine.getLocation();
-            double distance = playerLoc.distance(shrineLoc);
-            
-            if (distance <= 3.0) {
-                plugin.getLogger().fine("[Shrine] Found shrine near " + player.getName() + 
-                    " at distance " + String.format("%.2f", distance) + "m");
-                return shrine;
-            }
-        }
-        
-        return null;
+        return (Shrine) plugin.getProximityManager().findNearest(teamId, player.getLocation(), SHRINE_ENTER_RADIUS,
+            payload -> payload instanceof Shrine && ((Shrine) payload).isActive() && !((Shrine) payload).hasBeenUsed());
     }
     
     /**
@@ -263,7 +181,7 @@ public class ShrineManager {
         
         // Check if player just used a shrine (within last 3 seconds - increased)
         Long lastUsed = recentlyUsed.get(playerId);
-        if (lastUsed != null && System.currentTimeMillis() - lastUsed < 3000L) {
+        if (lastUsed != null && plugin.getRunClock().ticksSince(lastUsed) < 60L) {
             plugin.getLogger().fine("[Shrine] Cannot start channeling: Player " + player.getName() + " recently used a shrine");
             return; // Silently prevent immediate re-channeling
         }
@@ -346,12 +264,13 @@ public class ShrineManager {
                 
                 // Check distance directly instead of using channeling object
                 Location playerLoc = taskPlayer.getLocation();
-                double distance = playerLoc.distance(shrineLoc);
-                boolean stillNear = distance <= 3.5;
+                double distanceSquared = playerLoc.distanceSquared(shrineLoc);
+                boolean stillNear = distanceSquared <= SHRINE_EXIT_RADIUS * SHRINE_EXIT_RADIUS;
                 if (!stillNear) {
+                    double distance = Math.sqrt(distanceSquared);
                     plugin.getLogger().warning("[Shrine] Channeling interrupted: Player " + taskPlayer.getName() + 
                         " moved away from shrine. Distance: " + String.format("%.2f", distance) + 
-                        " (max: 3.5). Shrine at " + shrineLoc + 
+                        " (max: " + SHRINE_EXIT_RADIUS + "). Shrine at " + shrineLoc + 
                         ", Player at " + playerLoc);
                     
                     activeChanneling.remove(taskPlayerId);
@@ -423,7 +342,7 @@ public class ShrineManager {
                         plugin.getLogger().info("[Shrine] Channeling complete for " + taskPlayer.getName() + "! Opening GUI.");
                         
                         // Mark shrine as used so it can't be channeled again
-                        taskShrine.markAsUsed();
+                        taskShrine.markAsUsed(plugin.getBlockMutationQueue());
                         plugin.getLogger().info("[Shrine] Shrine " + taskShrine.getType().getName() + " marked as used at " + taskShrine.getLocation());
                         
                         // NOW freeze game when GUI opens
@@ -493,6 +412,9 @@ public class ShrineManager {
             }
         }
         
+        // Drop cached proximity state so the next move re-enters nearby shrines cleanly
+        plugin.getProximityManager().forgetPlayer(playerId);
+        
         // Remove from shrine GUI tracking
         boolean wasInGUI = playersInShrineGUI.remove(playerId);
         if (wasInGUI) {
@@ -520,11 +442,11 @@ public class ShrineManager {
         playersInShrineGUI.remove(playerId);
         
         // Mark as recently used to prevent immediate re-channeling
-        recentlyUsed.put(playerId, System.currentTimeMillis());
+        recentlyUsed.put(playerId, plugin.getRunClock().getTick());
         
         // Set personal cooldown
         playerCooldowns.computeIfAbsent(playerId, k -> new HashMap<>())
-                .put(type, System.currentTimeMillis());
+                .put(type, plugin.getRunClock().getTick());
         
         // Apply the actual buff effect
         applyShrineBuffEffect(player, buff);
@@ -584,7 +506,7 @@ public class ShrineManager {
         } else if (effectType.startsWith("heal_")) {
             // Healing buffs
             if (effectType.contains("full")) {
-                player.setHealth(player.getAttribute(org.bukkit.attribute.Attribute.GENERIC_MAX_HEALTH).getValue());
+                plugin.getHealingService().heal(player, HealingService.Source.SHRINE, player.getAttribute(org.bukkit.attribute.Attribute.GENERIC_MAX_HEALTH).getValue());
                 player.addPotionEffect(new org.bukkit.potion.PotionEffect(org.bukkit.potion.PotionEffectType.REGENERATION, 15 * 20, 2));
             } else if (effectType.contains("regen")) {
                 int duration = Integer.parseInt(parts[parts.length - 1].replace("s", ""));
@@ -639,7 +561,7 @@ public class ShrineManager {
                         if (p != null && p.isOnline()) {
                             p.sendMessage(org.bukkit.ChatColor.LIGHT_PURPLE + "⏸ Time Stop activated! All enemies frozen for " + duration + " seconds!");
                             p.playSound(p.getLocation(), org.bukkit.Sound.ITEM_TOTEM_USE, 1.0f, 0.8f);
-                            p.getWorld().spawnParticle(org.bukkit.Particle.TOTEM_OF_UNDYING, p.getLocation().add(0, 1, 0), 20, 0.5, 0.5, 0.5, 0.2);
+                            plugin.getFxEmitter().particle(org.bukkit.Particle.TOTEM_OF_UNDYING, p.getLocation().add(0, 1, 0), 20, 0.5, 0.5, 0.5, 0.2);
                         }
                     }
                 }
@@ -687,7 +609,7 @@ public class ShrineManager {
         if (target != null) {
             Location targetLoc = target.getLocation();
             player.teleport(targetLoc.add(0, 0.5, 0));
-            player.getWorld().spawnParticle(org.bukkit.Particle.PORTAL, player.getLocation(), 30, 0.5, 1, 0.5, 0.5);
+            plugin.getFxEmitter().particle(org.bukkit.Particle.PORTAL, player.getLocation(), 30, 0.5, 1, 0.5, 0.5);
         }
         
         // Apply speed
@@ -700,7 +622,7 @@ public class ShrineManager {
             double originalMax = healthAttr.getBaseValue();
             double newMax = originalMax * 2.0;
             healthAttr.setBaseValue(newMax);
-            player.setHealth(newMax);
+            plugin.getHealingService().heal(player, HealingService.Source.SHRINE, newMax);
             
             // Restore after duration
             Bukkit.getScheduler().runTaskLater(plugin, () -> {
@@ -740,7 +662,7 @@ public class ShrineManager {
         // Visual effect
         org.bukkit.scheduler.BukkitTask task = Bukkit.getScheduler().runTaskTimer(plugin, () -> {
             if (!player.isOnline()) return;
-            player.getWorld().spawnParticle(org.bukkit.Particle.TOTEM_OF_UNDYING, player.getLocation().add(0, 1, 0), 5, 0.3, 0.5, 0.3, 0);
+            plugin.getFxEmitter().particle(org.bukkit.Particle.TOTEM_OF_UNDYING, player.getLocation().add(0, 1, 0), 5, 0.3, 0.5, 0.3, 0);
         }, 0L, 5L);
         
         Bukkit.getScheduler().runTaskLater(plugin, () -> {
@@ -796,8 +718,8 @@ public class ShrineManager {
         Long lastUsed = cooldowns.get(type);
         if (lastUsed == null) return false;
         
-        long cooldown = type.getCooldown() * 1000L;
-        return System.currentTimeMillis() - lastUsed < cooldown;
+        long cooldown = type.getCooldown() * RunClock.TICKS_PER_SECOND;
+        return plugin.getRunClock().ticksSince(lastUsed) < cooldown;
     }
     
     private long getPlayerCooldownRemaining(UUID playerId, Shrine.ShrineType type) {
@@ -807,9 +729,9 @@ public class ShrineManager {
         Long lastUsed = cooldowns.get(type);
         if (lastUsed == null) return 0;
         
-        long cooldown = type.getCooldown() * 1000L;
-        long remaining = cooldown - (System.currentTimeMillis() - lastUsed);
-        return Math.max(0, remaining / 1000L);
+        long cooldown = type.getCooldown() * RunClock.TICKS_PER_SECOND;
+        long remaining = cooldown - plugin.getRunClock().ticksSince(lastUsed);
+        return Math.max(0, remaining / RunClock.TICKS_PER_SECOND);
     }
     
     /**
@@ -834,149 +756,6 @@ public class ShrineManager {
         return activeChanneling.containsKey(playerId);
     }
     
-    /**
-     * Get a random location for a shrine within the arena
-     * Randomly distributed throughout the region, on the surface (not in caves)
-     */
-    private Location getRandomShrineLocation(Arena arena) {
-        if (arena.getCenter() == null) {
-            plugin.getLogger().warning("[Shrine] Cannot spawn shrine: Arena center is null!");
-            return null;
-        }
-        
-        World world = arena.getCenter().getWorld();
-        if (world == null) {
-            plugin.getLogger().warning("[Shrine] Cannot spawn shrine: World is null!");
-            return null;
-        }
-        
-        Random random = new Random();
-        double radius = arena.getRadius();
-        
-        // Generate random X/Z coordinates uniformly distributed within the arena radius
-        // Use rejection sampling to ensure uniform distribution in a circle
-        double x, z;
-        do {
-            x = arena.getCenter().getX() + (random.nextDouble() * 2 - 1) * radius;
-            z = arena.getCenter().getZ() + (random.nextDouble() * 2 - 1) * radius;
-        } while (Math.sqrt(Math.pow(x - arena.getCenter().getX(), 2) + Math.pow(z - arena.getCenter().getZ(), 2)) > radius);
-        
-        // Find surface Y coordinate
-        Location surfaceLoc = findSurfaceLocation(world, x, z, arena.getCenter().getY());
-        if (surfaceLoc == null) {
-            return null; // Could not find valid surface
-        }
-        
-        plugin.getLogger().info("[Shrine] Spawning shrine at " + surfaceLoc + " (arena center: " + arena.getCenter() + ")");
-        return surfaceLoc;
-    }
-    
-    /**
-     * Find a surface location at the given X/Z coordinates
-     * Returns a location on solid ground with air above (not in a cave)
-     * 
-     * @param world The world to search in
-     * @param x X coordinate
-     * @param z Z coordinate
-     * @param startY Starting Y coordinate to search from (typically arena center Y)
-     * @return Surface location, or null if no valid surface found
-     */
-    private Location findSurfaceLocation(World world, double x, double z, double startY) {
-        // Ensure chunk is loaded
-        int blockX = (int) Math.floor(x);
-        int blockZ = (int) Math.floor(z);
-        org.bukkit.Chunk chunk = world.getChunkAt(blockX >> 4, blockZ >> 4);
-        if (!chunk.isLoaded()) {
-            chunk.load();
-        }
-        
-        // Start searching from a reasonable height (arena center Y + some buffer)
-        // Search down first to find the ground
-        int searchY = (int) Math.floor(startY);
-        int minY = world.getMinHeight();
-        int maxY = world.getMaxHeight();
-        
-        // First, try to find solid ground below the start Y
-        Block block = world.getBlockAt(blockX, searchY, blockZ);
-        Block below = searchY > minY ? world.getBlockAt(blockX, searchY - 1, blockZ) : null;
-        
-        // If we're in air, search down for solid ground
-        if (block.getType() == Material.AIR && below != null && below.getType() != Material.AIR) {
-            // Already on surface, but verify it's not in a cave
-            if (isOnSurface(world, x, searchY, z)) {
-                return new Location(world, x, searchY, z);
-            }
-        }
-        
-        // Search downward for solid ground
-        for (int y = searchY; y >= minY + 5; y--) {
-            block = world.getBlockAt(blockX, y, blockZ);
-            Block blockAbove = y < maxY - 1 ? world.getBlockAt(blockX, y + 1, blockZ) : null;
-            
-            // Found solid ground with air above
-            if (block.getType().isSolid() && blockAbove != null && blockAbove.getType() == Material.AIR) {
-                // Verify it's on the surface (not in a cave)
-                if (isOnSurface(world, x, y + 1, z)) {
-                    return new Location(world, x, y + 1, z);
-                }
-            }
-        }
-        
-        // If we didn't find anything below, try searching upward (in case we started too low)
-        for (int y = searchY + 1; y <= Math.min(startY + 20, maxY - 5); y++) {
-            block = world.getBlockAt(blockX, y, blockZ);
-            Block blockBelow = y > minY ? world.getBlockAt(blockX, y - 1, blockZ) : null;
-            
-            // Found air with solid ground below
-            if (block.getType() == Material.AIR && blockBelow != null && blockBelow.getType().isSolid()) {
-                // Verify it's on the surface (not in a cave)
-                if (isOnSurface(world, x, y, z)) {
-                    return new Location(world, x, y, z);
-                }
-            }
-        }
-        
-        // Could not find valid surface
-        return null;
-    }
-    
-    /**
-     * Check if a location is on the surface (not in a cave)
-     * Verifies that there's enough air above (at least 3 blocks) to ensure it's not underground
-     * 
-     * @param world The world
-     * @param x X coordinate
-     * @param y Y coordinate (should be the air block above ground)
-     * @param z Z coordinate
-     * @return true if on surface, false if in a cave
-     */
-    private boolean isOnSurface(World world, double x, int y, double z) {
-        int blockX = (int) Math.floor(x);
-        int blockZ = (int) Math.floor(z);
-        
-        // Ensure chunk is loaded
-        org.bukkit.Chunk chunk = world.getChunkAt(blockX >> 4, blockZ >> 4);
-        if (!chunk.isLoaded()) {
-            chunk.load();
-        }
-        
-        int maxY = world.getMaxHeight();
-        
-        // Check that there's at least 10 blocks of air above (ensures it's on surface, not in cave)
-        int airBlocks = 0;
-        for (int checkY = y; checkY < Math.min(y + 12, maxY); checkY++) {
-            Block checkBlock = world.getBlockAt(blockX, checkY, blockZ);
-            if (checkBlock.getType() == Material.AIR) {
-                airBlocks++;
-            } else {
-                break; // Hit a solid block, stop counting
-            }
-        }
-        
-        // Need at least 10 blocks of air above to be considered "on surface"
-        return airBlocks >= 10;
-    }
-    
     /**
      * Clean up all shrines and channeling
      * Called on server stop/disable to ensure all shrine blocks are removed
@@ -999,7 +778,7 @@ public class ShrineManager {
         for (List<Shrine> shrines : arenaShrines.values()) {
             for (Shrine shrine : shrines) {
                 if (shrine != null) {
-                    shrine.remove();
+                    shrine.remove(plugin.getBlockMutationQueue());
                     totalShrines++;
                 }
             }
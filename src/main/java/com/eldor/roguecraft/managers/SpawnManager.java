@@ -10,12 +10,14 @@ public class SpawnManager {
     private final RoguecraftPlugin plugin;
     private final Map<Integer, List<SpawnEntry>> spawnsByWave;
     private final Map<String, EntityType> eliteTypes;
+    private WaveSchedule waveSchedule;
 
     public SpawnManager(RoguecraftPlugin plugin) {
         this.plugin = plugin;
         this.spawnsByWave = new HashMap<>();
         this.eliteTypes = new HashMap<>();
         loadSpawns();
+        compileSchedule();
     }
 
     private void loadSpawns() {
@@ -75,19 +77,50 @@ public class SpawnManager {
         plugin.getLogger().info("Loaded spawns for " + spawnsByWave.size() + " wave(s)");
     }
 
-    public List<SpawnEntry> getSpawnsForWave(int wave) {
-        // Check if this is infinite mode
-        int maxWave = plugin.getConfigManager().getBalanceConfig().getInt("waves.max-wave", 20);
-        boolean isInfiniteMode = maxWave > 0 && wave > maxWave;
-        
-        if (isInfiniteMode) {
-            return getInfiniteWaveSpawns(wave, maxWave);
+    /**
+     * Build the spawn template of every scheduled wave up front
+     */
+    private void compileSchedule() {
+        org.bukkit.configuration.file.FileConfiguration balance = plugin.getConfigManager().getBalanceConfig();
+        int maxWave = balance.getInt("waves.max-wave", 20);
+        int lastWave = maxWave > 0 ? maxWave + WaveSchedule.MAX_INFINITE_WAVES : 1;
+        InfiniteSettings infinite = loadInfiniteSettings();
+        double eliteChance = balance.getDouble("elites.spawn-chance", 0.05);
+        WaveSchedule.WaveSpawns[] spawns = new WaveSchedule.WaveSpawns[lastWave];
+        for (int wave = 1; wave <= lastWave; wave++) {
+            spawns[wave - 1] = maxWave > 0 && wave > maxWave
+                ? buildInfiniteWaveSpawns(wave, maxWave, infinite)
+                : buildWaveSpawns(wave, eliteChance);
         }
-        
+        waveSchedule = new WaveSchedule(maxWave, spawns, balance.getDouble("waves.infinite.difficulty-increase-per-wave", 0.15));
+    }
+
+    public WaveSchedule getWaveSchedule() {
+        return waveSchedule;
+    }
+
+    /**
+     * Spawns for a wave; random elite upgrades of scaled-up waves are rolled from the given stream
+     */
+    public List<SpawnEntry> getSpawnsForWave(int wave, SplittableRandom random) {
+        WaveSchedule.WaveSpawns spawns = waveSchedule.getSpawns(wave);
+        if (spawns == null) {
+            // Past the end of the schedule (only reachable if max-wave changed mid-run)
+            spawns = waveSchedule.isInfinite(wave)
+                ? buildInfiniteWaveSpawns(wave, waveSchedule.getMaxWave(), loadInfiniteSettings())
+                : buildWaveSpawns(wave, plugin.getConfigManager().getBalanceConfig().getDouble("elites.spawn-chance", 0.05));
+        }
+        return spawns.roll(random);
+    }
+
+    /**
+     * Spawn template for a normal wave: the configured wave, or the closest lower one scaled up
+     */
+    private WaveSchedule.WaveSpawns buildWaveSpawns(int wave, double configEliteChance) {
         // Get exact wave if it exists
         List<SpawnEntry> spawns = spawnsByWave.get(wave);
         if (spawns != null) {
-            return new ArrayList<>(spawns);
+            return new WaveSchedule.WaveSpawns(new ArrayList<>(spawns), new double[spawns.size()]);
         }
 
         // Find closest lower wave to use as base
@@ -102,6 +135,7 @@ public class SpawnManager {
             // Dynamically scale up the base wave spawns
             List<SpawnEntry> baseSpawns = spawnsByWave.get(baseWave);
             List<SpawnEntry> scaledSpawns = new ArrayList<>();
+            List<Double> eliteChances = new ArrayList<>();
             
             // Calculate scaling factor: wave / baseWave
             // Reduce scaling for early waves (waves 1-5 scale slower)
@@ -145,24 +179,21 @@ public class SpawnManager {
                 scaledCount += varietyBonus; // Add bonus mobs for variety
                 
                 // Make elites more common at higher waves (wave 15+) but with lower chance
-                // Use spawn-chance from config instead of making everything elite
-                double eliteChance = plugin.getConfigManager().getBalanceConfig().getDouble("elites.spawn-chance", 0.05);
-                boolean shouldBeElite = entry.isElite();
+                // Use spawn-chance from config instead of making everything elite (rolled per spawn)
+                double eliteChance = configEliteChance;
                 
                 // At wave 15+, increase chance slightly but still use random chance
-                if (!shouldBeElite && wave >= 15) {
+                if (wave >= 15) {
                     eliteChance *= 1.5; // 1.5x chance at wave 15+
                 }
-                if (!shouldBeElite && Math.random() < eliteChance) {
-                    shouldBeElite = true;
-                }
                 
                 scaledSpawns.add(new SpawnEntry(
                     entry.getType(),
                     scaledCount,
                     entry.getWeight(),
-                    shouldBeElite
+                    entry.isElite()
                 ));
+                eliteChances.add(entry.isElite() ? 0.0 : eliteChance);
             }
             
             // Only add additional mob types if they're not already in the config
@@ -188,7 +219,12 @@ public class SpawnManager {
                 scaledSpawns.add(new SpawnEntry(EntityType.WITHER_SKELETON, (int)(2 * scaleFactor), 0.3, true));
             }
             
-            return scaledSpawns;
+            // Added mob types never roll for elite
+            double[] chances = new double[scaledSpawns.size()];
+            for (int i = 0; i < eliteChances.size(); i++) {
+                chances[i] = eliteChances.get(i);
+            }
+            return new WaveSchedule.WaveSpawns(scaledSpawns, chances);
         }
 
         // Fallback: Create basic spawns if no config exists
@@ -198,16 +234,13 @@ public class SpawnManager {
         if (wave >= 3) {
             fallbackSpawns.add(new SpawnEntry(EntityType.SPIDER, wave, 0.7, false));
         }
-        return fallbackSpawns;
+        return new WaveSchedule.WaveSpawns(fallbackSpawns, new double[fallbackSpawns.size()]);
     }
     
     /**
-     * Get spawns for infinite wave mode
-     * Only spawns Wither Skeletons to prevent mob infighting
+     * waves.infinite settings from balance.yml
      */
-    private List<SpawnEntry> getInfiniteWaveSpawns(int wave, int maxWave) {
-        List<SpawnEntry> spawns = new ArrayList<>();
-        
+    private InfiniteSettings loadInfiniteSettings() {
         // Get infinite wave config
         org.bukkit.configuration.ConfigurationSection infiniteSection = 
             plugin.getConfigManager().getBalanceConfig().getConfigurationSection("waves.infinite");
@@ -236,24 +269,28 @@ public class SpawnManager {
             mobTypes.add(EntityType.WITHER_SKELETON);
         }
         
-        // Calculate base count and scaling
-        int baseCount = infiniteSection != null ? infiniteSection.getInt("base-count", 5) : 5;
-        int countIncrease = infiniteSection != null ? infiniteSection.getInt("count-increase-per-wave", 2) : 2;
+        InfiniteSettings settings = new InfiniteSettings();
+        settings.mobTypes = mobTypes;
+        settings.baseCount = infiniteSection != null ? infiniteSection.getInt("base-count", 5) : 5;
+        settings.countIncrease = infiniteSection != null ? infiniteSection.getInt("count-increase-per-wave", 2) : 2;
+        return settings;
+    }
+    
+    /**
+     * Get spawns for infinite wave mode
+     * Only spawns Wither Skeletons to prevent mob infighting
+     */
+    private WaveSchedule.WaveSpawns buildInfiniteWaveSpawns(int wave, int maxWave, InfiniteSettings infinite) {
+        List<SpawnEntry> spawns = new ArrayList<>();
         
         // Calculate how many infinite waves have passed
         int infiniteWaveNumber = wave - maxWave;
         
         // Calculate spawn count (progressive increase, more aggressive)
-        int spawnCount = baseCount + (infiniteWaveNumber * countIncrease);
-        
-        // Elite spawn chance scales dramatically with infinite wave number
-        // Use config values for elite spawn scaling in infinite waves
-        double eliteBaseChance = infiniteSection != null ? infiniteSection.getDouble("elite-base-chance", 0.20) : 0.20;
-        double eliteIncreasePerWave = infiniteSection != null ? infiniteSection.getDouble("elite-increase-per-wave", 0.025) : 0.025;
-        double eliteChance = Math.min(0.85, eliteBaseChance + (infiniteWaveNumber * eliteIncreasePerWave)); // Scales from base, caps at 85%
+        int spawnCount = infinite.baseCount + (infiniteWaveNumber * infinite.countIncrease);
         
         // Use all available types (typically just Wither Skeletons to prevent mob infighting)
-        List<EntityType> selectedTypes = new ArrayList<>(mobTypes);
+        List<EntityType> selectedTypes = infinite.mobTypes;
         
         // Distribute spawn count across selected types
         int spawnsPerType = (int) Math.ceil(spawnCount / (double) selectedTypes.size());
@@ -265,13 +302,20 @@ public class SpawnManager {
             spawns.add(new SpawnEntry(type, spawnsPerType, 1.0, true));
         }
         
-        return spawns;
+        return new WaveSchedule.WaveSpawns(spawns, new double[spawns.size()]);
     }
 
     public void reload() {
         spawnsByWave.clear();
         eliteTypes.clear();
         loadSpawns();
+        compileSchedule();
+    }
+
+    private static final class InfiniteSettings {
+        private List<EntityType> mobTypes;
+        private int baseCount;
+        private int countIncrease;
     }
 
     public static class SpawnEntry {
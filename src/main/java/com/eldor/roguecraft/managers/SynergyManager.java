@@ -1,6 +1,9 @@
 package com.eldor.roguecraft.managers;
 
 import com.eldor.roguecraft.RoguecraftPlugin;
+import com.eldor.roguecraft.events.RunDamageEvent;
+import com.eldor.roguecraft.events.RunKillEvent;
+import com.eldor.roguecraft.models.DamageLedger;
 import com.eldor.roguecraft.models.PowerUp;
 import com.eldor.roguecraft.models.Run;
 import com.eldor.roguecraft.models.TeamRun;
@@ -10,26 +13,22 @@ import org.bukkit.Particle;
 import org.bukkit.Sound;
 import org.bukkit.attribute.Attribute;
 import org.bukkit.entity.*;
-import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
-import org.bukkit.event.Listener;
-import org.bukkit.event.entity.EntityDamageEvent;
-import org.bukkit.event.entity.EntityDeathEvent;
 import org.bukkit.metadata.FixedMetadataValue;
-import org.bukkit.scheduler.BukkitTask;
 
 import java.util.*;
 
-public class SynergyManager implements Listener {
+public class SynergyManager {
     private final RoguecraftPlugin plugin;
     private final Map<UUID, Integer> killCounts; // Track kills per run for Rapid Escalation and Lucky Streak
-    private final Map<UUID, Long> lastImmortalUse; // Track Immortal Build cooldown
+    private final Map<UUID, Long> lastImmortalUse; // Track Immortal Build cooldown (RunClock tick)
     
     public SynergyManager(RoguecraftPlugin plugin) {
         this.plugin = plugin;
         this.killCounts = new HashMap<>();
         this.lastImmortalUse = new HashMap<>();
-        plugin.getServer().getPluginManager().registerEvents(this, plugin);
+        plugin.getRunEventBus().subscribeKill(EventPriority.HIGH, this::onRunKill);
+        plugin.getRunEventBus().subscribeDamage(EventPriority.HIGHEST, this::onRunDamage);
     }
     
     /**
@@ -51,35 +50,22 @@ public class SynergyManager implements Listener {
     }
     
     /**
-     * Handle kill events for synergies
+     * Handle kill events for synergies - subscribed to the RunEventBus at HIGH
      */
-    @EventHandler(priority = EventPriority.HIGH)
-    public void onEntityDeath(EntityDeathEvent event) {
-        LivingEntity entity = event.getEntity();
-        if (entity instanceof Player) return;
+    private void onRunKill(RunKillEvent event) {
+        // Synergies only trigger on direct kills
+        if (!event.isDirectKill()) return;
         
-        Player killer = entity.getKiller();
-        if (killer == null) return;
+        LivingEntity entity = event.getEntity();
+        Player killer = event.getKiller();
         
         // Skip if killer is in GUI (pause synergies while GUI is open)
-        if (plugin.getGuiManager().isPlayerInGUI(killer.getUniqueId()) || 
-            plugin.getShrineManager().isPlayerInShrineGUI(killer.getUniqueId())) {
+        if (event.isKillerInGUI()) {
             return;
         }
         
-        Object run = plugin.getRunManager().getTeamRun(killer);
-        if (run == null) {
-            run = plugin.getRunManager().getRun(killer);
-        }
-        if (run == null || !isRunActive(run)) return;
-        
-        // Also check TeamRun's GUI tracking
-        if (run instanceof com.eldor.roguecraft.models.TeamRun) {
-            com.eldor.roguecraft.models.TeamRun teamRun = (com.eldor.roguecraft.models.TeamRun) run;
-            if (teamRun.isPlayerInGUI(killer.getUniqueId())) {
-                return;
-            }
-        }
+        Object run = event.getContext().getRunObject();
+        if (run == null) return;
         
         UUID runId = getRunId(run);
         
@@ -99,7 +85,7 @@ public class SynergyManager implements Listener {
                     applyRapidEscalation(run, value);
                     break;
                 case "Chain Reaction":
-                    if (shouldTriggerChainReaction(value)) {
+                    if (shouldTriggerChainReaction(run, value)) {
                         triggerChainReaction(killer, entity.getLocation());
                     }
                     break;
@@ -160,19 +146,21 @@ public class SynergyManager implements Listener {
             // Explode at target location
             Location loc = target.getLocation();
             double radius = 4.0;
+            UUID runId = getRunId(run);
             
             for (Entity nearby : target.getNearbyEntities(radius, radius, radius)) {
                 if (nearby instanceof LivingEntity && !(nearby instanceof Player) && nearby != target) {
                     LivingEntity mob = (LivingEntity) nearby;
+                    plugin.getDamageLedgerManager().recordHit(runId, player, mob, DamageLedger.SOURCE_SYNERGY, aoeDamage);
                     mob.damage(aoeDamage);
                     
                     // Visual feedback
-                    player.getWorld().spawnParticle(Particle.EXPLOSION, mob.getLocation(), 1, 0.3, 0.3, 0.3, 0);
+                    plugin.getFxEmitter().particle(Particle.EXPLOSION, mob.getLocation(), 1, 0.3, 0.3, 0.3, 0);
                 }
             }
             
             // Visual feedback at explosion center
-            player.getWorld().spawnParticle(Particle.EXPLOSION, loc, 3, 0.5, 0.5, 0.5, 0.1);
+            plugin.getFxEmitter().particle(Particle.EXPLOSION, loc, 3, 0.5, 0.5, 0.5, 0.1);
             player.playSound(loc, Sound.ENTITY_GENERIC_EXPLODE, 0.5f, 1.2f);
         }
     }
@@ -249,26 +237,22 @@ public class SynergyManager implements Listener {
     
     /**
      * Handle Immortal Build - prevent death
+     * Subscribed at HIGHEST so armor reduction has already been applied to the damage
      */
-    @EventHandler(priority = EventPriority.HIGHEST)
-    public void onEntityDamage(EntityDamageEvent event) {
-        if (!(event.getEntity() instanceof Player)) return;
+    private void onRunDamage(RunDamageEvent event) {
+        if (!event.isPlayerVictim() || event.isCancelled()) return;
         
-        Player player = (Player) event.getEntity();
-        Object run = plugin.getRunManager().getTeamRun(player);
-        if (run == null) {
-            run = plugin.getRunManager().getRun(player);
-        }
-        if (run == null || !isRunActive(run)) return;
+        Player player = event.getPlayerVictim();
+        Object run = event.getContext().getRunObject();
+        if (run == null) return;
         
         PowerUp immortal = getSynergyByName(run, "Immortal Build");
         if (immortal != null) {
             UUID runId = getRunId(run);
             
-            // Check cooldown (30 seconds)
-            long now = System.currentTimeMillis();
+            // Check cooldown (30 seconds, RunClock ticks)
             long lastUse = lastImmortalUse.getOrDefault(runId, 0L);
-            if (now - lastUse < 30000) {
+            if (plugin.getRunClock().ticksSince(lastUse) < 30 * RunClock.TICKS_PER_SECOND) {
                 return; // On cooldown
             }
             
@@ -285,42 +269,18 @@ public class SynergyManager implements Listener {
                 
                 // Grant invulnerability period
                 double invulnSeconds = immortal.getValue();
-                long invulnTicks = (long) (invulnSeconds * 20);
+                long invulnTicks = RunClock.secondsToTicks(invulnSeconds);
                 
-                player.setMetadata("immortal_invuln", new FixedMetadataValue(plugin, System.currentTimeMillis() + (invulnSeconds * 1000)));
-                
-                // Cancel damage for invulnerability period
-                BukkitTask task = Bukkit.getScheduler().runTaskTimer(plugin, () -> {
-                    if (!player.isOnline() || player.isDead()) {
-                        return;
-                    }
-                    
-                    if (player.hasMetadata("immortal_invuln")) {
-                        long endTime = player.getMetadata("immortal_invuln").get(0).asLong();
-                        if (System.currentTimeMillis() > endTime) {
-                            player.removeMetadata("immortal_invuln", plugin);
-                            return;
-                        }
-                    } else {
-                        return;
-                    }
-                }, 0L, 1L);
-                
-                // Auto-cancel after invulnerability period
-                Bukkit.getScheduler().runTaskLater(plugin, () -> {
-                    task.cancel();
-                    if (player.hasMetadata("immortal_invuln")) {
-                        player.removeMetadata("immortal_invuln", plugin);
-                    }
-                }, invulnTicks);
+                // End tick of the invulnerability period (checked and cleared by isInvulnerable)
+                player.setMetadata("immortal_invuln", new FixedMetadataValue(plugin, plugin.getRunClock().getTick() + invulnTicks));
                 
                 // Visual feedback
-                player.getWorld().spawnParticle(Particle.TOTEM_OF_UNDYING, player.getLocation(), 30, 0.5, 1.0, 0.5, 0.2);
+                plugin.getFxEmitter().particle(Particle.TOTEM_OF_UNDYING, player.getLocation(), 30, 0.5, 1.0, 0.5, 0.2);
                 player.playSound(player.getLocation(), Sound.ITEM_TOTEM_USE, 1.0f, 1.0f);
                 player.sendMessage("§6§lIMMORTAL BUILD! §eYou cannot die for " + String.format("%.1f", invulnSeconds) + " seconds!");
                 
                 // Update cooldown
-                lastImmortalUse.put(runId, now);
+                lastImmortalUse.put(runId, plugin.getRunClock().getTick());
             }
         }
     }
@@ -333,8 +293,8 @@ public class SynergyManager implements Listener {
             return false;
         }
         
-        long endTime = player.getMetadata("immortal_invuln").get(0).asLong();
-        if (System.currentTimeMillis() > endTime) {
+        long endTick = player.getMetadata("immortal_invuln").get(0).asLong();
+        if (plugin.getRunClock().getTick() > endTick) {
             player.removeMetadata("immortal_invuln", plugin);
             return false;
         }
@@ -347,10 +307,10 @@ public class SynergyManager implements Listener {
         // This is just a placeholder for any additional effects
     }
     
-    private boolean shouldTriggerChainReaction(double value) {
+    private boolean shouldTriggerChainReaction(Object run, double value) {
         double chance = value * 20.0; // 20% per value point
         chance = Math.min(75.0, chance); // Cap at 75%
-        return Math.random() * 100.0 < chance;
+        return plugin.getRunRandom().get(run, RunRandom.Stream.COMBAT).nextDouble() * 100.0 < chance;
     }
     
     private void triggerChainReaction(Player player, Location location) {
@@ -389,7 +349,7 @@ public class SynergyManager implements Listener {
             }
             
             // Visual feedback
-            player.getWorld().spawnParticle(Particle.CRIT, nearest.getLocation(), 10, 0.5, 0.5, 0.5, 0.1);
+            plugin.getFxEmitter().particle(Particle.CRIT, nearest.getLocation(), 10, 0.5, 0.5, 0.5, 0.1);
             player.playSound(location, Sound.ENTITY_LIGHTNING_BOLT_THUNDER, 0.3f, 2.0f);
         }
     }
@@ -414,8 +374,9 @@ public class SynergyManager implements Listener {
     private void grantRandomPowerUpEffect(Player player, Object run) {
         // Random stat boost (small temporary boost)
         String[] stats = {"damage", "speed", "crit_chance", "crit_damage", "armor"};
-        String randomStat = stats[new Random().nextInt(stats.length)];
-        double boost = 0.1 + (Math.random() * 0.2); // 10-30% boost
+        SplittableRandom random = plugin.getRunRandom().get(run, RunRandom.Stream.POWER_UPS);
+        String randomStat = stats[random.nextInt(stats.length)];
+        double boost = 0.1 + (random.nextDouble() * 0.2); // 10-30% boost
         
         // Apply as temporary metadata
         String metadataKey = "lucky_streak_" + randomStat;
@@ -429,7 +390,7 @@ public class SynergyManager implements Listener {
         }, 200L); // 10 seconds
         
         // Visual feedback
-        player.getWorld().spawnParticle(Particle.HEART, player.getLocation(), 20, 0.5, 1.0, 0.5, 0.1);
+        plugin.getFxEmitter().particle(Particle.HEART, player.getLocation(), 20, 0.5, 1.0, 0.5, 0.1);
         player.playSound(player.getLocation(), Sound.ENTITY_PLAYER_LEVELUP, 0.5f, 1.5f);
         player.sendMessage("§6§lLUCKY STREAK! §e+" + String.format("%.0f%%", boost * 100) + " " + randomStat + " for 10 seconds!");
     }
@@ -148,6 +148,7 @@ public class TeamLobbyManager {
             if (lobby.getPlayerCount() == 1) {
                 // Only leader, disband
                 teamLobbies.remove(player.getUniqueId());
+                plugin.getArenaChunkService().release(lobby);
                 player.sendMessage(ChatColor.YELLOW + "Team lobby disbanded.");
             } else {
                 // Transfer leadership to next player
@@ -166,6 +167,7 @@ public class TeamLobbyManager {
             lobby.broadcast(ChatColor.YELLOW + player.getName() + " left the team.");
             player.sendMessage(ChatColor.YELLOW + "You left the team.");
         }
+        updatePrewarm(lobby);
         
         return true;
     }
@@ -193,10 +195,22 @@ public class TeamLobbyManager {
         if (lobby.allReady()) {
             lobby.broadcast(ChatColor.GREEN + "All players are ready! Use /rc start to begin the run.");
         }
+        updatePrewarm(lobby);
         
         return true;
     }
     
+    /**
+     * Load the default arena's chunks while anyone in the lobby is ready, so the run starts warm
+     */
+    private void updatePrewarm(TeamLobby lobby) {
+        if (lobby.hasAnyReady() && teamLobbies.containsValue(lobby)) {
+            plugin.getArenaChunkService().acquire(plugin.getArenaManager().getDefaultArena(), lobby);
+        } else {
+            plugin.getArenaChunkService().release(lobby);
+        }
+    }
+    
     /**
      * Get the lobby a player is in
      */
@@ -231,6 +245,8 @@ public class TeamLobbyManager {
         if (lobby != null && lobby.getLeader() != null) {
             teamLobbies.remove(lobby.getLeader().getUniqueId());
         }
+        // The run has acquired its arena by now, so its chunks stay loaded
+        plugin.getArenaChunkService().release(lobby);
     }
     
     /**
@@ -319,6 +335,10 @@ public class TeamLobbyManager {
             }
         }
         
+        public boolean hasAnyReady() {
+            return !readyPlayers.isEmpty();
+        }
+        
         public boolean allReady() {
             if (players.isEmpty()) return false;
             // All players must be ready
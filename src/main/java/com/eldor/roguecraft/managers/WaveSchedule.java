@@ -0,0 +1,103 @@
+package com.eldor.roguecraft.managers;
+
+import java.util.*;
+
+/**
+ * Wave timing, spawns and difficulty compiled from balance.yml and spawns.yml by SpawnManager at load.
+ * Normal waves start every 30 seconds of run time; after max-wave, infinite waves start 10s apart, 0.5s sooner
+ * each wave down to 1s, for up to 100 waves. The start tick of every wave is stored in order, so the wave for a
+ * run's elapsed ticks is one binary search instead of re-deriving it every second.
+ */
+public class WaveSchedule {
+    public static final long NORMAL_WAVE_TICKS = 30 * RunClock.TICKS_PER_SECOND;
+    public static final int MAX_INFINITE_WAVES = 100;
+
+    private final int maxWave; // Last normal wave, 0 = no wave limit or infinite mode
+    private final long[] startTicks; // Index wave - 1 -> run tick the wave starts at
+    private final WaveSpawns[] spawns; // Index wave - 1 -> spawn template
+    private final double infiniteDifficultyPerWave;
+
+    public WaveSchedule(int maxWave, WaveSpawns[] spawns, double infiniteDifficultyPerWave) {
+        this.maxWave = maxWave;
+        this.spawns = spawns;
+        this.infiniteDifficultyPerWave = infiniteDifficultyPerWave;
+        this.startTicks = maxWave > 0 ? new long[maxWave + MAX_INFINITE_WAVES] : new long[1];
+        for (int wave = 2; wave <= maxWave + 1 && maxWave > 0; wave++) {
+            startTicks[wave - 1] = (wave - 1) * NORMAL_WAVE_TICKS;
+        }
+        // Infinite wave N starts once the first N intervals have fully passed (whole seconds, as before)
+        double accumulated = 10.0;
+        for (int infiniteWave = 2; infiniteWave <= MAX_INFINITE_WAVES && maxWave > 0; infiniteWave++) {
+            accumulated += Math.max(1.0, 10.0 - ((infiniteWave - 1) * 0.5));
+            startTicks[maxWave + infiniteWave - 1] = maxWave * NORMAL_WAVE_TICKS
+                + (long) Math.ceil(accumulated) * RunClock.TICKS_PER_SECOND;
+        }
+    }
+
+    /**
+     * The wave a run should be on after the given number of run ticks
+     */
+    public int getWaveAt(long runTicks) {
+        int index = Arrays.binarySearch(startTicks, runTicks);
+        return (index >= 0 ? index : -index - 2) + 1;
+    }
+
+    public int getMaxWave() {
+        return maxWave;
+    }
+
+    public boolean isInfinite(int wave) {
+        return maxWave > 0 && wave > maxWave;
+    }
+
+    /**
+     * Extra difficulty for infinite waves (0 for normal waves)
+     */
+    public double getInfiniteDifficulty(int wave) {
+        return isInfinite(wave) ? (wave - maxWave) * infiniteDifficultyPerWave : 0.0;
+    }
+
+    /**
+     * Spawn template for a wave, or null if the wave is outside the schedule
+     */
+    public WaveSpawns getSpawns(int wave) {
+        return wave >= 1 && wave <= spawns.length ? spawns[wave - 1] : null;
+    }
+
+    /**
+     * A wave's spawn entries, with the elite chance rolled for entries that aren't always elite
+     */
+    public static final class WaveSpawns {
+        private final List<SpawnManager.SpawnEntry> entries;
+        private final double[] eliteChances; // Per entry, 0 = no roll
+        private final boolean rolls;
+
+        public WaveSpawns(List<SpawnManager.SpawnEntry> entries, double[] eliteChances) {
+            this.entries = Collections.unmodifiableList(entries);
+            this.eliteChances = eliteChances;
+            boolean anyRoll = false;
+            for (double chance : eliteChances) {
+                anyRoll |= chance > 0;
+            }
+            this.rolls = anyRoll;
+        }
+
+        /**
+         * The entries for one spawn; elite rolls use the given stream in entry order
+         */
+        public List<SpawnManager.SpawnEntry> roll(SplittableRandom random) {
+            if (!rolls) {
+                return entries;
+            }
+            List<SpawnManager.SpawnEntry> rolled = new ArrayList<>(entries.size());
+            for (int i = 0; i < entries.size(); i++) {
+                SpawnManager.SpawnEntry entry = entries.get(i);
+                if (eliteChances[i] > 0 && random.nextDouble() < eliteChances[i]) {
+                    entry = new SpawnManager.SpawnEntry(entry.getType(), entry.getCount(), entry.getWeight(), true);
+                }
+                rolled.add(entry);
+            }
+            return rolled;
+        }
+    }
+}
@@ -20,16 +20,10 @@ import java.util.*;
 public class WeaponManager {
     private final RoguecraftPlugin plugin;
     private final Map<UUID, BukkitTask> weaponTasks; // Player UUID -> Attack task
-    private final Map<UUID, Double> lifestealHealingTracker; // Player UUID -> Healing done in last second
-    private final Map<UUID, Long> lifestealLastReset; // Player UUID -> Last reset time
-    private final Map<UUID, Long> lifestealLastHeal; // Player UUID -> Last heal time (for minimum interval)
     
     public WeaponManager(RoguecraftPlugin plugin) {
         this.plugin = plugin;
         this.weaponTasks = new HashMap<>();
-        this.lifestealHealingTracker = new HashMap<>();
-        this.lifestealLastReset = new HashMap<>();
-        this.lifestealLastHeal = new HashMap<>();
     }
     
     public void startAutoAttack(Player player, Weapon weapon) {
@@ -79,10 +73,6 @@ public class WeaponManager {
         if (task != null) {
             task.cancel();
         }
-        // Clean up lifesteal trackers
-        lifestealHealingTracker.remove(playerId);
-        lifestealLastReset.remove(playerId);
-        lifestealLastHeal.remove(playerId);
     }
     
     public void stopAllAutoAttacks() {
@@ -92,10 +82,6 @@ public class WeaponManager {
             }
         }
         weaponTasks.clear();
-        // Clean up all lifesteal trackers
-        lifestealHealingTracker.clear();
-        lifestealLastReset.clear();
-        lifestealLastHeal.clear();
     }
     
     private LivingEntity findNearestEnemy(Player player, double range) {
@@ -183,19 +169,19 @@ public class WeaponManager {
         
         // Apply damage multiplier
         double finalDamage = baseDamage * damageMultiplier;
+        SplittableRandom random = plugin.getRunRandom().get(teamRun != null ? teamRun : run, RunRandom.Stream.COMBAT);
         
         // Apply Big Bonk - 2% chance for 20x damage
         if (target != null) {
             for (org.bukkit.metadata.MetadataValue meta : player.getMetadata("gacha_item_big_bonk")) {
                 if (meta.value() instanceof com.eldor.roguecraft.models.GachaItem) {
                     com.eldor.roguecraft.models.GachaItem item = (com.eldor.roguecraft.models.GachaItem) meta.value();
-                    java.util.Random random = new java.util.Random();
                     if (random.nextDouble() < item.getValue()) {
                         // Big Bonk - 20x damage!
                         finalDamage *= 20.0;
                         // Visual and audio feedback
-                        target.getWorld().spawnParticle(Particle.EXPLOSION, target.getEyeLocation(), 20, 0.5, 0.5, 0.5, 0.1);
-                        target.getWorld().playSound(target.getLocation(), org.bukkit.Sound.BLOCK_ANVIL_LAND, 1.0f, 0.5f);
+                        plugin.getFxEmitter().particle(Particle.EXPLOSION, target.getEyeLocation(), 20, 0.5, 0.5, 0.5, 0.1);
+                        plugin.getFxEmitter().sound(target.getLocation(), org.bukkit.Sound.BLOCK_ANVIL_LAND, 1.0f, 0.5f);
                         player.sendMessage(org.bukkit.ChatColor.YELLOW + "💥 BIG BONK! 💥");
                     }
                 }
@@ -222,7 +208,7 @@ public class WeaponManager {
         }
         
         // Check for crit
-        boolean isCrit = Math.random() < critChance;
+        boolean isCrit = random.nextDouble() < critChance;
         if (isCrit) {
             // Tiered crit damage reduction based on mob type:
             // - Regular mobs: Full crit damage
@@ -245,7 +231,7 @@ public class WeaponManager {
             finalDamage *= effectiveCritDamage;
             // Visual feedback for crit
             if (target != null) {
-                player.getWorld().spawnParticle(Particle.CRIT, target.getEyeLocation(), 20, 0.5, 0.5, 0.5, 0.1);
+                plugin.getFxEmitter().particle(Particle.CRIT, target.getEyeLocation(), 20, 0.5, 0.5, 0.5, 0.1);
             }
             player.playSound(player.getLocation(), Sound.ENTITY_PLAYER_ATTACK_CRIT, 0.5f, 1.5f);
             
@@ -280,83 +266,10 @@ public class WeaponManager {
      * Apply lifesteal/vampire aura if player has it
      */
     public void applyLifesteal(Player player, double damageDealt) {
-        TeamRun teamRun = plugin.getRunManager().getTeamRun(player);
-        Run run = null;
-        boolean hasVampireAura = false;
-        double lifestealPercent = 0.0;
-        
-        // Check for Vampire Aura power-up (check both "Vampire Aura" and "Lifesteal" names)
-        if (teamRun != null && teamRun.isActive()) {
-            // Use player-specific power-ups
-            for (com.eldor.roguecraft.models.PowerUp powerUp : teamRun.getCollectedPowerUps(player)) {
-                if (powerUp.getType() == com.eldor.roguecraft.models.PowerUp.PowerUpType.AURA) {
-                    String name = powerUp.getName().toLowerCase();
-                    if (name.contains("vampire") || name.contains("lifesteal")) {
-                        hasVampireAura = true;
-                        // Vampire aura value represents lifesteal percentage (e.g., value 1.0 = 2% lifesteal)
-                        // Removed cap - lifesteal can scale higher now since it's rarer
-                        lifestealPercent = powerUp.getValue() * 2.0; // Convert to percentage, no cap
-                        break;
-                    }
-                }
-            }
-        } else {
-            run = plugin.getRunManager().getRun(player);
-            if (run != null && run.isActive()) {
-                for (com.eldor.roguecraft.models.PowerUp powerUp : run.getCollectedPowerUps()) {
-                    if (powerUp.getType() == com.eldor.roguecraft.models.PowerUp.PowerUpType.AURA) {
-                        String name = powerUp.getName().toLowerCase();
-                        if (name.contains("vampire") || name.contains("lifesteal")) {
-                            hasVampireAura = true;
-                            // Removed cap - lifesteal can scale higher now since it's rarer
-                            lifestealPercent = powerUp.getValue() * 2.0;
-                            break;
-                        }
-                    }
-                }
-            }
-        }
-        
-        // Apply lifesteal with strict healing rate cap (max 1 heart = 2 HP per second)
-        // Also enforce minimum time between heals to prevent rapid stacking
-        if (hasVampireAura && lifestealPercent > 0) {
-            UUID playerId = player.getUniqueId();
-            long currentTime = System.currentTimeMillis();
-            long lastReset = lifestealLastReset.getOrDefault(playerId, 0L);
-            long lastHeal = lifestealLastHeal.getOrDefault(playerId, 0L);
-            
-            // Reset tracker every second
-            if (currentTime - lastReset >= 1000) {
-                lifestealHealingTracker.put(playerId, 0.0);
-                lifestealLastReset.put(playerId, currentTime);
-            }
-            
-            // Enforce minimum 200ms (5 heals per second max) between individual heal applications
-            // This prevents rapid stacking from multiple AOE hits
-            if (currentTime - lastHeal < 200) {
-                return; // Too soon since last heal, skip this application
-            }
-            
-            double maxHealingPerSecond = 2.0; // Cap at 1 heart (2 HP) per second - reduced to prevent invincibility
-            double currentHealingThisSecond = lifestealHealingTracker.getOrDefault(playerId, 0.0);
-            
-            double healAmount = damageDealt * (lifestealPercent / 100.0);
-            double remainingHealingBudget = Math.max(0, maxHealingPerSecond - currentHealingThisSecond);
-            double actualHealAmount = Math.min(healAmount, remainingHealingBudget);
-            
-            if (actualHealAmount > 0) {
-                double maxHealth = player.getAttribute(org.bukkit.attribute.Attribute.GENERIC_MAX_HEALTH).getValue();
-                double currentHealth = player.getHealth();
-                double newHealth = Math.min(maxHealth, currentHealth + actualHealAmount);
-                player.setHealth(newHealth);
-                
-                // Update trackers
-                lifestealHealingTracker.put(playerId, currentHealingThisSecond + actualHealAmount);
-                lifestealLastHeal.put(playerId, currentTime);
-                
-                // Visual feedback
-                player.getWorld().spawnParticle(Particle.HEART, player.getEyeLocation(), 3, 0.3, 0.5, 0.3, 0);
-            }
+        // Percentage, rate cap (1 heart per second) and batching are handled by the HealingService
+        if (plugin.getHealingService().applyLifesteal(player, damageDealt) > 0) {
+            // Visual feedback
+            plugin.getFxEmitter().particle(Particle.HEART, player.getEyeLocation(), 3, 0.3, 0.5, 0.3, 0);
         }
     }
     
@@ -419,14 +332,14 @@ public class WeaponManager {
         // Burn Effect - set enemies on fire
         if (hasWeaponMod(player, "Burn Effect")) {
             target.setFireTicks(100); // 5 seconds of fire
-            target.getWorld().spawnParticle(Particle.FLAME, target.getLocation(), 10, 0.3, 0.5, 0.3, 0.01);
+            plugin.getFxEmitter().particle(Particle.FLAME, target.getLocation(), 10, 0.3, 0.5, 0.3, 0.01);
         }
         
         // Frost Nova - slow/freeze enemies
         if (hasWeaponMod(player, "Frost Nova")) {
             target.addPotionEffect(new PotionEffect(PotionEffectType.SLOWNESS, 80, 2)); // Slow III for 4 seconds
             target.setFreezeTicks(100);
-            target.getWorld().spawnParticle(Particle.SNOWFLAKE, target.getLocation(), 20, 0.5, 1.0, 0.5, 0.1);
+            plugin.getFxEmitter().particle(Particle.SNOWFLAKE, target.getLocation(), 20, 0.5, 1.0, 0.5, 0.1);
         }
         
         // Apply gacha on-hit effects
@@ -437,7 +350,7 @@ public class WeaponManager {
      * Apply all gacha item on-hit effects
      */
     private void applyGachaOnHitEffects(Player player, LivingEntity target) {
-        java.util.Random random = new java.util.Random();
+        SplittableRandom random = plugin.getRunRandom().forPlayer(player, RunRandom.Stream.COMBAT);
         
         // Check all gacha items the player has
         for (org.bukkit.metadata.MetadataValue meta : player.getMetadata("gacha_item_moldy_cheese")) {
@@ -447,7 +360,7 @@ public class WeaponManager {
                     // Moldy Cheese - poison effect
                     target.addPotionEffect(new org.bukkit.potion.PotionEffect(
                         org.bukkit.potion.PotionEffectType.POISON, 100, 0)); // 5 seconds
-                    target.getWorld().spawnParticle(Particle.ITEM_SLIME, target.getLocation(), 10, 0.3, 0.5, 0.3, 0.01);
+                    plugin.getFxEmitter().particle(Particle.ITEM_SLIME, target.getLocation(), 10, 0.3, 0.5, 0.3, 0.01);
                 }
             }
         }
@@ -460,7 +373,7 @@ public class WeaponManager {
                     target.addPotionEffect(new org.bukkit.potion.PotionEffect(
                         org.bukkit.potion.PotionEffectType.SLOWNESS, 100, 1)); // Slow II for 5 seconds
                     target.setFreezeTicks(100);
-                    target.getWorld().spawnParticle(Particle.SNOWFLAKE, target.getLocation(), 15, 0.3, 0.5, 0.3, 0.01);
+                    plugin.getFxEmitter().particle(Particle.SNOWFLAKE, target.getLocation(), 15, 0.3, 0.5, 0.3, 0.01);
                 }
             }
         }
@@ -506,8 +419,8 @@ public class WeaponManager {
         double curseDamage = maxHP * 0.30; // 30% of max HP
         
         // Visual effect
-        target.getWorld().spawnParticle(Particle.SMOKE, target.getEyeLocation(), 20, 0.3, 0.5, 0.3, 0.05);
-        target.getWorld().playSound(target.getLocation(), org.bukkit.Sound.ENTITY_WITHER_HURT, 0.5f, 1.5f);
+        plugin.getFxEmitter().particle(Particle.SMOKE, target.getEyeLocation(), 20, 0.3, 0.5, 0.3, 0.05);
+        plugin.getFxEmitter().sound(target.getLocation(), org.bukkit.Sound.ENTITY_WITHER_HURT, 0.5f, 1.5f);
         
         // Apply curse damage over 3 seconds (60 ticks, every 20 ticks = 1 second)
         final LivingEntity finalTarget = target;
@@ -519,7 +432,7 @@ public class WeaponManager {
             
             if (ticksElapsed[0] % 20 == 0) { // Every second
                 finalTarget.damage(curseDamage, player);
-                finalTarget.getWorld().spawnParticle(Particle.SMOKE, finalTarget.getEyeLocation(), 10, 0.2, 0.3, 0.2, 0.02);
+                plugin.getFxEmitter().particle(Particle.SMOKE, finalTarget.getEyeLocation(), 10, 0.2, 0.3, 0.2, 0.02);
             }
             
             ticksElapsed[0]++;
@@ -541,8 +454,8 @@ public class WeaponManager {
         double explosionRadius = 3.0; // 3 block radius
         
         // Visual and audio
-        target.getWorld().spawnParticle(Particle.EXPLOSION, explodeLoc, 10, 0.5, 0.5, 0.5, 0.1);
-        target.getWorld().playSound(explodeLoc, org.bukkit.Sound.ENTITY_GENERIC_EXPLODE, 0.8f, 1.2f);
+        plugin.getFxEmitter().particle(Particle.EXPLOSION, explodeLoc, 10, 0.5, 0.5, 0.5, 0.1);
+        plugin.getFxEmitter().sound(explodeLoc, org.bukkit.Sound.ENTITY_GENERIC_EXPLODE, 0.8f, 1.2f);
         
         // Get base damage from player's weapon
         double baseDamage = 0.0;
@@ -596,7 +509,7 @@ public class WeaponManager {
                 double distanceMultiplier = Math.max(0.1, 1.0 - (distance / explosionRadius));
                 double finalDamage = calculateFinalDamage(player, effectiveExplosionDamage * distanceMultiplier, living);
                 living.damage(finalDamage, player);
-                living.getWorld().spawnParticle(Particle.EXPLOSION, living.getLocation(), 3, 0.2, 0.2, 0.2, 0.05);
+                plugin.getFxEmitter().particle(Particle.EXPLOSION, living.getLocation(), 3, 0.2, 0.2, 0.2, 0.05);
             }
         }
     }
@@ -609,9 +522,9 @@ public class WeaponManager {
         double blastRadius = 5.0; // 5 block radius
         
         // Visual and audio
-        target.getWorld().spawnParticle(Particle.EXPLOSION, blastLoc, 5, 1.0, 1.0, 1.0, 0.1);
-        target.getWorld().spawnParticle(Particle.CLOUD, blastLoc, 30, 1.0, 1.0, 1.0, 0.1);
-        target.getWorld().playSound(blastLoc, org.bukkit.Sound.ENTITY_GENERIC_EXPLODE, 1.0f, 0.8f);
+        plugin.getFxEmitter().particle(Particle.EXPLOSION, blastLoc, 5, 1.0, 1.0, 1.0, 0.1);
+        plugin.getFxEmitter().particle(Particle.CLOUD, blastLoc, 30, 1.0, 1.0, 1.0, 0.1);
+        plugin.getFxEmitter().sound(blastLoc, org.bukkit.Sound.ENTITY_GENERIC_EXPLODE, 1.0f, 0.8f);
         
         // Get base damage
         double baseDamage = 0.0;
@@ -670,7 +583,7 @@ public class WeaponManager {
                 knockback.setY(0.5); // Add upward component
                 living.setVelocity(knockback);
                 
-                living.getWorld().spawnParticle(Particle.EXPLOSION, living.getLocation(), 2, 0.3, 0.3, 0.3, 0.05);
+                plugin.getFxEmitter().particle(Particle.EXPLOSION, living.getLocation(), 2, 0.3, 0.3, 0.3, 0.05);
             }
         }
     }
@@ -764,7 +677,7 @@ public class WeaponManager {
                         Vector newDir = nearest.getEyeLocation().subtract(fireball.getLocation()).toVector().normalize();
                         fireball.setDirection(newDir);
                         fireball.setVelocity(newDir.multiply(0.5));
-                        fireball.getWorld().spawnParticle(Particle.ENCHANT, fireball.getLocation(), 1, 0.1, 0.1, 0.1, 0);
+                        plugin.getFxEmitter().particle(Particle.ENCHANT, fireball.getLocation(), 1, 0.1, 0.1, 0.1, 0);
                     }
                 }, 0L, 2L);
                 
@@ -793,8 +706,8 @@ public class WeaponManager {
                     
                     // Explosive Rounds visual effect
                     if (isExplosive && totalDamageDealt > 0) {
-                        loc.getWorld().spawnParticle(Particle.EXPLOSION, loc, 5, 0.5, 0.5, 0.5, 0.1);
-                        loc.getWorld().playSound(loc, Sound.ENTITY_GENERIC_EXPLODE, 0.5f, 1.2f);
+                        plugin.getFxEmitter().particle(Particle.EXPLOSION, loc, 5, 0.5, 0.5, 0.5, 0.1);
+                        plugin.getFxEmitter().sound(loc, Sound.ENTITY_GENERIC_EXPLODE, 0.5f, 1.2f);
                     }
                     
                     if (totalDamageDealt > 0) {
@@ -819,7 +732,7 @@ public class WeaponManager {
             target.damage(finalDamage, player);
             applyLifesteal(player, finalDamage);
             // Visual feedback
-            player.getWorld().spawnParticle(org.bukkit.Particle.CRIT, target.getEyeLocation(), 10, 0.3, 0.5, 0.3, 0);
+            plugin.getFxEmitter().particle(org.bukkit.Particle.CRIT, target.getEyeLocation(), 10, 0.3, 0.5, 0.3, 0);
             player.playSound(player.getLocation(), Sound.ENTITY_ARROW_SHOOT, 0.3f, 1.2f);
             return;
         }
@@ -827,6 +740,7 @@ public class WeaponManager {
         int projectileCount = getModifiedProjectileCount(player, weapon);
         boolean isHoming = hasWeaponMod(player, "Homing Projectiles");
         boolean isPiercing = hasWeaponMod(player, "Piercing Shot");
+        SplittableRandom random = plugin.getRunRandom().forPlayer(player, RunRandom.Stream.COMBAT); // Multishot spread
         
         for (int i = 0; i < projectileCount; i++) {
             Arrow arrow = player.getWorld().spawnArrow(eyeLoc, direction, 2.0f, 2.0f);
@@ -855,7 +769,7 @@ public class WeaponManager {
                     if (nearest != null && nearest.isValid()) {
                         Vector newDir = nearest.getEyeLocation().subtract(arrow.getLocation()).toVector().normalize();
                         arrow.setVelocity(newDir.multiply(2.0));
-                        arrow.getWorld().spawnParticle(Particle.ENCHANT, arrow.getLocation(), 1, 0.1, 0.1, 0.1, 0);
+                        plugin.getFxEmitter().particle(Particle.ENCHANT, arrow.getLocation(), 1, 0.1, 0.1, 0.1, 0);
                     }
                 }, 0L, 2L);
                 
@@ -876,9 +790,9 @@ public class WeaponManager {
             // Add slight spread for multiple arrows
             if (projectileCount > 1) {
                 Vector spread = new Vector(
-                    (Math.random() - 0.5) * 0.2,
-                    (Math.random() - 0.5) * 0.2,
-                    (Math.random() - 0.5) * 0.2
+                    (random.nextDouble() - 0.5) * 0.2,
+                    (random.nextDouble() - 0.5) * 0.2,
+                    (random.nextDouble() - 0.5) * 0.2
                 );
                 arrow.setVelocity(direction.clone().add(spread).normalize().multiply(2.0));
             }
@@ -896,8 +810,8 @@ public class WeaponManager {
         double effectiveRange = Math.min(weapon.getRange(), 25.0); // Cap at 25 blocks max (reduced from 40)
         
         // Visual lightning effect
-        player.getWorld().spawnParticle(Particle.ELECTRIC_SPARK, targetLoc.clone().add(0, 1, 0), 50, 0.5, 2, 0.5, 0.1);
-        player.getWorld().playSound(targetLoc, Sound.ENTITY_LIGHTNING_BOLT_IMPACT, 0.5f, 1.0f);
+        plugin.getFxEmitter().particle(Particle.ELECTRIC_SPARK, targetLoc.clone().add(0, 1, 0), 50, 0.5, 2, 0.5, 0.1);
+        plugin.getFxEmitter().sound(targetLoc, Sound.ENTITY_LIGHTNING_BOLT_IMPACT, 0.5f, 1.0f);
         
         // Get team members to exclude from damage
         com.eldor.roguecraft.models.TeamRun teamRun = plugin.getRunManager().getTeamRun(player);
@@ -935,7 +849,7 @@ public class WeaponManager {
                     hitEntities.add(living);
                     
                     // Visual effect on hit enemy
-                    living.getWorld().spawnParticle(Particle.ELECTRIC_SPARK, living.getEyeLocation(), 20, 0.3, 0.5, 0.3, 0);
+                    plugin.getFxEmitter().particle(Particle.ELECTRIC_SPARK, living.getEyeLocation(), 20, 0.3, 0.5, 0.3, 0);
                 }
             }
         }
@@ -985,7 +899,7 @@ public class WeaponManager {
                     Vector chainDir = nextLoc.subtract(chainLoc).toVector().normalize();
                     for (int i = 0; i < 10; i++) {
                         Location particleLoc = chainLoc.clone().add(chainDir.clone().multiply(i * 0.5));
-                        nextTarget.getWorld().spawnParticle(Particle.ELECTRIC_SPARK, particleLoc, 1, 0.1, 0.1, 0.1, 0);
+                        plugin.getFxEmitter().particle(Particle.ELECTRIC_SPARK, particleLoc, 1, 0.1, 0.1, 0.1, 0);
                     }
                     
                     lastHit = nextTarget;
@@ -1018,9 +932,6 @@ public class WeaponManager {
             if (tnt.isValid() && !tnt.isDead()) {
                 Location explodeLoc = tnt.getLocation();
                 
-                // Store actual explosion location for XP attribution
-                tnt.setMetadata("roguecraft_tnt_explosion_loc", new org.bukkit.metadata.FixedMetadataValue(plugin, explodeLoc.clone()));
-                
                 // Get team members to exclude from damage
                 com.eldor.roguecraft.models.TeamRun teamRun = plugin.getRunManager().getTeamRun(player);
                 Set<UUID> teamMemberIds = new HashSet<>();
@@ -1045,9 +956,9 @@ public class WeaponManager {
                         double finalDamage = calculateFinalDamage(player, baseDamage, (LivingEntity) entity);
                         LivingEntity living = (LivingEntity) entity;
                         
-                        // Tag entity with TNT owner for XP attribution if killed by explosion
+                        // Tag entity with TNT owner so the natural explosion damage is cancelled
+                        // (kill credit comes from the damage ledger entry recorded by this hit)
                         living.setMetadata("roguecraft_tnt_damaged", new org.bukkit.metadata.FixedMetadataValue(plugin, player.getUniqueId().toString()));
-                        living.setMetadata("roguecraft_tnt_damage_time", new org.bukkit.metadata.FixedMetadataValue(plugin, System.currentTimeMillis()));
                         
                         // Apply damage
                         living.damage(finalDamage, player);
@@ -1104,7 +1015,7 @@ public class WeaponManager {
         // Visual ice particles
         BukkitTask particleTask = Bukkit.getScheduler().runTaskTimer(plugin, () -> {
             if (snowball.isValid()) {
-                snowball.getWorld().spawnParticle(Particle.SNOWFLAKE, snowball.getLocation(), 3, 0.1, 0.1, 0.1, 0);
+                plugin.getFxEmitter().particle(Particle.SNOWFLAKE, snowball.getLocation(), 3, 0.1, 0.1, 0.1, 0);
             }
         }, 0L, 1L);
         
@@ -1114,7 +1025,7 @@ public class WeaponManager {
             if (snowball.isValid() && snowball.hasMetadata("ice_shard_weapon")) {
                 // Snowball didn't hit anything, apply AOE damage at current location
                 Location loc = snowball.getLocation();
-                loc.getWorld().spawnParticle(Particle.SNOWFLAKE, loc, 30, 1, 1, 1, 0);
+                plugin.getFxEmitter().particle(Particle.SNOWFLAKE, loc, 30, 1, 1, 1, 0);
                 
                 double weaponDamage = snowball.getMetadata("ice_shard_damage").get(0).asDouble();
                 double weaponAoe = snowball.getMetadata("ice_shard_aoe").get(0).asDouble();
@@ -1164,14 +1075,14 @@ public class WeaponManager {
                 missile.setVelocity(newDirection.multiply(0.5));
                 
                 // Particle trail
-                missile.getWorld().spawnParticle(Particle.ENCHANT, missile.getLocation(), 2, 0.1, 0.1, 0.1, 0);
+                plugin.getFxEmitter().particle(Particle.ENCHANT, missile.getLocation(), 2, 0.1, 0.1, 0.1, 0);
             }, 0L, 2L);
             
             Bukkit.getScheduler().runTaskLater(plugin, () -> {
                 homingTask.cancel();
                 if (missile.isValid()) {
                     Location loc = missile.getLocation();
-                    loc.getWorld().spawnParticle(Particle.ENCHANT, loc, 20, 0.5, 0.5, 0.5, 0);
+                    plugin.getFxEmitter().particle(Particle.ENCHANT, loc, 20, 0.5, 0.5, 0.5, 0);
                     
                     double totalDamageDealt = 0.0;
                     for (Entity entity : loc.getWorld().getNearbyEntities(loc, weapon.getAreaOfEffect(), weapon.getAreaOfEffect(), weapon.getAreaOfEffect())) {
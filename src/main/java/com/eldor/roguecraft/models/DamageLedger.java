@@ -0,0 +1,147 @@
+package com.eldor.roguecraft.models;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Fixed-size ring of the most recent plugin-originated hits in a run.
+ * Each entry is (victim, attacker, source, tick, damage). The latest entry per victim is indexed
+ * so kill attribution is a single map lookup, and per-source damage/kill totals are kept alongside.
+ */
+public class DamageLedger {
+    // Sources are weapon type ordinals, followed by the non-weapon sources below
+    public static final int SOURCE_AURA = Weapon.WeaponType.values().length;
+    public static final int SOURCE_SYNERGY = SOURCE_AURA + 1;
+    public static final int SOURCE_OTHER = SOURCE_AURA + 2;
+    private static final int SOURCE_COUNT = SOURCE_AURA + 3;
+
+    private final int capacity;
+    private final UUID[] victims;
+    private final UUID[] attackers;
+    private final int[] sources;
+    private final long[] ticks;
+    private final double[] amounts;
+    private int head; // Next slot to write
+    private final Map<UUID, Integer> latestByVictim; // Victim UUID -> slot of their most recent hit
+
+    private final double[] damageBySource;
+    private final int[] hitsBySource;
+    private final int[] killsBySource;
+
+    public DamageLedger(int capacity) {
+        this.capacity = Math.max(16, capacity);
+        this.victims = new UUID[this.capacity];
+        this.attackers = new UUID[this.capacity];
+        this.sources = new int[this.capacity];
+        this.ticks = new long[this.capacity];
+        this.amounts = new double[this.capacity];
+        this.head = 0;
+        this.latestByVictim = new HashMap<>(this.capacity * 2);
+        this.damageBySource = new double[SOURCE_COUNT];
+        this.hitsBySource = new int[SOURCE_COUNT];
+        this.killsBySource = new int[SOURCE_COUNT];
+    }
+
+    /**
+     * Map a weapon type to its ledger source index
+     */
+    public static int sourceOf(Weapon.WeaponType type) {
+        return type != null ? type.ordinal() : SOURCE_OTHER;
+    }
+
+    /**
+     * Record a hit, overwriting the oldest entry once the ring is full
+     */
+    public void record(UUID victimId, UUID attackerId, int source, long tick, double damage) {
+        int slot = head;
+
+        // Drop the index of the entry being overwritten if it is still that victim's latest hit
+        UUID overwritten = victims[slot];
+        if (overwritten != null) {
+            Integer indexed = latestByVictim.get(overwritten);
+            if (indexed != null && indexed == slot) {
+                latestByVictim.remove(overwritten);
+            }
+        }
+
+        victims[slot] = victimId;
+        attackers[slot] = attackerId;
+        sources[slot] = source;
+        ticks[slot] = tick;
+        amounts[slot] = damage;
+        latestByVictim.put(victimId, slot);
+        head = (head + 1) % capacity;
+
+        damageBySource[source] += damage;
+        hitsBySource[source]++;
+    }
+
+    /**
+     * Find the slot of the hit that gets credit for a victim's death
+     * @return slot index, or -1 if the victim has no hit within the credit window
+     */
+    public int findCredit(UUID victimId, long currentTick, long windowTicks) {
+        Integer slot = latestByVictim.get(victimId);
+        if (slot == null) {
+            return -1;
+        }
+        if (currentTick - ticks[slot] > windowTicks) {
+            return -1;
+        }
+        return slot;
+    }
+
+    /**
+     * Count a kill for the credited entry's source and forget the victim
+     */
+    public void recordKill(int slot) {
+        killsBySource[sources[slot]]++;
+        latestByVictim.remove(victims[slot]);
+    }
+
+    /**
+     * Forget a victim without crediting anyone (e.g. died outside the credit window)
+     */
+    public void forget(UUID victimId) {
+        latestByVictim.remove(victimId);
+    }
+
+    public UUID getAttacker(int slot) {
+        return attackers[slot];
+    }
+
+    public int getSource(int slot) {
+        return sources[slot];
+    }
+
+    public double getDamage(int source) {
+        return damageBySource[source];
+    }
+
+    public int getHits(int source) {
+        return hitsBySource[source];
+    }
+
+    public int getKills(int source) {
+        return killsBySource[source];
+    }
+
+    public int getSourceCount() {
+        return SOURCE_COUNT;
+    }
+
+    /**
+     * Display name for a source index
+     */
+    public static String getSourceName(int source) {
+        if (source < SOURCE_AURA) {
+            return Weapon.WeaponType.values()[source].getDisplayName();
+        } else if (source == SOURCE_AURA) {
+            return "Auras";
+        } else if (source == SOURCE_SYNERGY) {
+            return "Synergies";
+        }
+        return "Other";
+    }
+}
@@ -2,82 +2,20 @@ package com.eldor.roguecraft.models;
 
 import org.bukkit.Material;
 
-import java.util.Random;
+import java.util.SplittableRandom;
 
 /**
  * Factory for generating dynamic power-ups that scale with player stats
+ * Rarity rolls come from the caller's stream (the run's POWER_UPS stream in RunRandom)
  */
 public class DynamicPowerUp {
-    private static final Random RANDOM = new Random();
-    
     /**
-     * Generate a random stat boost power-up scaled by luck
-     * @param excludeRegeneration If true, regeneration stat will not be generated
+     * Generate a stat boost power-up scaled by luck
+     * @param stat Stat to boost (drawn by RollTables)
      */
-    public static PowerUp generateStatBoost(int playerLevel, double luck, boolean excludeRegeneration) {
-        // Choose a random stat with weighted selection
-        // Higher weight for damage and crit_chance to help with scaling
-        String stat;
-        int attempts = 0;
-        int maxAttempts = 50; // Prevent infinite loop
-        
-        do {
-            attempts++;
-            double roll = RANDOM.nextDouble();
-            
-            // Adjust roll ranges if regeneration is excluded
-            double regenStart = excludeRegeneration ? 0.97 : 0.92;
-            double regenEnd = excludeRegeneration ? 0.995 : 0.97;
-            
-            if (roll < 0.12) {
-                // 12% chance for difficulty
-                stat = "difficulty";
-            } else if (roll < 0.32) {
-                // 20% chance for damage (increased from ~12.5%)
-                stat = "damage";
-            } else if (roll < 0.50) {
-                // 18% chance for crit_chance (increased from ~12.5%)
-                stat = "crit_chance";
-            } else if (roll < 0.60) {
-                // 10% chance for crit_damage
-                stat = "crit_damage";
-            } else if (roll < 0.70) {
-                // 10% chance for health
-                stat = "health";
-            } else if (roll < 0.78) {
-                // 8% chance for armor
-                stat = "armor";
-            } else if (roll < 0.85) {
-                // 7% chance for speed
-                stat = "speed";
-            } else if (roll < regenStart) {
-                // 7% chance for luck (or more if regen excluded)
-                stat = "luck";
-            } else if (roll < regenEnd) {
-                // 5% chance for regeneration (only if not excluded)
-                stat = "regeneration";
-            } else if (roll < 0.992) {
-                // 2.5% chance for drop_rate
-                stat = "drop_rate";
-            } else if (roll < 0.994) {
-                // 0.5% chance for pickup_range
-                stat = "pickup_range";
-            } else if (roll < 0.997) {
-                // 0.3% chance for jump_height
-                stat = "jump_height";
-            } else {
-                // 0.3% chance for xp_multiplier
-                stat = "xp_multiplier";
-            }
-        } while (excludeRegeneration && stat.equals("regeneration") && attempts < maxAttempts);
-        
-        // Fallback if we hit max attempts (shouldn't happen, but safety check)
-        if (excludeRegeneration && stat.equals("regeneration") && attempts >= maxAttempts) {
-            stat = "damage"; // Default to damage if regeneration keeps getting selected
-        }
-        
+    public static PowerUp generateStatBoost(int playerLevel, double luck, String stat, SplittableRandom random) {
         // Determine rarity based on luck
-        PowerUp.Rarity rarity = determineRarity(luck);
+        PowerUp.Rarity rarity = determineRarity(luck, random);
         
         // Calculate value based on rarity and luck
         double baseValue = getBaseValueForStat(stat, playerLevel);
@@ -97,7 +35,7 @@ public class DynamicPowerUp {
         }
         
         return new PowerUp(
-            "dynamic_" + stat + "_" + RANDOM.nextInt(10000),
+            "dynamic_" + stat + "_" + random.nextInt(10000),
             formatStatName(stat) + " Boost",
             description,
             rarity,
@@ -111,8 +49,8 @@ public class DynamicPowerUp {
     /**
      * Generate a weapon upgrade power-up
      */
-    public static PowerUp generateWeaponUpgrade(int playerLevel, double luck) {
-        PowerUp.Rarity rarity = determineRarity(luck);
+    public static PowerUp generateWeaponUpgrade(int playerLevel, double luck, SplittableRandom random) {
+        PowerUp.Rarity rarity = determineRarity(luck, random);
         
         // Reduced upgrade levels to prevent power spikes
         // Higher rarity = more upgrade levels, but capped at reasonable amounts
@@ -122,7 +60,7 @@ public class DynamicPowerUp {
         else if (rarity == PowerUp.Rarity.LEGENDARY) levels = 3; // Legendary = 3 levels (reduced from 5)
         
         return new PowerUp(
-            "dynamic_weapon_upgrade_" + RANDOM.nextInt(10000),
+            "dynamic_weapon_upgrade_" + random.nextInt(10000),
             "Weapon Enhancement",
             "Upgrades your weapon by " + levels + " level" + (levels > 1 ? "s" : ""),
             rarity,
@@ -135,20 +73,15 @@ public class DynamicPowerUp {
     
     /**
      * Generate a weapon mod power-up
+     * @param modName Mod to grant (drawn by RollTables)
      */
-    public static PowerUp generateWeaponMod(int playerLevel, double luck) {
-        PowerUp.Rarity rarity = determineRarity(luck);
-        
-        String[] mods = {
-            "Piercing Shot", "Explosive Rounds", "Chain Lightning", "Frost Nova",
-            "Rapid Fire", "Homing Projectiles", "Multi-Shot", "Burn Effect"
-        };
-        String modName = mods[RANDOM.nextInt(mods.length)];
+    public static PowerUp generateWeaponMod(int playerLevel, double luck, String modName, SplittableRandom random) {
+        PowerUp.Rarity rarity = determineRarity(luck, random);
         
         double value = 1.0 + (playerLevel * 0.1) * getRarityMultiplier(rarity) * luck;
         
         return new PowerUp(
-            "dynamic_mod_" + RANDOM.nextInt(10000),
+            "dynamic_mod_" + random.nextInt(10000),
             modName,
             "Enhances your weapon with " + modName,
             rarity,
@@ -161,79 +94,10 @@ public class DynamicPowerUp {
     
     /**
      * Generate an aura power-up (passive effects)
-     * @param excludeVampireAura If true, Vampire Aura will not be generated
+     * @param auraName Aura to grant (drawn by RollTables, which leaves out Vampire Aura once lifesteal is capped)
      */
-    public static PowerUp generateAura(int playerLevel, double luck, boolean excludeVampireAura) {
-        PowerUp.Rarity rarity = determineRarity(luck);
-        
-        // Weighted selection - Vampire Aura appears more often (lifesteal is important)
-        String auraName;
-        int attempts = 0;
-        int maxAttempts = 50; // Prevent infinite loop
-        
-        do {
-            attempts++;
-            double roll = RANDOM.nextDouble();
-            
-            // Adjust roll ranges if Vampire Aura is excluded
-            if (excludeVampireAura) {
-                // Redistribute Vampire Aura's 25% to other auras proportionally
-                if (roll < 0.10) {
-                    // 10% chance for Thorns Aura (was 10%)
-                    auraName = "Thorns Aura";
-                } else if (roll < 0.20) {
-                    // 10% chance for Regeneration Aura (was 10%)
-                    auraName = "Regeneration Aura";
-                } else if (roll < 0.30) {
-                    // 10% chance for Fire Aura (was 10%)
-                    auraName = "Fire Aura";
-                } else if (roll < 0.40) {
-                    // 10% chance for Ice Aura (was 10%)
-                    auraName = "Ice Aura";
-                } else if (roll < 0.50) {
-                    // 10% chance for Lightning Aura (was 10%)
-                    auraName = "Lightning Aura";
-                } else if (roll < 0.60) {
-                    // 10% chance for Poison Aura (was 10%)
-                    auraName = "Poison Aura";
-                } else {
-                    // 40% chance for Shield Aura (was 15%, now gets Vampire's 25%)
-                    auraName = "Shield Aura";
-                }
-            } else {
-                // Normal distribution
-                if (roll < 0.25) {
-                    // 25% chance for Vampire Aura (increased from 12.5%)
-                    auraName = "Vampire Aura";
-                } else if (roll < 0.35) {
-                    // 10% chance for Thorns Aura
-                    auraName = "Thorns Aura";
-                } else if (roll < 0.45) {
-                    // 10% chance for Regeneration Aura
-                    auraName = "Regeneration Aura";
-                } else if (roll < 0.55) {
-                    // 10% chance for Fire Aura
-                    auraName = "Fire Aura";
-                } else if (roll < 0.65) {
-                    // 10% chance for Ice Aura
-                    auraName = "Ice Aura";
-                } else if (roll < 0.75) {
-                    // 10% chance for Lightning Aura
-                    auraName = "Lightning Aura";
-                } else if (roll < 0.85) {
-                    // 10% chance for Poison Aura
-                    auraName = "Poison Aura";
-                } else {
-                    // 15% chance for Shield Aura
-                    auraName = "Shield Aura";
-                }
-            }
-        } while (excludeVampireAura && auraName.equals("Vampire Aura") && attempts < maxAttempts);
-        
-        // Fallback if we hit max attempts (shouldn't happen, but safety check)
-        if (excludeVampireAura && auraName.equals("Vampire Aura") && attempts >= maxAttempts) {
-            auraName = "Shield Aura"; // Default to Shield Aura if Vampire keeps getting selected
-        }
+    public static PowerUp generateAura(int playerLevel, double luck, String auraName, SplittableRandom random) {
+        PowerUp.Rarity rarity = determineRarity(luck, random);
         
         // Value represents strength of aura
         // Reduced scaling for auras to prevent overpowered values (especially lifesteal)
@@ -246,7 +110,7 @@ public class DynamicPowerUp {
         String description = getAuraDescription(auraName, value);
         
         return new PowerUp(
-            "dynamic_aura_" + RANDOM.nextInt(10000),
+            "dynamic_aura_" + random.nextInt(10000),
             auraName,
             description,
             rarity,
@@ -260,14 +124,14 @@ public class DynamicPowerUp {
     /**
      * Generate a shrine power-up (temporary powerful buffs)
      */
-    public static PowerUp generateShrine(int playerLevel, double luck) {
-        PowerUp.Rarity rarity = determineRarity(luck);
+    public static PowerUp generateShrine(int playerLevel, double luck, SplittableRandom random) {
+        PowerUp.Rarity rarity = determineRarity(luck, random);
         
         String[] shrines = {
             "Shrine of Power", "Shrine of Swiftness", "Shrine of Vitality", "Shrine of Fortune",
             "Shrine of Fury", "Shrine of Protection", "Shrine of Chaos", "Shrine of Time"
         };
-        String shrineName = shrines[RANDOM.nextInt(shrines.length)];
+        String shrineName = shrines[random.nextInt(shrines.length)];
         
         // Value represents cooldown reduction
         double baseValue = 30.0 - (playerLevel * 0.5); // Lower = better
@@ -276,7 +140,7 @@ public class DynamicPowerUp {
         String description = getShrineDescription(shrineName, value);
         
         return new PowerUp(
-            "dynamic_shrine_" + RANDOM.nextInt(10000),
+            "dynamic_shrine_" + random.nextInt(10000),
             shrineName,
             description,
             rarity,
@@ -289,15 +153,10 @@ public class DynamicPowerUp {
     
     /**
      * Generate a synergy power-up (combo effects)
+     * @param synergyName Synergy to grant (drawn by RollTables)
      */
-    public static PowerUp generateSynergy(int playerLevel, double luck) {
-        PowerUp.Rarity rarity = determineRarity(luck);
-        
-        String[] synergies = {
-            "Critical Mass", "Elemental Fusion", "Rapid Escalation", "Chain Reaction",
-            "Berserker Mode", "Glass Cannon", "Immortal Build", "Lucky Streak"
-        };
-        String synergyName = synergies[RANDOM.nextInt(synergies.length)];
+    public static PowerUp generateSynergy(int playerLevel, double luck, String synergyName, SplittableRandom random) {
+        PowerUp.Rarity rarity = determineRarity(luck, random);
         
         double baseValue = 1.5 + (playerLevel * 0.1);
         double value = baseValue * getRarityMultiplier(rarity) * luck;
@@ -305,7 +164,7 @@ public class DynamicPowerUp {
         String description = getSynergyDescription(synergyName, value);
         
         return new PowerUp(
-            "dynamic_synergy_" + RANDOM.nextInt(10000),
+            "dynamic_synergy_" + random.nextInt(10000),
             synergyName,
             description,
             rarity,
@@ -400,9 +259,9 @@ public class DynamicPowerUp {
      * Determine rarity based on luck stat
      * Legendary is now much rarer - requires very high roll + luck bonus
      */
-    private static PowerUp.Rarity determineRarity(double luck) {
+    private static PowerUp.Rarity determineRarity(double luck, SplittableRandom random) {
         // Base roll from 0.0 to 1.0
-        double roll = RANDOM.nextDouble();
+        double roll = random.nextDouble();
         
         // Luck adds a small bonus to the roll (max 5% bonus from very high luck)
         // Formula: luck * 0.005, capped at 0.05 (so luck 10.0+ gives max bonus)
@@ -1,5 +1,6 @@
 package com.eldor.roguecraft.models;
 
+import com.eldor.roguecraft.managers.BlockMutationQueue;
 import org.bukkit.Location;
 import org.bukkit.Material;
 import org.bukkit.block.Block;
@@ -77,25 +78,17 @@ public class GachaChest {
     }
     
     /**
-     * Spawn the chest at the location
+     * Spawn the chest at the location (queued, lands within the next ticks)
      */
-    public void spawn() {
-        if (chestBlock.getType() != Material.CHEST) {
-            chestBlock.setType(Material.CHEST);
-        }
+    public void spawn(BlockMutationQueue blockQueue) {
+        blockQueue.set(this, chestBlock, Material.CHEST);
     }
     
     /**
-     * Remove the chest
+     * Remove the chest, restoring the block that was there before it
      */
-    public void remove() {
-        if (location != null && location.getWorld() != null) {
-            // Get fresh block reference from location to avoid stale references
-            Block block = location.getBlock();
-            if (block != null && block.getType() == Material.CHEST) {
-                block.setType(Material.AIR);
-            }
-        }
+    public void remove(BlockMutationQueue blockQueue) {
+        blockQueue.revert(this);
     }
 }
 
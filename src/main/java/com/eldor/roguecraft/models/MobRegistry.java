@@ -0,0 +1,135 @@
+package com.eldor.roguecraft.models;
+
+import org.bukkit.entity.LivingEntity;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Set;
+
+/**
+ * Mobs spawned for a single run, plus the run-level freeze state.
+ * Mobs are frozen while a player has a GUI open or a Time Freeze is running.
+ * Time Freeze counts down in run ticks (RunClock), so it pauses with the run and ends on the tick it should.
+ * The state is applied to the registry only when it changes, and newly
+ * registered mobs inherit it on spawn, so nothing needs to rescan the arena.
+ */
+public class MobRegistry {
+    private final Set<LivingEntity> mobs;
+    private boolean guiFrozen;
+    private long timeFreezeTicks; // Run ticks left on Time Freeze, 0 if inactive
+    private boolean applied; // Whether registered mobs currently have AI disabled
+
+    public MobRegistry() {
+        this.mobs = new HashSet<>();
+        this.guiFrozen = false;
+        this.timeFreezeTicks = 0L;
+        this.applied = false;
+    }
+
+    /**
+     * Track a newly spawned mob, freezing it immediately if the run is frozen
+     */
+    public void register(LivingEntity mob) {
+        mobs.add(mob);
+        if (applied) {
+            mob.setAI(false);
+        }
+    }
+
+    /**
+     * Stop tracking a mob (death or removal)
+     * @return true if the mob belonged to this run
+     */
+    public boolean unregister(LivingEntity mob) {
+        return mobs.remove(mob);
+    }
+
+    public boolean contains(LivingEntity mob) {
+        return mobs.contains(mob);
+    }
+
+    /**
+     * Read-only view of the tracked mobs (may include mobs that died since the last freeze change)
+     */
+    public Set<LivingEntity> getMobs() {
+        return Collections.unmodifiableSet(mobs);
+    }
+
+    public int size() {
+        return mobs.size();
+    }
+
+    public boolean isFrozen() {
+        return applied;
+    }
+
+    public boolean isTimeFreezeActive() {
+        return timeFreezeTicks > 0;
+    }
+
+    /**
+     * Update the GUI pause state
+     * @return true if this call froze the run's mobs
+     */
+    public boolean setGuiFrozen(boolean frozen) {
+        this.guiFrozen = frozen;
+        return apply();
+    }
+
+    /**
+     * Start (or extend) a Time Freeze
+     * @return true if this call froze the run's mobs
+     */
+    public boolean startTimeFreeze(long durationTicks) {
+        this.timeFreezeTicks = Math.max(timeFreezeTicks, durationTicks);
+        return apply();
+    }
+
+    /**
+     * Count the Time Freeze down by one run tick, thawing the mobs when it runs out
+     */
+    public void advanceTick() {
+        if (timeFreezeTicks > 0 && --timeFreezeTicks == 0) {
+            apply();
+        }
+    }
+
+    /**
+     * Re-enable AI on every tracked mob and forget them (run cleanup)
+     */
+    public void thawAll() {
+        for (LivingEntity mob : mobs) {
+            if (mob != null && !mob.isDead()) {
+                mob.setAI(true);
+                mob.setGravity(true);
+            }
+        }
+        mobs.clear();
+        guiFrozen = false;
+        timeFreezeTicks = 0L;
+        applied = false;
+    }
+
+    /**
+     * Apply the combined freeze state to the registry if it changed, dropping dead mobs on the way
+     */
+    private boolean apply() {
+        boolean frozen = guiFrozen || isTimeFreezeActive();
+        if (frozen == applied) {
+            return false;
+        }
+        applied = frozen;
+
+        Iterator<LivingEntity> it = mobs.iterator();
+        while (it.hasNext()) {
+            LivingEntity mob = it.next();
+            if (mob == null || mob.isDead() || !mob.isValid()) {
+                it.remove();
+                continue;
+            }
+            mob.setAI(!frozen);
+        }
+        return frozen;
+    }
+}
@@ -11,12 +11,14 @@ public class Run {
     private int experience;
     private int experienceToNextLevel;
     private long startTime;
+    private long elapsedTicks; // Game ticks played, not counting GUI pauses (RunClock)
     private long elapsedTime;
     private int wave;
     private double difficultyMultiplier;
     private final List<PowerUp> collectedPowerUps;
     private final List<com.eldor.roguecraft.models.GachaItem> collectedGachaItems;
     private final Map<String, Double> stats;
+    private long statsVersion; // Bumped on every stat or power-up change (GUI item caches)
     private int rerollsRemaining;
     private boolean isActive;
     private Weapon weapon; // Player's equipped weapon
@@ -97,8 +99,22 @@ public class Run {
         return startTime;
     }
 
+    /**
+     * Run time in milliseconds of game ticks played (GUI pauses and lag don't count)
+     */
     public long getElapsedTime() {
-        return System.currentTimeMillis() - startTime;
+        return elapsedTicks * 50L;
+    }
+
+    public long getElapsedTicks() {
+        return elapsedTicks;
+    }
+
+    /**
+     * Count one played tick (RunClock)
+     */
+    public void advanceTick() {
+        elapsedTicks++;
     }
 
     public int getWave() {
@@ -127,6 +143,7 @@ public class Run {
 
     public void addPowerUp(PowerUp powerUp) {
         this.collectedPowerUps.add(powerUp);
+        statsVersion++;
     }
     
     public List<com.eldor.roguecraft.models.GachaItem> getCollectedGachaItems() {
@@ -147,10 +164,16 @@ public class Run {
 
     public void setStat(String key, double value) {
         stats.put(key, value);
+        statsVersion++;
     }
 
     public void addStat(String key, double value) {
         stats.put(key, stats.getOrDefault(key, 0.0) + value);
+        statsVersion++;
+    }
+
+    public long getStatsVersion() {
+        return statsVersion;
     }
 
     public int getRerollsRemaining() {
@@ -1,5 +1,6 @@
 package com.eldor.roguecraft.models;
 
+import com.eldor.roguecraft.managers.BlockMutationQueue;
 import org.bukkit.Location;
 import org.bukkit.Material;
 import org.bukkit.block.Block;
@@ -14,6 +15,7 @@ public class Shrine {
     private final Location location;
     private final ShrineType type;
     private final List<Block> blocks;
+    private Block lightBlock; // Light that dims when the shrine is used (standard shrines only)
     private boolean isActive;
     private long lastUsedTime;
     private boolean hasBeenUsed; // Track if this shrine instance has been used
@@ -62,15 +64,11 @@ public class Shrine {
         return hasBeenUsed;
     }
     
-    public void markAsUsed() {
+    public void markAsUsed(BlockMutationQueue blockQueue) {
         this.hasBeenUsed = true;
-        // Visual feedback - maybe make the light dim or change color
-        if (!blocks.isEmpty()) {
-            Block lightBlock = location.clone().add(0, 3, 0).getBlock();
-            if (lightBlock.getType() == type.getLightMaterial()) {
-                // Change to a dimmed light source
-                lightBlock.setType(Material.REDSTONE_LAMP); // All used shrines get a dimmed lamp
-            }
+        // Visual feedback - dim the light on top
+        if (lightBlock != null) {
+            blockQueue.set(this, lightBlock, Material.REDSTONE_LAMP); // All used shrines get a dimmed lamp
         }
     }
     
@@ -94,55 +92,46 @@ public class Shrine {
     }
     
     /**
-     * Build the shrine structure at the location
+     * Build the shrine structure at the location (queued, the blocks land over the next ticks)
      */
-    public void build() {
+    public void build(BlockMutationQueue blockQueue) {
         blocks.clear();
+        lightBlock = null;
         
         if (type == ShrineType.DIFFICULTY) {
-            buildDifficultyShrine();
+            buildDifficultyShrine(blockQueue);
         } else if (type == ShrineType.BOSS) {
-            buildBossShrine();
+            buildBossShrine(blockQueue);
         } else {
-            buildStandardShrine();
+            buildStandardShrine(blockQueue);
         }
     }
     
-    private void buildDifficultyShrine() {
+    private void buildDifficultyShrine(BlockMutationQueue blockQueue) {
         if (location == null || location.getWorld() == null) {
             return; // Can't build if location is invalid
         }
         
-        // Ensure chunk is loaded
-        if (!location.getChunk().isLoaded()) {
-            location.getChunk().load();
-        }
-        
         // Just a dark block
         Block darkBlock = location.clone().add(0, 0, 0).getBlock();
         if (darkBlock != null) {
-            darkBlock.setType(Material.BLACK_CONCRETE);
+            blockQueue.set(this, darkBlock, Material.BLACK_CONCRETE);
             blocks.add(darkBlock);
         }
         
         // Place skeleton skull block on top
         Block skullBlock = location.clone().add(0, 1, 0).getBlock();
         if (skullBlock != null) {
-            skullBlock.setType(Material.SKELETON_SKULL);
+            blockQueue.set(this, skullBlock, Material.SKELETON_SKULL);
             blocks.add(skullBlock);
         }
     }
     
-    private void buildBossShrine() {
+    private void buildBossShrine(BlockMutationQueue blockQueue) {
         if (location == null || location.getWorld() == null) {
             return; // Can't build if location is invalid
         }
         
-        // Ensure chunk is loaded
-        if (!location.getChunk().isLoaded()) {
-            location.getChunk().load();
-        }
-        
         // Epic base: 5x5 platform with decorative corners
         Material baseMaterial = type.getBaseMaterial();
         for (int x = -2; x <= 2; x++) {
@@ -152,9 +141,9 @@ public class Shrine {
                 
                 // Decorative corners with different material
                 if ((x == -2 || x == 2) && (z == -2 || z == 2)) {
-                    block.setType(Material.OBSIDIAN); // Obsidian corners
+                    blockQueue.set(this, block, Material.OBSIDIAN); // Obsidian corners
                 } else {
-                    block.setType(baseMaterial);
+                    blockQueue.set(this, block, baseMaterial);
                 }
                 blocks.add(block);
             }
@@ -165,7 +154,7 @@ public class Shrine {
         for (int y = 1; y <= 3; y++) {
             Block block = location.clone().add(0, y, 0).getBlock();
             if (block == null) continue; // Skip if block is null
-            block.setType(pillarMaterial);
+            blockQueue.set(this, block, pillarMaterial);
             blocks.add(block);
         }
         
@@ -180,10 +169,10 @@ public class Shrine {
                     
                     if (y == 2) {
                         // Middle ring: use soul torch
-                        block.setType(Material.SOUL_TORCH);
+                        blockQueue.set(this, block, Material.SOUL_TORCH);
                     } else {
                         // Top and bottom rings: use dark material
-                        block.setType(Material.BLACKSTONE);
+                        blockQueue.set(this, block, Material.BLACKSTONE);
                     }
                     blocks.add(block);
                 }
@@ -193,35 +182,30 @@ public class Shrine {
         // Epic light on top (beacon-like structure)
         Block lightBlock = location.clone().add(0, 4, 0).getBlock();
         if (lightBlock != null) {
-            lightBlock.setType(type.getLightMaterial());
+            blockQueue.set(this, lightBlock, type.getLightMaterial());
             blocks.add(lightBlock);
         }
         
         // Additional decorative block above light (use END_ROD instead of NETHER_STAR - it's a valid block)
         Block topBlock = location.clone().add(0, 5, 0).getBlock();
         if (topBlock != null) {
-            topBlock.setType(Material.END_ROD); // End rod is a valid decorative block
+            blockQueue.set(this, topBlock, Material.END_ROD); // End rod is a valid decorative block
             blocks.add(topBlock);
         }
     }
     
-    private void buildStandardShrine() {
+    private void buildStandardShrine(BlockMutationQueue blockQueue) {
         if (location == null || location.getWorld() == null) {
             return; // Can't build if location is invalid
         }
         
-        // Ensure chunk is loaded
-        if (!location.getChunk().isLoaded()) {
-            location.getChunk().load();
-        }
-        
         // Base (3x3 platform)
         Material baseMaterial = type.getBaseMaterial();
         for (int x = -1; x <= 1; x++) {
             for (int z = -1; z <= 1; z++) {
                 Block block = location.clone().add(x, 0, z).getBlock();
                 if (block == null) continue; // Skip if block is null
-                block.setType(baseMaterial);
+                blockQueue.set(this, block, baseMaterial);
                 blocks.add(block);
             }
         }
@@ -231,175 +215,27 @@ public class Shrine {
         for (int y = 1; y <= 2; y++) {
             Block block = location.clone().add(0, y, 0).getBlock();
             if (block == null) continue; // Skip if block is null
-            block.setType(pillarMaterial);
+            blockQueue.set(this, block, pillarMaterial);
             blocks.add(block);
         }
         
-        // Light on top
-        Block lightBlock = location.clone().add(0, 3, 0).getBlock();
-        if (lightBlock != null) {
-            lightBlock.setType(type.getLightMaterial());
-            blocks.add(lightBlock);
+        // Light on top (dimmed once the shrine is used)
+        Block light = location.clone().add(0, 3, 0).getBlock();
+        if (light != null) {
+            blockQueue.set(this, light, type.getLightMaterial());
+            blocks.add(light);
+            lightBlock = light;
         }
     }
     
     /**
      * Remove the shrine structure
-     * Ensures all blocks are set to AIR and light is properly updated
+     * Restores exactly the blocks build() replaced, with their original data
      */
-    public void remove() {
-        if (location == null || location.getWorld() == null) {
-            return; // Can't remove if location is invalid
-        }
-        
-        Location shrineLoc = getLocation();
-        org.bukkit.World world = shrineLoc.getWorld();
-        
-        // Ensure chunk is loaded
-        if (!shrineLoc.getChunk().isLoaded()) {
-            shrineLoc.getChunk().load();
-        }
-        
-        // Track all modified chunks for lighting refresh
-        Set<org.bukkit.Chunk> modifiedChunks = new HashSet<>();
-        
-        // Remove all tracked blocks
-        for (Block block : blocks) {
-            if (block != null && block.getWorld() != null) {
-                // Ensure chunk is loaded
-                org.bukkit.Chunk chunk = block.getChunk();
-                if (!chunk.isLoaded()) {
-                    chunk.load();
-                }
-                block.setType(Material.AIR);
-                // Update block state to fix lighting
-                block.getState().update(false, false);
-                modifiedChunks.add(chunk);
-            }
-        }
-        
-        // Also check the area around the shrine location to catch any missed blocks
-        // Sometimes blocks might not be in the list if build() failed partially
-        if (shrineLoc != null && world != null) {
-            // Difficulty shrine: only has a dark block at y=0 and skull at y=1
-            if (type == ShrineType.DIFFICULTY) {
-                // Remove the dark block
-                Block darkBlock = shrineLoc.clone().add(0, 0, 0).getBlock();
-                if (darkBlock != null) {
-                    if (!darkBlock.getChunk().isLoaded()) {
-                        darkBlock.getChunk().load();
-                    }
-                    Material darkMat = darkBlock.getType();
-                    if (darkMat == Material.BLACK_CONCRETE || darkMat == Material.BLACK_TERRACOTTA) {
-                        darkBlock.setType(Material.AIR);
-                        darkBlock.getState().update(false, false);
-                        modifiedChunks.add(darkBlock.getChunk());
-                    }
-                }
-                // Remove the skull block
-                Block skullBlock = shrineLoc.clone().add(0, 1, 0).getBlock();
-                if (skullBlock != null) {
-                    org.bukkit.Chunk skullChunk = skullBlock.getChunk();
-                    if (!skullChunk.isLoaded()) {
-                        skullChunk.load();
-                    }
-                    if (skullBlock.getType() == Material.SKELETON_SKULL) {
-                        skullBlock.setType(Material.AIR);
-                        skullBlock.getState().update(false, false);
-                        modifiedChunks.add(skullChunk);
-                    }
-                }
-            } else {
-                // Boss and Power shrines: determine cleanup area based on shrine type
-                int baseRadius = (type == ShrineType.BOSS) ? 2 : 1; // Boss shrine has 5x5 base, others have 3x3
-                int maxHeight = (type == ShrineType.BOSS) ? 5 : 3; // Boss shrine is taller
-                
-                // Check base area (3x3 for power, 5x5 for boss)
-                for (int x = -baseRadius; x <= baseRadius; x++) {
-                    for (int z = -baseRadius; z <= baseRadius; z++) {
-                        Block block = shrineLoc.clone().add(x, 0, z).getBlock();
-                        if (block == null) continue; // Skip if block is null
-                        // Ensure chunk is loaded
-                        if (!block.getChunk().isLoaded()) {
-                            block.getChunk().load();
-                        }
-                        Material mat = block.getType();
-                        // Check if it's a shrine material (concrete, terracotta, obsidian, blackstone, fence, etc.)
-                        if (isShrineMaterial(mat) || mat == Material.OBSIDIAN || mat == Material.BLACKSTONE || 
-                            mat == Material.DARK_OAK_FENCE || mat == Material.SOUL_TORCH || mat == Material.END_ROD) {
-                            block.setType(Material.AIR);
-                            block.getState().update(false, false);
-                            modifiedChunks.add(block.getChunk());
-                        }
-                    }
-                }
-                
-                // Check pillar and decorative area (y=1 to maxHeight)
-                for (int y = 1; y <= maxHeight; y++) {
-                    // Check center pillar
-                    Block block = shrineLoc.clone().add(0, y, 0).getBlock();
-                    if (block == null) continue; // Skip if block is null
-                    // Ensure chunk is loaded
-                    if (!block.getChunk().isLoaded()) {
-                        block.getChunk().load();
-                    }
-                    Material mat = block.getType();
-                    if (isShrineMaterial(mat) || isLightMaterial(mat) || mat == Material.END_ROD) {
-                        block.setType(Material.AIR);
-                        block.getState().update(false, false);
-                        modifiedChunks.add(block.getChunk());
-                    }
-                    
-                    // For boss shrine, also check decorative rings
-                    if (type == ShrineType.BOSS && y <= 3) {
-                        for (int x = -1; x <= 1; x++) {
-                            for (int z = -1; z <= 1; z++) {
-                                if (x == 0 && z == 0) continue; // Skip center (pillar)
-                                Block ringBlock = shrineLoc.clone().add(x, y, z).getBlock();
-                                if (ringBlock == null) continue; // Skip if block is null
-                                // Ensure chunk is loaded
-                                if (!ringBlock.getChunk().isLoaded()) {
-                                    ringBlock.getChunk().load();
-                                }
-                                Material ringMat = ringBlock.getType();
-                                if (ringMat == Material.SOUL_TORCH || ringMat == Material.BLACKSTONE) {
-                                    ringBlock.setType(Material.AIR);
-                                    ringBlock.getState().update(false, false);
-                                    modifiedChunks.add(ringBlock.getChunk());
-                                }
-                            }
-                        }
-                    }
-                }
-            }
-            
-            // Refresh lighting for all modified chunks to fix dark particles
-            for (org.bukkit.Chunk chunk : modifiedChunks) {
-                try {
-                    world.refreshChunk(chunk.getX(), chunk.getZ());
-                } catch (Exception e) {
-                    // Some server implementations may not support refreshChunk, that's okay
-                }
-            }
-        }
-        
+    public void remove(BlockMutationQueue blockQueue) {
+        blockQueue.revert(this);
         blocks.clear();
-    }
-    
-    /**
-     * Check if a material is a shrine building material
-     */
-    private boolean isShrineMaterial(Material mat) {
-        return mat.name().contains("CONCRETE") || mat.name().contains("TERRACOTTA");
-    }
-    
-    /**
-     * Check if a material is a light source material
-     */
-    private boolean isLightMaterial(Material mat) {
-        return mat == Material.REDSTONE_LAMP || mat == Material.SEA_LANTERN || 
-               mat == Material.GLOWSTONE || mat == Material.BEACON || 
-               mat == Material.JACK_O_LANTERN || mat == Material.END_ROD;
+        lightBlock = null;
     }
     
     public enum ShrineType {
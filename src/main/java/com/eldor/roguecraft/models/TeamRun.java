@@ -11,6 +11,7 @@ public class TeamRun {
     private int experience;
     private int experienceToNextLevel;
     private long startTime;
+    private long elapsedTicks; // Game ticks played, not counting GUI pauses (RunClock)
     private int wave;
     private double difficultyMultiplier;
     // Individual per-player data
@@ -24,6 +25,7 @@ public class TeamRun {
     private final List<PowerUp> collectedPowerUps; // Legacy - kept for compatibility, but individual power-ups are stored per player
     private final List<com.eldor.roguecraft.models.GachaItem> collectedGachaItems; // Legacy - kept for compatibility
     private final Map<String, Double> stats; // Legacy - kept for compatibility, but individual stats are stored per player
+    private long statsVersion; // Bumped on any player's stat or power-up change (GUI item caches)
     private int rerollsRemaining; // Legacy - kept for compatibility
     private boolean isActive;
     private final Set<UUID> playersInGUI;
@@ -138,6 +140,13 @@ public class TeamRun {
         return new ArrayList<>(players);
     }
 
+    /**
+     * Membership check without copying the player set
+     */
+    public boolean hasPlayer(UUID playerId) {
+        return playerIds.contains(playerId);
+    }
+
     public int getPlayerCount() {
         return playerIds.size();
     }
@@ -170,8 +179,22 @@ public class TeamRun {
         return startTime;
     }
 
+    /**
+     * Run time in milliseconds of game ticks played (GUI pauses and lag don't count)
+     */
     public long getElapsedTime() {
-        return System.currentTimeMillis() - startTime;
+        return elapsedTicks * 50L;
+    }
+
+    public long getElapsedTicks() {
+        return elapsedTicks;
+    }
+
+    /**
+     * Count one played tick (RunClock)
+     */
+    public void advanceTick() {
+        elapsedTicks++;
     }
 
     public int getWave() {
@@ -214,6 +237,7 @@ public class TeamRun {
             playerPowerUps.put(playerId, powerUps);
         }
         powerUps.add(powerUp);
+        statsVersion++;
     }
     
     public void addPowerUp(Player player, PowerUp powerUp) {
@@ -259,6 +283,7 @@ public class TeamRun {
     public void addPowerUp(PowerUp powerUp) {
         // Add to legacy list for compatibility
         this.collectedPowerUps.add(powerUp);
+        statsVersion++;
     }
     
     public List<com.eldor.roguecraft.models.GachaItem> getCollectedGachaItems() {
@@ -295,6 +320,7 @@ public class TeamRun {
             playerStatMap = playerStats.get(playerId);
         }
         playerStatMap.put(key, value);
+        statsVersion++;
     }
     
     public void setStat(Player player, String key, double value) {
@@ -308,6 +334,11 @@ public class TeamRun {
             playerStatMap = playerStats.get(playerId);
         }
         playerStatMap.put(key, playerStatMap.getOrDefault(key, 0.0) + value);
+        statsVersion++;
+    }
+    
+    public long getStatsVersion() {
+        return statsVersion;
     }
     
     public void addStat(Player player, String key, double value) {
@@ -349,6 +380,7 @@ public class TeamRun {
         }
         // Also update legacy stats map
         stats.put(key, value);
+        statsVersion++;
     }
 
     public void addStat(String key, double value) {
@@ -358,6 +390,7 @@ public class TeamRun {
         }
         // Also update legacy stats map
         stats.put(key, stats.getOrDefault(key, 0.0) + value);
+        statsVersion++;
     }
 
     // Individual reroll methods
@@ -10,6 +10,9 @@ public class Weapon {
     private double attackSpeed; // Attacks per second
     private int projectileCount; // For multi-shot weapons
     private double areaOfEffect; // For AOE weapons
+    private long version; // Changes whenever any stat changes (GUI item caches)
+    
+    private static final java.util.concurrent.atomic.AtomicLong VERSIONS = new java.util.concurrent.atomic.AtomicLong(); // Unique across all weapons
     
     public Weapon(WeaponType type) {
         this.type = type;
@@ -19,9 +22,11 @@ public class Weapon {
         this.attackSpeed = type.getBaseAttackSpeed();
         this.projectileCount = type.getBaseProjectileCount();
         this.areaOfEffect = type.getBaseAOE();
+        this.version = VERSIONS.incrementAndGet();
     }
     
     public void upgrade() {
+        this.version = VERSIONS.incrementAndGet();
         this.level++;
         // Reduced scaling to prevent exponential power growth
         this.damage *= 1.15; // 15% damage increase per level (reduced from 20%)
@@ -96,6 +101,13 @@ public class Weapon {
         }
     }
     
+    /**
+     * Stamp of the weapon's current stats; never repeats, even across weapons
+     */
+    public long getVersion() {
+        return version;
+    }
+    
     public WeaponType getType() {
         return type;
     }
@@ -110,6 +122,7 @@ public class Weapon {
     
     public void setDamage(double damage) {
         this.damage = damage;
+        this.version = VERSIONS.incrementAndGet();
     }
     
     public double getRange() {
@@ -118,6 +131,7 @@ public class Weapon {
     
     public void setRange(double range) {
         this.range = range;
+        this.version = VERSIONS.incrementAndGet();
     }
     
     public double getAttackSpeed() {
@@ -126,6 +140,7 @@ public class Weapon {
     
     public void setAttackSpeed(double attackSpeed) {
         this.attackSpeed = attackSpeed;
+        this.version = VERSIONS.incrementAndGet();
     }
     
     public int getProjectileCount() {
@@ -134,6 +149,7 @@ public class Weapon {
     
     public void setProjectileCount(int projectileCount) {
         this.projectileCount = projectileCount;
+        this.version = VERSIONS.incrementAndGet();
     }
     
     public double getAreaOfEffect() {
@@ -142,6 +158,7 @@ public class Weapon {
     
     public void setAreaOfEffect(double areaOfEffect) {
         this.areaOfEffect = areaOfEffect;
+        this.version = VERSIONS.incrementAndGet();
     }
     
     public long getAttackCooldownTicks() {
@@ -0,0 +1,97 @@
+package com.eldor.roguecraft.util;
+
+import java.util.SplittableRandom;
+
+/**
+ * Weighted sampler using Vose's alias method.
+ * Building a table is O(n); each draw is one random int and one random double, with no allocation.
+ * Entries with zero weight are never drawn. Tables are immutable once built.
+ */
+public class AliasTable {
+    private final double[] probability; // Chance of keeping column i instead of taking its alias
+    private final int[] alias;
+    private final int size;
+
+    /**
+     * @param weights Non-negative weights, at least one greater than zero (they don't need to sum to 1)
+     */
+    public AliasTable(double[] weights) {
+        this.size = weights.length;
+        this.probability = new double[size];
+        this.alias = new int[size];
+
+        double total = 0.0;
+        for (double weight : weights) {
+            total += Math.max(0.0, weight);
+        }
+        if (size == 0 || total <= 0.0) {
+            throw new IllegalArgumentException("Alias table needs at least one positive weight");
+        }
+
+        // Scale so the average column holds exactly 1.0, then pair each short column with a tall one
+        double[] scaled = new double[size];
+        int[] small = new int[size];
+        int[] large = new int[size];
+        int smallCount = 0;
+        int largeCount = 0;
+        for (int i = 0; i < size; i++) {
+            scaled[i] = Math.max(0.0, weights[i]) * size / total;
+            if (scaled[i] < 1.0) {
+                small[smallCount++] = i;
+            } else {
+                large[largeCount++] = i;
+            }
+        }
+
+        while (smallCount > 0 && largeCount > 0) {
+            int less = small[--smallCount];
+            int more = large[--largeCount];
+            probability[less] = scaled[less];
+            alias[less] = more;
+            scaled[more] = (scaled[more] + scaled[less]) - 1.0;
+            if (scaled[more] < 1.0) {
+                small[smallCount++] = more;
+            } else {
+                large[largeCount++] = more;
+            }
+        }
+        // Whatever is left is 1.0 up to rounding error
+        while (largeCount > 0) {
+            int index = large[--largeCount];
+            probability[index] = 1.0;
+            alias[index] = index;
+        }
+        while (smallCount > 0) {
+            int index = small[--smallCount];
+            if (scaled[index] > 0.0) {
+                probability[index] = 1.0;
+                alias[index] = index;
+            } else {
+                // Zero-weight leftover (only possible through rounding) - always take the alias of a real entry
+                probability[index] = 0.0;
+                alias[index] = firstPositive(weights);
+            }
+        }
+    }
+
+    private static int firstPositive(double[] weights) {
+        for (int i = 0; i < weights.length; i++) {
+            if (weights[i] > 0.0) {
+                return i;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Draw an index with chance proportional to its weight
+     */
+    public int sample(SplittableRandom random) {
+        int column = random.nextInt(size);
+        return random.nextDouble() < probability[column] ? column : alias[column];
+    }
+
+    public int size() {
+        return size;
+    }
+}
@@ -0,0 +1,192 @@
+package com.eldor.roguecraft.util;
+
+import com.eldor.roguecraft.models.Arena;
+import org.bukkit.Chunk;
+import org.bukkit.ChunkSnapshot;
+import org.bukkit.Location;
+import org.bukkit.Material;
+import org.bukkit.World;
+
+import java.util.*;
+
+/**
+ * Lazily computed surface heights over an arena, read from chunk snapshots.
+ * Snapshots are taken on the main thread; after that the map can be read from any single thread
+ * (the placement planner's worker, or the main thread for crowd steering).
+ * A column's surface is the air block above solid ground with open sky over it (not in a cave).
+ */
+public class ArenaSurfaceMap {
+    public static final int NO_SURFACE = Integer.MIN_VALUE + 1; // Column has no valid surface
+    private static final int UNKNOWN = Integer.MIN_VALUE; // Column not computed yet
+
+    private final Map<Long, ChunkSnapshot> snapshots;
+    private final double centerX;
+    private final double centerZ;
+    private final double radius;
+    private final double startY; // Arena center Y - the column search starts here
+    private final int minX;
+    private final int minZ;
+    private final int size;
+    private final int minHeight;
+    private final int maxHeight;
+    private final int[] heights; // Surface Y per column (the air block above the ground)
+
+    private ArenaSurfaceMap(Map<Long, ChunkSnapshot> snapshots, double centerX, double centerZ, double radius, double startY,
+                            int minX, int minZ, int size, int minHeight, int maxHeight) {
+        this.snapshots = snapshots;
+        this.centerX = centerX;
+        this.centerZ = centerZ;
+        this.radius = radius;
+        this.startY = startY;
+        this.minX = minX;
+        this.minZ = minZ;
+        this.size = size;
+        this.minHeight = minHeight;
+        this.maxHeight = maxHeight;
+        this.heights = new int[size * size];
+        Arrays.fill(heights, UNKNOWN);
+    }
+
+    /**
+     * Copy the arena's loaded chunks into thread-safe snapshots (main thread only)
+     */
+    public static ArenaSurfaceMap snapshot(Arena arena) {
+        Location center = arena.getCenter();
+        World world = center.getWorld();
+        int radius = (int) Math.ceil(arena.getRadius());
+        int minX = center.getBlockX() - radius;
+        int minZ = center.getBlockZ() - radius;
+        int size = radius * 2 + 1;
+
+        Map<Long, ChunkSnapshot> snapshots = new HashMap<>();
+        for (int cx = minX >> 4; cx <= (minX + size - 1) >> 4; cx++) {
+            for (int cz = minZ >> 4; cz <= (minZ + size - 1) >> 4; cz++) {
+                if (!world.isChunkLoaded(cx, cz)) {
+                    continue; // Never load here - ArenaChunkService holds the arena loaded; missing columns are just skipped
+                }
+                Chunk chunk = world.getChunkAt(cx, cz);
+                snapshots.put(chunkKey(cx, cz), chunk.getChunkSnapshot(false, false, false));
+            }
+        }
+
+        return new ArenaSurfaceMap(snapshots, center.getX(), center.getZ(), arena.getRadius(), center.getY(),
+            minX, minZ, size, world.getMinHeight(), world.getMaxHeight());
+    }
+
+    public double getCenterX() {
+        return centerX;
+    }
+
+    public double getCenterZ() {
+        return centerZ;
+    }
+
+    public double getRadius() {
+        return radius;
+    }
+
+    /**
+     * Lowest block X covered by the map
+     */
+    public int getMinX() {
+        return minX;
+    }
+
+    /**
+     * Lowest block Z covered by the map
+     */
+    public int getMinZ() {
+        return minZ;
+    }
+
+    /**
+     * Width of the map in blocks (it covers size x size columns)
+     */
+    public int getSize() {
+        return size;
+    }
+
+    public boolean inDisk(double x, double z) {
+        double dx = x - centerX;
+        double dz = z - centerZ;
+        return dx * dx + dz * dz <= radius * radius;
+    }
+
+    /**
+     * Surface Y at a block column, or NO_SURFACE
+     */
+    public int getSurfaceY(int x, int z) {
+        int lx = x - minX;
+        int lz = z - minZ;
+        if (lx < 0 || lz < 0 || lx >= size || lz >= size) {
+            return NO_SURFACE;
+        }
+        int index = lx * size + lz;
+        if (heights[index] == UNKNOWN) {
+            heights[index] = findSurface(x, z);
+        }
+        return heights[index];
+    }
+
+    /**
+     * Solid ground with air above and open sky over it.
+     * Searches down from the arena center Y first, then up to 20 blocks above it.
+     */
+    private int findSurface(int x, int z) {
+        ChunkSnapshot snapshot = snapshots.get(chunkKey(x >> 4, z >> 4));
+        if (snapshot == null) {
+            return NO_SURFACE;
+        }
+        int localX = x & 15;
+        int localZ = z & 15;
+        int searchY = (int) Math.floor(startY);
+
+        // Already standing on the surface
+        if (searchY > minHeight && type(snapshot, localX, searchY, localZ) == Material.AIR &&
+            type(snapshot, localX, searchY - 1, localZ) != Material.AIR && isOpenAbove(snapshot, localX, searchY, localZ)) {
+            return searchY;
+        }
+
+        // Search downward for solid ground
+        for (int y = searchY; y >= minHeight + 5; y--) {
+            if (y < maxHeight - 1 && type(snapshot, localX, y, localZ).isSolid() &&
+                type(snapshot, localX, y + 1, localZ) == Material.AIR && isOpenAbove(snapshot, localX, y + 1, localZ)) {
+                return y + 1;
+            }
+        }
+
+        // Nothing below - the arena center may be below ground, so search upward
+        for (int y = searchY + 1; y <= Math.min(startY + 20, maxHeight - 5); y++) {
+            if (y > minHeight && type(snapshot, localX, y, localZ) == Material.AIR &&
+                type(snapshot, localX, y - 1, localZ).isSolid() && isOpenAbove(snapshot, localX, y, localZ)) {
+                return y;
+            }
+        }
+        return NO_SURFACE;
+    }
+
+    /**
+     * At least 10 blocks of air from y upward, so the spot isn't underground
+     */
+    private boolean isOpenAbove(ChunkSnapshot snapshot, int localX, int y, int localZ) {
+        int airBlocks = 0;
+        for (int checkY = y; checkY < Math.min(y + 12, maxHeight); checkY++) {
+            if (type(snapshot, localX, checkY, localZ) != Material.AIR) {
+                break;
+            }
+            airBlocks++;
+        }
+        return airBlocks >= 10;
+    }
+
+    private Material type(ChunkSnapshot snapshot, int localX, int y, int localZ) {
+        if (y < minHeight || y >= maxHeight) {
+            return Material.AIR;
+        }
+        return snapshot.getBlockType(localX, y, localZ);
+    }
+
+    private static long chunkKey(int cx, int cz) {
+        return ((long) cx << 32) | (cz & 0xFFFFFFFFL);
+    }
+}
@@ -79,6 +79,9 @@ public class ArenaVisualizer {
                 double radius = arena.getRadius();
                 double y = center.getY();
                 int particlesPerCircle = (int) (radius * 4); // More particles for larger arenas
+                if (plugin instanceof com.eldor.roguecraft.RoguecraftPlugin) {
+                    particlesPerCircle = ((com.eldor.roguecraft.RoguecraftPlugin) plugin).getQualityGovernor().scale(particlesPerCircle);
+                }
                 
                 for (int i = 0; i < particlesPerCircle; i++) {
                     double angle = (2 * Math.PI * i) / particlesPerCircle;
@@ -88,17 +91,7 @@ public class ArenaVisualizer {
                     Location particleLoc = new Location(world, x, y, z);
                     
                     // Show particles to all players in the collection
-                    for (Player player : players) {
-                        if (player != null && player.isOnline() && player.getWorld() == world) {
-                            player.spawnParticle(
-                                org.bukkit.Particle.END_ROD,
-                                particleLoc,
-                                1,
-                                0, 0, 0,
-                                0
-                            );
-                        }
-                    }
+                    showPoint(plugin, players, particleLoc);
                 }
                 
                 // Also draw vertical lines at corners for better visibility
@@ -111,17 +104,7 @@ public class ArenaVisualizer {
                         // Draw vertical line from ground up
                         for (double yOffset = 0; yOffset < 10; yOffset += 0.5) {
                             Location particleLoc = new Location(world, x, y + yOffset, z);
-                            for (Player player : players) {
-                                if (player != null && player.isOnline() && player.getWorld() == world) {
-                            player.spawnParticle(
-                                org.bukkit.Particle.END_ROD,
-                                particleLoc,
-                                1,
-                                0, 0, 0,
-                                0
-                            );
-                                }
-                            }
+                            showPoint(plugin, players, particleLoc);
                         }
                     }
                 }
@@ -136,6 +119,21 @@ public class ArenaVisualizer {
         }
     }
     
+    
+    /**
+     * One outline point, sent through the FxEmitter (view-distance culling and per-player budgets) when available
+     */
+    private static void showPoint(org.bukkit.plugin.Plugin plugin, Collection<Player> players, Location particleLoc) {
+        if (plugin instanceof com.eldor.roguecraft.RoguecraftPlugin) {
+            ((com.eldor.roguecraft.RoguecraftPlugin) plugin).getFxEmitter().particle(players, org.bukkit.Particle.END_ROD, particleLoc, 1, 0, 0, 0, 0);
+            return;
+        }
+        for (Player player : players) {
+            if (player != null && player.isOnline() && player.getWorld() == particleLoc.getWorld()) {
+                player.spawnParticle(org.bukkit.Particle.END_ROD, particleLoc, 1, 0, 0, 0, 0);
+            }
+        }
+    }
     /**
      * Stop particle visualization
      */
@@ -0,0 +1,112 @@
+package com.eldor.roguecraft.util;
+
+/**
+ * Open-addressed map of packed block positions to an expiry tick, for one world.
+ * Keys and expiries are kept in primitive arrays (no boxing, no entry objects); lookups are a hash and a short
+ * linear probe. Expired entries are ignored by lookups and dropped by purge(), which rebuilds the table.
+ */
+public class BlockExpiryMap {
+    private static final int MIN_CAPACITY = 64; // Power of two
+
+    private long[] keys;
+    private long[] expiries; // 0 = free slot
+    private int size;
+
+    public BlockExpiryMap() {
+        this.keys = new long[MIN_CAPACITY];
+        this.expiries = new long[MIN_CAPACITY];
+    }
+
+    /**
+     * Pack block coordinates into one key (26 bits x, 26 bits z, 12 bits y)
+     */
+    public static long key(int x, int y, int z) {
+        return ((long) (x & 0x3FFFFFF) << 38) | ((long) (z & 0x3FFFFFF) << 12) | (y & 0xFFF);
+    }
+
+    /**
+     * Mark a block until the given tick (keeps the later expiry if already marked)
+     */
+    public void put(long key, long expiryTick) {
+        if ((size + 1) * 2 > keys.length) {
+            rehash(keys.length * 2, Long.MIN_VALUE);
+        }
+        int slot = find(key);
+        if (expiries[slot] == 0L) {
+            keys[slot] = key;
+            expiries[slot] = expiryTick;
+            size++;
+        } else {
+            expiries[slot] = Math.max(expiries[slot], expiryTick);
+        }
+    }
+
+    /**
+     * Whether the block is marked and its mark hasn't expired by the given tick
+     */
+    public boolean contains(long key, long tick) {
+        long expiry = expiries[find(key)];
+        return expiry != 0L && expiry >= tick;
+    }
+
+    /**
+     * Drop every mark that expired before the given tick
+     */
+    public void purge(long tick) {
+        if (size > 0) {
+            rehash(keys.length, tick);
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Slot holding the key, or the free slot where it would go
+     */
+    private int find(long key) {
+        int mask = keys.length - 1;
+        int slot = (int) (mix(key) & mask);
+        while (expiries[slot] != 0L && keys[slot] != key) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private void rehash(int capacity, long keepFrom) {
+        long[] oldKeys = keys;
+        long[] oldExpiries = expiries;
+        int live = 0;
+        for (long expiry : oldExpiries) {
+            if (expiry != 0L && expiry >= keepFrom) {
+                live++;
+            }
+        }
+        // Shrink back down when most marks expired
+        while (capacity > MIN_CAPACITY && live * 8 < capacity) {
+            capacity /= 2;
+        }
+        keys = new long[capacity];
+        expiries = new long[capacity];
+        size = 0;
+        if (live == 0) {
+            return;
+        }
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldExpiries[i] != 0L && oldExpiries[i] >= keepFrom) {
+                int slot = find(oldKeys[i]);
+                keys[slot] = oldKeys[i];
+                expiries[slot] = oldExpiries[i];
+                size++;
+            }
+        }
+    }
+
+    private static long mix(long key) {
+        key ^= key >>> 33;
+        key *= 0xff51afd7ed558ccdL;
+        key ^= key >>> 33;
+        return key;
+    }
+}
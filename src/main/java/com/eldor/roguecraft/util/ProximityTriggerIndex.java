@@ -0,0 +1,235 @@
+package com.eldor.roguecraft.util;
+
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+
+import java.util.*;
+import java.util.function.Predicate;
+
+/**
+ * Cell-keyed index of proximity triggers (shrines, chests) for a single run.
+ * Each trigger is registered into every 8x8 cell its exit radius touches, so a player's
+ * candidate list is one map lookup, refreshed only when the player crosses into another cell.
+ * Enter/leave use separate radii (enter <= exit) and all checks use squared distances.
+ */
+public class ProximityTriggerIndex {
+    private static final int CELL_SHIFT = 3; // 8-block cells
+    private static final Trigger[] NO_TRIGGERS = new Trigger[0];
+
+    /**
+     * Receives enter/leave transitions from update()
+     */
+    public interface Callback {
+        void onEnter(Player player, Object payload, UUID runId);
+        void onLeave(Player player, Object payload, UUID runId);
+    }
+
+    private final UUID runId;
+    private final Map<Long, Trigger[]> cells; // Cell key -> triggers whose exit radius overlaps the cell
+    private final Map<Object, Trigger> triggers; // Payload -> trigger
+    private final Map<UUID, PlayerState> players; // Player ID -> cached cell/candidates and triggers they are inside
+    private int version; // Bumped on register/unregister so cached candidate arrays are refreshed
+
+    public ProximityTriggerIndex(UUID runId) {
+        this.runId = runId;
+        this.cells = new HashMap<>();
+        this.triggers = new HashMap<>();
+        this.players = new HashMap<>();
+        this.version = 0;
+    }
+
+    public UUID getRunId() {
+        return runId;
+    }
+
+    /**
+     * Register a trigger around a location (replaces any existing trigger for the same payload)
+     */
+    public void register(Object payload, Location center, double enterRadius, double exitRadius) {
+        unregister(payload);
+
+        Trigger trigger = new Trigger(payload, center, enterRadius, Math.max(enterRadius, exitRadius));
+        triggers.put(payload, trigger);
+        forEachCell(trigger, key -> {
+            Trigger[] existing = cells.getOrDefault(key, NO_TRIGGERS);
+            Trigger[] updated = Arrays.copyOf(existing, existing.length + 1);
+            updated[existing.length] = trigger;
+            cells.put(key, updated);
+        });
+        version++;
+    }
+
+    /**
+     * Remove a trigger. Players inside it are dropped silently (no leave callback).
+     */
+    public void unregister(Object payload) {
+        Trigger trigger = triggers.remove(payload);
+        if (trigger == null) {
+            return;
+        }
+        forEachCell(trigger, key -> {
+            Trigger[] existing = cells.get(key);
+            if (existing == null) return;
+            Trigger[] updated = new Trigger[existing.length];
+            int n = 0;
+            for (Trigger t : existing) {
+                if (t != trigger) {
+                    updated[n++] = t;
+                }
+            }
+            if (n == 0) {
+                cells.remove(key);
+            } else {
+                cells.put(key, Arrays.copyOf(updated, n));
+            }
+        });
+        for (PlayerState state : players.values()) {
+            state.inside.remove(trigger);
+        }
+        version++;
+    }
+
+    /**
+     * Process a player position. Fires onEnter when the player comes within a trigger's enter radius
+     * and onLeave when they move beyond its exit radius.
+     */
+    public void update(Player player, Location location, Callback callback) {
+        PlayerState state = players.computeIfAbsent(player.getUniqueId(), k -> new PlayerState());
+        long key = cellKey(location.getBlockX() >> CELL_SHIFT, location.getBlockZ() >> CELL_SHIFT);
+        if (state.cellKey != key || state.version != version) {
+            state.cellKey = key;
+            state.version = version;
+            state.candidates = cells.getOrDefault(key, NO_TRIGGERS);
+        }
+        if (state.candidates.length == 0 && state.inside.isEmpty()) {
+            return; // Nothing nearby - common case
+        }
+
+        World world = location.getWorld();
+        double x = location.getX();
+        double y = location.getY();
+        double z = location.getZ();
+
+        // Leave checks against the triggers the player is inside, then enter checks against the cell's candidates
+        for (int i = state.inside.size() - 1; i >= 0; i--) {
+            Trigger trigger = state.inside.get(i);
+            if (trigger.distanceSquared(world, x, y, z) > trigger.exitRadiusSquared) {
+                state.inside.remove(i);
+                callback.onLeave(player, trigger.payload, runId);
+            }
+        }
+
+        Trigger[] candidates = state.candidates;
+        for (int i = 0; i < candidates.length; i++) {
+            Trigger trigger = candidates[i];
+            if (!state.inside.contains(trigger) && trigger.distanceSquared(world, x, y, z) <= trigger.enterRadiusSquared) {
+                state.inside.add(trigger);
+                callback.onEnter(player, trigger.payload, runId);
+            }
+        }
+    }
+
+    /**
+     * Payloads of the triggers the player is currently inside
+     */
+    public List<Object> getInside(UUID playerId) {
+        PlayerState state = players.get(playerId);
+        if (state == null || state.inside.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<Object> payloads = new ArrayList<>(state.inside.size());
+        for (Trigger trigger : state.inside) {
+            payloads.add(trigger.payload);
+        }
+        return payloads;
+    }
+
+    /**
+     * Find the closest payload within a radius of a location.
+     * The radius must not exceed the triggers' exit radius (only the location's cell is searched).
+     */
+    public Object findNearest(Location location, double radius, Predicate<Object> filter) {
+        Trigger[] candidates = cells.get(cellKey(location.getBlockX() >> CELL_SHIFT, location.getBlockZ() >> CELL_SHIFT));
+        if (candidates == null) {
+            return null;
+        }
+        World world = location.getWorld();
+        double radiusSquared = radius * radius;
+        Object nearest = null;
+        double nearestDistSquared = Double.MAX_VALUE;
+        for (Trigger trigger : candidates) {
+            double distSquared = trigger.distanceSquared(world, location.getX(), location.getY(), location.getZ());
+            if (distSquared <= radiusSquared && distSquared < nearestDistSquared && filter.test(trigger.payload)) {
+                nearest = trigger.payload;
+                nearestDistSquared = distSquared;
+            }
+        }
+        return nearest;
+    }
+
+    /**
+     * Drop a player's cached state (quit or left the run)
+     */
+    public void forgetPlayer(UUID playerId) {
+        players.remove(playerId);
+    }
+
+    public boolean isEmpty() {
+        return triggers.isEmpty();
+    }
+
+    private void forEachCell(Trigger trigger, java.util.function.LongConsumer action) {
+        double exitRadius = Math.sqrt(trigger.exitRadiusSquared);
+        int minCx = ((int) Math.floor(trigger.x - exitRadius)) >> CELL_SHIFT;
+        int maxCx = ((int) Math.floor(trigger.x + exitRadius)) >> CELL_SHIFT;
+        int minCz = ((int) Math.floor(trigger.z - exitRadius)) >> CELL_SHIFT;
+        int maxCz = ((int) Math.floor(trigger.z + exitRadius)) >> CELL_SHIFT;
+        for (int cx = minCx; cx <= maxCx; cx++) {
+            for (int cz = minCz; cz <= maxCz; cz++) {
+                action.accept(cellKey(cx, cz));
+            }
+        }
+    }
+
+    private static long cellKey(int cx, int cz) {
+        return ((long) cx << 32) | (cz & 0xFFFFFFFFL);
+    }
+
+    private static final class Trigger {
+        private final Object payload;
+        private final World world;
+        private final double x;
+        private final double y;
+        private final double z;
+        private final double enterRadiusSquared;
+        private final double exitRadiusSquared;
+
+        private Trigger(Object payload, Location center, double enterRadius, double exitRadius) {
+            this.payload = payload;
+            this.world = center.getWorld();
+            this.x = center.getX();
+            this.y = center.getY();
+            this.z = center.getZ();
+            this.enterRadiusSquared = enterRadius * enterRadius;
+            this.exitRadiusSquared = exitRadius * exitRadius;
+        }
+
+        private double distanceSquared(World otherWorld, double ox, double oy, double oz) {
+            if (otherWorld != world) {
+                return Double.MAX_VALUE;
+            }
+            double dx = ox - x;
+            double dy = oy - y;
+            double dz = oz - z;
+            return dx * dx + dy * dy + dz * dz;
+        }
+    }
+
+    private static final class PlayerState {
+        private long cellKey = Long.MIN_VALUE;
+        private int version = -1;
+        private Trigger[] candidates = NO_TRIGGERS;
+        private final List<Trigger> inside = new ArrayList<>(2);
+    }
+}